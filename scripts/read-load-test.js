@@ -0,0 +1,33 @@
+// 서블릿(JDBC) 조회 경로와 reactive-read(R2DBC) 조회 경로에 같은 부하를 건다. scripts/read-load-test.sh 가 실행한다.
+//
+// 게시글 단건 조회는 서블릿 쪽이 응답 바이트 캐시를 타서 DB 에 닿지 않으므로, 매번 쿼리가 나가는 댓글 목록으로 비교한다.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PREFIX = __ENV.PREFIX || '';
+const VUS = Number(__ENV.VUS || 10000);
+const MAX_POST_ID = Number(__ENV.MAX_POST_ID || 1000);
+const HEADERS = { Authorization: `Bearer ${__ENV.TOKEN}` };
+
+export const options = {
+    scenarios: {
+        readers: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: __ENV.RAMP || '30s', target: VUS },
+                { duration: __ENV.HOLD || '60s', target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+    const postId = 1 + Math.floor(Math.random() * MAX_POST_ID);
+    const res = http.get(`${BASE_URL}${PREFIX}/posts/${postId}/comments`, { headers: HEADERS });
+    check(res, { 'status is 200 or 404': (r) => r.status === 200 || r.status === 404 });
+}
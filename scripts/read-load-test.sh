@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# 동시 접속 클라이언트 수(기본 10k)를 같게 두고 서블릿 조회 경로(/posts/..)와 논블로킹 조회 경로(/reactive/posts/..)의
+# 처리량, 지연, 스레드 수, DB 커넥션 사용량을 비교한다.
+#
+# 사용법: SPRING_PROFILES_ACTIVE=prod,reactive-read 로 애플리케이션을 띄운 뒤
+#         BASE_URL=http://localhost:8080 TOKEN=<JWT> scripts/read-load-test.sh [동시 클라이언트 수]
+# k6, curl, jq 가 필요하다. 부하 발생기는 애플리케이션과 다른 머신에서 돌리는 편이 결과가 정확하다.
+set -euo pipefail
+
+VUS="${1:-10000}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+: "${TOKEN:?TOKEN 에 JWT 를 넣어 주세요}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+metric() {
+    curl -fs -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/metrics/$1" 2>/dev/null \
+        | jq -r '.measurements[0].value // 0' 2>/dev/null || echo 0
+}
+
+# 부하가 걸린 동안 1초마다 지표를 읽어 각 지표의 최댓값을 남긴다
+sample() {
+    local out="$1"
+    local threads=0 busy=0 jdbc=0 jdbc_pending=0 r2dbc=0 r2dbc_pending=0
+    while [[ ! -f "$WORK_DIR/stop" ]]; do
+        threads=$(jq -n "[$threads, $(metric jvm.threads.live)] | max")
+        busy=$(jq -n "[$busy, $(metric tomcat.threads.busy)] | max")
+        jdbc=$(jq -n "[$jdbc, $(metric hikaricp.connections.active)] | max")
+        jdbc_pending=$(jq -n "[$jdbc_pending, $(metric hikaricp.connections.pending)] | max")
+        r2dbc=$(jq -n "[$r2dbc, $(metric r2dbc.pool.acquired)] | max")
+        r2dbc_pending=$(jq -n "[$r2dbc_pending, $(metric r2dbc.pool.pending)] | max")
+        echo "$threads $busy $jdbc $jdbc_pending $r2dbc $r2dbc_pending" > "$out"
+        sleep 1
+    done
+}
+
+run() {
+    local label="$1" prefix="$2"
+    rm -f "$WORK_DIR/stop"
+    sample "$WORK_DIR/$label.peaks" &
+    local sampler=$!
+
+    k6 run --quiet --summary-export "$WORK_DIR/$label.json" \
+        -e BASE_URL="$BASE_URL" -e PREFIX="$prefix" -e VUS="$VUS" -e TOKEN="$TOKEN" \
+        "$ROOT_DIR/scripts/read-load-test.js" >/dev/null || true
+
+    touch "$WORK_DIR/stop"
+    wait "$sampler"
+
+    local rps p95 failed
+    rps=$(jq '.metrics.http_reqs.rate' "$WORK_DIR/$label.json")
+    p95=$(jq '.metrics.http_req_duration["p(95)"]' "$WORK_DIR/$label.json")
+    failed=$(jq '.metrics.http_req_failed.value * 100' "$WORK_DIR/$label.json")
+    read -r threads busy jdbc jdbc_pending r2dbc r2dbc_pending < "$WORK_DIR/$label.peaks"
+    printf "| %-8s | %8.0f | %8.1f | %6.2f | %7.0f | %6.0f | %9.0f/%-5.0f | %9.0f/%-5.0f |\n" \
+        "$label" "$rps" "$p95" "$failed" "$threads" "$busy" "$jdbc" "$jdbc_pending" "$r2dbc" "$r2dbc_pending"
+}
+
+echo "동시 클라이언트 $VUS 명, 엔드포인트 GET .../posts/{id}/comments"
+echo
+echo "| path     |    req/s | p95 (ms) | fail % | threads | tomcat busy | jdbc active/pending | r2dbc acquired/pending |"
+echo "|----------|----------|----------|--------|---------|-------------|---------------------|------------------------|"
+run "servlet" ""
+run "reactive" "/reactive"
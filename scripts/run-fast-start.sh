@@ -0,0 +1,22 @@
+#!/usr/bin/env bash
+# AOT 처리 + AppCDS 아카이브로 애플리케이션을 기동한다.
+# 먼저 ./gradlew cdsArchive 로 build/cds 를 만들어 두어야 한다.
+# DATASOURCE_URL, DATASOURCE_USERNAME, DATASOURCE_PASSWORD, JWT_SECRET, JWT_EXPIRATION 환경 변수가 필요하다.
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+CDS_DIR="$ROOT_DIR/build/cds"
+JAR="$(find "$CDS_DIR" -maxdepth 1 -name 'eham-board-*.jar' | head -n 1)"
+
+if [[ -z "$JAR" || ! -f "$CDS_DIR/application.jsa" ]]; then
+    echo "build/cds 가 없습니다. ./gradlew cdsArchive 를 먼저 실행하세요." >&2
+    exit 1
+fi
+
+cd "$CDS_DIR"
+exec java \
+    -XX:SharedArchiveFile=application.jsa \
+    -Dspring.aot.enabled=true \
+    -Dspring.profiles.active="${SPRING_PROFILES_ACTIVE:-prod}" \
+    ${JAVA_OPTS:-} \
+    -jar "$(basename "$JAR")" "$@"
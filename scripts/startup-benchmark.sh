@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+# 일반 bootJar 기동과 AOT + AppCDS 기동의 첫 요청까지 걸린 시간(time-to-first-request)과 RSS 를 비교한다.
+#
+# 사용법: ./gradlew cdsArchive && scripts/startup-benchmark.sh [반복 횟수]
+# 실제 DB 에 접속하므로 DATASOURCE_URL 등 운영과 같은 환경 변수가 필요하다.
+set -euo pipefail
+
+RUNS="${1:-5}"
+PORT="${SERVER_PORT:-18080}"
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+PLAIN_JAR="$(find "$ROOT_DIR/build/libs" -maxdepth 1 -name 'eham-board-*.jar' ! -name '*-plain.jar' | head -n 1)"
+CDS_DIR="$ROOT_DIR/build/cds"
+CDS_JAR="$(find "$CDS_DIR" -maxdepth 1 -name 'eham-board-*.jar' | head -n 1)"
+
+if [[ -z "$PLAIN_JAR" || -z "$CDS_JAR" || ! -f "$CDS_DIR/application.jsa" ]]; then
+    echo "빌드 산출물이 없습니다. ./gradlew cdsArchive 를 먼저 실행하세요." >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# $1: 라벨, $2: 작업 디렉터리, 나머지: java 실행 인자
+measure() {
+    local label="$1" dir="$2"
+    shift 2
+
+    local total_ttfr=0 total_rss=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local start pid ttfr rss
+        start="$(now_ms)"
+        (cd "$dir" && exec java -Dserver.port="$PORT" -Dspring.profiles.active=prod "$@") >/dev/null 2>&1 &
+        pid=$!
+
+        until curl -fs "http://localhost:$PORT/actuator/health" >/dev/null 2>&1; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$label: 애플리케이션이 기동 중에 종료되었습니다." >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+
+        ttfr=$(( $(now_ms) - start ))
+        rss="$(awk '/VmRSS/ { print $2 }' "/proc/$pid/status")"
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        total_ttfr=$(( total_ttfr + ttfr ))
+        total_rss=$(( total_rss + rss ))
+    done
+
+    printf "| %-14s | %10d | %10d |\n" "$label" $(( total_ttfr / RUNS )) $(( total_rss / RUNS / 1024 ))
+}
+
+echo "| mode           | ttfr (ms)  | rss (MiB)  |"
+echo "|----------------|------------|------------|"
+measure "bootJar" "$(dirname "$PLAIN_JAR")" -jar "$(basename "$PLAIN_JAR")"
+measure "aot + appcds" "$CDS_DIR" \
+    -XX:SharedArchiveFile=application.jsa -Dspring.aot.enabled=true -jar "$(basename "$CDS_JAR")"
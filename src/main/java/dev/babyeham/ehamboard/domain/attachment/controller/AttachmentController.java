@@ -0,0 +1,163 @@
+package dev.babyeham.ehamboard.domain.attachment.controller;
+
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentDownload;
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentResponse;
+import dev.babyeham.ehamboard.domain.attachment.dto.ThumbnailDownload;
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import dev.babyeham.ehamboard.domain.attachment.entity.ThumbnailVariant;
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.attachment.service.ThumbnailService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import dev.babyeham.ehamboard.global.storage.ByteRange;
+import dev.babyeham.ehamboard.global.storage.ZeroCopyWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    // 첨부파일 내용은 바뀌지 않으므로(수정 = 새 첨부) 오래 캐시해도 된다
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    // 자리표시 이미지는 곧 실제 썸네일로 바뀌므로 캐시하지 않는다
+    private static final String PLACEHOLDER_CACHE_CONTROL = "no-store";
+
+    private final AttachmentService attachmentService;
+    private final ThumbnailService thumbnailService;
+
+    @PostMapping("/posts/{postId}/attachments")
+    @Operation(summary = "첨부파일 업로드", description = "요청 본문 전체를 파일 내용으로 저장한다.")
+    public ResponseEntity<AttachmentResponse> upload(@PathVariable("postId") Long postId,
+                                                     @RequestParam String filename,
+                                                     @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                     HttpServletRequest request,
+                                                     @AuthenticationPrincipal User user) throws IOException {
+        AttachmentResponse response = attachmentService.upload(postId, user.getId(), filename, contentType,
+                request.getInputStream());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @GetMapping("/attachments/{attachmentId}")
+    @Operation(summary = "첨부파일 다운로드", description = "Range, If-None-Match, If-Range 를 지원한다.")
+    public void download(@PathVariable("attachmentId") Long attachmentId,
+                         HttpServletRequest request,
+                         HttpServletResponse response) throws IOException {
+        AttachmentDownload download = attachmentService.prepareDownload(attachmentId);
+        Attachment attachment = download.getAttachment();
+        long size = attachment.getSize();
+        long lastModified = attachment.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        // 사용자가 올린 파일이 API 출처에서 문서로 열리더라도 스크립트를 실행하거나 형식을 추측하지 못하게 한다
+        response.setHeader("Content-Security-Policy", "sandbox");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+        if (new ServletWebRequest(request, response).checkNotModified(download.etag(), lastModified)) {
+            return;
+        }
+
+        ByteRange range = null;
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null || ifRange.equals(download.etag())) {
+            try {
+                range = ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size);
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+        }
+
+        response.setContentType(attachment.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, contentDisposition(attachment));
+        if (range != null) {
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range.start() + "-" + range.end() + "/" + size);
+        } else if (size == 0) {
+            response.setContentLengthLong(0);
+            return;
+        } else {
+            range = ByteRange.full(size);
+        }
+
+        if (download.getFile() != null) {
+            ZeroCopyWriter.write(request, response, download.getFile(), range);
+            return;
+        }
+        response.setContentLengthLong(range.length());
+        try (InputStream in = download.getContent().getInputStream()) {
+            StreamUtils.copyRange(in, response.getOutputStream(), range.start(), range.end());
+        }
+    }
+
+    @GetMapping("/attachments/{attachmentId}/thumbnail")
+    @Operation(summary = "첨부 이미지 썸네일",
+            description = "size 는 small(160px) 또는 medium(480px). 생성 전이면 자리표시 이미지를 응답한다.")
+    public void thumbnail(@PathVariable("attachmentId") Long attachmentId,
+                          @RequestParam(defaultValue = "small") String size,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        ThumbnailVariant variant = ThumbnailVariant.fromCode(size).orElse(ThumbnailVariant.SMALL);
+        Optional<ThumbnailDownload> prepared = attachmentService.prepareThumbnail(attachmentId, variant);
+        if (prepared.isEmpty()) {
+            byte[] placeholder = thumbnailService.placeholder(variant);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, PLACEHOLDER_CACHE_CONTROL);
+            response.setContentType(MediaType.IMAGE_PNG_VALUE);
+            response.setContentLength(placeholder.length);
+            response.getOutputStream().write(placeholder);
+            return;
+        }
+
+        ThumbnailDownload download = prepared.get();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        if (new ServletWebRequest(request, response).checkNotModified(download.etag())) {
+            return;
+        }
+        response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+        ByteRange range = ByteRange.full(download.getThumbnail().getSize());
+        if (download.getFile() != null) {
+            ZeroCopyWriter.write(request, response, download.getFile(), range);
+            return;
+        }
+        response.setContentLengthLong(range.length());
+        try (InputStream in = download.getContent().getInputStream()) {
+            StreamUtils.copy(in, response.getOutputStream());
+        }
+    }
+
+    @DeleteMapping("/attachments/{attachmentId}")
+    @Operation(summary = "첨부파일 삭제")
+    public ResponseEntity<MessageResponse> delete(@PathVariable("attachmentId") Long attachmentId,
+                                                 @AuthenticationPrincipal User user) {
+        attachmentService.deleteAttachment(attachmentId, user.getId());
+        return ResponseEntity.ok(new MessageResponse("첨부파일 삭제 성공"));
+    }
+
+    private static String contentDisposition(Attachment attachment) {
+        // 검증된 래스터 이미지만 인라인으로 보여주고, SVG 등 나머지는 브라우저가 렌더링하지 않도록 항상 내려받게 한다
+        ContentDisposition.Builder builder = attachment.isImage()
+                ? ContentDisposition.inline()
+                : ContentDisposition.attachment();
+        return builder.filename(attachment.getFilename(), StandardCharsets.UTF_8).build().toString();
+    }
+}
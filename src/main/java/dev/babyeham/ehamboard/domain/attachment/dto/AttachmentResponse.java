@@ -0,0 +1,36 @@
+package dev.babyeham.ehamboard.domain.attachment.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class AttachmentResponse {
+    private Long id;
+    private String filename;
+    private String contentType;
+    private long size;
+    private String url;
+    // 이미지일 때만 내려간다. 썸네일이 준비되기 전에는 자리표시 이미지가 응답된다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String thumbnailUrl;
+    private LocalDateTime createdAt;
+
+    public static AttachmentResponse from(Attachment attachment) {
+        return AttachmentResponse.builder()
+                .id(attachment.getId())
+                .filename(attachment.getFilename())
+                .contentType(attachment.getContentType())
+                .size(attachment.getSize())
+                .url("/attachments/" + attachment.getId())
+                .thumbnailUrl(attachment.isImage() ? "/attachments/" + attachment.getId() + "/thumbnail" : null)
+                .createdAt(attachment.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.domain.attachment.dto;
+
+import dev.babyeham.ehamboard.domain.attachment.entity.AttachmentThumbnail;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.core.io.InputStreamSource;
+
+import java.nio.file.Path;
+
+@Getter
+@AllArgsConstructor
+public class ThumbnailDownload {
+    private AttachmentThumbnail thumbnail;
+    // 로컬 파일이 없는 저장소면 null 이고 content 로 스트리밍한다
+    private Path file;
+    private InputStreamSource content;
+
+    public String etag() {
+        return "\"" + thumbnail.getSha256() + "\"";
+    }
+}
@@ -0,0 +1,72 @@
+package dev.babyeham.ehamboard.domain.attachment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Entity
+@Table(name = "attachments")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class Attachment {
+
+    // 브라우저에서 바로 보여줘도 스크립트가 실행되지 않는 래스터 형식. 업로드 때 파일 앞부분이 형식과 맞아야 이 타입으로 저장된다
+    public static final Set<String> INLINE_IMAGE_TYPES = Set.of("image/png", "image/jpeg", "image/gif", "image/webp");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long uploaderId;
+
+    @Column(nullable = false, length = 64)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private String filename;
+
+    @Column(nullable = false, length = 100)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Attachment(Long postId, Long uploaderId, String storageKey, String filename,
+                      String contentType, long size, String sha256) {
+        this.postId = postId;
+        this.uploaderId = uploaderId;
+        this.storageKey = storageKey;
+        this.filename = filename;
+        this.contentType = contentType;
+        this.size = size;
+        this.sha256 = sha256;
+    }
+
+    public boolean isImage() {
+        return INLINE_IMAGE_TYPES.contains(contentType);
+    }
+
+    public boolean isUploader(Long userId) {
+        return uploaderId.equals(userId);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.babyeham.ehamboard.domain.attachment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 첨부 이미지에서 만든 썸네일. (attachment_id, variant) 가 기본키라 같은 작업이 다시 돌아도 한 행만 남는다.
+ * 삽입은 AttachmentThumbnailRepository.insertIgnore 로만 한다.
+ */
+@Entity
+@Table(name = "attachment_thumbnails")
+@IdClass(AttachmentThumbnail.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AttachmentThumbnail {
+
+    @Id
+    private Long attachmentId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ThumbnailVariant variant;
+
+    @Column(nullable = false, length = 64)
+    private String storageKey;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private int height;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long attachmentId;
+        private ThumbnailVariant variant;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && attachmentId.equals(other.attachmentId) && variant == other.variant;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * attachmentId.hashCode() + variant.hashCode();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.domain.attachment.entity;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailVariant {
+    SMALL("small", 160),
+    MEDIUM("medium", 480);
+
+    private final String code;
+    private final int maxDimension;
+
+    public static Optional<ThumbnailVariant> fromCode(String code) {
+        return Arrays.stream(values()).filter(v -> v.code.equalsIgnoreCase(code)).findFirst();
+    }
+}
@@ -0,0 +1,16 @@
+package dev.babyeham.ehamboard.domain.attachment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttachmentEvent {
+
+    private Long attachmentId;
+    private Long postId;
+    private String storageKey;
+    private String contentType;
+}
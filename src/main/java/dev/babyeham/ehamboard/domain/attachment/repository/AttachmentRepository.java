@@ -0,0 +1,25 @@
+package dev.babyeham.ehamboard.domain.attachment.repository;
+
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
+
+    List<Attachment> findByPostIdInOrderByIdAsc(Collection<Long> postIds);
+
+    @Query("SELECT a.id FROM Attachment a WHERE a.postId = :postId")
+    List<Long> findIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT a.storageKey FROM Attachment a WHERE a.postId = :postId")
+    List<String> findStorageKeysByPostId(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+}
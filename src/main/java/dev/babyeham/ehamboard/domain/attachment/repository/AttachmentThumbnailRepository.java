@@ -0,0 +1,41 @@
+package dev.babyeham.ehamboard.domain.attachment.repository;
+
+import dev.babyeham.ehamboard.domain.attachment.entity.AttachmentThumbnail;
+import dev.babyeham.ehamboard.domain.attachment.entity.ThumbnailVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentThumbnailRepository extends JpaRepository<AttachmentThumbnail, AttachmentThumbnail.Key> {
+
+    Optional<AttachmentThumbnail> findByAttachmentIdAndVariant(Long attachmentId, ThumbnailVariant variant);
+
+    List<AttachmentThumbnail> findByAttachmentId(Long attachmentId);
+
+    @Query("SELECT t.storageKey FROM AttachmentThumbnail t WHERE t.attachmentId IN :attachmentIds")
+    List<String> findStorageKeysByAttachmentIdIn(@Param("attachmentIds") Collection<Long> attachmentIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attachment_thumbnails "
+            + "(attachment_id, variant, storage_key, width, height, size, sha256, created_at) "
+            + "VALUES (:attachmentId, :variant, :storageKey, :width, :height, :size, :sha256, NOW(6))",
+            nativeQuery = true)
+    int insertIgnore(@Param("attachmentId") Long attachmentId,
+                     @Param("variant") String variant,
+                     @Param("storageKey") String storageKey,
+                     @Param("width") int width,
+                     @Param("height") int height,
+                     @Param("size") long size,
+                     @Param("sha256") String sha256);
+
+    @Modifying
+    @Query("DELETE FROM AttachmentThumbnail t WHERE t.attachmentId IN :attachmentIds")
+    int deleteAllByAttachmentIdIn(@Param("attachmentIds") Collection<Long> attachmentIds);
+}
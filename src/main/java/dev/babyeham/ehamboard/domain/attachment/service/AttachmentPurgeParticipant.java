@@ -0,0 +1,45 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentRepository;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentThumbnailRepository;
+import dev.babyeham.ehamboard.domain.post.purge.PostPurgeParticipant;
+import dev.babyeham.ehamboard.global.storage.BlobStore;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttachmentPurgeParticipant implements PostPurgeParticipant {
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final BlobStore blobStore;
+
+    @Override
+    public void beforePostPurged(Long postId) {
+        List<Long> attachmentIds = attachmentRepository.findIdsByPostId(postId);
+        List<String> keys = new ArrayList<>(attachmentRepository.findStorageKeysByPostId(postId));
+        if (!attachmentIds.isEmpty()) {
+            keys.addAll(thumbnailRepository.findStorageKeysByAttachmentIdIn(attachmentIds));
+            thumbnailRepository.deleteAllByAttachmentIdIn(attachmentIds);
+        }
+        attachmentRepository.deleteAllByPostId(postId);
+        // 파일은 되돌릴 수 없으므로 행 삭제가 커밋된 뒤에 지운다
+        TransactionUtils.runAfterCommit(() -> keys.forEach(this::deleteQuietly));
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (IOException e) {
+            log.warn("첨부파일 삭제 실패: key={}", key, e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentDownload;
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentResponse;
+import dev.babyeham.ehamboard.domain.attachment.dto.ThumbnailDownload;
+import dev.babyeham.ehamboard.domain.attachment.entity.ThumbnailVariant;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+
+public interface AttachmentService {
+    AttachmentResponse upload(Long postId, Long userId, String filename, String contentType, InputStream content)
+            throws IOException;
+    AttachmentDownload prepareDownload(Long attachmentId);
+    Optional<ThumbnailDownload> prepareThumbnail(Long attachmentId, ThumbnailVariant variant);
+    void deleteAttachment(Long attachmentId, Long userId);
+    void applyToPosts(List<PostResponse> posts);
+}
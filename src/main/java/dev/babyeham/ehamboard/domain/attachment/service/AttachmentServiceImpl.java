@@ -0,0 +1,223 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentDownload;
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentResponse;
+import dev.babyeham.ehamboard.domain.attachment.dto.ThumbnailDownload;
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import dev.babyeham.ehamboard.domain.attachment.entity.ThumbnailVariant;
+import dev.babyeham.ehamboard.domain.attachment.event.AttachmentEvent;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentRepository;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentThumbnailRepository;
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.entity.Post;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.global.exception.AttachmentNotFoundException;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import dev.babyeham.ehamboard.global.exception.UnauthorizedPostAccessException;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxEventPublisher;
+import dev.babyeham.ehamboard.global.storage.BlobStore;
+import dev.babyeham.ehamboard.global.storage.StoredBlob;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class AttachmentServiceImpl implements AttachmentService {
+
+    private static final int MAX_FILENAME_LENGTH = 255;
+
+    private final AttachmentRepository attachmentRepository;
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final PostRepository postRepository;
+    private final PostArchiveStore postArchiveStore;
+    private final PostResponseCache postResponseCache;
+    private final BlobStore blobStore;
+    private final ThumbnailService thumbnailService;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSize maxSize;
+
+    public AttachmentServiceImpl(AttachmentRepository attachmentRepository,
+                                 AttachmentThumbnailRepository thumbnailRepository,
+                                 PostRepository postRepository,
+                                 PostArchiveStore postArchiveStore,
+                                 PostResponseCache postResponseCache,
+                                 BlobStore blobStore,
+                                 ThumbnailService thumbnailService,
+                                 OutboxEventPublisher outboxEventPublisher,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${attachment.max-size:20MB}") DataSize maxSize) {
+        this.attachmentRepository = attachmentRepository;
+        this.thumbnailRepository = thumbnailRepository;
+        this.postRepository = postRepository;
+        this.postArchiveStore = postArchiveStore;
+        this.postResponseCache = postResponseCache;
+        this.blobStore = blobStore;
+        this.thumbnailService = thumbnailService;
+        this.outboxEventPublisher = outboxEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 파일 복사는 트랜잭션 밖에서 하고, 메타데이터 저장만 짧은 트랜잭션으로 묶는다.
+     * 업로드가 오래 걸려도 DB 커넥션을 잡고 있지 않기 위함이다.
+     */
+    @Override
+    public AttachmentResponse upload(Long postId, Long userId, String filename, String contentType,
+                                     InputStream content) throws IOException {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+        if (!post.isAuthor(userId)) {
+            throw new UnauthorizedPostAccessException("게시글에 파일을 첨부할 권한이 없습니다.");
+        }
+
+        StoredBlob blob = blobStore.store(content, maxSize.toBytes());
+        try {
+            String storedContentType = verifyContentType(normalizeContentType(contentType), blob.getKey());
+            Attachment saved = transactionTemplate.execute(status -> {
+                Attachment attachment = attachmentRepository.save(Attachment.builder()
+                        .postId(postId)
+                        .uploaderId(userId)
+                        .storageKey(blob.getKey())
+                        .filename(sanitizeFilename(filename))
+                        .contentType(storedContentType)
+                        .size(blob.getSize())
+                        .sha256(blob.getSha256())
+                        .build());
+                postResponseCache.evictAfterCommit(postId);
+                outboxEventPublisher.publish(DomainEventType.ATTACHMENT_CREATED, attachment.getId(),
+                        new AttachmentEvent(attachment.getId(), postId, attachment.getStorageKey(),
+                                attachment.getContentType()));
+                return attachment;
+            });
+            return AttachmentResponse.from(saved);
+        } catch (IOException | RuntimeException e) {
+            deleteBlobQuietly(blob.getKey());
+            throw e;
+        }
+    }
+
+    /**
+     * 인라인으로 보여줄 이미지 형식이라고 주장하는 파일은 앞부분(매직 바이트)이 맞는지 확인한다.
+     * 맞지 않으면 내려받기만 되도록 application/octet-stream 으로 저장한다.
+     */
+    private String verifyContentType(String contentType, String storageKey) throws IOException {
+        if (!Attachment.INLINE_IMAGE_TYPES.contains(contentType)) {
+            return contentType;
+        }
+        try (InputStream in = blobStore.open(storageKey)) {
+            return ImageSignature.matches(contentType, in.readNBytes(ImageSignature.HEADER_BYTES))
+                    ? contentType
+                    : MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AttachmentDownload prepareDownload(Long attachmentId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .filter(a -> postArchiveStore.locate(a.getPostId()).exists())
+                .orElseThrow(() -> new AttachmentNotFoundException("첨부파일을 찾을 수 없습니다."));
+        Path file = blobStore.localPath(attachment.getStorageKey()).orElse(null);
+        return new AttachmentDownload(attachment, file, () -> blobStore.open(attachment.getStorageKey()));
+    }
+
+    /**
+     * 썸네일이 아직 없으면 빈 값을 돌려주고 생성 작업을 다시 넣어 본다.
+     * 큐에 있던 작업이 재시작 등으로 사라졌더라도 조회가 오면 다시 만들어진다.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ThumbnailDownload> prepareThumbnail(Long attachmentId, ThumbnailVariant variant) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .filter(Attachment::isImage)
+                .filter(a -> postArchiveStore.locate(a.getPostId()).exists())
+                .orElseThrow(() -> new AttachmentNotFoundException("첨부파일을 찾을 수 없습니다."));
+        Optional<ThumbnailDownload> thumbnail = thumbnailService.find(attachmentId, variant)
+                .map(t -> new ThumbnailDownload(t, blobStore.localPath(t.getStorageKey()).orElse(null),
+                        () -> blobStore.open(t.getStorageKey())));
+        if (thumbnail.isEmpty()) {
+            thumbnailService.tryEnqueue(attachmentId, attachment.getStorageKey());
+        }
+        return thumbnail;
+    }
+
+    @Override
+    @Transactional
+    public void deleteAttachment(Long attachmentId, Long userId) {
+        Attachment attachment = attachmentRepository.findById(attachmentId)
+                .orElseThrow(() -> new AttachmentNotFoundException("첨부파일을 찾을 수 없습니다."));
+        if (!attachment.isUploader(userId)) {
+            throw new UnauthorizedPostAccessException("첨부파일을 삭제할 권한이 없습니다.");
+        }
+        List<String> keys = new ArrayList<>(thumbnailRepository.findStorageKeysByAttachmentIdIn(List.of(attachmentId)));
+        keys.add(attachment.getStorageKey());
+        thumbnailRepository.deleteAllByAttachmentIdIn(List.of(attachmentId));
+        attachmentRepository.delete(attachment);
+        postResponseCache.evictAfterCommit(attachment.getPostId());
+        TransactionUtils.runAfterCommit(() -> keys.forEach(this::deleteBlobQuietly));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyToPosts(List<PostResponse> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = posts.stream().map(PostResponse::getId).toList();
+        Map<Long, List<AttachmentResponse>> byPost = attachmentRepository.findByPostIdInOrderByIdAsc(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(Attachment::getPostId,
+                        Collectors.mapping(AttachmentResponse::from, Collectors.toList())));
+        for (PostResponse post : posts) {
+            post.applyAttachments(byPost.getOrDefault(post.getId(), List.of()));
+        }
+    }
+
+    void deleteBlobQuietly(String key) {
+        try {
+            blobStore.delete(key);
+        } catch (IOException | RuntimeException e) {
+            log.warn("첨부파일 삭제 실패: key={}", key, e);
+        }
+    }
+
+    private static String sanitizeFilename(String filename) {
+        String name = StringUtils.getFilename(StringUtils.cleanPath(filename == null ? "" : filename));
+        if (!StringUtils.hasText(name)) {
+            return "file";
+        }
+        name = name.replaceAll("[\\r\\n\\x00-\\x1f]", "_");
+        return name.length() > MAX_FILENAME_LENGTH ? name.substring(0, MAX_FILENAME_LENGTH) : name;
+    }
+
+    private static String normalizeContentType(String contentType) {
+        if (!StringUtils.hasText(contentType)) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return new MediaType(mediaType.getType(), mediaType.getSubtype()).toString();
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 파일 앞부분으로 래스터 이미지 형식을 확인한다. 클라이언트가 보낸 Content-Type 은 믿지 않는다.
+ */
+final class ImageSignature {
+
+    static final int HEADER_BYTES = 12;
+
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPEG = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+    private static final byte[] GIF87A = "GIF87a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] GIF89A = "GIF89a".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] RIFF = "RIFF".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] WEBP = "WEBP".getBytes(StandardCharsets.US_ASCII);
+
+    private ImageSignature() {
+    }
+
+    static boolean matches(String contentType, byte[] head) {
+        return switch (contentType) {
+            case "image/png" -> startsWith(head, 0, PNG);
+            case "image/jpeg" -> startsWith(head, 0, JPEG);
+            case "image/gif" -> startsWith(head, 0, GIF87A) || startsWith(head, 0, GIF89A);
+            case "image/webp" -> startsWith(head, 0, RIFF) && startsWith(head, 8, WEBP);
+            default -> false;
+        };
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] signature) {
+        return head.length >= offset + signature.length
+                && Arrays.equals(head, offset, offset + signature.length, signature, 0, signature.length);
+    }
+}
@@ -0,0 +1,31 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.event.AttachmentEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventHandler;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class ThumbnailEventHandler implements DomainEventHandler {
+
+    private final ThumbnailService thumbnailService;
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.ATTACHMENT_CREATED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) throws InterruptedException {
+        AttachmentEvent event = message.payloadAs(AttachmentEvent.class);
+        if (event.getContentType() == null || !event.getContentType().startsWith("image/")) {
+            return;
+        }
+        thumbnailService.enqueue(event.getAttachmentId(), event.getStorageKey());
+    }
+}
@@ -0,0 +1,110 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * 원본 이미지를 읽어 긴 변이 maxDimension 이 되도록 줄이고 JPEG 로 인코딩한다.
+ * 크게 줄일 때 한 번에 bilinear 로 줄이면 계단 현상이 생기므로 절반씩 나눠 줄인다.
+ */
+public final class ThumbnailRenderer {
+
+    private ThumbnailRenderer() {
+    }
+
+    public record Rendered(byte[] bytes, int width, int height) {
+    }
+
+    /**
+     * 헤더로 크기를 먼저 확인해 maxPixels 를 넘는 이미지는 디코딩하지 않는다(압축 폭탄 방지).
+     * ImageIO 가 읽지 못하는 형식이면 null.
+     */
+    public static BufferedImage read(InputStream content, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(content)) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new IOException("이미지가 너무 큽니다: " + pixels + " px");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static Rendered render(BufferedImage source, int maxDimension) throws IOException {
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(source.getWidth(), source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width / 2 >= targetWidth && height / 2 >= targetHeight) {
+            width /= 2;
+            height /= 2;
+            current = scale(current, width, height);
+        }
+        // JPEG 는 알파 채널이 없으므로 마지막 단계는 흰 배경의 RGB 로 그린다
+        BufferedImage output = scale(current, targetWidth, targetHeight);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(output, "jpg", out)) {
+            throw new IOException("JPEG 인코더를 찾을 수 없습니다.");
+        }
+        return new Rendered(out.toByteArray(), targetWidth, targetHeight);
+    }
+
+    /**
+     * 썸네일이 아직 없을 때 내려줄 단색 PNG.
+     */
+    public static byte[] placeholder(int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(new Color(0xE5, 0xE7, 0xEB));
+            g.fillRect(0, 0, size, size);
+        } finally {
+            g.dispose();
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,199 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.entity.AttachmentThumbnail;
+import dev.babyeham.ehamboard.domain.attachment.entity.ThumbnailVariant;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentThumbnailRepository;
+import dev.babyeham.ehamboard.global.storage.BlobStore;
+import dev.babyeham.ehamboard.global.storage.StoredBlob;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 첨부 이미지의 썸네일을 요청 스레드가 아닌 전용 워커에서 만든다.
+ * 워커 수와 큐 길이가 고정돼 있어 업로드가 몰려도 CPU 와 메모리 사용량이 묶인다.
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    private final AttachmentThumbnailRepository thumbnailRepository;
+    private final BlobStore blobStore;
+    private final Duration enqueueTimeout;
+    private final long maxSourcePixels;
+
+    private final ThreadPoolExecutor executor;
+    // 같은 첨부에 대한 작업이 큐에 여러 번 쌓이지 않게 한다
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<ThumbnailVariant, byte[]> placeholders = new EnumMap<>(ThumbnailVariant.class);
+    private final Timer processingTimer;
+    private final Counter generatedCounter;
+    private final Counter failedCounter;
+
+    public ThumbnailService(AttachmentThumbnailRepository thumbnailRepository,
+                            BlobStore blobStore,
+                            MeterRegistry meterRegistry,
+                            @Value("${thumbnail.workers:2}") int workers,
+                            @Value("${thumbnail.queue-capacity:200}") int queueCapacity,
+                            @Value("${thumbnail.enqueue-timeout:2s}") Duration enqueueTimeout,
+                            @Value("${thumbnail.max-source-pixels:40000000}") long maxSourcePixels) {
+        this.thumbnailRepository = thumbnailRepository;
+        this.blobStore = blobStore;
+        this.enqueueTimeout = enqueueTimeout;
+        this.maxSourcePixels = maxSourcePixels;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreadFactory());
+        // 큐에 직접 넣으므로 워커를 미리 띄워 둔다
+        this.executor.prestartAllCoreThreads();
+        for (ThumbnailVariant variant : ThumbnailVariant.values()) {
+            placeholders.put(variant, ThumbnailRenderer.placeholder(variant.getMaxDimension()));
+        }
+
+        this.processingTimer = Timer.builder("thumbnail.processing")
+                .description("원본 하나에서 모든 크기의 썸네일을 만드는 데 걸린 시간")
+                .register(meterRegistry);
+        this.generatedCounter = Counter.builder("thumbnail.jobs").tag("result", "generated").register(meterRegistry);
+        this.failedCounter = Counter.builder("thumbnail.jobs").tag("result", "failed").register(meterRegistry);
+        Gauge.builder("thumbnail.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("thumbnail.workers.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    /**
+     * 큐가 가득 차 있으면 enqueueTimeout 동안 기다리고, 그래도 자리가 없으면 RejectedExecutionException.
+     * 아웃박스 핸들러에서 부르면 예외로 인해 이벤트가 백오프 후 재시도되므로 작업이 버려지지 않는다.
+     */
+    public void enqueue(Long attachmentId, String storageKey) throws InterruptedException {
+        if (!submit(attachmentId, storageKey, enqueueTimeout.toMillis())) {
+            throw new RejectedExecutionException("썸네일 작업 큐가 가득 찼습니다.");
+        }
+    }
+
+    /**
+     * 기다리지 않고 넣어 본다. 조회 시점에 빠진 썸네일을 다시 만들 때 사용한다.
+     */
+    public void tryEnqueue(Long attachmentId, String storageKey) {
+        try {
+            submit(attachmentId, storageKey, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public Optional<AttachmentThumbnail> find(Long attachmentId, ThumbnailVariant variant) {
+        return thumbnailRepository.findByAttachmentIdAndVariant(attachmentId, variant);
+    }
+
+    public byte[] placeholder(ThumbnailVariant variant) {
+        return placeholders.get(variant);
+    }
+
+    private boolean submit(Long attachmentId, String storageKey, long timeoutMillis) throws InterruptedException {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("썸네일 워커가 종료되었습니다.");
+        }
+        if (!inFlight.add(attachmentId)) {
+            return true;
+        }
+        Runnable job = () -> {
+            try {
+                generate(attachmentId, storageKey);
+            } finally {
+                inFlight.remove(attachmentId);
+            }
+        };
+        boolean accepted = false;
+        try {
+            accepted = executor.getQueue().offer(job, timeoutMillis, TimeUnit.MILLISECONDS);
+            return accepted;
+        } finally {
+            if (!accepted) {
+                inFlight.remove(attachmentId);
+            }
+        }
+    }
+
+    void generate(Long attachmentId, String storageKey) {
+        Timer.Sample sample = Timer.start();
+        try {
+            Set<ThumbnailVariant> missing = EnumSet.allOf(ThumbnailVariant.class);
+            thumbnailRepository.findByAttachmentId(attachmentId).forEach(t -> missing.remove(t.getVariant()));
+            if (missing.isEmpty()) {
+                return;
+            }
+
+            BufferedImage source;
+            try (InputStream in = blobStore.open(storageKey)) {
+                source = ThumbnailRenderer.read(in, maxSourcePixels);
+            }
+            if (source == null) {
+                // 지원하지 않는 형식(SVG, WebP 등)은 계속 자리표시 이미지를 쓴다
+                log.debug("썸네일을 만들 수 없는 형식: attachmentId={}", attachmentId);
+                return;
+            }
+            for (ThumbnailVariant variant : missing) {
+                store(attachmentId, variant, ThumbnailRenderer.render(source, variant.getMaxDimension()));
+            }
+            generatedCounter.increment();
+        } catch (IOException | RuntimeException e) {
+            failedCounter.increment();
+            log.warn("썸네일 생성 실패: attachmentId={}", attachmentId, e);
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    private void store(Long attachmentId, ThumbnailVariant variant, ThumbnailRenderer.Rendered rendered)
+            throws IOException {
+        byte[] bytes = rendered.bytes();
+        StoredBlob blob = blobStore.store(new ByteArrayInputStream(bytes), bytes.length);
+        int inserted;
+        try {
+            inserted = thumbnailRepository.insertIgnore(attachmentId, variant.name(), blob.getKey(),
+                    rendered.width(), rendered.height(), blob.getSize(), blob.getSha256());
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 첨부가 삭제되어 외래키 제약에 걸린 경우
+            inserted = 0;
+        }
+        if (inserted == 0) {
+            // 이미 같은 크기가 있거나 원본이 사라졌으면 방금 쓴 파일은 버린다
+            blobStore.delete(blob.getKey());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -1,11 +1,16 @@
 package dev.babyeham.ehamboard.domain.comment.controller;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import dev.babyeham.ehamboard.domain.comment.dto.CommentField;
 import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
 import dev.babyeham.ehamboard.domain.comment.dto.CreateCommentRequest;
 import dev.babyeham.ehamboard.domain.comment.dto.UpdateCommentRequest;
 import dev.babyeham.ehamboard.domain.comment.service.CommentService;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import dev.babyeham.ehamboard.global.fieldset.SparseFieldsWriter;
+import dev.babyeham.ehamboard.global.throttle.WriteThrottled;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,15 +20,19 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final ReactionService reactionService;
+    private final SparseFieldsWriter sparseFieldsWriter;
 
     @PostMapping("/posts/{postId}/comments")
     @Operation(summary = "댓글 작성")
+    @WriteThrottled("comment-create")
     public ResponseEntity<CommentResponse> createComment(@PathVariable("postId") Long postId,
                                                           @Valid @RequestBody CreateCommentRequest request,
                                                           @AuthenticationPrincipal User user) {
@@ -33,20 +42,47 @@ public class CommentController {
 
     @GetMapping("/posts/{postId}/comments")
     @Operation(summary = "특정 게시글 댓글 조회")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable("postId") Long postId) {
+    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable("postId") Long postId,
+                                                             @AuthenticationPrincipal User user) {
         List<CommentResponse> response = commentService.getCommentsByPost(postId);
+        reactionService.applyToComments(response, userIdOf(user));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/posts/{postId}/comments", params = "fields")
+    @Operation(summary = "특정 게시글 댓글 조회 (필드 선택)", description = "fields=id,content,username 처럼 필요한 필드만 조회한다")
+    public ResponseEntity<List<ObjectNode>> getCommentFields(@PathVariable("postId") Long postId,
+                                                             @RequestParam String fields,
+                                                             @AuthenticationPrincipal User user) {
+        Set<CommentField> selected = CommentField.parse(fields);
+        List<CommentResponse> response = commentService.getCommentsByPost(postId, selected);
+        decorate(response, selected, userIdOf(user));
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
     @GetMapping("/comments/{commentId}")
     @Operation(summary = "댓글 하나 조회")
-    public ResponseEntity<CommentResponse> getComment(@PathVariable("commentId") Long commentId) {
+    public ResponseEntity<CommentResponse> getComment(@PathVariable("commentId") Long commentId,
+                                                      @AuthenticationPrincipal User user) {
         CommentResponse response = commentService.getComment(commentId);
+        reactionService.applyToComments(List.of(response), userIdOf(user));
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/comments/{commentId}", params = "fields")
+    @Operation(summary = "댓글 하나 조회 (필드 선택)")
+    public ResponseEntity<ObjectNode> getCommentFieldsById(@PathVariable("commentId") Long commentId,
+                                                           @RequestParam String fields,
+                                                           @AuthenticationPrincipal User user) {
+        Set<CommentField> selected = CommentField.parse(fields);
+        CommentResponse response = commentService.getComment(commentId, selected);
+        decorate(List.of(response), selected, userIdOf(user));
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
     @PutMapping("/comments/{commentId}")
     @Operation(summary = "댓글 수정")
+    @WriteThrottled("comment-update")
     public ResponseEntity<CommentResponse> updateComment(@PathVariable("commentId") Long commentId,
                                                           @Valid @RequestBody UpdateCommentRequest request,
                                                           @AuthenticationPrincipal User user) {
@@ -61,4 +97,14 @@ public class CommentController {
         commentService.deleteComment(commentId, user.getId());
         return ResponseEntity.ok(new MessageResponse("댓글 삭제 성공"));
     }
+
+    private void decorate(List<CommentResponse> comments, Set<CommentField> fields, Long userId) {
+        if (fields.contains(CommentField.LIKE_COUNT) || fields.contains(CommentField.LIKED_BY_ME)) {
+            reactionService.applyToComments(comments, userId);
+        }
+    }
+
+    private Long userIdOf(User user) {
+        return user != null ? user.getId() : null;
+    }
 }
@@ -0,0 +1,35 @@
+package dev.babyeham.ehamboard.domain.comment.controller;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
+import dev.babyeham.ehamboard.domain.comment.service.ReactiveCommentReadService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@Profile("reactive-read")
+@RequestMapping("/reactive")
+@RequiredArgsConstructor
+public class ReactiveCommentController {
+
+    private final ReactiveCommentReadService reactiveCommentReadService;
+
+    @GetMapping(value = "/posts/{postId}/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "특정 게시글 댓글 조회 (논블로킹, NDJSON 스트리밍)")
+    public Flux<CommentResponse> getComments(@PathVariable("postId") Long postId) {
+        return reactiveCommentReadService.getCommentsByPost(postId);
+    }
+
+    @GetMapping("/comments/{commentId}")
+    @Operation(summary = "댓글 하나 조회 (논블로킹)")
+    public Mono<CommentResponse> getComment(@PathVariable("commentId") Long commentId) {
+        return reactiveCommentReadService.getComment(commentId);
+    }
+}
@@ -0,0 +1,29 @@
+package dev.babyeham.ehamboard.domain.comment.dto;
+
+import dev.babyeham.ehamboard.global.fieldset.SelectableField;
+import dev.babyeham.ehamboard.global.fieldset.SparseFields;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public enum CommentField implements SelectableField {
+    ID("id"),
+    CONTENT("content"),
+    CONTENT_HTML("contentHtml"),
+    POST_ID("postId"),
+    USER_ID("userId"),
+    USERNAME("username"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    LIKE_COUNT("likeCount"),
+    LIKED_BY_ME("likedByMe");
+
+    private final String fieldName;
+
+    public static Set<CommentField> parse(String fields) {
+        return SparseFields.parse(fields, CommentField.class);
+    }
+}
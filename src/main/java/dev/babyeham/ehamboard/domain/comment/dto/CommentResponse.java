@@ -1,6 +1,7 @@
 package dev.babyeham.ehamboard.domain.comment.dto;
 
 import dev.babyeham.ehamboard.domain.comment.entity.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,16 +14,26 @@ import java.time.LocalDateTime;
 public class CommentResponse {
     private Long id;
     private String content;
+    private String contentHtml;
     private Long postId;
     private Long userId;
     private String username;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long likeCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
 
     public static CommentResponse from(Comment comment) {
+        return from(comment, comment.getRenderedHtml());
+    }
+
+    public static CommentResponse from(Comment comment, String contentHtml) {
         return CommentResponse.builder()
                 .id(comment.getId())
                 .content(comment.getContent())
+                .contentHtml(contentHtml)
                 .postId(comment.getPost().getId())
                 .userId(comment.getUser().getId())
                 .username(comment.getUser().getUsername())
@@ -30,5 +41,9 @@ public class CommentResponse {
                 .updatedAt(comment.getUpdatedAt())
                 .build();
     }
-}
 
+    public void applyReaction(long likeCount, boolean likedByMe) {
+        this.likeCount = likeCount;
+        this.likedByMe = likedByMe;
+    }
+}
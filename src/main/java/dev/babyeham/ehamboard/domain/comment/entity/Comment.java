@@ -2,6 +2,8 @@ package dev.babyeham.ehamboard.domain.comment.entity;
 
 import dev.babyeham.ehamboard.domain.post.entity.Post;
 import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.compression.CompressedText;
+import dev.babyeham.ehamboard.global.compression.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -24,8 +26,18 @@ public class Comment {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 설정된 크기 이상이면 압축해 저장한다. 본문을 읽지 않는 조회는 압축을 풀지 않는다
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private CompressedText content;
+
+    // content 를 렌더링해 sanitize 한 HTML. 비어 있으면 조회 시점에 렌더링한다
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String renderedHtml;
+
+    // renderedHtml 을 만든 렌더러 버전. 현재 버전과 다르면 renderedHtml 을 쓰지 않는다
+    @Column(length = 16)
+    private String renderedVersion;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "post_id", nullable = false)
@@ -44,14 +56,22 @@ public class Comment {
     private LocalDateTime updatedAt;
 
     @Builder
-    public Comment(String content, Post post, User user) {
-        this.content = content;
+    public Comment(String content, String renderedHtml, String renderedVersion, Post post, User user) {
+        this.content = CompressedText.of(content);
+        this.renderedHtml = renderedHtml;
+        this.renderedVersion = renderedVersion;
         this.post = post;
         this.user = user;
     }
 
-    public void update(String content) {
-        this.content = content;
+    public void update(String content, String renderedHtml, String renderedVersion) {
+        this.content = CompressedText.of(content);
+        this.renderedHtml = renderedHtml;
+        this.renderedVersion = renderedVersion;
+    }
+
+    public String getContent() {
+        return this.content.text();
     }
 
     public boolean isAuthor(Long userId) {
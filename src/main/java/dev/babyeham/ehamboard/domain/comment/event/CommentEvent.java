@@ -0,0 +1,16 @@
+package dev.babyeham.ehamboard.domain.comment.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentEvent {
+
+    private Long commentId;
+    private Long postId;
+    private Long userId;
+    private Long postAuthorId;
+}
@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.domain.comment.repository;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentField;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ?fields= 로 고른 필드에 필요한 컬럼만 조회한다. Tuple 의 별칭은 CommentField 의 이름을 따르며,
+ * contentHtml 을 고르면 renderedHtml, renderedVersion 이 함께 오고, content 는 저장된 HTML 을 쓸 수 없는 행에만 채워진다.
+ */
+public interface CommentProjectionRepository {
+    List<Tuple> findByPostIdProjected(Long postId, Set<CommentField> fields);
+
+    Optional<Tuple> findActiveProjectedById(Long commentId, Set<CommentField> fields);
+}
@@ -0,0 +1,92 @@
+package dev.babyeham.ehamboard.domain.comment.repository;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentField;
+import dev.babyeham.ehamboard.global.fieldset.SparseFields;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CommentProjectionRepositoryImpl implements CommentProjectionRepository {
+
+    private static final String STALE_CONTENT = "CASE WHEN c.renderedHtml IS NOT NULL AND c.renderedVersion = '"
+            + MarkdownRenderer.RENDERER_VERSION + "' THEN NULL ELSE c.content END AS content";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // (조건, 필드 조합) 마다 JPQL 을 한 번만 만든다
+    private final Map<Long, String> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Tuple> findByPostIdProjected(Long postId, Set<CommentField> fields) {
+        return query(Filter.POST, fields, postId).getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findActiveProjectedById(Long commentId, Set<CommentField> fields) {
+        return query(Filter.ACTIVE_ID, fields, commentId).getResultStream().findFirst();
+    }
+
+    private TypedQuery<Tuple> query(Filter filter, Set<CommentField> fields, Object argument) {
+        long shape = ((long) filter.ordinal() << 32) | SparseFields.mask(fields);
+        String jpql = shapes.computeIfAbsent(shape, key -> build(filter, fields));
+        return entityManager.createQuery(jpql, Tuple.class).setParameter("arg", argument);
+    }
+
+    private static String build(Filter filter, Set<CommentField> fields) {
+        Set<String> select = new LinkedHashSet<>();
+        select.add("c.id AS id");
+        boolean joinUser = false;
+        for (CommentField field : CommentField.values()) {
+            if (!fields.contains(field)) {
+                continue;
+            }
+            switch (field) {
+                case CONTENT -> select.add("c.content AS content");
+                case CONTENT_HTML -> {
+                    // 저장된 HTML 을 그대로 쓸 수 있는 행은 본문을 읽지 않는다. content 도 골랐으면 위에서 이미 읽었다
+                    if (!fields.contains(CommentField.CONTENT)) {
+                        select.add(STALE_CONTENT);
+                    }
+                    select.add("c.renderedHtml AS renderedHtml");
+                    select.add("c.renderedVersion AS renderedVersion");
+                }
+                case POST_ID -> select.add("c.post.id AS postId");
+                case USER_ID -> select.add("c.user.id AS userId");
+                case USERNAME -> {
+                    select.add("u.username AS username");
+                    joinUser = true;
+                }
+                case CREATED_AT -> select.add("c.createdAt AS createdAt");
+                case UPDATED_AT -> select.add("c.updatedAt AS updatedAt");
+                default -> {
+                    // 반응은 id 로 조회한 뒤 따로 채운다
+                }
+            }
+        }
+        return "SELECT " + String.join(", ", select) + " FROM Comment c"
+                + (joinUser ? " JOIN c.user u" : "")
+                + filter.condition;
+    }
+
+    private enum Filter {
+        POST(" WHERE c.post.id = :arg ORDER BY c.createdAt ASC"),
+        // 삭제 표시된 게시글의 댓글은 보이지 않는다
+        ACTIVE_ID(" JOIN c.post p WHERE c.id = :arg AND p.deletedAt IS NULL");
+
+        private final String condition;
+
+        Filter(String condition) {
+            this.condition = condition;
+        }
+    }
+}
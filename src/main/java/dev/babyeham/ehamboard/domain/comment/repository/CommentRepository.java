@@ -2,9 +2,28 @@ package dev.babyeham.ehamboard.domain.comment.repository;
 
 import dev.babyeham.ehamboard.domain.comment.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentProjectionRepository {
     List<Comment> findByPostIdOrderByCreatedAtAsc(Long postId);
+
+    @Query("SELECT c FROM Comment c JOIN c.post p WHERE c.id = :commentId AND p.deletedAt IS NULL")
+    Optional<Comment> findActiveById(@Param("commentId") Long commentId);
+
+    @Query(value = "SELECT id FROM comments WHERE post_id = :postId LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByPostId(@Param("postId") Long postId, @Param("limit") int limit);
+
+    @Query(value = "SELECT post_id AS postId, COUNT(*) AS count FROM comments WHERE post_id IN (:postIds) "
+            + "GROUP BY post_id", nativeQuery = true)
+    List<PostCommentCount> countByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
 }
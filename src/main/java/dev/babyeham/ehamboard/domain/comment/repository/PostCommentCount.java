@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.comment.repository;
+
+public interface PostCommentCount {
+    Long getPostId();
+    long getCount();
+}
@@ -1,10 +1,12 @@
 package dev.babyeham.ehamboard.domain.comment.service;
 
+import dev.babyeham.ehamboard.domain.comment.dto.CommentField;
 import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
 import dev.babyeham.ehamboard.domain.comment.dto.CreateCommentRequest;
 import dev.babyeham.ehamboard.domain.comment.dto.UpdateCommentRequest;
 
 import java.util.List;
+import java.util.Set;
 
 public interface CommentService {
     CommentResponse createComment(Long postId, CreateCommentRequest request, Long userId);
@@ -12,4 +14,8 @@ public interface CommentService {
     CommentResponse getComment(Long commentId);
     CommentResponse updateComment(Long commentId, UpdateCommentRequest request, Long userId);
     void deleteComment(Long commentId, Long userId);
+
+    // ?fields= 로 고른 필드만 채운다. 반응은 호출한 쪽에서 채운다
+    List<CommentResponse> getCommentsByPost(Long postId, Set<CommentField> fields);
+    CommentResponse getComment(Long commentId, Set<CommentField> fields);
 }
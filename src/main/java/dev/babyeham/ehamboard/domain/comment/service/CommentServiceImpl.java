@@ -1,23 +1,36 @@
 package dev.babyeham.ehamboard.domain.comment.service;
 
+import dev.babyeham.ehamboard.domain.comment.dto.CommentField;
 import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
 import dev.babyeham.ehamboard.domain.comment.dto.CreateCommentRequest;
 import dev.babyeham.ehamboard.domain.comment.dto.UpdateCommentRequest;
 import dev.babyeham.ehamboard.domain.comment.entity.Comment;
+import dev.babyeham.ehamboard.domain.comment.event.CommentEvent;
 import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
 import dev.babyeham.ehamboard.domain.post.entity.Post;
 import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+import dev.babyeham.ehamboard.domain.revision.service.RevisionService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.compression.CompressedText;
 import dev.babyeham.ehamboard.global.exception.CommentNotFoundException;
 import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
 import dev.babyeham.ehamboard.global.exception.UnauthorizedCommentAccessException;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxEventPublisher;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,6 +40,11 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostResponseCache postResponseCache;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final MarkdownRenderer markdownRenderer;
+    private final RevisionService revisionService;
+    private final PostArchiveStore postArchiveStore;
 
     @Override
     @Transactional
@@ -38,54 +56,137 @@ public class CommentServiceImpl implements CommentService {
 
         Comment comment = Comment.builder()
                 .content(request.getContent())
+                .renderedHtml(markdownRenderer.renderForStorage(request.getContent()))
+                .renderedVersion(markdownRenderer.version())
                 .post(post)
                 .user(user)
                 .build();
         Comment saved = commentRepository.save(comment);
-        return CommentResponse.from(saved);
+        revisionService.recordCreated(RevisionTargetType.COMMENT, saved.getId(), userId, null, saved.getContent());
+        postResponseCache.evictAfterCommit(postId);
+        outboxEventPublisher.publish(DomainEventType.COMMENT_CREATED, saved.getId(),
+                new CommentEvent(saved.getId(), postId, userId, post.getUser().getId()));
+        return toResponse(saved);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsByPost(Long postId) {
-        if (!postRepository.existsById(postId)) {
-            throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
+        if (!isLive(postId)) {
+            return postArchiveStore.findArchivedComments(postId);
         }
         return commentRepository.findByPostIdOrderByCreatedAtAsc(postId)
                 .stream()
-                .map(CommentResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
     @Override
     @Transactional(readOnly = true)
     public CommentResponse getComment(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findActiveById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다."));
-        return CommentResponse.from(comment);
+        return toResponse(comment);
     }
 
     @Override
     @Transactional
     public CommentResponse updateComment(Long commentId, UpdateCommentRequest request, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findActiveById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다."));
         if (!comment.isAuthor(userId)) {
             throw new UnauthorizedCommentAccessException("댓글을 수정할 권한이 없습니다.");
         }
-        comment.update(request.getContent());
-        return CommentResponse.from(comment);
+        String previousContent = comment.getContent();
+        comment.update(request.getContent(), markdownRenderer.renderForStorage(request.getContent()),
+                markdownRenderer.version());
+        revisionService.recordUpdated(RevisionTargetType.COMMENT, commentId, userId,
+                null, previousContent, null, comment.getContent());
+        postResponseCache.evictAfterCommit(comment.getPost().getId());
+        outboxEventPublisher.publish(DomainEventType.COMMENT_UPDATED, commentId,
+                new CommentEvent(commentId, comment.getPost().getId(), userId,
+                        comment.getPost().getUser().getId()));
+        return toResponse(comment);
     }
 
     @Override
     @Transactional
     public void deleteComment(Long commentId, Long userId) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findActiveById(commentId)
                 .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다."));
         if (!comment.isAuthor(userId)) {
             throw new UnauthorizedCommentAccessException("댓글을 삭제할 권한이 없습니다.");
         }
         commentRepository.delete(comment);
+        postResponseCache.evictAfterCommit(comment.getPost().getId());
+        outboxEventPublisher.publish(DomainEventType.COMMENT_DELETED, commentId,
+                new CommentEvent(commentId, comment.getPost().getId(), userId,
+                        comment.getPost().getUser().getId()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CommentResponse> getCommentsByPost(Long postId, Set<CommentField> fields) {
+        // 보관된 게시글의 댓글은 전체 응답을 돌려주고, 고른 필드만 남기는 일은 SparseFieldsWriter 가 한다
+        if (!isLive(postId)) {
+            return postArchiveStore.findArchivedComments(postId);
+        }
+        return commentRepository.findByPostIdProjected(postId, fields)
+                .stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CommentResponse getComment(Long commentId, Set<CommentField> fields) {
+        Tuple row = commentRepository.findActiveProjectedById(commentId, fields)
+                .orElseThrow(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다."));
+        return toResponse(row, fields);
     }
-}
 
+    /**
+     * 운영 테이블에 있으면 true, 보관된 게시글이면 false 다. 어디에도 없으면 예외를 던진다.
+     */
+    private boolean isLive(Long postId) {
+        return switch (postArchiveStore.locate(postId)) {
+            case LIVE -> true;
+            case ARCHIVED -> false;
+            case MISSING -> throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
+        };
+    }
+
+    private CommentResponse toResponse(Comment comment) {
+        return CommentResponse.from(comment, markdownRenderer.resolve(comment.getContent(),
+                comment.getRenderedHtml(), comment.getRenderedVersion()));
+    }
+
+    private CommentResponse toResponse(Tuple row, Set<CommentField> fields) {
+        CommentResponse.CommentResponseBuilder builder = CommentResponse.builder()
+                .id(row.get("id", Long.class));
+        if (fields.contains(CommentField.CONTENT)) {
+            builder.content(row.get("content", CompressedText.class).text());
+        }
+        if (fields.contains(CommentField.CONTENT_HTML)) {
+            CompressedText content = row.get("content", CompressedText.class);
+            builder.contentHtml(markdownRenderer.resolveLazily(row.get("renderedHtml", String.class),
+                    row.get("renderedVersion", String.class), () -> content.text()));
+        }
+        if (fields.contains(CommentField.POST_ID)) {
+            builder.postId(row.get("postId", Long.class));
+        }
+        if (fields.contains(CommentField.USER_ID)) {
+            builder.userId(row.get("userId", Long.class));
+        }
+        if (fields.contains(CommentField.USERNAME)) {
+            builder.username(row.get("username", String.class));
+        }
+        if (fields.contains(CommentField.CREATED_AT)) {
+            builder.createdAt(row.get("createdAt", LocalDateTime.class));
+        }
+        if (fields.contains(CommentField.UPDATED_AT)) {
+            builder.updatedAt(row.get("updatedAt", LocalDateTime.class));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,84 @@
+package dev.babyeham.ehamboard.domain.comment.service;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.exception.CommentNotFoundException;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * reactive-read 프로파일의 논블로킹 댓글 조회. 반응 수는 채우지 않는다.
+ * 게시글별 댓글은 CommentServiceImpl 처럼 보관 워터마크 이하이거나 운영 테이블에 게시글이 없으면 보관 테이블을 본다.
+ */
+@Service
+@Profile("reactive-read")
+@RequiredArgsConstructor
+public class ReactiveCommentReadService {
+
+    private static final String SELECT_COMMENTS = "SELECT c.id, c.content, c.rendered_html, c.rendered_version, c.post_id, c.user_id, "
+            + "u.username, c.created_at, c.updated_at FROM comments c JOIN users u ON u.id = c.user_id";
+
+    private final DatabaseClient databaseClient;
+    private final TextCompressor textCompressor;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostArchiveStore postArchiveStore;
+
+    public Flux<CommentResponse> getCommentsByPost(Long postId) {
+        Mono<List<CommentResponse>> archived = Mono.fromCallable(() -> postArchiveStore.findComments(postId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty)
+                .switchIfEmpty(Mono.error(() -> new PostNotFoundException("게시글을 찾을 수 없습니다.")));
+        if (postArchiveStore.covers(postId)) {
+            return archived.flatMapIterable(Function.identity());
+        }
+        Flux<CommentResponse> comments = databaseClient
+                .sql(SELECT_COMMENTS + " WHERE c.post_id = :postId ORDER BY c.created_at ASC")
+                .bind("postId", postId)
+                .map(this::toResponse)
+                .all();
+        return databaseClient.sql("SELECT 1 FROM posts WHERE id = :postId AND deleted_at IS NULL")
+                .bind("postId", postId)
+                .fetch()
+                .first()
+                .map(row -> true)
+                .defaultIfEmpty(false)
+                .flatMapMany(live -> live ? comments : archived.flatMapIterable(Function.identity()));
+    }
+
+    public Mono<CommentResponse> getComment(Long commentId) {
+        return databaseClient.sql(SELECT_COMMENTS + " JOIN posts p ON p.id = c.post_id "
+                        + "WHERE c.id = :commentId AND p.deleted_at IS NULL")
+                .bind("commentId", commentId)
+                .map(this::toResponse)
+                .one()
+                .switchIfEmpty(Mono.error(() -> new CommentNotFoundException("댓글을 찾을 수 없습니다.")));
+    }
+
+    private CommentResponse toResponse(Readable row) {
+        String content = textCompressor.decode(row.get("content", byte[].class));
+        return CommentResponse.builder()
+                .id(row.get("id", Long.class))
+                .content(content)
+                .contentHtml(markdownRenderer.resolve(content, row.get("rendered_html", String.class),
+                        row.get("rendered_version", String.class)))
+                .postId(row.get("post_id", Long.class))
+                .userId(row.get("user_id", Long.class))
+                .username(row.get("username", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.babyeham.ehamboard.domain.draft.controller;
+
+import dev.babyeham.ehamboard.domain.draft.dto.DraftResponse;
+import dev.babyeham.ehamboard.domain.draft.dto.SaveDraftRequest;
+import dev.babyeham.ehamboard.domain.draft.service.DraftService;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/drafts")
+@RequiredArgsConstructor
+public class DraftController {
+
+    private final DraftService draftService;
+
+    @GetMapping
+    @Operation(summary = "임시 저장 목록 조회")
+    public ResponseEntity<List<DraftResponse>> getDrafts(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(draftService.getDrafts(user.getId()));
+    }
+
+    @GetMapping("/{draftKey}")
+    @Operation(summary = "임시 저장 조회")
+    public ResponseEntity<DraftResponse> getDraft(@PathVariable("draftKey") String draftKey,
+                                                  @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(draftService.getDraft(user.getId(), draftKey));
+    }
+
+    @PutMapping("/{draftKey}")
+    @Operation(summary = "임시 저장(자동 저장)", description = "메모리에 받아 두고 잠시 뒤 최신본만 모아서 저장한다.")
+    public ResponseEntity<DraftResponse> saveDraft(@PathVariable("draftKey") String draftKey,
+                                                   @Valid @RequestBody SaveDraftRequest request,
+                                                   @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(draftService.saveDraft(user.getId(), draftKey, request));
+    }
+
+    @DeleteMapping("/{draftKey}")
+    @Operation(summary = "임시 저장 삭제")
+    public ResponseEntity<MessageResponse> deleteDraft(@PathVariable("draftKey") String draftKey,
+                                                       @AuthenticationPrincipal User user) {
+        draftService.deleteDraft(user.getId(), draftKey);
+        return ResponseEntity.ok(new MessageResponse("임시 저장 삭제 성공"));
+    }
+
+    @PostMapping("/{draftKey}/publish")
+    @Operation(summary = "임시 저장 게시", description = "최신 저장본으로 게시글을 만들고 임시 저장은 지운다.")
+    public ResponseEntity<PostResponse> publishDraft(@PathVariable("draftKey") String draftKey,
+                                                     @AuthenticationPrincipal User user) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(draftService.publishDraft(user.getId(), draftKey));
+    }
+}
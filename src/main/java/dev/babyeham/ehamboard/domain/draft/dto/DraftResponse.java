@@ -0,0 +1,29 @@
+package dev.babyeham.ehamboard.domain.draft.dto;
+
+import dev.babyeham.ehamboard.domain.draft.entity.Draft;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class DraftResponse {
+    private String draftKey;
+    private String title;
+    private String content;
+    private long version;
+    private LocalDateTime savedAt;
+
+    public static DraftResponse from(Draft draft) {
+        return DraftResponse.builder()
+                .draftKey(draft.getDraftKey())
+                .title(draft.getTitle())
+                .content(draft.getContent())
+                .version(draft.getVersion())
+                .savedAt(draft.getUpdatedAt())
+                .build();
+    }
+}
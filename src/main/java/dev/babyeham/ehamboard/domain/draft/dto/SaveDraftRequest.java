@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.domain.draft.dto;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SaveDraftRequest {
+
+    @Size(max = 200, message = "제목은 200자 이하여야 합니다.")
+    private String title;
+
+    @Size(max = 20000, message = "본문은 20000자 이하여야 합니다.")
+    private String content;
+}
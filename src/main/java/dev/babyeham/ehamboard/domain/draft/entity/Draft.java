@@ -0,0 +1,44 @@
+package dev.babyeham.ehamboard.domain.draft.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * (사용자, draftKey)마다 한 행. 자동 저장은 메모리에 모았다가 DraftWriteBehind 의 배치 upsert 로만 쓰며,
+ * version 이 더 큰 값만 반영되므로 늦게 도착한 배치가 최신 내용을 덮어쓰지 않는다.
+ */
+@Entity
+@Table(name = "drafts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Draft {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 64)
+    private String draftKey;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
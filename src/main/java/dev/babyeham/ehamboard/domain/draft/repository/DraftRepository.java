@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.domain.draft.repository;
+
+import dev.babyeham.ehamboard.domain.draft.entity.Draft;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DraftRepository extends JpaRepository<Draft, Long> {
+
+    Optional<Draft> findByUserIdAndDraftKey(Long userId, String draftKey);
+
+    List<Draft> findByUserIdOrderByUpdatedAtDesc(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Draft d WHERE d.userId = :userId AND d.draftKey = :draftKey")
+    int deleteByUserIdAndDraftKey(@Param("userId") Long userId, @Param("draftKey") String draftKey);
+}
@@ -0,0 +1,113 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+import java.util.*;
+
+/**
+ * 사용자별 자동 저장 슬롯. 슬롯마다 마지막 저장본 하나만 들고 있다.
+ * 마지막 저장 후 debounce 만큼 조용하거나, 처음 변경된 지 maxDelay 가 지나면 꺼낼 대상이 된다.
+ */
+class DraftBuffer {
+
+    private final Map<Long, Map<String, PendingDraft>> byUser = new HashMap<>();
+    private int size;
+    // 이 인스턴스 안에서 단조 증가하는 버전(마이크로초 단위 시각 기반)
+    private long lastVersion;
+
+    synchronized PendingDraft put(long userId, String draftKey, String title, String content, long nowMillis) {
+        Map<String, PendingDraft> slots = byUser.computeIfAbsent(userId, id -> new HashMap<>());
+        PendingDraft previous = slots.get(draftKey);
+        lastVersion = Math.max(nowMillis * 1000, lastVersion + 1);
+        long firstDirtyAt = previous != null ? previous.firstDirtyAtMillis() : nowMillis;
+        PendingDraft draft = new PendingDraft(userId, draftKey, title, content, lastVersion, firstDirtyAt, nowMillis);
+        slots.put(draftKey, draft);
+        if (previous == null) {
+            size++;
+        }
+        return draft;
+    }
+
+    synchronized PendingDraft get(long userId, String draftKey) {
+        Map<String, PendingDraft> slots = byUser.get(userId);
+        return slots != null ? slots.get(draftKey) : null;
+    }
+
+    synchronized List<PendingDraft> listByUser(long userId) {
+        Map<String, PendingDraft> slots = byUser.get(userId);
+        return slots != null ? new ArrayList<>(slots.values()) : List.of();
+    }
+
+    synchronized int countByUser(long userId) {
+        Map<String, PendingDraft> slots = byUser.get(userId);
+        return slots != null ? slots.size() : 0;
+    }
+
+    synchronized PendingDraft take(long userId, String draftKey) {
+        Map<String, PendingDraft> slots = byUser.get(userId);
+        if (slots == null) {
+            return null;
+        }
+        PendingDraft removed = slots.remove(draftKey);
+        if (removed != null) {
+            size--;
+            if (slots.isEmpty()) {
+                byUser.remove(userId);
+            }
+        }
+        return removed;
+    }
+
+    synchronized List<PendingDraft> drainDue(long nowMillis, long debounceMillis, long maxDelayMillis) {
+        List<PendingDraft> due = new ArrayList<>();
+        Iterator<Map<String, PendingDraft>> users = byUser.values().iterator();
+        while (users.hasNext()) {
+            Map<String, PendingDraft> slots = users.next();
+            Iterator<PendingDraft> iterator = slots.values().iterator();
+            while (iterator.hasNext()) {
+                PendingDraft draft = iterator.next();
+                if (nowMillis - draft.lastSavedAtMillis() >= debounceMillis
+                        || nowMillis - draft.firstDirtyAtMillis() >= maxDelayMillis) {
+                    due.add(draft);
+                    iterator.remove();
+                    size--;
+                }
+            }
+            if (slots.isEmpty()) {
+                users.remove();
+            }
+        }
+        return due;
+    }
+
+    synchronized List<PendingDraft> drainUser(long userId) {
+        Map<String, PendingDraft> slots = byUser.remove(userId);
+        if (slots == null) {
+            return List.of();
+        }
+        size -= slots.size();
+        return new ArrayList<>(slots.values());
+    }
+
+    synchronized List<PendingDraft> drainAll() {
+        List<PendingDraft> all = new ArrayList<>(size);
+        byUser.values().forEach(slots -> all.addAll(slots.values()));
+        byUser.clear();
+        size = 0;
+        return all;
+    }
+
+    /**
+     * 쓰기에 실패한 저장본을 되돌린다. 그 사이 같은 슬롯에 더 새로운 저장이 왔으면 그것을 남긴다.
+     */
+    synchronized void restore(List<PendingDraft> drafts) {
+        for (PendingDraft draft : drafts) {
+            Map<String, PendingDraft> slots = byUser.computeIfAbsent(draft.userId(), id -> new HashMap<>());
+            if (slots.putIfAbsent(draft.draftKey(), draft) == null) {
+                size++;
+            }
+        }
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
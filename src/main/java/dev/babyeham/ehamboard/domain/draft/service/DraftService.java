@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+import dev.babyeham.ehamboard.domain.draft.dto.DraftResponse;
+import dev.babyeham.ehamboard.domain.draft.dto.SaveDraftRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+
+import java.util.List;
+
+public interface DraftService {
+    DraftResponse saveDraft(Long userId, String draftKey, SaveDraftRequest request);
+    DraftResponse getDraft(Long userId, String draftKey);
+    List<DraftResponse> getDrafts(Long userId);
+    void deleteDraft(Long userId, String draftKey);
+    PostResponse publishDraft(Long userId, String draftKey);
+}
@@ -0,0 +1,120 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+import dev.babyeham.ehamboard.domain.draft.dto.DraftResponse;
+import dev.babyeham.ehamboard.domain.draft.dto.SaveDraftRequest;
+import dev.babyeham.ehamboard.domain.draft.entity.Draft;
+import dev.babyeham.ehamboard.domain.draft.repository.DraftRepository;
+import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.service.PostService;
+import dev.babyeham.ehamboard.global.exception.DraftNotFoundException;
+import dev.babyeham.ehamboard.global.exception.InvalidDraftException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+public class DraftServiceImpl implements DraftService {
+
+    private static final Pattern DRAFT_KEY_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final DraftWriteBehind draftWriteBehind;
+    private final DraftRepository draftRepository;
+    private final PostService postService;
+
+    @Override
+    public DraftResponse saveDraft(Long userId, String draftKey, SaveDraftRequest request) {
+        validateKey(draftKey);
+        return toResponse(draftWriteBehind.save(userId, draftKey, request.getTitle(), request.getContent()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DraftResponse getDraft(Long userId, String draftKey) {
+        validateKey(draftKey);
+        return draftWriteBehind.peek(userId, draftKey)
+                .map(DraftServiceImpl::toResponse)
+                .or(() -> draftRepository.findByUserIdAndDraftKey(userId, draftKey).map(DraftResponse::from))
+                .orElseThrow(() -> new DraftNotFoundException("임시 저장된 글을 찾을 수 없습니다."));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DraftResponse> getDrafts(Long userId) {
+        Map<String, DraftResponse> drafts = new HashMap<>();
+        draftRepository.findByUserIdOrderByUpdatedAtDesc(userId)
+                .forEach(draft -> drafts.put(draft.getDraftKey(), DraftResponse.from(draft)));
+        // 아직 쓰지 않은 저장본이 DB 의 내용보다 최신이다
+        draftWriteBehind.pendingOf(userId).forEach(pending -> drafts.put(pending.draftKey(), toResponse(pending)));
+        return drafts.values().stream()
+                .sorted(Comparator.comparing(DraftResponse::getSavedAt).reversed())
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void deleteDraft(Long userId, String draftKey) {
+        validateKey(draftKey);
+        boolean buffered = draftWriteBehind.take(userId, draftKey).isPresent();
+        int deleted = draftRepository.deleteByUserIdAndDraftKey(userId, draftKey);
+        if (!buffered && deleted == 0) {
+            throw new DraftNotFoundException("임시 저장된 글을 찾을 수 없습니다.");
+        }
+    }
+
+    /**
+     * 버퍼에 남은 최신본을 꺼내 바로 게시하므로 임시 저장을 DB 에 먼저 쓰지 않는다.
+     */
+    @Override
+    @Transactional
+    public PostResponse publishDraft(Long userId, String draftKey) {
+        validateKey(draftKey);
+        Optional<PendingDraft> pending = draftWriteBehind.take(userId, draftKey);
+        try {
+            String title;
+            String content;
+            if (pending.isPresent()) {
+                title = pending.get().title();
+                content = pending.get().content();
+            } else {
+                Draft draft = draftRepository.findByUserIdAndDraftKey(userId, draftKey)
+                        .orElseThrow(() -> new DraftNotFoundException("임시 저장된 글을 찾을 수 없습니다."));
+                title = draft.getTitle();
+                content = draft.getContent();
+            }
+            if (!StringUtils.hasText(title) || !StringUtils.hasText(content)) {
+                throw new InvalidDraftException("제목과 본문을 모두 입력해야 게시할 수 있습니다.");
+            }
+            PostResponse post = postService.createPost(new CreatePostRequest(title, content, null), userId);
+            draftRepository.deleteByUserIdAndDraftKey(userId, draftKey);
+            return post;
+        } catch (RuntimeException e) {
+            pending.ifPresent(draftWriteBehind::restore);
+            throw e;
+        }
+    }
+
+    private static void validateKey(String draftKey) {
+        if (draftKey == null || !DRAFT_KEY_PATTERN.matcher(draftKey).matches()) {
+            throw new InvalidDraftException("임시 저장 키는 영문, 숫자, '-', '_' 로 된 64자 이하여야 합니다.");
+        }
+    }
+
+    private static DraftResponse toResponse(PendingDraft draft) {
+        return DraftResponse.builder()
+                .draftKey(draft.draftKey())
+                .title(draft.title())
+                .content(draft.content())
+                .version(draft.version())
+                .savedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(draft.lastSavedAtMillis()), ZoneId.systemDefault()))
+                .build();
+    }
+}
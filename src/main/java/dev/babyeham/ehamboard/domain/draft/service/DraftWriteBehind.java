@@ -0,0 +1,140 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 자동 저장을 메모리 슬롯에 받아 두고, 마지막 저장본만 모아 배치 upsert 로 쓴다.
+ * 입력 중 2초마다 오는 저장이 DB 쓰기 한 번으로 합쳐진다.
+ */
+@Slf4j
+@Component
+public class DraftWriteBehind {
+
+    // 먼저 도착한 배치가 더 새 버전을 덮어쓰지 않도록 version 이 클 때만 반영한다. version 은 마지막에 갱신해야 한다
+    private static final String UPSERT_SQL = """
+            INSERT INTO drafts (user_id, draft_key, title, content, version, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                title = IF(VALUES(version) > version, VALUES(title), title),
+                content = IF(VALUES(version) > version, VALUES(content), content),
+                updated_at = IF(VALUES(version) > version, VALUES(updated_at), updated_at),
+                version = GREATEST(version, VALUES(version))
+            """;
+
+    private final DraftBuffer buffer = new DraftBuffer();
+    // 꺼내기와 쓰기를 한 번에 묶어, 삭제/게시가 쓰는 중인 저장본을 놓치거나 지운 행이 되살아나지 않게 한다
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration debounce;
+    private final Duration maxDelay;
+    private final int maxSlotsPerUser;
+    private final int maxPending;
+    private final int batchSize;
+    private final Counter savesCounter;
+    private final Counter writtenCounter;
+
+    public DraftWriteBehind(JdbcTemplate jdbcTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${draft.debounce:3s}") Duration debounce,
+                            @Value("${draft.max-delay:15s}") Duration maxDelay,
+                            @Value("${draft.max-slots-per-user:10}") int maxSlotsPerUser,
+                            @Value("${draft.max-pending:50000}") int maxPending,
+                            @Value("${draft.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.debounce = debounce;
+        this.maxDelay = maxDelay;
+        this.maxSlotsPerUser = maxSlotsPerUser;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.savesCounter = Counter.builder("draft.saves").register(meterRegistry);
+        this.writtenCounter = Counter.builder("draft.rows.written").register(meterRegistry);
+        Gauge.builder("draft.buffer.size", buffer, DraftBuffer::size).register(meterRegistry);
+    }
+
+    PendingDraft save(long userId, String draftKey, String title, String content) {
+        if (buffer.get(userId, draftKey) == null && buffer.countByUser(userId) >= maxSlotsPerUser) {
+            // 사용자당 슬롯 수를 넘기면 그 사용자의 저장본을 먼저 내려 써서 메모리를 묶어 둔다
+            write(() -> buffer.drainUser(userId));
+        }
+        PendingDraft draft = buffer.put(userId, draftKey, title, content, System.currentTimeMillis());
+        savesCounter.increment();
+        if (buffer.size() >= maxPending) {
+            write(buffer::drainAll);
+        }
+        return draft;
+    }
+
+    Optional<PendingDraft> peek(long userId, String draftKey) {
+        return Optional.ofNullable(buffer.get(userId, draftKey));
+    }
+
+    List<PendingDraft> pendingOf(long userId) {
+        return buffer.listByUser(userId);
+    }
+
+    /**
+     * 게시나 삭제 직전에 버퍼에서 꺼낸다. 진행 중인 배치 쓰기가 있으면 끝날 때까지 기다리므로,
+     * 비어 있다면 최신본은 이미 DB 에 있다.
+     */
+    Optional<PendingDraft> take(long userId, String draftKey) {
+        writeLock.lock();
+        try {
+            return Optional.ofNullable(buffer.take(userId, draftKey));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    void restore(PendingDraft draft) {
+        buffer.restore(List.of(draft));
+    }
+
+    @Scheduled(fixedDelayString = "${draft.flush-interval-ms:500}")
+    public void flushDue() {
+        write(() -> buffer.drainDue(System.currentTimeMillis(), debounce.toMillis(), maxDelay.toMillis()));
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        write(buffer::drainAll);
+    }
+
+    private void write(Supplier<List<PendingDraft>> drain) {
+        writeLock.lock();
+        try {
+            List<PendingDraft> drafts = drain.get();
+            if (drafts.isEmpty()) {
+                return;
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, drafts, batchSize, (ps, draft) -> {
+                    ps.setLong(1, draft.userId());
+                    ps.setString(2, draft.draftKey());
+                    ps.setString(3, draft.title());
+                    ps.setString(4, draft.content());
+                    ps.setLong(5, draft.version());
+                });
+                writtenCounter.increment(drafts.size());
+            } catch (RuntimeException e) {
+                log.warn("임시 저장 {}건 쓰기 실패, 다음 주기에 다시 시도합니다.", drafts.size(), e);
+                buffer.restore(drafts);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
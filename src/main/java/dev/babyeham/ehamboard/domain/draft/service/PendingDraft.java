@@ -0,0 +1,13 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+/**
+ * 아직 DB 에 쓰지 않은 최신 자동 저장본. 같은 슬롯에 새 저장이 오면 통째로 교체된다.
+ */
+record PendingDraft(long userId,
+                    String draftKey,
+                    String title,
+                    String content,
+                    long version,
+                    long firstDirtyAtMillis,
+                    long lastSavedAtMillis) {
+}
@@ -0,0 +1,33 @@
+package dev.babyeham.ehamboard.domain.follow.controller;
+
+import dev.babyeham.ehamboard.domain.follow.service.FollowService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class FollowController {
+
+    private final FollowService followService;
+
+    @PostMapping("/users/{userId}/follow")
+    @Operation(summary = "사용자 팔로우")
+    public ResponseEntity<MessageResponse> follow(@PathVariable("userId") Long userId,
+                                                  @AuthenticationPrincipal User user) {
+        followService.follow(user.getId(), userId);
+        return ResponseEntity.ok(new MessageResponse("팔로우 성공"));
+    }
+
+    @DeleteMapping("/users/{userId}/follow")
+    @Operation(summary = "사용자 언팔로우")
+    public ResponseEntity<MessageResponse> unfollow(@PathVariable("userId") Long userId,
+                                                    @AuthenticationPrincipal User user) {
+        followService.unfollow(user.getId(), userId);
+        return ResponseEntity.ok(new MessageResponse("언팔로우 성공"));
+    }
+}
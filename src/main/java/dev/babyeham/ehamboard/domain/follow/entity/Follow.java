@@ -0,0 +1,31 @@
+package dev.babyeham.ehamboard.domain.follow.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 팔로우 관계 한 건. (follower_id, followee_id) 유니크 키로 중복을 막고, 삽입은 FollowRepository.insertIgnore 로만 한다.
+ */
+@Entity
+@Table(name = "follows")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Follow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long followerId;
+
+    @Column(nullable = false)
+    private Long followeeId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
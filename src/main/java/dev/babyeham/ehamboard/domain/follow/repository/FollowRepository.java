@@ -0,0 +1,35 @@
+package dev.babyeham.ehamboard.domain.follow.repository;
+
+import dev.babyeham.ehamboard.domain.follow.entity.Follow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO follows (follower_id, followee_id, created_at) "
+            + "VALUES (:followerId, :followeeId, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    @Modifying
+    @Query(value = "DELETE FROM follows WHERE follower_id = :followerId AND followee_id = :followeeId",
+            nativeQuery = true)
+    int deleteByFollowerAndFollowee(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
+
+    @Query(value = "SELECT follower_id FROM follows WHERE followee_id = :followeeId", nativeQuery = true)
+    List<Long> findFollowerIds(@Param("followeeId") Long followeeId);
+
+    @Query(value = "SELECT f.followee_id FROM follows f JOIN users u ON u.id = f.followee_id "
+            + "WHERE f.follower_id = :followerId AND u.follower_count < :celebrityThreshold", nativeQuery = true)
+    List<Long> findRegularFolloweeIds(@Param("followerId") Long followerId,
+                                      @Param("celebrityThreshold") long celebrityThreshold);
+
+    @Query(value = "SELECT f.followee_id FROM follows f JOIN users u ON u.id = f.followee_id "
+            + "WHERE f.follower_id = :followerId AND u.follower_count >= :celebrityThreshold", nativeQuery = true)
+    List<Long> findCelebrityFolloweeIds(@Param("followerId") Long followerId,
+                                        @Param("celebrityThreshold") long celebrityThreshold);
+}
@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.follow.service;
+
+public interface FollowService {
+    void follow(Long followerId, Long followeeId);
+    void unfollow(Long followerId, Long followeeId);
+}
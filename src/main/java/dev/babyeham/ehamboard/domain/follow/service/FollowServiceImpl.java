@@ -0,0 +1,49 @@
+package dev.babyeham.ehamboard.domain.follow.service;
+
+import dev.babyeham.ehamboard.domain.follow.repository.FollowRepository;
+import dev.babyeham.ehamboard.domain.timeline.service.TimelineService;
+import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.exception.InvalidFollowException;
+import dev.babyeham.ehamboard.global.exception.UserNotFoundException;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class FollowServiceImpl implements FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final TimelineService timelineService;
+
+    @Override
+    @Transactional
+    public void follow(Long followerId, Long followeeId) {
+        validate(followerId, followeeId);
+        if (followRepository.insertIgnore(followerId, followeeId) > 0) {
+            userRepository.addFollowerCount(followeeId, 1);
+            TransactionUtils.runAfterCommit(() -> timelineService.invalidate(followerId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void unfollow(Long followerId, Long followeeId) {
+        validate(followerId, followeeId);
+        if (followRepository.deleteByFollowerAndFollowee(followerId, followeeId) > 0) {
+            userRepository.addFollowerCount(followeeId, -1);
+            TransactionUtils.runAfterCommit(() -> timelineService.invalidate(followerId));
+        }
+    }
+
+    private void validate(Long followerId, Long followeeId) {
+        if (followerId.equals(followeeId)) {
+            throw new InvalidFollowException("자기 자신은 팔로우할 수 없습니다.");
+        }
+        if (!userRepository.existsById(followeeId)) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package dev.babyeham.ehamboard.domain.notification.controller;
+
+import dev.babyeham.ehamboard.domain.notification.dto.NotificationResponse;
+import dev.babyeham.ehamboard.domain.notification.dto.UnreadCountResponse;
+import dev.babyeham.ehamboard.domain.notification.service.NotificationService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @GetMapping
+    @Operation(summary = "알림 목록 조회")
+    public ResponseEntity<List<NotificationResponse>> getNotifications(@RequestParam(defaultValue = "20") int size,
+                                                                       @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(notificationService.getNotifications(user.getId(), size));
+    }
+
+    @GetMapping("/unread-count")
+    @Operation(summary = "읽지 않은 알림 수 조회")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount(@AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(new UnreadCountResponse(notificationService.getUnreadCount(user.getId())));
+    }
+
+    @PostMapping("/{notificationId}/read")
+    @Operation(summary = "알림 읽음 처리")
+    public ResponseEntity<MessageResponse> markRead(@PathVariable("notificationId") Long notificationId,
+                                                    @AuthenticationPrincipal User user) {
+        notificationService.markRead(notificationId, user.getId());
+        return ResponseEntity.ok(new MessageResponse("알림 읽음 처리 성공"));
+    }
+
+    @PostMapping("/read-all")
+    @Operation(summary = "알림 모두 읽음 처리")
+    public ResponseEntity<MessageResponse> markAllRead(@AuthenticationPrincipal User user) {
+        notificationService.markAllRead(user.getId());
+        return ResponseEntity.ok(new MessageResponse("알림 모두 읽음 처리 성공"));
+    }
+}
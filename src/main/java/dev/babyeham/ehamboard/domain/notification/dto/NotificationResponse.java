@@ -0,0 +1,34 @@
+package dev.babyeham.ehamboard.domain.notification.dto;
+
+import dev.babyeham.ehamboard.domain.notification.entity.Notification;
+import dev.babyeham.ehamboard.domain.notification.entity.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationResponse {
+    private Long id;
+    private NotificationType type;
+    private Long postId;
+    private int commentCount;
+    private Long lastActorId;
+    private boolean read;
+    private LocalDateTime updatedAt;
+
+    public static NotificationResponse from(Notification notification) {
+        return NotificationResponse.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .postId(notification.getPostId())
+                .commentCount(notification.getCommentCount())
+                .lastActorId(notification.getLastActorId())
+                .read(notification.isRead())
+                .updatedAt(notification.getUpdatedAt())
+                .build();
+    }
+}
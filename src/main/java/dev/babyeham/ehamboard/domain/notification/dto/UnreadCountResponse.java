@@ -0,0 +1,10 @@
+package dev.babyeham.ehamboard.domain.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UnreadCountResponse {
+    private long unreadCount;
+}
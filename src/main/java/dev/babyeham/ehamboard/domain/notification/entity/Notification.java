@@ -0,0 +1,51 @@
+package dev.babyeham.ehamboard.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * (수신자, 게시글)마다 한 행. 읽지 않은 동안 들어온 댓글은 commentCount 에 합쳐지고,
+ * 읽은 뒤 새 댓글이 오면 같은 행이 다시 읽지 않음 상태가 된다.
+ * 쓰기는 CommentNotificationBatcher 의 upsert 로만 한다.
+ */
+@Entity
+@Table(name = "notifications")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long recipientId;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationType type;
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    private Long lastActorId;
+
+    private LocalDateTime readAt;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+}
@@ -0,0 +1,19 @@
+package dev.babyeham.ehamboard.domain.notification.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "notification_counters")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationCounter {
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private long unreadCount;
+}
@@ -0,0 +1,5 @@
+package dev.babyeham.ehamboard.domain.notification.entity;
+
+public enum NotificationType {
+    COMMENT
+}
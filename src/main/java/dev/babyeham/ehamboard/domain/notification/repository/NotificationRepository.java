@@ -0,0 +1,39 @@
+package dev.babyeham.ehamboard.domain.notification.repository;
+
+import dev.babyeham.ehamboard.domain.notification.entity.Notification;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    List<Notification> findByRecipientIdOrderByUpdatedAtDesc(Long recipientId, Limit limit);
+
+    Optional<Notification> findByIdAndRecipientId(Long id, Long recipientId);
+
+    List<Notification> findByPostId(Long postId);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+
+    @Query(value = "SELECT post_id FROM notifications "
+            + "WHERE recipient_id = :recipientId AND post_id IN (:postIds) AND read_at IS NULL FOR UPDATE",
+            nativeQuery = true)
+    List<Long> lockUnreadPostIds(@Param("recipientId") Long recipientId, @Param("postIds") Collection<Long> postIds);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.id = :id AND n.readAt IS NULL")
+    int markRead(@Param("id") Long id, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt WHERE n.recipientId = :recipientId AND n.readAt IS NULL")
+    int markAllRead(@Param("recipientId") Long recipientId, @Param("readAt") LocalDateTime readAt);
+}
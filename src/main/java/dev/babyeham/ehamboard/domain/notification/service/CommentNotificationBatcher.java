@@ -0,0 +1,166 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationCounterRepository;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationRepository;
+import dev.babyeham.ehamboard.global.outbox.AppliedEventLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 알림을 모았다가 배치 upsert 로 쓴다.
+ * 같은 트랜잭션에서 읽지 않음으로 새로 바뀐 알림 수만큼 수신자의 unread 카운터를 올린다.
+ * <p>
+ * 배치에 담긴 이벤트 id 를 notification_events 에 기록하는 것과 같은 트랜잭션에서 쓰고, 처음 기록된 이벤트만 센다.
+ * 그래서 아웃박스가 같은 이벤트를 다시 전달하거나 CommentNotificationHandler 가 쓰기 전에 잃은 이벤트를 재생해도 댓글 수가 두 번 더해지지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentNotificationBatcher {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO notifications (recipient_id, post_id, type, comment_count, last_actor_id, created_at, updated_at)
+            VALUES (?, ?, 'COMMENT', ?, ?, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                comment_count = IF(read_at IS NULL, comment_count + VALUES(comment_count), VALUES(comment_count)),
+                last_actor_id = VALUES(last_actor_id),
+                read_at = NULL,
+                updated_at = VALUES(updated_at)
+            """;
+
+    private final NotificationBuffer buffer = new NotificationBuffer();
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UnreadCountCache unreadCountCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppliedEventLog appliedEvents;
+    private final Duration coalesceWindow;
+    private final int maxPending;
+    private final int batchSize;
+    private final Duration appliedEventRetention;
+    private final int cleanupChunkSize;
+
+    public CommentNotificationBatcher(NotificationRepository notificationRepository,
+                                      NotificationCounterRepository notificationCounterRepository,
+                                      UnreadCountCache unreadCountCache,
+                                      JdbcTemplate jdbcTemplate,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${notification.coalesce-window:30s}") Duration coalesceWindow,
+                                      @Value("${notification.max-pending:100000}") int maxPending,
+                                      @Value("${notification.batch-size:500}") int batchSize,
+                                      @Value("${notification.applied-event-retention:7d}") Duration appliedEventRetention,
+                                      @Value("${notification.cleanup-chunk-size:1000}") int cleanupChunkSize) {
+        this.notificationRepository = notificationRepository;
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.unreadCountCache = unreadCountCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.appliedEvents = new AppliedEventLog(jdbcTemplate, "notification_events", batchSize);
+        this.coalesceWindow = coalesceWindow;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.appliedEventRetention = appliedEventRetention;
+        this.cleanupChunkSize = cleanupChunkSize;
+    }
+
+    public void enqueue(Long eventId, Long recipientId, Long postId, Long actorId) {
+        int size = buffer.add(eventId, recipientId, postId, actorId, System.currentTimeMillis());
+        if (size >= maxPending) {
+            // 메모리 상한에 닿으면 창을 기다리지 않고 호출한 스레드에서 바로 비운다
+            flush(buffer.drainAll());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.flush-interval-ms:5000}")
+    public void flushDue() {
+        flush(buffer.drainDue(System.currentTimeMillis() - coalesceWindow.toMillis()));
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush(buffer.drainAll());
+    }
+
+    /**
+     * 아웃박스에서 지워진 지 오래된 이벤트는 다시 전달되거나 재생될 수 없으므로 기록을 지운다.
+     * 보존 기간은 아웃박스 보존 기간(outbox.cleanup.retention)보다 길어야 한다.
+     */
+    @Scheduled(fixedDelayString = "${notification.cleanup-interval-ms:600000}")
+    public void cleanupAppliedEvents() {
+        LocalDateTime before = LocalDateTime.now().minus(appliedEventRetention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = appliedEvents.deleteAppliedBefore(before, cleanupChunkSize);
+            total += deleted;
+        } while (deleted == cleanupChunkSize);
+        if (total > 0) {
+            log.info("알림 적용 기록 {}건 삭제", total);
+        }
+    }
+
+    /**
+     * 실패하면 예외를 그대로 던진다. 재생처럼 실패 시 진행 위치를 옮기지 않아야 하는 호출자가 쓴다.
+     */
+    void write(List<PendingNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        Set<Long> recipients = transactionTemplate.execute(status -> upsert(notifications));
+        recipients.forEach(unreadCountCache::evict);
+    }
+
+    private void flush(List<PendingNotification> notifications) {
+        try {
+            write(notifications);
+        } catch (RuntimeException e) {
+            log.warn("알림 {}건 저장 실패, 다음 주기에 다시 시도합니다.", notifications.size(), e);
+            buffer.restore(notifications);
+        }
+    }
+
+    private Set<Long> upsert(List<PendingNotification> notifications) {
+        Set<Long> fresh = appliedEvents.record(notifications.stream()
+                .flatMap(notification -> notification.getEventIds().stream())
+                .toList());
+        List<PendingNotification> unapplied = notifications.stream()
+                .flatMap(notification -> notification.retain(fresh).stream())
+                .toList();
+        if (unapplied.isEmpty()) {
+            return Set.of();
+        }
+
+        Map<Long, List<PendingNotification>> byRecipient = unapplied.stream()
+                .collect(Collectors.groupingBy(PendingNotification::getRecipientId));
+
+        Map<Long, Long> newlyUnread = new HashMap<>();
+        byRecipient.forEach((recipientId, pending) -> {
+            List<Long> postIds = pending.stream().map(PendingNotification::getPostId).toList();
+            // 행을 잠가 두어 읽음 처리와 엇갈려 카운터가 어긋나지 않게 한다
+            Set<Long> alreadyUnread = new HashSet<>(notificationRepository.lockUnreadPostIds(recipientId, postIds));
+            long added = postIds.stream().filter(postId -> !alreadyUnread.contains(postId)).count();
+            if (added > 0) {
+                newlyUnread.put(recipientId, added);
+            }
+        });
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, unapplied, batchSize, (ps, notification) -> {
+            ps.setLong(1, notification.getRecipientId());
+            ps.setLong(2, notification.getPostId());
+            ps.setInt(3, notification.getCommentCount());
+            ps.setLong(4, notification.getLastActorId());
+        });
+        newlyUnread.forEach(notificationCounterRepository::addUnread);
+        return byRecipient.keySet();
+    }
+}
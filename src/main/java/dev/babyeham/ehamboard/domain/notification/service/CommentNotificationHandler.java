@@ -0,0 +1,79 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.comment.event.CommentEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventHandler;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxReplayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * 댓글 이벤트를 CommentNotificationBatcher 에 모은다. 아웃박스는 모은 시점에 처리 완료로 표시하므로,
+ * 쓰기 전에 인스턴스가 죽어 잃은 이벤트는 replayUnflushed 가 아웃박스에서 다시 읽어 쓴다.
+ * 재생 지연(notification.replay-delay)은 모으는 창과 비우는 주기를 합친 것보다 길어야 정상적으로 쓰일 이벤트를 앞지르지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentNotificationHandler implements DomainEventHandler {
+
+    static final String REPLAY_NAME = "comment-notification-replay";
+
+    private final CommentNotificationBatcher batcher;
+    private final OutboxReplayer replayer;
+    private final Duration replayDelay;
+    private final int replayChunkSize;
+
+    public CommentNotificationHandler(CommentNotificationBatcher batcher,
+                                      OutboxReplayer replayer,
+                                      @Value("${notification.replay-delay:2m}") Duration replayDelay,
+                                      @Value("${notification.replay-chunk-size:500}") int replayChunkSize) {
+        this.batcher = batcher;
+        this.replayer = replayer;
+        this.replayDelay = replayDelay;
+        this.replayChunkSize = replayChunkSize;
+    }
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.COMMENT_CREATED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        CommentEvent event = message.payloadAs(CommentEvent.class);
+        if (notifies(event)) {
+            batcher.enqueue(message.getEventId(), event.getPostAuthorId(), event.getPostId(), event.getUserId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${notification.replay-interval-ms:60000}",
+            initialDelayString = "${notification.replay-interval-ms:60000}")
+    public void replayUnflushed() {
+        try {
+            int replayed = replayer.replay(REPLAY_NAME, eventTypes(), replayDelay, replayChunkSize, messages -> {
+                NotificationBuffer chunk = new NotificationBuffer();
+                long now = System.currentTimeMillis();
+                for (DomainEventMessage message : messages) {
+                    CommentEvent event = message.payloadAs(CommentEvent.class);
+                    if (notifies(event)) {
+                        chunk.add(message.getEventId(), event.getPostAuthorId(), event.getPostId(), event.getUserId(), now);
+                    }
+                }
+                batcher.write(chunk.drainAll());
+            });
+            log.debug("댓글 알림 재생 확인: {}건", replayed);
+        } catch (RuntimeException e) {
+            log.warn("댓글 알림 재생 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private static boolean notifies(CommentEvent event) {
+        return event.getPostAuthorId() != null && !event.getPostAuthorId().equals(event.getUserId());
+    }
+}
@@ -0,0 +1,58 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import java.util.*;
+
+/**
+ * 아직 DB 에 쓰지 않은 알림을 (수신자, 게시글) 단위로 합쳐 둔다.
+ * 첫 이벤트 이후 창(window)이 지난 항목만 꺼내므로, 그 사이의 댓글은 한 건의 알림으로 합쳐진다.
+ */
+class NotificationBuffer {
+
+    private final Map<Key, PendingNotification> pending = new LinkedHashMap<>();
+
+    synchronized int add(long eventId, long recipientId, long postId, long actorId, long nowMillis) {
+        pending.computeIfAbsent(new Key(recipientId, postId), key -> new PendingNotification(recipientId, postId, nowMillis))
+                .add(eventId, actorId);
+        return pending.size();
+    }
+
+    synchronized List<PendingNotification> drainDue(long cutoffMillis) {
+        List<PendingNotification> due = new ArrayList<>();
+        Iterator<PendingNotification> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            PendingNotification notification = iterator.next();
+            if (notification.getFirstAtMillis() <= cutoffMillis) {
+                due.add(notification);
+                iterator.remove();
+            }
+        }
+        return due;
+    }
+
+    synchronized List<PendingNotification> drainAll() {
+        List<PendingNotification> all = new ArrayList<>(pending.values());
+        pending.clear();
+        return all;
+    }
+
+    /**
+     * 쓰기에 실패한 항목을 되돌린다. 그 사이 새로 쌓인 항목이 있으면 이벤트를 합친다.
+     */
+    synchronized void restore(List<PendingNotification> notifications) {
+        for (PendingNotification notification : notifications) {
+            Key key = new Key(notification.getRecipientId(), notification.getPostId());
+            PendingNotification newer = pending.get(key);
+            if (newer != null) {
+                notification.addAll(newer);
+            }
+            pending.put(key, notification);
+        }
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    private record Key(long recipientId, long postId) {
+    }
+}
@@ -0,0 +1,30 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.notification.entity.Notification;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationCounterRepository;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationRepository;
+import dev.babyeham.ehamboard.domain.post.purge.PostPurgeParticipant;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationPurgeParticipant implements PostPurgeParticipant {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UnreadCountCache unreadCountCache;
+
+    @Override
+    public void beforePostPurged(Long postId) {
+        for (Notification notification : notificationRepository.findByPostId(postId)) {
+            if (!notification.isRead()) {
+                Long recipientId = notification.getRecipientId();
+                notificationCounterRepository.addUnread(recipientId, -1);
+                TransactionUtils.runAfterCommit(() -> unreadCountCache.evict(recipientId));
+            }
+        }
+        notificationRepository.deleteAllByPostId(postId);
+    }
+}
@@ -0,0 +1,12 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.notification.dto.NotificationResponse;
+
+import java.util.List;
+
+public interface NotificationService {
+    List<NotificationResponse> getNotifications(Long userId, int size);
+    long getUnreadCount(Long userId);
+    void markRead(Long notificationId, Long userId);
+    void markAllRead(Long userId);
+}
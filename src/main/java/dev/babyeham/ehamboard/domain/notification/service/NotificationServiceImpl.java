@@ -0,0 +1,63 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.notification.dto.NotificationResponse;
+import dev.babyeham.ehamboard.domain.notification.entity.Notification;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationCounterRepository;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationRepository;
+import dev.babyeham.ehamboard.global.exception.NotificationNotFoundException;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class NotificationServiceImpl implements NotificationService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final UnreadCountCache unreadCountCache;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getNotifications(Long userId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        return notificationRepository.findByRecipientIdOrderByUpdatedAtDesc(userId, Limit.of(pageSize))
+                .stream()
+                .map(NotificationResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return unreadCountCache.get(userId);
+    }
+
+    @Override
+    @Transactional
+    public void markRead(Long notificationId, Long userId) {
+        Notification notification = notificationRepository.findByIdAndRecipientId(notificationId, userId)
+                .orElseThrow(() -> new NotificationNotFoundException("알림을 찾을 수 없습니다."));
+        if (notificationRepository.markRead(notification.getId(), LocalDateTime.now()) > 0) {
+            notificationCounterRepository.addUnread(userId, -1);
+            TransactionUtils.runAfterCommit(() -> unreadCountCache.evict(userId));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void markAllRead(Long userId) {
+        int updated = notificationRepository.markAllRead(userId, LocalDateTime.now());
+        if (updated > 0) {
+            notificationCounterRepository.addUnread(userId, -updated);
+            TransactionUtils.runAfterCommit(() -> unreadCountCache.evict(userId));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 한 (수신자, 게시글)에 모인 댓글 이벤트. 이벤트 id 별 작성자를 들고 있어서,
+ * 같은 이벤트가 다시 들어와도 한 번만 세고 이미 반영된 이벤트를 쓰기 직전에 걸러 낼 수 있다.
+ */
+@Getter
+class PendingNotification {
+
+    private final long recipientId;
+    private final long postId;
+    private final long firstAtMillis;
+    private final Map<Long, Long> actorsByEvent = new LinkedHashMap<>();
+    private long lastActorId;
+
+    PendingNotification(long recipientId, long postId, long firstAtMillis) {
+        this.recipientId = recipientId;
+        this.postId = postId;
+        this.firstAtMillis = firstAtMillis;
+    }
+
+    void add(long eventId, long actorId) {
+        if (actorsByEvent.putIfAbsent(eventId, actorId) == null) {
+            this.lastActorId = actorId;
+        }
+    }
+
+    void addAll(PendingNotification other) {
+        other.actorsByEvent.forEach(this::add);
+    }
+
+    Set<Long> getEventIds() {
+        return actorsByEvent.keySet();
+    }
+
+    int getCommentCount() {
+        return actorsByEvent.size();
+    }
+
+    /**
+     * 주어진 이벤트만 남긴 사본. 남는 이벤트가 없으면 빈 값을 돌려준다.
+     */
+    Optional<PendingNotification> retain(Set<Long> eventIds) {
+        PendingNotification retained = new PendingNotification(recipientId, postId, firstAtMillis);
+        actorsByEvent.forEach((eventId, actorId) -> {
+            if (eventIds.contains(eventId)) {
+                retained.add(eventId, actorId);
+            }
+        });
+        return retained.actorsByEvent.isEmpty() ? Optional.empty() : Optional.of(retained);
+    }
+}
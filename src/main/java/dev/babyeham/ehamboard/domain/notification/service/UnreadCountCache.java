@@ -0,0 +1,40 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.babyeham.ehamboard.domain.notification.entity.NotificationCounter;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationCounterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * notification_counters 값을 사용자별로 캐시한다. 카운터가 바뀌는 트랜잭션이 커밋된 뒤 evict 한다.
+ */
+@Component
+public class UnreadCountCache {
+
+    private final NotificationCounterRepository notificationCounterRepository;
+    private final Cache<Long, Long> counts;
+
+    public UnreadCountCache(NotificationCounterRepository notificationCounterRepository,
+                            @Value("${notification.unread-cache.max-size:100000}") long maxSize,
+                            @Value("${notification.unread-cache.ttl:10m}") Duration ttl) {
+        this.notificationCounterRepository = notificationCounterRepository;
+        this.counts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public long get(Long userId) {
+        return counts.get(userId, id -> notificationCounterRepository.findById(id)
+                .map(NotificationCounter::getUnreadCount)
+                .orElse(0L));
+    }
+
+    public void evict(Long userId) {
+        counts.invalidate(userId);
+    }
+}
@@ -0,0 +1,205 @@
+package dev.babyeham.ehamboard.domain.post.archive;
+
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.datasource.ReplicaPool;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기준 기간보다 오래된 게시글과 그 댓글을 보관 테이블로 옮겨 운영 테이블과 인덱스를 작게 유지한다.
+ * <p>
+ * posts 를 id 순으로 훑어, 청크마다 복사와 삭제, 진행 위치 기록을 한 트랜잭션으로 처리하므로 중간에 멈춰도 다음 실행이 이어 간다.
+ * 삭제 대기 중인 게시글은 옮기지 않고 PostPurgeJob 에 맡긴다. 반응, 첨부, 태그, 수정 이력은 게시글 id 로 묶여 있어 그대로 둔다.
+ * 청크 사이에는 쉬고, 레플리카 지연이 벌어지면 따라잡을 때까지 기다린다.
+ */
+@Slf4j
+@Component
+public class PostArchiveJob {
+
+    private static final String INSERT_POST_SQL = "INSERT INTO archived_posts "
+            + "(id, title, content, rendered_html, rendered_version, user_id, created_at, updated_at, archived_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_COMMENT_SQL = "INSERT INTO archived_comments "
+            + "(id, post_id, user_id, content, rendered_html, rendered_version, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TextCompressor textCompressor;
+    private final PostArchiveStore archiveStore;
+    private final ObjectProvider<ReplicaPool> replicaPool;
+    private final boolean enabled;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Duration maxReplicaLag;
+    private final Duration maxLagWait;
+    private final Counter archivedPosts;
+    private final Counter archivedComments;
+
+    public PostArchiveJob(JdbcTemplate jdbcTemplate,
+                          TransactionTemplate transactionTemplate,
+                          JobCheckpointRepository checkpointRepository,
+                          TextCompressor textCompressor,
+                          PostArchiveStore archiveStore,
+                          ObjectProvider<ReplicaPool> replicaPool,
+                          MeterRegistry meterRegistry,
+                          @Value("${post-archive.enabled:false}") boolean enabled,
+                          @Value("${post-archive.age:180d}") Duration age,
+                          @Value("${post-archive.batch-size:50}") int batchSize,
+                          @Value("${post-archive.max-batches-per-run:100}") int maxBatchesPerRun,
+                          @Value("${post-archive.batch-pause:200ms}") Duration batchPause,
+                          @Value("${post-archive.max-replica-lag:2s}") Duration maxReplicaLag,
+                          @Value("${post-archive.max-lag-wait:30s}") Duration maxLagWait) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.textCompressor = textCompressor;
+        this.archiveStore = archiveStore;
+        this.replicaPool = replicaPool;
+        this.enabled = enabled;
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.maxReplicaLag = maxReplicaLag;
+        this.maxLagWait = maxLagWait;
+        this.archivedPosts = Counter.builder("post.archive.rows").tag("table", "posts").register(meterRegistry);
+        this.archivedComments = Counter.builder("post.archive.rows").tag("table", "comments").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${post-archive.interval-ms:300000}",
+            initialDelayString = "${post-archive.initial-delay-ms:60000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            archive(LocalDateTime.now().minus(age));
+        } catch (RuntimeException e) {
+            log.warn("게시글 보관 실패", e);
+        }
+    }
+
+    void archive(LocalDateTime cutoff) {
+        long lastId = checkpointRepository.findLastId(PostArchiveStore.JOB_NAME);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long afterId = lastId;
+            lastId = transactionTemplate.execute(status -> archiveChunk(afterId, cutoff));
+            if (lastId == afterId) {
+                return;
+            }
+            throttle();
+        }
+    }
+
+    private long archiveChunk(long afterId, LocalDateTime cutoff) {
+        // 옮기는 동안 수정이나 댓글 작성이 끼어들지 않도록 읽으면서 잠근다
+        List<PostRow> cold = jdbcTemplate.query(
+                        "SELECT id, title, content, rendered_html, rendered_version, user_id, created_at, updated_at, deleted_at "
+                                + "FROM posts WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE",
+                        (rs, rowNum) -> new PostRow(rs.getLong("id"), rs.getString("title"), rs.getBytes("content"),
+                                rs.getString("rendered_html"), rs.getString("rendered_version"), rs.getLong("user_id"),
+                                rs.getTimestamp("created_at"),
+                                rs.getTimestamp("updated_at"), rs.getTimestamp("deleted_at") != null),
+                        afterId, batchSize)
+                .stream()
+                .takeWhile(row -> row.createdAt().toLocalDateTime().isBefore(cutoff))
+                .toList();
+        if (cold.isEmpty()) {
+            return afterId;
+        }
+
+        List<PostRow> posts = cold.stream().filter(row -> !row.deleted()).toList();
+        if (!posts.isEmpty()) {
+            Object[] postIds = posts.stream().map(PostRow::id).toArray();
+            String in = PostArchiveStore.placeholders(postIds.length);
+            List<CommentRow> comments = jdbcTemplate.query(
+                    "SELECT id, post_id, user_id, content, rendered_html, rendered_version, created_at, updated_at "
+                            + "FROM comments WHERE post_id IN (" + in + ") FOR UPDATE",
+                    (rs, rowNum) -> new CommentRow(rs.getLong("id"), rs.getLong("post_id"), rs.getLong("user_id"),
+                            rs.getBytes("content"), rs.getString("rendered_html"), rs.getString("rendered_version"),
+                            rs.getTimestamp("created_at"), rs.getTimestamp("updated_at")),
+                    postIds);
+
+            Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+            jdbcTemplate.batchUpdate(INSERT_POST_SQL, posts, batchSize, (ps, post) -> {
+                ps.setLong(1, post.id());
+                ps.setString(2, post.title());
+                ps.setBytes(3, textCompressor.compressCold(post.content()));
+                ps.setBytes(4, compressNullable(post.renderedHtml()));
+                ps.setString(5, post.renderedVersion());
+                ps.setLong(6, post.userId());
+                ps.setTimestamp(7, post.createdAt());
+                ps.setTimestamp(8, post.updatedAt());
+                ps.setTimestamp(9, archivedAt);
+            });
+            jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, comments, batchSize, (ps, comment) -> {
+                ps.setLong(1, comment.id());
+                ps.setLong(2, comment.postId());
+                ps.setLong(3, comment.userId());
+                ps.setBytes(4, textCompressor.compressCold(comment.content()));
+                ps.setBytes(5, compressNullable(comment.renderedHtml()));
+                ps.setString(6, comment.renderedVersion());
+                ps.setTimestamp(7, comment.createdAt());
+                ps.setTimestamp(8, comment.updatedAt());
+            });
+            jdbcTemplate.update("DELETE FROM comments WHERE post_id IN (" + in + ")", postIds);
+            jdbcTemplate.update("DELETE FROM posts WHERE id IN (" + in + ")", postIds);
+            archivedPosts.increment(posts.size());
+            archivedComments.increment(comments.size());
+        }
+
+        long lastId = cold.get(cold.size() - 1).id();
+        checkpointRepository.upsert(PostArchiveStore.JOB_NAME, lastId);
+        TransactionUtils.runAfterCommit(() -> archiveStore.advance(lastId));
+        return lastId;
+    }
+
+    private byte[] compressNullable(String text) {
+        return text != null ? textCompressor.compressCold(text.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    private void throttle() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+
+            // 레플리카 지연이 벌어지면 따라잡을 때까지 (최대 maxLagWait) 쉬어 간다
+            ReplicaPool pool = replicaPool.getIfAvailable();
+            long waited = 0;
+            while (pool != null && pool.getMaxObservedLagMillis() > maxReplicaLag.toMillis()
+                    && waited < maxLagWait.toMillis()) {
+                Thread.sleep(maxReplicaLag.toMillis());
+                waited += maxReplicaLag.toMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 보관이 중단되었습니다.", e);
+        }
+    }
+
+    private record PostRow(long id, String title, byte[] content, String renderedHtml, String renderedVersion,
+                           long userId, Timestamp createdAt, Timestamp updatedAt, boolean deleted) {
+    }
+
+    private record CommentRow(long id, long postId, long userId, byte[] content, String renderedHtml,
+                              String renderedVersion, Timestamp createdAt, Timestamp updatedAt) {
+    }
+}
@@ -0,0 +1,163 @@
+package dev.babyeham.ehamboard.domain.post.archive;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보관 테이블에서 게시글과 댓글을 읽는다.
+ * <p>
+ * PostArchiveJob 은 posts 를 id 순으로 옮기므로 진행 위치(워터마크) 이하의 게시글은 삭제 대기 중인 것을 빼고 모두
+ * 보관 테이블에 있다. 그래서 워터마크 이하의 id 는 운영 테이블을 보지 않고 바로 보관 테이블에서 찾는다.
+ * 워터마크는 주기적으로 다시 읽어 다른 인스턴스에서는 잠깐 뒤처질 수 있으므로, 운영 테이블에서 못 찾은 조회는 보관 테이블을 한 번 더 본다.
+ */
+@Component
+public class PostArchiveStore {
+
+    static final String JOB_NAME = "post-archive";
+
+    private static final String POST_COLUMNS = "SELECT a.id, a.title, a.content, a.rendered_html, a.rendered_version, a.user_id, u.username, "
+            + "a.created_at, a.updated_at FROM archived_posts a JOIN users u ON u.id = a.user_id ";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final TextCompressor textCompressor;
+    private final MarkdownRenderer markdownRenderer;
+    private final AtomicLong watermark = new AtomicLong();
+
+    public PostArchiveStore(JdbcTemplate jdbcTemplate,
+                            JobCheckpointRepository checkpointRepository,
+                            TextCompressor textCompressor,
+                            MarkdownRenderer markdownRenderer,
+                            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.textCompressor = textCompressor;
+        this.markdownRenderer = markdownRenderer;
+        Gauge.builder("post.archive.watermark", watermark, AtomicLong::get)
+                .description("이 id 이하의 게시글은 보관 테이블에서 읽는다")
+                .register(meterRegistry);
+    }
+
+    public boolean covers(Long postId) {
+        return postId <= watermark.get();
+    }
+
+    /**
+     * 게시글이 운영 테이블과 보관 테이블 중 어디에 있는지 찾는다. 댓글, 첨부, 수정 이력처럼 post_id 로만 이어진 데이터의 존재 확인에 쓴다.
+     * 워터마크 이하는 보관 테이블만 보고, 그 위는 운영 테이블에서 못 찾으면 (다른 인스턴스가 방금 옮겼을 수 있으므로) 보관 테이블을 본다.
+     */
+    public PostLocation locate(Long postId) {
+        if (!covers(postId) && !jdbcTemplate.queryForList(
+                "SELECT id FROM posts WHERE id = ? AND deleted_at IS NULL", Long.class, postId).isEmpty()) {
+            return PostLocation.LIVE;
+        }
+        return containsPost(postId) ? PostLocation.ARCHIVED : PostLocation.MISSING;
+    }
+
+    public boolean containsPost(Long postId) {
+        return !jdbcTemplate.queryForList("SELECT id FROM archived_posts WHERE id = ?", Long.class, postId).isEmpty();
+    }
+
+    public boolean containsComment(Long commentId) {
+        return !jdbcTemplate.queryForList("SELECT id FROM archived_comments WHERE id = ?", Long.class, commentId)
+                .isEmpty();
+    }
+
+    public Optional<PostResponse> findPost(Long postId) {
+        return jdbcTemplate.query(POST_COLUMNS + "WHERE a.id = ?", this::toPostResponse, postId)
+                .stream()
+                .findFirst();
+    }
+
+    public List<PostResponse> findPosts(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(POST_COLUMNS + "WHERE a.id IN (" + placeholders(postIds.size()) + ")",
+                this::toPostResponse, postIds.toArray());
+    }
+
+    /**
+     * 보관된 게시글의 댓글. 게시글이 보관 테이블에 없으면 비어 있다.
+     */
+    public Optional<List<CommentResponse>> findComments(Long postId) {
+        if (!containsPost(postId)) {
+            return Optional.empty();
+        }
+        return Optional.of(findArchivedComments(postId));
+    }
+
+    /**
+     * locate 로 보관된 게시글임을 확인한 뒤 그 댓글을 읽는다.
+     */
+    public List<CommentResponse> findArchivedComments(Long postId) {
+        return jdbcTemplate.query(
+                "SELECT c.id, c.post_id, c.user_id, u.username, c.content, c.rendered_html, c.rendered_version, c.created_at, c.updated_at "
+                        + "FROM archived_comments c JOIN users u ON u.id = c.user_id "
+                        + "WHERE c.post_id = ? ORDER BY c.created_at",
+                this::toCommentResponse, postId);
+    }
+
+    @Scheduled(fixedDelayString = "${post-archive.watermark-refresh-ms:30000}")
+    public void refreshWatermark() {
+        advance(checkpointRepository.findLastId(JOB_NAME));
+    }
+
+    void advance(long lastId) {
+        watermark.accumulateAndGet(lastId, Math::max);
+    }
+
+    static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private PostResponse toPostResponse(ResultSet rs, int rowNum) throws SQLException {
+        String content = textCompressor.decode(rs.getBytes("content"));
+        return PostResponse.builder()
+                .id(rs.getLong("id"))
+                .title(rs.getString("title"))
+                .content(content)
+                .contentHtml(markdownRenderer.resolve(content, decodeNullable(rs.getBytes("rendered_html")),
+                        rs.getString("rendered_version")))
+                .userId(rs.getLong("user_id"))
+                .username(rs.getString("username"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build();
+    }
+
+    private CommentResponse toCommentResponse(ResultSet rs, int rowNum) throws SQLException {
+        String content = textCompressor.decode(rs.getBytes("content"));
+        return CommentResponse.builder()
+                .id(rs.getLong("id"))
+                .content(content)
+                .contentHtml(markdownRenderer.resolve(content, decodeNullable(rs.getBytes("rendered_html")),
+                        rs.getString("rendered_version")))
+                .postId(rs.getLong("post_id"))
+                .userId(rs.getLong("user_id"))
+                .username(rs.getString("username"))
+                .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                .build();
+    }
+
+    private String decodeNullable(byte[] stored) {
+        return stored != null ? textCompressor.decode(stored) : null;
+    }
+}
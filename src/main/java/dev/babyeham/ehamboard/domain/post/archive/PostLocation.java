@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.domain.post.archive;
+
+/**
+ * 게시글이 지금 어느 테이블에 있는지. 삭제되었거나 없는 게시글은 MISSING 이다.
+ */
+public enum PostLocation {
+    LIVE,
+    ARCHIVED,
+    MISSING;
+
+    public boolean exists() {
+        return this != MISSING;
+    }
+}
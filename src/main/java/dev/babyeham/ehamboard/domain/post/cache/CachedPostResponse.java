@@ -0,0 +1,19 @@
+package dev.babyeham.ehamboard.domain.post.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedPostResponse {
+    private final byte[] json;
+    private final byte[] gzip;
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    public int weight() {
+        return json.length + (gzip != null ? gzip.length : 0);
+    }
+}
@@ -0,0 +1,197 @@
+package dev.babyeham.ehamboard.domain.post.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class PostResponseCache {
+
+    private static final int VERSION_STRIPES = 4096;
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final byte[] BATCH_POSTS_START = "{\"posts\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BATCH_MISSING_START = "],\"missingIds\":[".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BATCH_END = "]}".getBytes(StandardCharsets.US_ASCII);
+
+    private final ObjectMapper objectMapper;
+    private final boolean gzipEnabled;
+    private final long gzipMinBytes;
+    private final Cache<Key, CachedPostResponse> cache;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+    private final Counter serializationBytesSaved;
+    private final Counter compressionBytesSaved;
+
+    public PostResponseCache(ObjectMapper objectMapper,
+                             @Value("${post-response-cache.gzip-enabled:true}") boolean gzipEnabled,
+                             @Value("${post-response-cache.gzip-min-size:1KB}") DataSize gzipMinSize,
+                             @Value("${post-response-cache.max-size:64MB}") DataSize maxSize,
+                             MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.gzipEnabled = gzipEnabled;
+        this.gzipMinBytes = gzipMinSize.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, CachedPostResponse value) -> value.weight() + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postResponse");
+        Gauge.builder("post.response.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        Gauge.builder("post.response.cache.weight.bytes", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .register(meterRegistry);
+        this.serializationBytesSaved = Counter.builder("post.response.cache.bytes.saved")
+                .tag("kind", "serialization")
+                .register(meterRegistry);
+        this.compressionBytesSaved = Counter.builder("post.response.cache.bytes.saved")
+                .tag("kind", "compression")
+                .register(meterRegistry);
+    }
+
+    public CachedPostResponse get(Long postId, Supplier<PostResponse> loader) {
+        Key key = new Key(postId, currentVersion(postId));
+        CachedPostResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            serializationBytesSaved.increment(cached.getJson().length);
+            return cached;
+        }
+        return cache.get(key, k -> encode(loader.get()));
+    }
+
+    /**
+     * 캐시에 있는 것은 그대로 쓰고, 없는 id 만 모아 loader 로 한 번에 읽어 채운다. 찾지 못한 id 는 결과에 없다.
+     */
+    public Map<Long, CachedPostResponse> getAll(List<Long> postIds, Function<List<Long>, List<PostResponse>> loader) {
+        Map<Long, Key> keys = new LinkedHashMap<>();
+        for (Long postId : postIds) {
+            keys.put(postId, new Key(postId, currentVersion(postId)));
+        }
+        Map<Key, CachedPostResponse> present = cache.getAllPresent(keys.values());
+
+        Map<Long, CachedPostResponse> result = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        keys.forEach((postId, key) -> {
+            CachedPostResponse cached = present.get(key);
+            if (cached != null) {
+                serializationBytesSaved.increment(cached.getJson().length);
+                result.put(postId, cached);
+            } else {
+                missing.add(postId);
+            }
+        });
+        if (!missing.isEmpty()) {
+            for (PostResponse response : loader.apply(missing)) {
+                CachedPostResponse encoded = encode(response);
+                // 읽기 전에 잡아 둔 버전으로 넣어야 그 사이 수정된 게시글의 이전 응답이 남지 않는다
+                cache.put(keys.get(response.getId()), encoded);
+                result.put(response.getId(), encoded);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 캐시된 JSON 을 다시 직렬화하지 않고 이어 붙여 PostBatchResponse 모양의 본문을 만든다.
+     */
+    public byte[] batchBody(List<Long> postIds, Map<Long, CachedPostResponse> found) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Long> missingIds = new ArrayList<>();
+        out.writeBytes(BATCH_POSTS_START);
+        boolean first = true;
+        for (Long postId : postIds) {
+            CachedPostResponse cached = found.get(postId);
+            if (cached == null) {
+                missingIds.add(postId);
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            out.writeBytes(cached.getJson());
+            first = false;
+        }
+        out.writeBytes(BATCH_MISSING_START);
+        for (int i = 0; i < missingIds.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.writeBytes(String.valueOf(missingIds.get(i)).getBytes(StandardCharsets.US_ASCII));
+        }
+        out.writeBytes(BATCH_END);
+        return out.toByteArray();
+    }
+
+    public byte[] body(CachedPostResponse cached, boolean acceptsGzip) {
+        if (acceptsGzip && cached.hasGzip()) {
+            compressionBytesSaved.increment(cached.getJson().length - cached.getGzip().length);
+            return cached.getGzip();
+        }
+        return cached.getJson();
+    }
+
+    public void evictAfterCommit(Long postId) {
+        TransactionUtils.runAfterCommit(() -> evict(postId));
+    }
+
+    public void evict(Long postId) {
+        // 버전을 올려 로딩 중이던 이전 버전의 응답이 다시 조회되지 않게 한다
+        long previous = versions.getAndIncrement(stripe(postId));
+        cache.invalidate(new Key(postId, previous));
+    }
+
+    private long currentVersion(Long postId) {
+        return versions.get(stripe(postId));
+    }
+
+    private int stripe(Long postId) {
+        return Long.hashCode(postId) & (VERSION_STRIPES - 1);
+    }
+
+    private CachedPostResponse encode(PostResponse response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] gzip = gzipEnabled && json.length >= gzipMinBytes ? gzip(json) : null;
+            return new CachedPostResponse(json, gzip);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("게시글 응답을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Key(long postId, long version) {
+    }
+}
@@ -1,28 +1,58 @@
 package dev.babyeham.ehamboard.domain.post.controller;
 
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.post.cache.CachedPostResponse;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
 import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostBatchResponse;
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
 import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
 import dev.babyeham.ehamboard.domain.post.dto.UpdatePostRequest;
 import dev.babyeham.ehamboard.domain.post.service.PostService;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.global.dto.MessageResponse;
+import dev.babyeham.ehamboard.global.exception.BatchSizeExceededException;
+import dev.babyeham.ehamboard.global.fieldset.SparseFieldsWriter;
+import dev.babyeham.ehamboard.global.throttle.WriteThrottled;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/posts")
 @RequiredArgsConstructor
 public class PostController {
 
+    private static final int MAX_BATCH_SIZE = 100;
+
     private final PostService postService;
+    private final PostResponseCache postResponseCache;
+    private final ReactionService reactionService;
+    private final AttachmentService attachmentService;
+    private final TrendingService trendingService;
+    private final TagService tagService;
+    private final SparseFieldsWriter sparseFieldsWriter;
 
     @PostMapping
+    @WriteThrottled("post-create")
     public ResponseEntity<PostResponse> createPost(
             @Valid @RequestBody CreatePostRequest request,
             @AuthenticationPrincipal User user) {
@@ -31,24 +61,100 @@ public class PostController {
     }
 
     @GetMapping("/{postId}")
-    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId) {
-        PostResponse response = postService.getPost(postId);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostResponse.class)))
+    public ResponseEntity<byte[]> getPost(
+            @PathVariable Long postId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CachedPostResponse cached = postResponseCache.get(postId, () -> {
+            PostResponse post = postService.getPost(postId);
+            attachmentService.applyToPosts(List.of(post));
+            tagService.applyToPosts(List.of(post));
+            return post;
+        });
+        trendingService.recordView(postId);
+        boolean gzip = cached.hasGzip() && acceptsGzip(acceptEncoding);
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return builder.body(postResponseCache.body(cached, gzip));
+    }
+
+    @GetMapping(value = "/{postId}", params = "fields")
+    @Operation(summary = "게시글 조회 (필드 선택)", description = "fields=id,title,username 처럼 필요한 필드만 조회한다")
+    public ResponseEntity<ObjectNode> getPostFields(@PathVariable Long postId,
+                                                    @RequestParam String fields,
+                                                    @AuthenticationPrincipal User user) {
+        Set<PostField> selected = PostField.parse(fields);
+        PostResponse response = postService.getPost(postId, selected);
+        decorate(List.of(response), selected, userIdOf(user));
+        trendingService.recordView(postId);
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
+    @GetMapping("/batch")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = PostBatchResponse.class)))
+    public ResponseEntity<byte[]> getPostsByIds(@RequestParam List<Long> ids) {
+        List<Long> postIds = ids.stream().distinct().toList();
+        if (postIds.size() > MAX_BATCH_SIZE) {
+            throw new BatchSizeExceededException("한 번에 최대 " + MAX_BATCH_SIZE + "개의 게시글만 조회할 수 있습니다.");
+        }
+        Map<Long, CachedPostResponse> found = postResponseCache.getAll(postIds, missing -> {
+            List<PostResponse> posts = postService.getPostsByIds(missing);
+            attachmentService.applyToPosts(posts);
+            tagService.applyToPosts(posts);
+            return posts;
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(postResponseCache.batchBody(postIds, found));
     }
 
     @GetMapping
-    public ResponseEntity<List<PostResponse>> getAllPosts() {
+    public ResponseEntity<List<PostResponse>> getAllPosts(@AuthenticationPrincipal User user) {
         List<PostResponse> response = postService.getAllPosts();
+        reactionService.applyToPosts(response, userIdOf(user));
+        attachmentService.applyToPosts(response);
+        tagService.applyToPosts(response);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(params = "fields")
+    @Operation(summary = "전체 게시글 조회 (필드 선택)")
+    public ResponseEntity<List<ObjectNode>> getAllPostFields(@RequestParam String fields,
+                                                             @AuthenticationPrincipal User user) {
+        Set<PostField> selected = PostField.parse(fields);
+        List<PostResponse> response = postService.getAllPosts(selected);
+        decorate(response, selected, userIdOf(user));
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword) {
+    public ResponseEntity<List<PostResponse>> searchPosts(@RequestParam String keyword,
+                                                          @AuthenticationPrincipal User user) {
         List<PostResponse> response = postService.searchPostsByTitle(keyword);
+        reactionService.applyToPosts(response, userIdOf(user));
+        attachmentService.applyToPosts(response);
+        tagService.applyToPosts(response);
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping(value = "/search", params = "fields")
+    @Operation(summary = "제목 검색 (필드 선택)")
+    public ResponseEntity<List<ObjectNode>> searchPostFields(@RequestParam String keyword,
+                                                             @RequestParam String fields,
+                                                             @AuthenticationPrincipal User user) {
+        Set<PostField> selected = PostField.parse(fields);
+        List<PostResponse> response = postService.searchPostsByTitle(keyword, selected);
+        decorate(response, selected, userIdOf(user));
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
     @PutMapping("/{postId}")
+    @WriteThrottled("post-update")
     public ResponseEntity<PostResponse> updatePost(
             @PathVariable Long postId,
             @Valid @RequestBody UpdatePostRequest request,
@@ -69,6 +175,69 @@ public class PostController {
     public ResponseEntity<List<PostResponse>> getPostsByUser(
             @AuthenticationPrincipal User user) {
         List<PostResponse> response = postService.getPostsByUser(user.getId());
+        reactionService.applyToPosts(response, user.getId());
+        attachmentService.applyToPosts(response);
+        tagService.applyToPosts(response);
         return ResponseEntity.ok(response);
     }
+
+    @GetMapping(value = "/getByUser", params = "fields")
+    @Operation(summary = "내 게시글 조회 (필드 선택)")
+    public ResponseEntity<List<ObjectNode>> getPostFieldsByUser(@RequestParam String fields,
+                                                                @AuthenticationPrincipal User user) {
+        Set<PostField> selected = PostField.parse(fields);
+        List<PostResponse> response = postService.getPostsByUser(user.getId(), selected);
+        decorate(response, selected, user.getId());
+        return ResponseEntity.ok(sparseFieldsWriter.write(response, selected));
+    }
+
+    // 고른 필드에 필요한 부가 정보만 채운다
+    private void decorate(List<PostResponse> posts, Set<PostField> fields, Long userId) {
+        if (fields.contains(PostField.LIKE_COUNT) || fields.contains(PostField.LIKED_BY_ME)) {
+            reactionService.applyToPosts(posts, userId);
+        }
+        if (fields.contains(PostField.ATTACHMENTS)) {
+            attachmentService.applyToPosts(posts);
+        }
+        if (fields.contains(PostField.TAGS)) {
+            tagService.applyToPosts(posts);
+        }
+    }
+
+    /**
+     * Accept-Encoding 의 q 값을 따른다. gzip;q=0 은 거부이고, gzip 이 없으면 * 의 q 값을 쓴다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzip = null;
+        Double wildcard = null;
+        for (String entry : acceptEncoding.split(",")) {
+            String[] parts = entry.split(";");
+            String coding = parts[0].trim().toLowerCase(Locale.ROOT);
+            double q = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                gzip = q;
+            } else if (coding.equals("*")) {
+                wildcard = q;
+            }
+        }
+        double q = gzip != null ? gzip : wildcard != null ? wildcard : 0;
+        return q > 0;
+    }
+
+    private Long userIdOf(User user) {
+        return user != null ? user.getId() : null;
+    }
 }
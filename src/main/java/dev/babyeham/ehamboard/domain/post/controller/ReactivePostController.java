@@ -0,0 +1,52 @@
+package dev.babyeham.ehamboard.domain.post.controller;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.service.ReactivePostReadService;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * /posts 조회의 논블로킹 버전. 서블릿 스레드는 쿼리를 보내고 바로 반환되고, 목록은 행이 오는 대로 NDJSON 으로 흘려보낸다.
+ */
+@RestController
+@Profile("reactive-read")
+@RequestMapping("/reactive/posts")
+@RequiredArgsConstructor
+public class ReactivePostController {
+
+    private final ReactivePostReadService reactivePostReadService;
+    private final TrendingService trendingService;
+
+    @GetMapping("/{postId}")
+    @Operation(summary = "게시글 조회 (논블로킹)")
+    public Mono<PostResponse> getPost(@PathVariable Long postId) {
+        return reactivePostReadService.getPost(postId)
+                .doOnNext(post -> trendingService.recordView(postId));
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "전체 게시글 조회 (논블로킹, NDJSON 스트리밍)")
+    public Flux<PostResponse> getAllPosts() {
+        return reactivePostReadService.getAllPosts();
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "제목 검색 (논블로킹, NDJSON 스트리밍)")
+    public Flux<PostResponse> searchPosts(@RequestParam String keyword) {
+        return reactivePostReadService.searchPostsByTitle(keyword);
+    }
+
+    @GetMapping(value = "/getByUser", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "내 게시글 조회 (논블로킹, NDJSON 스트리밍)")
+    public Flux<PostResponse> getPostsByUser(@AuthenticationPrincipal User user) {
+        return reactivePostReadService.getPostsByUser(user.getId());
+    }
+}
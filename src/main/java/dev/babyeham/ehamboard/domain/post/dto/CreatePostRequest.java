@@ -2,11 +2,15 @@ package dev.babyeham.ehamboard.domain.post.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
 public class CreatePostRequest {
 
     @NotBlank(message = "제목은 필수입니다.")
@@ -15,4 +19,7 @@ public class CreatePostRequest {
 
     @NotBlank(message = "본문은 필수입니다.")
     private String content;
+
+    @Size(max = 10, message = "태그는 10개까지 붙일 수 있습니다.")
+    private List<@NotBlank(message = "태그는 비어 있을 수 없습니다.") @Size(max = 30, message = "태그는 30자 이하여야 합니다.") String> tags;
 }
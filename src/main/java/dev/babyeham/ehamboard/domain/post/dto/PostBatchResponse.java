@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * GET /posts/batch 의 응답 모양. 본문은 PostResponseCache.batchBody 가 캐시된 JSON 을 이어 붙여 만든다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostBatchResponse {
+    // 요청한 id 순서를 따른다
+    private List<PostResponse> posts;
+    // 없거나 삭제된 게시글 id
+    private List<Long> missingIds;
+}
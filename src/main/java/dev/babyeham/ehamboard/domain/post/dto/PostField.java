@@ -0,0 +1,31 @@
+package dev.babyeham.ehamboard.domain.post.dto;
+
+import dev.babyeham.ehamboard.global.fieldset.SelectableField;
+import dev.babyeham.ehamboard.global.fieldset.SparseFields;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostField implements SelectableField {
+    ID("id"),
+    TITLE("title"),
+    CONTENT("content"),
+    CONTENT_HTML("contentHtml"),
+    USER_ID("userId"),
+    USERNAME("username"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    LIKE_COUNT("likeCount"),
+    LIKED_BY_ME("likedByMe"),
+    ATTACHMENTS("attachments"),
+    TAGS("tags");
+
+    private final String fieldName;
+
+    public static Set<PostField> parse(String fields) {
+        return SparseFields.parse(fields, PostField.class);
+    }
+}
@@ -1,11 +1,14 @@
 package dev.babyeham.ehamboard.domain.post.dto;
 
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentResponse;
 import dev.babyeham.ehamboard.domain.post.entity.Post;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
@@ -14,20 +17,47 @@ public class PostResponse {
     private Long id;
     private String title;
     private String content;
+    private String contentHtml;
     private Long userId;
     private String username;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long likeCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<AttachmentResponse> attachments;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> tags;
 
     public static PostResponse from(Post post) {
+        return from(post, post.getRenderedHtml());
+    }
+
+    public static PostResponse from(Post post, String contentHtml) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
+                .contentHtml(contentHtml)
                 .userId(post.getUser().getId())
                 .username(post.getUser().getUsername())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .build();
     }
+
+    public void applyReaction(long likeCount, boolean likedByMe) {
+        this.likeCount = likeCount;
+        this.likedByMe = likedByMe;
+    }
+
+    public void applyAttachments(List<AttachmentResponse> attachments) {
+        this.attachments = attachments;
+    }
+
+    public void applyTags(List<String> tags) {
+        this.tags = tags;
+    }
 }
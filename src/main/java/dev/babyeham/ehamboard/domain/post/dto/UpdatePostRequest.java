@@ -5,6 +5,8 @@ import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Getter
 @NoArgsConstructor
 public class UpdatePostRequest {
@@ -15,4 +17,8 @@ public class UpdatePostRequest {
 
     @NotBlank(message = "본문은 필수입니다.")
     private String content;
+
+    // null 이면 기존 태그를 그대로 둔다
+    @Size(max = 10, message = "태그는 10개까지 붙일 수 있습니다.")
+    private List<@NotBlank(message = "태그는 비어 있을 수 없습니다.") @Size(max = 30, message = "태그는 30자 이하여야 합니다.") String> tags;
 }
@@ -1,11 +1,14 @@
 package dev.babyeham.ehamboard.domain.post.entity;
 
 import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.compression.CompressedText;
+import dev.babyeham.ehamboard.global.compression.CompressedTextConverter;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.SQLRestriction;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,6 +20,7 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@SQLRestriction("deleted_at IS NULL")
 public class Post {
 
     @Id
@@ -26,8 +30,18 @@ public class Post {
     @Column(nullable = false, length = 200)
     private String title;
 
-    @Column(nullable = false, columnDefinition = "TEXT")
-    private String content;
+    // 설정된 크기 이상이면 압축해 저장한다. 본문을 읽지 않는 조회는 압축을 풀지 않는다
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private CompressedText content;
+
+    // content 를 렌더링해 sanitize 한 HTML. 비어 있으면 조회 시점에 렌더링한다
+    @Column(columnDefinition = "MEDIUMTEXT")
+    private String renderedHtml;
+
+    // renderedHtml 을 만든 렌더러 버전. 현재 버전과 다르면 renderedHtml 을 쓰지 않는다
+    @Column(length = 16)
+    private String renderedVersion;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -41,16 +55,34 @@ public class Post {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    private LocalDateTime deletedAt;
+
     @Builder
-    public Post(String title, String content, User user) {
+    public Post(String title, String content, String renderedHtml, String renderedVersion, User user) {
         this.title = title;
-        this.content = content;
+        this.content = CompressedText.of(content);
+        this.renderedHtml = renderedHtml;
+        this.renderedVersion = renderedVersion;
         this.user = user;
     }
 
-    public void update(String title, String content) {
+    public void update(String title, String content, String renderedHtml, String renderedVersion) {
         this.title = title;
-        this.content = content;
+        this.content = CompressedText.of(content);
+        this.renderedHtml = renderedHtml;
+        this.renderedVersion = renderedVersion;
+    }
+
+    public void softDelete() {
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return this.deletedAt != null;
+    }
+
+    public String getContent() {
+        return this.content.text();
     }
 
     public boolean isAuthor(Long userId) {
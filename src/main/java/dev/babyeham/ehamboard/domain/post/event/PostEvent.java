@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.domain.post.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostEvent {
+
+    private Long postId;
+    private Long userId;
+}
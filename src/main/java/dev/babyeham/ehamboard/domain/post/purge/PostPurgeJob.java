@@ -0,0 +1,111 @@
+package dev.babyeham.ehamboard.domain.post.purge;
+
+import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.global.datasource.ReplicaPool;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+public class PostPurgeJob {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<PostPurgeParticipant> participants;
+    private final ObjectProvider<ReplicaPool> replicaPool;
+    private final int postBatchSize;
+    private final int commentChunkSize;
+    private final Duration gracePeriod;
+    private final Duration chunkPause;
+    private final Duration maxReplicaLag;
+    private final Duration maxLagWait;
+
+    public PostPurgeJob(PostRepository postRepository,
+                        CommentRepository commentRepository,
+                        TransactionTemplate transactionTemplate,
+                        ObjectProvider<PostPurgeParticipant> participants,
+                        ObjectProvider<ReplicaPool> replicaPool,
+                        @Value("${post-purge.post-batch-size:20}") int postBatchSize,
+                        @Value("${post-purge.comment-chunk-size:500}") int commentChunkSize,
+                        @Value("${post-purge.grace-period:10m}") Duration gracePeriod,
+                        @Value("${post-purge.chunk-pause:50ms}") Duration chunkPause,
+                        @Value("${post-purge.max-replica-lag:2s}") Duration maxReplicaLag,
+                        @Value("${post-purge.max-lag-wait:30s}") Duration maxLagWait) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.participants = participants;
+        this.replicaPool = replicaPool;
+        this.postBatchSize = postBatchSize;
+        this.commentChunkSize = commentChunkSize;
+        this.gracePeriod = gracePeriod;
+        this.chunkPause = chunkPause;
+        this.maxReplicaLag = maxReplicaLag;
+        this.maxLagWait = maxLagWait;
+    }
+
+    @Scheduled(fixedDelayString = "${post-purge.interval-ms:30000}")
+    public void purge() {
+        // 삭제 대기 상태가 DB 에 남아 있으므로 중간에 죽어도 다음 실행이 이어서 처리한다
+        List<Long> postIds = postRepository.findSoftDeletedIds(LocalDateTime.now().minus(gracePeriod), postBatchSize);
+        for (Long postId : postIds) {
+            try {
+                purgePost(postId);
+            } catch (RuntimeException e) {
+                log.warn("게시글 퍼지 실패: postId={}", postId, e);
+            }
+        }
+    }
+
+    void purgePost(Long postId) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> purgeCommentChunk(postId));
+            throttle();
+        } while (deleted >= commentChunkSize);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            participants.orderedStream().forEach(participant -> participant.beforePostPurged(postId));
+            postRepository.hardDeleteSoftDeleted(postId);
+        });
+        log.info("게시글 퍼지 완료: postId={}", postId);
+    }
+
+    private int purgeCommentChunk(Long postId) {
+        List<Long> commentIds = commentRepository.findIdsByPostId(postId, commentChunkSize);
+        if (commentIds.isEmpty()) {
+            return 0;
+        }
+        participants.orderedStream().forEach(participant -> participant.beforeCommentsPurged(commentIds));
+        commentRepository.deleteAllByIdIn(commentIds);
+        return commentIds.size();
+    }
+
+    private void throttle() {
+        try {
+            Thread.sleep(chunkPause.toMillis());
+
+            // 레플리카 지연이 벌어지면 따라잡을 때까지 (최대 maxLagWait) 쉬어 간다
+            ReplicaPool pool = replicaPool.getIfAvailable();
+            long waited = 0;
+            while (pool != null && pool.getMaxObservedLagMillis() > maxReplicaLag.toMillis()
+                    && waited < maxLagWait.toMillis()) {
+                Thread.sleep(maxReplicaLag.toMillis());
+                waited += maxReplicaLag.toMillis();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("게시글 퍼지가 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.post.purge;
+
+import java.util.List;
+
+/**
+ * 게시글/댓글이 물리 삭제되기 직전, 같은 트랜잭션 안에서 연관 데이터를 정리할 기회를 준다.
+ */
+public interface PostPurgeParticipant {
+
+    default void beforeCommentsPurged(List<Long> commentIds) {
+    }
+
+    default void beforePostPurged(Long postId) {
+    }
+}
@@ -0,0 +1,22 @@
+package dev.babyeham.ehamboard.domain.post.repository;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
+import jakarta.persistence.Tuple;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ?fields= 로 고른 필드에 필요한 컬럼만 조회한다. Tuple 의 별칭은 PostField 의 이름을 따르며,
+ * contentHtml 을 고르면 renderedHtml, renderedVersion 이 함께 오고, content 는 저장된 HTML 을 쓸 수 없는 행에만 채워진다.
+ */
+public interface PostProjectionRepository {
+    List<Tuple> findAllProjected(Set<PostField> fields);
+
+    List<Tuple> searchByTitleProjected(String keyword, Set<PostField> fields);
+
+    List<Tuple> findByUserIdProjected(Long userId, Set<PostField> fields);
+
+    Optional<Tuple> findProjectedById(Long postId, Set<PostField> fields);
+}
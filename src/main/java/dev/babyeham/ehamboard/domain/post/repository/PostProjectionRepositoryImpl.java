@@ -0,0 +1,108 @@
+package dev.babyeham.ehamboard.domain.post.repository;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
+import dev.babyeham.ehamboard.global.fieldset.SparseFields;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class PostProjectionRepositoryImpl implements PostProjectionRepository {
+
+    private static final String STALE_CONTENT = "CASE WHEN p.renderedHtml IS NOT NULL AND p.renderedVersion = '"
+            + MarkdownRenderer.RENDERER_VERSION + "' THEN NULL ELSE p.content END AS content";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // (조건, 필드 조합) 마다 JPQL 을 한 번만 만든다. 같은 문자열이어야 Hibernate 의 쿼리 계획 캐시를 그대로 탄다
+    private final Map<Long, String> shapes = new ConcurrentHashMap<>();
+
+    @Override
+    public List<Tuple> findAllProjected(Set<PostField> fields) {
+        return query(Filter.ALL, fields, null).getResultList();
+    }
+
+    @Override
+    public List<Tuple> searchByTitleProjected(String keyword, Set<PostField> fields) {
+        return query(Filter.TITLE_KEYWORD, fields, "%" + keyword + "%").getResultList();
+    }
+
+    @Override
+    public List<Tuple> findByUserIdProjected(Long userId, Set<PostField> fields) {
+        return query(Filter.USER, fields, userId).getResultList();
+    }
+
+    @Override
+    public Optional<Tuple> findProjectedById(Long postId, Set<PostField> fields) {
+        return query(Filter.ID, fields, postId).getResultStream().findFirst();
+    }
+
+    private TypedQuery<Tuple> query(Filter filter, Set<PostField> fields, Object argument) {
+        long shape = ((long) filter.ordinal() << 32) | SparseFields.mask(fields);
+        String jpql = shapes.computeIfAbsent(shape, key -> build(filter, fields));
+        TypedQuery<Tuple> query = entityManager.createQuery(jpql, Tuple.class);
+        if (argument != null) {
+            query.setParameter("arg", argument);
+        }
+        return query;
+    }
+
+    private static String build(Filter filter, Set<PostField> fields) {
+        Set<String> select = new LinkedHashSet<>();
+        select.add("p.id AS id");
+        boolean joinUser = false;
+        for (PostField field : PostField.values()) {
+            if (!fields.contains(field)) {
+                continue;
+            }
+            switch (field) {
+                case TITLE -> select.add("p.title AS title");
+                case CONTENT -> select.add("p.content AS content");
+                case CONTENT_HTML -> {
+                    // 저장된 HTML 을 그대로 쓸 수 있는 행은 본문을 읽지 않는다. content 도 골랐으면 위에서 이미 읽었다
+                    if (!fields.contains(PostField.CONTENT)) {
+                        select.add(STALE_CONTENT);
+                    }
+                    select.add("p.renderedHtml AS renderedHtml");
+                    select.add("p.renderedVersion AS renderedVersion");
+                }
+                // 외래 키 컬럼만 읽으므로 users 조인이 필요 없다
+                case USER_ID -> select.add("p.user.id AS userId");
+                case USERNAME -> {
+                    select.add("u.username AS username");
+                    joinUser = true;
+                }
+                case CREATED_AT -> select.add("p.createdAt AS createdAt");
+                case UPDATED_AT -> select.add("p.updatedAt AS updatedAt");
+                default -> {
+                    // 반응, 첨부, 태그는 id 로 조회한 뒤 따로 채운다
+                }
+            }
+        }
+        return "SELECT " + String.join(", ", select) + " FROM Post p"
+                + (joinUser ? " JOIN p.user u" : "")
+                + filter.condition;
+    }
+
+    private enum Filter {
+        ALL(" ORDER BY p.createdAt DESC"),
+        TITLE_KEYWORD(" WHERE p.title LIKE :arg ORDER BY p.createdAt DESC"),
+        USER(" WHERE p.user.id = :arg ORDER BY p.createdAt DESC"),
+        ID(" WHERE p.id = :arg");
+
+        private final String condition;
+
+        Filter(String condition) {
+            this.condition = condition;
+        }
+    }
+}
@@ -2,14 +2,18 @@ package dev.babyeham.ehamboard.domain.post.repository;
 
 import dev.babyeham.ehamboard.domain.post.entity.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, PostProjectionRepository {
     List<Post> findAllByOrderByCreatedAtDesc();
 
     @Query("SELECT p FROM Post p WHERE p.title LIKE %:keyword% ORDER BY p.createdAt DESC")
@@ -17,4 +21,30 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     @Query("SELECT p FROM Post p WHERE p.user.id = :userId ORDER BY p.createdAt DESC")
     List<Post> findPostsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT p FROM Post p JOIN FETCH p.user WHERE p.id IN :ids")
+    List<Post> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 한 작성자의 최근 글 id. (user_id, id) 인덱스를 뒤에서부터 읽으므로 limit 개만 훑는다.
+     */
+    @Query(value = "SELECT id FROM posts WHERE user_id = :userId AND id < :beforeId AND deleted_at IS NULL "
+            + "ORDER BY id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findRecentIdsByUserId(@Param("userId") Long userId,
+                                     @Param("beforeId") long beforeId,
+                                     @Param("limit") int limit);
+
+    @Query("SELECT p.title FROM Post p WHERE p.id = :postId")
+    Optional<String> findTitleById(@Param("postId") Long postId);
+
+    @Query(value = "SELECT id AS id, title AS title FROM posts WHERE id < :beforeId AND deleted_at IS NULL "
+            + "ORDER BY id DESC LIMIT :limit", nativeQuery = true)
+    List<PostTitle> findTitlesBefore(@Param("beforeId") long beforeId, @Param("limit") int limit);
+
+    @Query(value = "SELECT id FROM posts WHERE deleted_at < :before ORDER BY deleted_at LIMIT :limit", nativeQuery = true)
+    List<Long> findSoftDeletedIds(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM posts WHERE id = :postId AND deleted_at IS NOT NULL", nativeQuery = true)
+    int hardDeleteSoftDeleted(@Param("postId") Long postId);
 }
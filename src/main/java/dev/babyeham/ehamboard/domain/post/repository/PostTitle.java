@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.post.repository;
+
+public interface PostTitle {
+    Long getId();
+    String getTitle();
+}
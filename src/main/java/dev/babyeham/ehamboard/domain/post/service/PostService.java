@@ -1,17 +1,27 @@
 package dev.babyeham.ehamboard.domain.post.service;
 
 import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
 import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
 import dev.babyeham.ehamboard.domain.post.dto.UpdatePostRequest;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface PostService {
     PostResponse createPost(CreatePostRequest request, Long userId);
     PostResponse getPost(Long postId);
+    List<PostResponse> getPostsByIds(Collection<Long> postIds);
     List<PostResponse> getAllPosts();
     List<PostResponse> searchPostsByTitle(String keyword);
     PostResponse updatePost(Long postId, UpdatePostRequest request, Long userId);
     void deletePost(Long postId, Long userId);
     List<PostResponse> getPostsByUser(Long userId);
+
+    // ?fields= 로 고른 필드만 채운다. 반응, 첨부, 태그는 호출한 쪽에서 채운다
+    PostResponse getPost(Long postId, Set<PostField> fields);
+    List<PostResponse> getAllPosts(Set<PostField> fields);
+    List<PostResponse> searchPostsByTitle(String keyword, Set<PostField> fields);
+    List<PostResponse> getPostsByUser(Long userId, Set<PostField> fields);
 }
@@ -1,20 +1,35 @@
 package dev.babyeham.ehamboard.domain.post.service;
 
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
 import dev.babyeham.ehamboard.domain.post.entity.Post;
+import dev.babyeham.ehamboard.domain.post.event.PostEvent;
 import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
 import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
 import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
 import dev.babyeham.ehamboard.domain.post.dto.UpdatePostRequest;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+import dev.babyeham.ehamboard.domain.revision.service.RevisionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.compression.CompressedText;
 import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
 import dev.babyeham.ehamboard.global.exception.UnauthorizedPostAccessException;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxEventPublisher;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,6 +38,12 @@ public class PostServiceImpl implements PostService {
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostResponseCache postResponseCache;
+    private final OutboxEventPublisher outboxEventPublisher;
+    private final MarkdownRenderer markdownRenderer;
+    private final RevisionService revisionService;
+    private final TagService tagService;
+    private final PostArchiveStore postArchiveStore;
 
     @Override
     @Transactional
@@ -33,19 +54,51 @@ public class PostServiceImpl implements PostService {
         Post post = Post.builder()
                 .title(request.getTitle())
                 .content(request.getContent())
+                .renderedHtml(markdownRenderer.renderForStorage(request.getContent()))
+                .renderedVersion(markdownRenderer.version())
                 .user(user)
                 .build();
 
         Post savedPost = postRepository.save(post);
-        return PostResponse.from(savedPost);
+        revisionService.recordCreated(RevisionTargetType.POST, savedPost.getId(), userId,
+                savedPost.getTitle(), savedPost.getContent());
+        List<String> tags = tagService.replaceTags(savedPost.getId(), request.getTags());
+        outboxEventPublisher.publish(DomainEventType.POST_CREATED, savedPost.getId(),
+                new PostEvent(savedPost.getId(), userId));
+        PostResponse response = toResponse(savedPost);
+        response.applyTags(tags);
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public PostResponse getPost(Long postId) {
-        Post post = postRepository.findById(postId)
+        if (postArchiveStore.covers(postId)) {
+            return postArchiveStore.findPost(postId)
+                    .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+        }
+        return postRepository.findById(postId)
+                .map(this::toResponse)
+                .or(() -> postArchiveStore.findPost(postId))
                 .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
-        return PostResponse.from(post);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPostsByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        List<PostResponse> responses = postRepository.findAllWithUserByIdIn(postIds)
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+        if (responses.size() < postIds.size()) {
+            Set<Long> found = responses.stream().map(PostResponse::getId).collect(Collectors.toSet());
+            responses.addAll(postArchiveStore.findPosts(
+                    postIds.stream().filter(id -> !found.contains(id)).toList()));
+        }
+        return responses;
     }
 
     @Override
@@ -53,7 +106,7 @@ public class PostServiceImpl implements PostService {
     public List<PostResponse> getAllPosts() {
         return postRepository.findAllByOrderByCreatedAtDesc()
                 .stream()
-                .map(PostResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -62,7 +115,7 @@ public class PostServiceImpl implements PostService {
     public List<PostResponse> searchPostsByTitle(String keyword) {
         return postRepository.searchByTitle(keyword)
                 .stream()
-                .map(PostResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
 
@@ -76,8 +129,20 @@ public class PostServiceImpl implements PostService {
             throw new UnauthorizedPostAccessException("게시글을 수정할 권한이 없습니다.");
         }
 
-        post.update(request.getTitle(), request.getContent());
-        return PostResponse.from(post);
+        String previousTitle = post.getTitle();
+        String previousContent = post.getContent();
+        post.update(request.getTitle(), request.getContent(),
+                markdownRenderer.renderForStorage(request.getContent()), markdownRenderer.version());
+        revisionService.recordUpdated(RevisionTargetType.POST, postId, userId,
+                previousTitle, previousContent, post.getTitle(), post.getContent());
+        List<String> tags = request.getTags() != null
+                ? tagService.replaceTags(postId, request.getTags())
+                : tagService.getTags(postId);
+        postResponseCache.evictAfterCommit(postId);
+        outboxEventPublisher.publish(DomainEventType.POST_UPDATED, postId, new PostEvent(postId, userId));
+        PostResponse response = toResponse(post);
+        response.applyTags(tags);
+        return response;
     }
 
     @Override
@@ -90,7 +155,9 @@ public class PostServiceImpl implements PostService {
             throw new UnauthorizedPostAccessException("게시글을 삭제할 권한이 없습니다.");
         }
 
-        postRepository.delete(post);
+        post.softDelete();
+        postResponseCache.evictAfterCommit(postId);
+        outboxEventPublisher.publish(DomainEventType.POST_DELETED, postId, new PostEvent(postId, userId));
     }
 
     @Override
@@ -98,7 +165,82 @@ public class PostServiceImpl implements PostService {
     public List<PostResponse> getPostsByUser(Long userId) {
         return postRepository.findPostsByUserId(userId)
                 .stream()
-                .map(PostResponse::from)
+                .map(this::toResponse)
                 .collect(Collectors.toList());
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostResponse getPost(Long postId, Set<PostField> fields) {
+        // 보관된 게시글은 전체 응답을 돌려주고, 고른 필드만 남기는 일은 SparseFieldsWriter 가 한다
+        if (postArchiveStore.covers(postId)) {
+            return postArchiveStore.findPost(postId)
+                    .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+        }
+        return postRepository.findProjectedById(postId, fields)
+                .map(row -> toResponse(row, fields))
+                .or(() -> postArchiveStore.findPost(postId))
+                .orElseThrow(() -> new PostNotFoundException("게시글을 찾을 수 없습니다."));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> getAllPosts(Set<PostField> fields) {
+        return postRepository.findAllProjected(fields)
+                .stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> searchPostsByTitle(String keyword, Set<PostField> fields) {
+        return postRepository.searchByTitleProjected(keyword, fields)
+                .stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PostResponse> getPostsByUser(Long userId, Set<PostField> fields) {
+        return postRepository.findByUserIdProjected(userId, fields)
+                .stream()
+                .map(row -> toResponse(row, fields))
+                .collect(Collectors.toList());
+    }
+
+    private PostResponse toResponse(Post post) {
+        return PostResponse.from(post, markdownRenderer.resolve(post.getContent(), post.getRenderedHtml(),
+                post.getRenderedVersion()));
+    }
+
+    private PostResponse toResponse(Tuple row, Set<PostField> fields) {
+        PostResponse.PostResponseBuilder builder = PostResponse.builder()
+                .id(row.get("id", Long.class));
+        if (fields.contains(PostField.TITLE)) {
+            builder.title(row.get("title", String.class));
+        }
+        if (fields.contains(PostField.CONTENT)) {
+            builder.content(row.get("content", CompressedText.class).text());
+        }
+        if (fields.contains(PostField.CONTENT_HTML)) {
+            CompressedText content = row.get("content", CompressedText.class);
+            builder.contentHtml(markdownRenderer.resolveLazily(row.get("renderedHtml", String.class),
+                    row.get("renderedVersion", String.class), () -> content.text()));
+        }
+        if (fields.contains(PostField.USER_ID)) {
+            builder.userId(row.get("userId", Long.class));
+        }
+        if (fields.contains(PostField.USERNAME)) {
+            builder.username(row.get("username", String.class));
+        }
+        if (fields.contains(PostField.CREATED_AT)) {
+            builder.createdAt(row.get("createdAt", LocalDateTime.class));
+        }
+        if (fields.contains(PostField.UPDATED_AT)) {
+            builder.updatedAt(row.get("updatedAt", LocalDateTime.class));
+        }
+        return builder.build();
+    }
 }
@@ -0,0 +1,88 @@
+package dev.babyeham.ehamboard.domain.post.service;
+
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+
+/**
+ * reactive-read 프로파일의 논블로킹 게시글 조회. JDBC 대신 R2DBC 로 읽어 쿼리를 기다리는 동안 스레드를 잡지 않는다.
+ * <p>
+ * 반응 수, 첨부, 태그는 JPA 쪽 블로킹 조회라 채우지 않는다. 필요하면 /posts/batch 나 ?fields= 를 쓴다.
+ * 단건 조회는 PostServiceImpl 처럼 보관 워터마크 이하이거나 운영 테이블에 없으면 보관 테이블을 본다.
+ * PostArchiveStore 는 JDBC 라 boundedElastic 스레드에서 읽는다.
+ */
+@Service
+@Profile("reactive-read")
+@RequiredArgsConstructor
+public class ReactivePostReadService {
+
+    private static final String SELECT_POSTS = "SELECT p.id, p.title, p.content, p.rendered_html, p.rendered_version, p.user_id, "
+            + "u.username, p.created_at, p.updated_at FROM posts p JOIN users u ON u.id = p.user_id "
+            + "WHERE p.deleted_at IS NULL";
+
+    private final DatabaseClient databaseClient;
+    private final TextCompressor textCompressor;
+    private final MarkdownRenderer markdownRenderer;
+    private final PostArchiveStore postArchiveStore;
+
+    public Mono<PostResponse> getPost(Long postId) {
+        Mono<PostResponse> archived = Mono.fromCallable(() -> postArchiveStore.findPost(postId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(Mono::justOrEmpty);
+        Mono<PostResponse> post = postArchiveStore.covers(postId)
+                ? archived
+                : databaseClient.sql(SELECT_POSTS + " AND p.id = :postId")
+                        .bind("postId", postId)
+                        .map(this::toResponse)
+                        .one()
+                        .switchIfEmpty(archived);
+        return post.switchIfEmpty(Mono.error(() -> new PostNotFoundException("게시글을 찾을 수 없습니다.")));
+    }
+
+    public Flux<PostResponse> getAllPosts() {
+        return databaseClient.sql(SELECT_POSTS + " ORDER BY p.created_at DESC")
+                .map(this::toResponse)
+                .all();
+    }
+
+    public Flux<PostResponse> searchPostsByTitle(String keyword) {
+        return databaseClient.sql(SELECT_POSTS + " AND p.title LIKE :keyword ORDER BY p.created_at DESC")
+                .bind("keyword", "%" + keyword + "%")
+                .map(this::toResponse)
+                .all();
+    }
+
+    public Flux<PostResponse> getPostsByUser(Long userId) {
+        return databaseClient.sql(SELECT_POSTS + " AND p.user_id = :userId ORDER BY p.created_at DESC")
+                .bind("userId", userId)
+                .map(this::toResponse)
+                .all();
+    }
+
+    private PostResponse toResponse(Readable row) {
+        String content = textCompressor.decode(row.get("content", byte[].class));
+        return PostResponse.builder()
+                .id(row.get("id", Long.class))
+                .title(row.get("title", String.class))
+                .content(content)
+                .contentHtml(markdownRenderer.resolve(content, row.get("rendered_html", String.class),
+                        row.get("rendered_version", String.class)))
+                .userId(row.get("user_id", Long.class))
+                .username(row.get("username", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.babyeham.ehamboard.domain.reaction.controller;
+
+import dev.babyeham.ehamboard.domain.reaction.dto.ReactionResponse;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionTargetType;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+public class ReactionController {
+
+    private final ReactionService reactionService;
+
+    @GetMapping("/posts/{postId}/likes")
+    @Operation(summary = "게시글 좋아요 상태 조회")
+    public ResponseEntity<ReactionResponse> getPostReaction(@PathVariable("postId") Long postId,
+                                                            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reactionService.getReaction(ReactionTargetType.POST, postId, user.getId()));
+    }
+
+    @PostMapping("/posts/{postId}/likes")
+    @Operation(summary = "게시글 좋아요")
+    public ResponseEntity<ReactionResponse> likePost(@PathVariable("postId") Long postId,
+                                                     @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reactionService.like(ReactionTargetType.POST, postId, user.getId()));
+    }
+
+    @DeleteMapping("/posts/{postId}/likes")
+    @Operation(summary = "게시글 좋아요 취소")
+    public ResponseEntity<ReactionResponse> unlikePost(@PathVariable("postId") Long postId,
+                                                       @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reactionService.unlike(ReactionTargetType.POST, postId, user.getId()));
+    }
+
+    @PostMapping("/comments/{commentId}/likes")
+    @Operation(summary = "댓글 좋아요")
+    public ResponseEntity<ReactionResponse> likeComment(@PathVariable("commentId") Long commentId,
+                                                        @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reactionService.like(ReactionTargetType.COMMENT, commentId, user.getId()));
+    }
+
+    @DeleteMapping("/comments/{commentId}/likes")
+    @Operation(summary = "댓글 좋아요 취소")
+    public ResponseEntity<ReactionResponse> unlikeComment(@PathVariable("commentId") Long commentId,
+                                                          @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(reactionService.unlike(ReactionTargetType.COMMENT, commentId, user.getId()));
+    }
+}
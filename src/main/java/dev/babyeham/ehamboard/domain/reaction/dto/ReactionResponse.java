@@ -0,0 +1,12 @@
+package dev.babyeham.ehamboard.domain.reaction.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ReactionResponse {
+    private Long targetId;
+    private long likeCount;
+    private boolean likedByMe;
+}
@@ -0,0 +1,36 @@
+package dev.babyeham.ehamboard.domain.reaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 좋아요 한 건. (target_type, target_id, user_id) 유니크 키가 중복 좋아요를 막는다.
+ * 삽입은 ReactionRepository 의 INSERT IGNORE 로만 한다.
+ */
+@Entity
+@Table(name = "reactions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Reaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReactionTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package dev.babyeham.ehamboard.domain.reaction.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대상별 좋아요 수를 여러 샤드 행으로 나눠 저장한다.
+ * 인기 게시글에 좋아요가 몰려도 한 행의 락에 쓰기가 줄 서지 않도록 하기 위함이며, 읽을 때는 샤드를 합산한다.
+ */
+@Entity
+@Table(name = "reaction_counts")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReactionCount {
+
+    @EmbeddedId
+    private ReactionCountId id;
+
+    @Column(nullable = false)
+    private Long likeCount;
+}
@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.reaction.entity;
+
+public enum ReactionTargetType {
+    POST,
+    COMMENT
+}
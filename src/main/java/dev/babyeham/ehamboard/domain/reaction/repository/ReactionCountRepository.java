@@ -0,0 +1,35 @@
+package dev.babyeham.ehamboard.domain.reaction.repository;
+
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionCount;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionCountId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionCountRepository extends JpaRepository<ReactionCount, ReactionCountId> {
+
+    @Modifying
+    @Query(value = "INSERT INTO reaction_counts (target_type, target_id, shard, like_count) "
+            + "VALUES (:targetType, :targetId, :shard, :delta) "
+            + "ON DUPLICATE KEY UPDATE like_count = like_count + :delta", nativeQuery = true)
+    int addToShard(@Param("targetType") String targetType,
+                   @Param("targetId") Long targetId,
+                   @Param("shard") int shard,
+                   @Param("delta") long delta);
+
+    @Query(value = "SELECT target_id AS targetId, SUM(like_count) AS likeCount FROM reaction_counts "
+            + "WHERE target_type = :targetType AND target_id IN (:targetIds) GROUP BY target_id", nativeQuery = true)
+    List<TargetLikeCount> sumByTargets(@Param("targetType") String targetType,
+                                       @Param("targetIds") Collection<Long> targetIds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM reaction_counts WHERE target_type = :targetType AND target_id IN (:targetIds)",
+            nativeQuery = true)
+    int deleteAllByTargets(@Param("targetType") String targetType, @Param("targetIds") Collection<Long> targetIds);
+}
@@ -0,0 +1,40 @@
+package dev.babyeham.ehamboard.domain.reaction.repository;
+
+import dev.babyeham.ehamboard.domain.reaction.entity.Reaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionRepository extends JpaRepository<Reaction, Long> {
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO reactions (target_type, target_id, user_id, created_at) "
+            + "VALUES (:targetType, :targetId, :userId, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("targetType") String targetType,
+                     @Param("targetId") Long targetId,
+                     @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM reactions WHERE target_type = :targetType AND target_id = :targetId AND user_id = :userId",
+            nativeQuery = true)
+    int deleteByTargetAndUser(@Param("targetType") String targetType,
+                              @Param("targetId") Long targetId,
+                              @Param("userId") Long userId);
+
+    @Query(value = "SELECT target_id FROM reactions "
+            + "WHERE user_id = :userId AND target_type = :targetType AND target_id IN (:targetIds)", nativeQuery = true)
+    List<Long> findLikedTargetIds(@Param("targetType") String targetType,
+                                  @Param("targetIds") Collection<Long> targetIds,
+                                  @Param("userId") Long userId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM reactions WHERE target_type = :targetType AND target_id IN (:targetIds)",
+            nativeQuery = true)
+    int deleteAllByTargets(@Param("targetType") String targetType, @Param("targetIds") Collection<Long> targetIds);
+}
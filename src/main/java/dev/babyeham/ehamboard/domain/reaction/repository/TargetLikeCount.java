@@ -0,0 +1,8 @@
+package dev.babyeham.ehamboard.domain.reaction.repository;
+
+public interface TargetLikeCount {
+
+    Long getTargetId();
+
+    Long getLikeCount();
+}
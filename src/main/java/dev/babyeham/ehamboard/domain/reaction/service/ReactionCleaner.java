@@ -0,0 +1,53 @@
+package dev.babyeham.ehamboard.domain.reaction.service;
+
+import dev.babyeham.ehamboard.domain.post.purge.PostPurgeParticipant;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionTargetType;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionCountRepository;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionRepository;
+import dev.babyeham.ehamboard.global.outbox.DomainEventHandler;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * reactions 는 게시글/댓글에 FK 가 없으므로 대상이 지워질 때 직접 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReactionCleaner implements PostPurgeParticipant, DomainEventHandler {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountRepository reactionCountRepository;
+
+    @Override
+    public void beforeCommentsPurged(List<Long> commentIds) {
+        deleteAll(ReactionTargetType.COMMENT, commentIds);
+    }
+
+    @Override
+    public void beforePostPurged(Long postId) {
+        deleteAll(ReactionTargetType.POST, List.of(postId));
+    }
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.COMMENT_DELETED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        deleteAll(ReactionTargetType.COMMENT, List.of(message.getAggregateId()));
+    }
+
+    private void deleteAll(ReactionTargetType targetType, List<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+        reactionRepository.deleteAllByTargets(targetType.name(), targetIds);
+        reactionCountRepository.deleteAllByTargets(targetType.name(), targetIds);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.babyeham.ehamboard.domain.reaction.service;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.reaction.dto.ReactionResponse;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionTargetType;
+
+import java.util.List;
+
+public interface ReactionService {
+    ReactionResponse like(ReactionTargetType targetType, Long targetId, Long userId);
+    ReactionResponse unlike(ReactionTargetType targetType, Long targetId, Long userId);
+    ReactionResponse getReaction(ReactionTargetType targetType, Long targetId, Long userId);
+    void applyToPosts(List<PostResponse> posts, Long userId);
+    void applyToComments(List<CommentResponse> comments, Long userId);
+}
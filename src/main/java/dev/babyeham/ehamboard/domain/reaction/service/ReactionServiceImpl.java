@@ -0,0 +1,140 @@
+package dev.babyeham.ehamboard.domain.reaction.service;
+
+import dev.babyeham.ehamboard.domain.comment.dto.CommentResponse;
+import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.reaction.dto.ReactionResponse;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionTargetType;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionCountRepository;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionRepository;
+import dev.babyeham.ehamboard.domain.reaction.repository.TargetLikeCount;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingSignal;
+import dev.babyeham.ehamboard.global.exception.CommentNotFoundException;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import dev.babyeham.ehamboard.global.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+public class ReactionServiceImpl implements ReactionService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCountRepository reactionCountRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TrendingService trendingService;
+    private final int counterShards;
+
+    public ReactionServiceImpl(ReactionRepository reactionRepository,
+                               ReactionCountRepository reactionCountRepository,
+                               PostRepository postRepository,
+                               CommentRepository commentRepository,
+                               TrendingService trendingService,
+                               @Value("${reaction.counter-shards:16}") int counterShards) {
+        this.reactionRepository = reactionRepository;
+        this.reactionCountRepository = reactionCountRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.trendingService = trendingService;
+        this.counterShards = counterShards;
+    }
+
+    @Override
+    @Transactional
+    public ReactionResponse like(ReactionTargetType targetType, Long targetId, Long userId) {
+        validateTarget(targetType, targetId);
+        // 이미 좋아요한 상태면 유니크 키에 걸려 0건이 되므로 카운터도 건드리지 않는다
+        if (reactionRepository.insertIgnore(targetType.name(), targetId, userId) > 0) {
+            addToCounter(targetType, targetId, 1);
+            if (targetType == ReactionTargetType.POST) {
+                TransactionUtils.runAfterCommit(() -> trendingService.record(targetId, TrendingSignal.LIKE));
+            }
+        }
+        return new ReactionResponse(targetId, countOf(targetType, targetId), true);
+    }
+
+    @Override
+    @Transactional
+    public ReactionResponse unlike(ReactionTargetType targetType, Long targetId, Long userId) {
+        validateTarget(targetType, targetId);
+        if (reactionRepository.deleteByTargetAndUser(targetType.name(), targetId, userId) > 0) {
+            addToCounter(targetType, targetId, -1);
+        }
+        return new ReactionResponse(targetId, countOf(targetType, targetId), false);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ReactionResponse getReaction(ReactionTargetType targetType, Long targetId, Long userId) {
+        validateTarget(targetType, targetId);
+        boolean liked = !reactionRepository.findLikedTargetIds(targetType.name(), List.of(targetId), userId).isEmpty();
+        return new ReactionResponse(targetId, countOf(targetType, targetId), liked);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyToPosts(List<PostResponse> posts, Long userId) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<Long> ids = posts.stream().map(PostResponse::getId).toList();
+        Map<Long, Long> counts = countsOf(ReactionTargetType.POST, ids);
+        Set<Long> liked = likedBy(ReactionTargetType.POST, ids, userId);
+        for (PostResponse post : posts) {
+            post.applyReaction(counts.getOrDefault(post.getId(), 0L), liked.contains(post.getId()));
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyToComments(List<CommentResponse> comments, Long userId) {
+        if (comments.isEmpty()) {
+            return;
+        }
+        List<Long> ids = comments.stream().map(CommentResponse::getId).toList();
+        Map<Long, Long> counts = countsOf(ReactionTargetType.COMMENT, ids);
+        Set<Long> liked = likedBy(ReactionTargetType.COMMENT, ids, userId);
+        for (CommentResponse comment : comments) {
+            comment.applyReaction(counts.getOrDefault(comment.getId(), 0L), liked.contains(comment.getId()));
+        }
+    }
+
+    private void validateTarget(ReactionTargetType targetType, Long targetId) {
+        if (targetType == ReactionTargetType.POST && !postRepository.existsById(targetId)) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+        if (targetType == ReactionTargetType.COMMENT && commentRepository.findActiveById(targetId).isEmpty()) {
+            throw new CommentNotFoundException("댓글을 찾을 수 없습니다.");
+        }
+    }
+
+    private void addToCounter(ReactionTargetType targetType, Long targetId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(counterShards);
+        reactionCountRepository.addToShard(targetType.name(), targetId, shard, delta);
+    }
+
+    private long countOf(ReactionTargetType targetType, Long targetId) {
+        return countsOf(targetType, List.of(targetId)).getOrDefault(targetId, 0L);
+    }
+
+    private Map<Long, Long> countsOf(ReactionTargetType targetType, Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (TargetLikeCount row : reactionCountRepository.sumByTargets(targetType.name(), ids)) {
+            counts.put(row.getTargetId(), row.getLikeCount());
+        }
+        return counts;
+    }
+
+    private Set<Long> likedBy(ReactionTargetType targetType, Collection<Long> ids, Long userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return new HashSet<>(reactionRepository.findLikedTargetIds(targetType.name(), ids, userId));
+    }
+}
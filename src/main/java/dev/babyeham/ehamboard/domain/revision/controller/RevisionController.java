@@ -0,0 +1,46 @@
+package dev.babyeham.ehamboard.domain.revision.controller;
+
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionResponse;
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionSummaryResponse;
+import dev.babyeham.ehamboard.domain.revision.service.RevisionService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class RevisionController {
+
+    private final RevisionService revisionService;
+
+    @GetMapping("/posts/{postId}/revisions")
+    @Operation(summary = "게시글 수정 이력 목록", description = "본문 없이 버전 정보만 돌려준다.")
+    public ResponseEntity<List<RevisionSummaryResponse>> getPostRevisions(@PathVariable("postId") Long postId) {
+        return ResponseEntity.ok(revisionService.getPostRevisions(postId));
+    }
+
+    @GetMapping("/posts/{postId}/revisions/{revisionNo}")
+    @Operation(summary = "게시글 특정 버전 조회")
+    public ResponseEntity<RevisionResponse> getPostRevision(@PathVariable("postId") Long postId,
+                                                            @PathVariable("revisionNo") int revisionNo) {
+        return ResponseEntity.ok(revisionService.getPostRevision(postId, revisionNo));
+    }
+
+    @GetMapping("/comments/{commentId}/revisions")
+    @Operation(summary = "댓글 수정 이력 목록", description = "본문 없이 버전 정보만 돌려준다.")
+    public ResponseEntity<List<RevisionSummaryResponse>> getCommentRevisions(@PathVariable("commentId") Long commentId) {
+        return ResponseEntity.ok(revisionService.getCommentRevisions(commentId));
+    }
+
+    @GetMapping("/comments/{commentId}/revisions/{revisionNo}")
+    @Operation(summary = "댓글 특정 버전 조회")
+    public ResponseEntity<RevisionResponse> getCommentRevision(@PathVariable("commentId") Long commentId,
+                                                               @PathVariable("revisionNo") int revisionNo) {
+        return ResponseEntity.ok(revisionService.getCommentRevision(commentId, revisionNo));
+    }
+}
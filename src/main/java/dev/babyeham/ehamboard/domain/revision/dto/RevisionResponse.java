@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.domain.revision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class RevisionResponse {
+    private int revisionNo;
+    private Long editorId;
+    private String title;
+    private String content;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package dev.babyeham.ehamboard.domain.revision.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용. RevisionRepository 의 생성자 표현식으로 바로 만들어 body 컬럼을 읽지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class RevisionSummaryResponse {
+    private int revisionNo;
+    private Long editorId;
+    private String title;
+    private int contentLength;
+    private LocalDateTime createdAt;
+}
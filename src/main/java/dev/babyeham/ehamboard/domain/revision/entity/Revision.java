@@ -0,0 +1,76 @@
+package dev.babyeham.ehamboard.domain.revision.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글/댓글 본문의 한 버전. snapshot 이면 body 는 본문 전체(UTF-8)이고,
+ * 아니면 직전 버전에 대한 DeltaCodec delta 이다. chainStart 는 이 버전을 복원할 때 시작할 스냅샷 번호다.
+ */
+@Entity
+@Table(name = "revisions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class Revision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private RevisionTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    private int revisionNo;
+
+    @Column(nullable = false)
+    private int chainStart;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+
+    private Long editorId;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(nullable = false)
+    private int contentLength;
+
+    @Column(nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public Revision(RevisionTargetType targetType, Long targetId, int revisionNo, int chainStart, boolean snapshot,
+                    Long editorId, String title, int contentLength, String contentHash, byte[] body) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.revisionNo = revisionNo;
+        this.chainStart = chainStart;
+        this.snapshot = snapshot;
+        this.editorId = editorId;
+        this.title = title;
+        this.contentLength = contentLength;
+        this.contentHash = contentHash;
+        this.body = body;
+    }
+}
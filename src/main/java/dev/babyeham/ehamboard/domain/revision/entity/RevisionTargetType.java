@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.revision.entity;
+
+public enum RevisionTargetType {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.domain.revision.repository;
+
+public interface RevisionHead {
+    int getRevisionNo();
+    int getChainStart();
+    String getContentHash();
+}
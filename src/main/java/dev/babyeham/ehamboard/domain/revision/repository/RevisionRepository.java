@@ -0,0 +1,51 @@
+package dev.babyeham.ehamboard.domain.revision.repository;
+
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionSummaryResponse;
+import dev.babyeham.ehamboard.domain.revision.entity.Revision;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RevisionRepository extends JpaRepository<Revision, Long> {
+
+    /**
+     * 최신 버전 행을 잠근다. 같은 대상의 동시 수정이 같은 번호나 엇갈린 기준 본문으로 delta 를 쓰지 않게 한다.
+     */
+    @Query(value = "SELECT revision_no AS revisionNo, chain_start AS chainStart, content_hash AS contentHash "
+            + "FROM revisions WHERE target_type = :targetType AND target_id = :targetId "
+            + "ORDER BY revision_no DESC LIMIT 1 FOR UPDATE", nativeQuery = true)
+    Optional<RevisionHead> lockHead(@Param("targetType") String targetType, @Param("targetId") Long targetId);
+
+    @Query("SELECT new dev.babyeham.ehamboard.domain.revision.dto.RevisionSummaryResponse("
+            + "r.revisionNo, r.editorId, r.title, r.contentLength, r.createdAt) "
+            + "FROM Revision r WHERE r.targetType = :targetType AND r.targetId = :targetId "
+            + "ORDER BY r.revisionNo DESC")
+    List<RevisionSummaryResponse> findSummaries(@Param("targetType") RevisionTargetType targetType,
+                                                @Param("targetId") Long targetId);
+
+    @Query("SELECT r.chainStart FROM Revision r "
+            + "WHERE r.targetType = :targetType AND r.targetId = :targetId AND r.revisionNo = :revisionNo")
+    Optional<Integer> findChainStart(@Param("targetType") RevisionTargetType targetType,
+                                     @Param("targetId") Long targetId,
+                                     @Param("revisionNo") int revisionNo);
+
+    @Query("SELECT r FROM Revision r WHERE r.targetType = :targetType AND r.targetId = :targetId "
+            + "AND r.revisionNo BETWEEN :from AND :to ORDER BY r.revisionNo ASC")
+    List<Revision> findChain(@Param("targetType") RevisionTargetType targetType,
+                             @Param("targetId") Long targetId,
+                             @Param("from") int from,
+                             @Param("to") int to);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Revision r WHERE r.targetType = :targetType AND r.targetId IN :targetIds")
+    int deleteAllByTargets(@Param("targetType") RevisionTargetType targetType,
+                           @Param("targetIds") Collection<Long> targetIds);
+}
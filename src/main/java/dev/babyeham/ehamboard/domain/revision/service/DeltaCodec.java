@@ -0,0 +1,215 @@
+package dev.babyeham.ehamboard.domain.revision.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이전 본문(base)에서 새 본문(target)을 만드는 COPY/INSERT 명령열을 만든다.
+ * UTF-8 바이트 단위로 동작하며, 공통 앞/뒤를 잘라낸 뒤 가운데는 base 를 BLOCK 크기 블록으로
+ * 색인해 일치하는 구간을 찾는다(xdelta 방식). 여러 곳을 고치거나 문단을 옮겨도 바뀐 부분만 남는다.
+ *
+ * <pre>
+ * delta := varint(baseLength) varint(targetLength) op*
+ * op    := 0x00 varint(offset) varint(length)   // base[offset, offset+length) 복사
+ *        | 0x01 varint(length) byte[length]      // 그대로 삽입
+ * </pre>
+ */
+public final class DeltaCodec {
+
+    private static final int BLOCK = 16;
+    private static final int PRIME = 31;
+    private static final int PRIME_POW = pow(PRIME, BLOCK - 1);
+    private static final byte OP_COPY = 0;
+    private static final byte OP_INSERT = 1;
+
+    private DeltaCodec() {
+    }
+
+    public static byte[] diff(String base, String target) {
+        return diff(base.getBytes(StandardCharsets.UTF_8), target.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String apply(String base, byte[] delta) {
+        return new String(apply(base.getBytes(StandardCharsets.UTF_8), delta), StandardCharsets.UTF_8);
+    }
+
+    static byte[] diff(byte[] base, byte[] target) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarint(out, base.length);
+        writeVarint(out, target.length);
+
+        int prefix = 0;
+        int maxPrefix = Math.min(base.length, target.length);
+        while (prefix < maxPrefix && base[prefix] == target[prefix]) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && base[base.length - 1 - suffix] == target[target.length - 1 - suffix]) {
+            suffix++;
+        }
+        if (prefix > 0) {
+            writeCopy(out, 0, prefix);
+        }
+        diffMiddle(out, base, prefix, base.length - suffix, target, prefix, target.length - suffix);
+        if (suffix > 0) {
+            writeCopy(out, base.length - suffix, suffix);
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] apply(byte[] base, byte[] delta) {
+        int[] pos = {0};
+        int baseLength = readVarint(delta, pos);
+        int targetLength = readVarint(delta, pos);
+        if (baseLength != base.length) {
+            throw new IllegalStateException("delta 의 기준 본문 길이가 일치하지 않습니다.");
+        }
+        byte[] result = new byte[targetLength];
+        int written = 0;
+        while (pos[0] < delta.length) {
+            byte op = delta[pos[0]++];
+            int a = readVarint(delta, pos);
+            if (op == OP_COPY) {
+                int length = readVarint(delta, pos);
+                System.arraycopy(base, a, result, written, length);
+                written += length;
+            } else if (op == OP_INSERT) {
+                System.arraycopy(delta, pos[0], result, written, a);
+                pos[0] += a;
+                written += a;
+            } else {
+                throw new IllegalStateException("알 수 없는 delta 명령입니다: " + op);
+            }
+        }
+        if (written != targetLength) {
+            throw new IllegalStateException("delta 적용 결과 길이가 일치하지 않습니다.");
+        }
+        return result;
+    }
+
+    private static void diffMiddle(ByteArrayOutputStream out,
+                                   byte[] base, int baseStart, int baseEnd,
+                                   byte[] target, int targetStart, int targetEnd) {
+        if (targetStart >= targetEnd) {
+            return;
+        }
+        if (baseEnd - baseStart < BLOCK || targetEnd - targetStart < BLOCK) {
+            writeInsert(out, target, targetStart, targetEnd - targetStart);
+            return;
+        }
+
+        // 겹치지 않는 블록만 색인한다. 같은 해시는 먼저 나온 위치를 쓴다
+        Map<Integer, Integer> index = new HashMap<>();
+        for (int i = baseStart; i + BLOCK <= baseEnd; i += BLOCK) {
+            index.putIfAbsent(hash(base, i), i);
+        }
+
+        int literalStart = targetStart;
+        int j = targetStart;
+        int h = j + BLOCK <= targetEnd ? hash(target, j) : 0;
+        while (j + BLOCK <= targetEnd) {
+            Integer candidate = index.get(h);
+            if (candidate != null && regionEquals(base, candidate, target, j, BLOCK)) {
+                int matchBase = candidate;
+                int matchTarget = j;
+                // 앞쪽으로 넓혀 아직 쓰지 않은 literal 을 줄인다
+                while (matchBase > baseStart && matchTarget > literalStart
+                        && base[matchBase - 1] == target[matchTarget - 1]) {
+                    matchBase--;
+                    matchTarget--;
+                }
+                int end = j + BLOCK;
+                int baseCursor = candidate + BLOCK;
+                while (end < targetEnd && baseCursor < baseEnd && base[baseCursor] == target[end]) {
+                    end++;
+                    baseCursor++;
+                }
+                if (matchTarget > literalStart) {
+                    writeInsert(out, target, literalStart, matchTarget - literalStart);
+                }
+                writeCopy(out, matchBase, end - matchTarget);
+                j = end;
+                literalStart = end;
+                if (j + BLOCK <= targetEnd) {
+                    h = hash(target, j);
+                }
+                continue;
+            }
+            if (j + BLOCK < targetEnd) {
+                h = roll(h, target[j], target[j + BLOCK]);
+            }
+            j++;
+        }
+        if (literalStart < targetEnd) {
+            writeInsert(out, target, literalStart, targetEnd - literalStart);
+        }
+    }
+
+    private static int hash(byte[] data, int offset) {
+        int h = 0;
+        for (int i = 0; i < BLOCK; i++) {
+            h = h * PRIME + (data[offset + i] & 0xff);
+        }
+        return h;
+    }
+
+    private static int roll(int h, byte out, byte in) {
+        return (h - (out & 0xff) * PRIME_POW) * PRIME + (in & 0xff);
+    }
+
+    private static int pow(int base, int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= base;
+        }
+        return result;
+    }
+
+    private static boolean regionEquals(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (a[aOffset + i] != b[bOffset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeCopy(ByteArrayOutputStream out, int offset, int length) {
+        out.write(OP_COPY);
+        writeVarint(out, offset);
+        writeVarint(out, length);
+    }
+
+    private static void writeInsert(ByteArrayOutputStream out, byte[] data, int offset, int length) {
+        out.write(OP_INSERT);
+        writeVarint(out, length);
+        out.write(data, offset, length);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        while (true) {
+            if (pos[0] >= data.length || shift > 28) {
+                throw new IllegalStateException("손상된 delta 입니다.");
+            }
+            byte b = data[pos[0]++];
+            value |= (b & 0x7f) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package dev.babyeham.ehamboard.domain.revision.service;
+
+import dev.babyeham.ehamboard.domain.post.purge.PostPurgeParticipant;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+import dev.babyeham.ehamboard.domain.revision.repository.RevisionRepository;
+import dev.babyeham.ehamboard.global.outbox.DomainEventHandler;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * revisions 는 게시글/댓글에 FK 가 없으므로 대상이 지워질 때 직접 정리한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RevisionCleaner implements PostPurgeParticipant, DomainEventHandler {
+
+    private final RevisionRepository revisionRepository;
+
+    @Override
+    public void beforeCommentsPurged(List<Long> commentIds) {
+        if (!commentIds.isEmpty()) {
+            revisionRepository.deleteAllByTargets(RevisionTargetType.COMMENT, commentIds);
+        }
+    }
+
+    @Override
+    public void beforePostPurged(Long postId) {
+        revisionRepository.deleteAllByTargets(RevisionTargetType.POST, List.of(postId));
+    }
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.COMMENT_DELETED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        revisionRepository.deleteAllByTargets(RevisionTargetType.COMMENT, List.of(message.getAggregateId()));
+    }
+}
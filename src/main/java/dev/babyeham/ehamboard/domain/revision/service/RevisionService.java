@@ -0,0 +1,17 @@
+package dev.babyeham.ehamboard.domain.revision.service;
+
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionResponse;
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionSummaryResponse;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+
+import java.util.List;
+
+public interface RevisionService {
+    void recordCreated(RevisionTargetType targetType, Long targetId, Long editorId, String title, String content);
+    void recordUpdated(RevisionTargetType targetType, Long targetId, Long editorId,
+                       String previousTitle, String previousContent, String title, String content);
+    List<RevisionSummaryResponse> getPostRevisions(Long postId);
+    RevisionResponse getPostRevision(Long postId, int revisionNo);
+    List<RevisionSummaryResponse> getCommentRevisions(Long commentId);
+    RevisionResponse getCommentRevision(Long commentId, int revisionNo);
+}
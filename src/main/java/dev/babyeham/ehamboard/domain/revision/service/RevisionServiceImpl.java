@@ -0,0 +1,198 @@
+package dev.babyeham.ehamboard.domain.revision.service;
+
+import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionResponse;
+import dev.babyeham.ehamboard.domain.revision.dto.RevisionSummaryResponse;
+import dev.babyeham.ehamboard.domain.revision.entity.Revision;
+import dev.babyeham.ehamboard.domain.revision.entity.RevisionTargetType;
+import dev.babyeham.ehamboard.domain.revision.repository.RevisionHead;
+import dev.babyeham.ehamboard.domain.revision.repository.RevisionRepository;
+import dev.babyeham.ehamboard.global.exception.CommentNotFoundException;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import dev.babyeham.ehamboard.global.exception.RevisionNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 버전은 snapshotInterval 마다 전체 본문을 스냅샷으로 쓰고 그 사이는 직전 버전 대비 delta 로 쓴다.
+ * 어떤 버전이든 스냅샷 하나와 최대 snapshotInterval - 1 개의 delta 로 복원된다.
+ */
+@Service
+public class RevisionServiceImpl implements RevisionService {
+
+    private final RevisionRepository revisionRepository;
+    private final PostArchiveStore postArchiveStore;
+    private final CommentRepository commentRepository;
+    private final int snapshotInterval;
+    private final double maxDeltaRatio;
+
+    public RevisionServiceImpl(RevisionRepository revisionRepository,
+                               PostArchiveStore postArchiveStore,
+                               CommentRepository commentRepository,
+                               @Value("${revision.snapshot-interval:10}") int snapshotInterval,
+                               @Value("${revision.max-delta-ratio:0.5}") double maxDeltaRatio) {
+        this.revisionRepository = revisionRepository;
+        this.postArchiveStore = postArchiveStore;
+        this.commentRepository = commentRepository;
+        this.snapshotInterval = snapshotInterval;
+        this.maxDeltaRatio = maxDeltaRatio;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordCreated(RevisionTargetType targetType, Long targetId, Long editorId, String title, String content) {
+        revisionRepository.save(snapshot(targetType, targetId, 1, editorId, title, content));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordUpdated(RevisionTargetType targetType, Long targetId, Long editorId,
+                              String previousTitle, String previousContent, String title, String content) {
+        if (previousContent.equals(content) && Objects.equals(previousTitle, title)) {
+            return;
+        }
+        Optional<RevisionHead> head = revisionRepository.lockHead(targetType.name(), targetId);
+        int previousNo;
+        int chainStart;
+        boolean baseMatches;
+        if (head.isPresent()) {
+            previousNo = head.get().getRevisionNo();
+            chainStart = head.get().getChainStart();
+            // 이력 밖에서 본문이 바뀌었으면 delta 기준이 어긋나므로 스냅샷으로 다시 시작한다
+            baseMatches = head.get().getContentHash().equals(sha256(previousContent));
+        } else {
+            // 이력 기능 이전에 만들어진 대상은 수정 직전 본문을 첫 스냅샷으로 남긴다
+            revisionRepository.save(snapshot(targetType, targetId, 1, editorId, previousTitle, previousContent));
+            previousNo = 1;
+            chainStart = 1;
+            baseMatches = true;
+        }
+
+        int revisionNo = previousNo + 1;
+        if (!baseMatches || revisionNo - chainStart >= snapshotInterval) {
+            revisionRepository.save(snapshot(targetType, targetId, revisionNo, editorId, title, content));
+            return;
+        }
+        byte[] delta = DeltaCodec.diff(previousContent, content);
+        byte[] full = content.getBytes(StandardCharsets.UTF_8);
+        if (delta.length >= full.length * maxDeltaRatio) {
+            // 거의 다시 쓴 경우는 delta 보다 스냅샷이 작고 이후 복원도 짧아진다
+            revisionRepository.save(snapshot(targetType, targetId, revisionNo, editorId, title, content));
+            return;
+        }
+        revisionRepository.save(Revision.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .revisionNo(revisionNo)
+                .chainStart(chainStart)
+                .snapshot(false)
+                .editorId(editorId)
+                .title(title)
+                .contentLength(content.length())
+                .contentHash(sha256(content))
+                .body(delta)
+                .build());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevisionSummaryResponse> getPostRevisions(Long postId) {
+        requirePost(postId);
+        return revisionRepository.findSummaries(RevisionTargetType.POST, postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevisionResponse getPostRevision(Long postId, int revisionNo) {
+        requirePost(postId);
+        return reconstruct(RevisionTargetType.POST, postId, revisionNo);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevisionSummaryResponse> getCommentRevisions(Long commentId) {
+        requireComment(commentId);
+        return revisionRepository.findSummaries(RevisionTargetType.COMMENT, commentId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevisionResponse getCommentRevision(Long commentId, int revisionNo) {
+        requireComment(commentId);
+        return reconstruct(RevisionTargetType.COMMENT, commentId, revisionNo);
+    }
+
+    private RevisionResponse reconstruct(RevisionTargetType targetType, Long targetId, int revisionNo) {
+        int chainStart = revisionRepository.findChainStart(targetType, targetId, revisionNo)
+                .orElseThrow(() -> new RevisionNotFoundException("수정 이력을 찾을 수 없습니다."));
+        List<Revision> chain = revisionRepository.findChain(targetType, targetId, chainStart, revisionNo);
+        if (chain.isEmpty() || !chain.get(0).isSnapshot() || chain.size() != revisionNo - chainStart + 1) {
+            throw new IllegalStateException("수정 이력이 손상되었습니다: " + targetType + " " + targetId);
+        }
+
+        String content = new String(chain.get(0).getBody(), StandardCharsets.UTF_8);
+        for (Revision revision : chain.subList(1, chain.size())) {
+            content = DeltaCodec.apply(content, revision.getBody());
+        }
+        Revision target = chain.get(chain.size() - 1);
+        if (!target.getContentHash().equals(sha256(content))) {
+            throw new IllegalStateException("수정 이력 복원 결과가 일치하지 않습니다: " + targetType + " " + targetId);
+        }
+        return RevisionResponse.builder()
+                .revisionNo(target.getRevisionNo())
+                .editorId(target.getEditorId())
+                .title(target.getTitle())
+                .content(content)
+                .createdAt(target.getCreatedAt())
+                .build();
+    }
+
+    // 보관된 게시글과 댓글은 운영 테이블에 없지만 수정 이력은 그대로 남아 있으므로 보관 테이블까지 확인한다
+    private void requirePost(Long postId) {
+        if (!postArchiveStore.locate(postId).exists()) {
+            throw new PostNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+    }
+
+    private void requireComment(Long commentId) {
+        if (commentRepository.findActiveById(commentId).isEmpty() && !postArchiveStore.containsComment(commentId)) {
+            throw new CommentNotFoundException("댓글을 찾을 수 없습니다.");
+        }
+    }
+
+    private static Revision snapshot(RevisionTargetType targetType, Long targetId, int revisionNo, Long editorId,
+                                     String title, String content) {
+        return Revision.builder()
+                .targetType(targetType)
+                .targetId(targetId)
+                .revisionNo(revisionNo)
+                .chainStart(revisionNo)
+                .snapshot(true)
+                .editorId(editorId)
+                .title(title)
+                .contentLength(content.length())
+                .contentHash(sha256(content))
+                .body(content.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
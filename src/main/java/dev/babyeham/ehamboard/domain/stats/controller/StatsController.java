@@ -0,0 +1,44 @@
+package dev.babyeham.ehamboard.domain.stats.controller;
+
+import dev.babyeham.ehamboard.domain.stats.dto.BoardActivityResponse;
+import dev.babyeham.ehamboard.domain.stats.dto.UserActivityResponse;
+import dev.babyeham.ehamboard.domain.stats.service.StatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/stats/activity")
+@RequiredArgsConstructor
+public class StatsController {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final StatsService statsService;
+
+    @GetMapping
+    @Operation(summary = "게시판 일별 활동 통계 조회")
+    public ResponseEntity<List<BoardActivityResponse>> getBoardActivity(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(statsService.getBoardActivity(start, end));
+    }
+
+    @GetMapping("/users/{userId}")
+    @Operation(summary = "사용자 일별 활동 통계 조회")
+    public ResponseEntity<List<UserActivityResponse>> getUserActivity(
+            @PathVariable("userId") Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        return ResponseEntity.ok(statsService.getUserActivity(userId, start, end));
+    }
+}
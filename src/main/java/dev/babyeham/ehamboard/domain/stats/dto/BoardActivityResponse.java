@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.stats.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor
+public class BoardActivityResponse {
+    private LocalDate date;
+    private int postCount;
+    private int commentCount;
+    private long activeUsers;
+}
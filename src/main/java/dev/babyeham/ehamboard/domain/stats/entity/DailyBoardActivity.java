@@ -0,0 +1,30 @@
+package dev.babyeham.ehamboard.domain.stats.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 게시판 전체의 하루 작성 수 롤업. daily_user_activity 와 같은 트랜잭션에서 더한다.
+ */
+@Entity
+@Table(name = "daily_board_activity")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyBoardActivity {
+
+    @Id
+    private LocalDate activityDate;
+
+    @Column(nullable = false)
+    private int postCount;
+
+    @Column(nullable = false)
+    private int commentCount;
+}
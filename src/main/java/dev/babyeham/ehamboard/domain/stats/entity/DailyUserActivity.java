@@ -0,0 +1,41 @@
+package dev.babyeham.ehamboard.domain.stats.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 하루 작성 수 롤업. ActivityRollupWriter 의 배치 upsert 로만 더한다.
+ */
+@Entity
+@Table(name = "daily_user_activity")
+@IdClass(DailyUserActivity.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyUserActivity {
+
+    @Id
+    private LocalDate activityDate;
+
+    @Id
+    private Long userId;
+
+    @Column(nullable = false)
+    private int postCount;
+
+    @Column(nullable = false)
+    private int commentCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDate activityDate;
+        private Long userId;
+    }
+}
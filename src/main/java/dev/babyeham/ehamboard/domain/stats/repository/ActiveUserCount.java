@@ -0,0 +1,8 @@
+package dev.babyeham.ehamboard.domain.stats.repository;
+
+import java.time.LocalDate;
+
+public interface ActiveUserCount {
+    LocalDate getActivityDate();
+    long getCount();
+}
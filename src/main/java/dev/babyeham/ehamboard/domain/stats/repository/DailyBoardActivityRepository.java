@@ -0,0 +1,12 @@
+package dev.babyeham.ehamboard.domain.stats.repository;
+
+import dev.babyeham.ehamboard.domain.stats.entity.DailyBoardActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyBoardActivityRepository extends JpaRepository<DailyBoardActivity, LocalDate> {
+
+    List<DailyBoardActivity> findByActivityDateBetween(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.domain.stats.repository;
+
+import dev.babyeham.ehamboard.domain.stats.entity.DailyUserActivity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyUserActivityRepository extends JpaRepository<DailyUserActivity, DailyUserActivity.Key> {
+
+    List<DailyUserActivity> findByUserIdAndActivityDateBetweenOrderByActivityDate(Long userId, LocalDate from, LocalDate to);
+
+    @Query("SELECT a.activityDate AS activityDate, COUNT(a) AS count FROM DailyUserActivity a "
+            + "WHERE a.activityDate BETWEEN :from AND :to GROUP BY a.activityDate")
+    List<ActiveUserCount> countActiveUsers(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
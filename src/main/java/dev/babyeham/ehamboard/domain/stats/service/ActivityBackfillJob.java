@@ -0,0 +1,120 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 롤업을 켜기 전에 쓰인 글과 댓글을 id 순으로 훑어 일별 롤업에 더한다. 경계 id(ActivityRollupBoundary)까지만 훑고,
+ * 청크마다 롤업 upsert 와 진행 위치 기록을 한 트랜잭션으로 묶으므로 중간에 멈췄다 이어도 두 번 세지 않는다.
+ */
+@Slf4j
+@Component
+public class ActivityBackfillJob {
+
+    static final String POSTS = "posts";
+    static final String COMMENTS = "comments";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ActivityRollupBoundary boundary;
+    private final ActivityRollupWriter writer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Counter backfilledCounter;
+
+    public ActivityBackfillJob(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               JobCheckpointRepository checkpointRepository,
+                               ActivityRollupBoundary boundary,
+                               ActivityRollupWriter writer,
+                               MeterRegistry meterRegistry,
+                               @Value("${activity-rollup.backfill.enabled:true}") boolean enabled,
+                               @Value("${activity-rollup.backfill.batch-size:1000}") int batchSize,
+                               @Value("${activity-rollup.backfill.max-batches-per-run:50}") int maxBatchesPerRun,
+                               @Value("${activity-rollup.backfill.batch-pause:100ms}") Duration batchPause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.boundary = boundary;
+        this.writer = writer;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.backfilledCounter = Counter.builder("activity.rollup.backfilled.rows").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${activity-rollup.backfill.interval-ms:60000}",
+            initialDelayString = "${activity-rollup.backfill.initial-delay-ms:30000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        for (String table : List.of(POSTS, COMMENTS)) {
+            try {
+                backfill(table);
+            } catch (RuntimeException e) {
+                log.warn("활동 롤업 백필 실패: table={}", table, e);
+            }
+        }
+    }
+
+    void backfill(String table) {
+        String jobName = "activity-rollup-backfill:" + table;
+        long upperId = boundary.get(table);
+        long lastId = checkpointRepository.findLastId(jobName);
+        for (int batch = 0; batch < maxBatchesPerRun && lastId < upperId; batch++) {
+            List<Row> rows = jdbcTemplate.query(
+                    "SELECT id, user_id, created_at FROM " + table + " WHERE id > ? AND id <= ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getLong("user_id"),
+                            rs.getTimestamp("created_at").toLocalDateTime().toLocalDate()),
+                    lastId, upperId, batchSize);
+
+            ActivityRollupBuffer chunk = new ActivityRollupBuffer();
+            boolean posts = POSTS.equals(table);
+            for (Row row : rows) {
+                chunk.add(row.createdDate(), row.userId(), posts ? 1 : 0, posts ? 0 : 1);
+            }
+            // 경계 앞쪽이 지워져 비어 있으면 경계까지 건너뛴다
+            long chunkLastId = rows.size() < batchSize ? upperId : rows.get(rows.size() - 1).id();
+            transactionTemplate.executeWithoutResult(status -> {
+                writer.upsert(chunk.drainAll());
+                checkpointRepository.upsert(jobName, chunkLastId);
+            });
+            backfilledCounter.increment(rows.size());
+            lastId = chunkLastId;
+
+            if (lastId >= upperId) {
+                log.info("활동 롤업 백필 완료: table={}, lastId={}", table, lastId);
+                return;
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("활동 롤업 백필이 중단되었습니다.", e);
+        }
+    }
+
+    private record Row(long id, long userId, LocalDate createdDate) {
+    }
+}
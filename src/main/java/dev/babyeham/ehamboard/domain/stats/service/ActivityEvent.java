@@ -0,0 +1,9 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import java.time.LocalDate;
+
+/**
+ * 롤업에 더할 아웃박스 이벤트 하나. 이벤트 id 로 중복을 걸러 낸 뒤 (날짜, 사용자) 단위로 합친다.
+ */
+record ActivityEvent(long eventId, LocalDate activityDate, long userId, int posts, int comments) {
+}
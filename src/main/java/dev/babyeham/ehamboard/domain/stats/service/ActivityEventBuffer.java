@@ -0,0 +1,36 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아직 롤업에 더하지 않은 이벤트를 id 로 모아 둔다. 비우기 전에 같은 이벤트가 다시 들어오면 한 번만 남는다.
+ */
+class ActivityEventBuffer {
+
+    private final Map<Long, ActivityEvent> pending = new LinkedHashMap<>();
+
+    synchronized int add(ActivityEvent event) {
+        pending.putIfAbsent(event.eventId(), event);
+        return pending.size();
+    }
+
+    synchronized List<ActivityEvent> drainAll() {
+        List<ActivityEvent> all = new ArrayList<>(pending.values());
+        pending.clear();
+        return all;
+    }
+
+    /**
+     * 쓰기에 실패한 이벤트를 되돌린다.
+     */
+    synchronized void restore(List<ActivityEvent> events) {
+        events.forEach(event -> pending.putIfAbsent(event.eventId(), event));
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+}
@@ -0,0 +1,37 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.global.job.JobCheckpoint;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 증분 갱신과 백필이 같은 행을 두 번 세지 않도록 테이블마다 경계 id 를 하나 정해 둔다.
+ * 경계 이하의 행은 ActivityBackfillJob 이, 경계를 넘는 행은 작성 이벤트가 센다.
+ * 처음 정한 값이 job_checkpoints 에 남으므로 재시작하거나 인스턴스가 여럿이어도 경계는 바뀌지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityRollupBoundary {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobCheckpointRepository checkpointRepository;
+    private final Map<String, Long> boundaries = new ConcurrentHashMap<>();
+
+    public long get(String table) {
+        return boundaries.computeIfAbsent(table, this::load);
+    }
+
+    private long load(String table) {
+        String jobName = "activity-rollup-boundary:" + table;
+        return checkpointRepository.findById(jobName).map(JobCheckpoint::getLastId).orElseGet(() -> {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            checkpointRepository.insertIfAbsent(jobName, maxId);
+            return checkpointRepository.findLastId(jobName);
+        });
+    }
+}
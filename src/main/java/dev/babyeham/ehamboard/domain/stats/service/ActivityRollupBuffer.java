@@ -0,0 +1,42 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 아직 롤업 테이블에 더하지 않은 작성 수를 (날짜, 사용자) 단위로 합쳐 둔다.
+ */
+class ActivityRollupBuffer {
+
+    private final Map<Key, PendingActivity> pending = new HashMap<>();
+
+    synchronized int add(LocalDate activityDate, long userId, int posts, int comments) {
+        pending.computeIfAbsent(new Key(activityDate, userId), key -> new PendingActivity(activityDate, userId))
+                .add(posts, comments);
+        return pending.size();
+    }
+
+    synchronized List<PendingActivity> drainAll() {
+        List<PendingActivity> all = new ArrayList<>(pending.values());
+        pending.clear();
+        return all;
+    }
+
+    /**
+     * 쓰기에 실패한 항목을 되돌린다. 그 사이 새로 쌓인 항목이 있으면 개수를 합친다.
+     */
+    synchronized void restore(List<PendingActivity> activities) {
+        for (PendingActivity activity : activities) {
+            pending.computeIfAbsent(new Key(activity.getActivityDate(), activity.getUserId()),
+                            key -> new PendingActivity(activity.getActivityDate(), activity.getUserId()))
+                    .add(activity.getPostCount(), activity.getCommentCount());
+        }
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    private record Key(LocalDate activityDate, long userId) {
+    }
+}
@@ -0,0 +1,89 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.domain.comment.event.CommentEvent;
+import dev.babyeham.ehamboard.domain.post.event.PostEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventHandler;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxReplayer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 작성 이벤트를 일별 롤업에 더한다. 삭제는 빼지 않는다. 롤업은 그날 작성된 수를 센다.
+ * 이벤트는 ActivityRollupWriter 에 모였다가 배치로 쓰이고, 쓰기 전에 인스턴스가 죽어 잃은 이벤트는
+ * replayUnflushed 가 아웃박스에서 다시 읽어 쓴다. 이벤트 id 로 중복을 막으므로 이벤트마다 정확히 한 번 더해진다.
+ */
+@Slf4j
+@Component
+public class ActivityRollupHandler implements DomainEventHandler {
+
+    static final String REPLAY_NAME = "activity-rollup-replay";
+
+    private final ActivityRollupWriter writer;
+    private final ActivityRollupBoundary boundary;
+    private final OutboxReplayer replayer;
+    private final Duration replayDelay;
+    private final int replayChunkSize;
+
+    public ActivityRollupHandler(ActivityRollupWriter writer,
+                                 ActivityRollupBoundary boundary,
+                                 OutboxReplayer replayer,
+                                 @Value("${activity-rollup.replay-delay:1m}") Duration replayDelay,
+                                 @Value("${activity-rollup.replay-chunk-size:500}") int replayChunkSize) {
+        this.writer = writer;
+        this.boundary = boundary;
+        this.replayer = replayer;
+        this.replayDelay = replayDelay;
+        this.replayChunkSize = replayChunkSize;
+    }
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.POST_CREATED, DomainEventType.COMMENT_CREATED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        toActivity(message).ifPresent(event -> writer.enqueue(event.eventId(), event.activityDate(),
+                event.userId(), event.posts(), event.comments()));
+    }
+
+    @Scheduled(fixedDelayString = "${activity-rollup.replay-interval-ms:60000}",
+            initialDelayString = "${activity-rollup.replay-interval-ms:60000}")
+    public void replayUnflushed() {
+        try {
+            replayer.replay(REPLAY_NAME, eventTypes(), replayDelay, replayChunkSize, messages -> {
+                List<ActivityEvent> events = new ArrayList<>(messages.size());
+                messages.forEach(message -> toActivity(message).ifPresent(events::add));
+                writer.write(events);
+            });
+        } catch (RuntimeException e) {
+            log.warn("롤업 재생 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private Optional<ActivityEvent> toActivity(DomainEventMessage message) {
+        // 경계 이하의 행은 백필이 센다
+        if (message.getEventType() == DomainEventType.POST_CREATED) {
+            if (message.getAggregateId() <= boundary.get(ActivityBackfillJob.POSTS)) {
+                return Optional.empty();
+            }
+            return Optional.of(new ActivityEvent(message.getEventId(), message.getOccurredAt().toLocalDate(),
+                    message.payloadAs(PostEvent.class).getUserId(), 1, 0));
+        }
+        if (message.getAggregateId() <= boundary.get(ActivityBackfillJob.COMMENTS)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ActivityEvent(message.getEventId(), message.getOccurredAt().toLocalDate(),
+                message.payloadAs(CommentEvent.class).getUserId(), 0, 1));
+    }
+}
@@ -0,0 +1,159 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.global.outbox.AppliedEventLog;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일별 롤업 테이블에 작성 수를 더한다.
+ * 사용자별 행과 게시판 전체 행을 한 트랜잭션에서 더하므로 두 표의 합계가 어긋나지 않는다.
+ * <p>
+ * 이벤트는 메모리에 모았다가 비우는 주기마다 한 트랜잭션으로 쓴다. 그 트랜잭션에서 배치의 이벤트 id 를
+ * activity_rollup_events 에 기록하고, 처음 기록된 이벤트의 증분만 (날짜, 사용자) 단위로 합쳐 더한다.
+ * 아웃박스가 같은 이벤트를 다시 전달하거나 ActivityRollupHandler 가 쓰기 전에 잃은 이벤트를 재생해도 두 번 더하지 않는다.
+ */
+@Slf4j
+@Component
+public class ActivityRollupWriter {
+
+    private static final String USER_UPSERT_SQL = """
+            INSERT INTO daily_user_activity (activity_date, user_id, post_count, comment_count)
+            VALUES (?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                post_count = post_count + VALUES(post_count),
+                comment_count = comment_count + VALUES(comment_count)
+            """;
+    private static final String BOARD_UPSERT_SQL = """
+            INSERT INTO daily_board_activity (activity_date, post_count, comment_count)
+            VALUES (?, ?, ?)
+            ON DUPLICATE KEY UPDATE
+                post_count = post_count + VALUES(post_count),
+                comment_count = comment_count + VALUES(comment_count)
+            """;
+    private static final Comparator<PendingActivity> LOCK_ORDER =
+            Comparator.comparing(PendingActivity::getActivityDate).thenComparingLong(PendingActivity::getUserId);
+
+    private final ActivityEventBuffer buffer = new ActivityEventBuffer();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AppliedEventLog appliedEvents;
+    private final int maxPending;
+    private final int batchSize;
+    private final Duration appliedEventRetention;
+    private final int cleanupChunkSize;
+
+    public ActivityRollupWriter(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                @Value("${activity-rollup.max-pending:50000}") int maxPending,
+                                @Value("${activity-rollup.batch-size:500}") int batchSize,
+                                @Value("${activity-rollup.applied-event-retention:7d}") Duration appliedEventRetention,
+                                @Value("${activity-rollup.cleanup-chunk-size:1000}") int cleanupChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.appliedEvents = new AppliedEventLog(jdbcTemplate, "activity_rollup_events", batchSize);
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.appliedEventRetention = appliedEventRetention;
+        this.cleanupChunkSize = cleanupChunkSize;
+    }
+
+    public void enqueue(Long eventId, LocalDate activityDate, Long userId, int posts, int comments) {
+        int size = buffer.add(new ActivityEvent(eventId, activityDate, userId, posts, comments));
+        if (size >= maxPending) {
+            // 메모리 상한에 닿으면 주기를 기다리지 않고 호출한 스레드에서 바로 비운다
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${activity-rollup.flush-interval-ms:5000}")
+    public void flush() {
+        List<ActivityEvent> events = buffer.drainAll();
+        try {
+            write(events);
+        } catch (RuntimeException e) {
+            log.warn("롤업 이벤트 {}건 저장 실패, 다음 주기에 다시 시도합니다.", events.size(), e);
+            buffer.restore(events);
+        }
+    }
+
+    @PreDestroy
+    public void flushAll() {
+        flush();
+    }
+
+    /**
+     * 이벤트 묶음을 한 트랜잭션으로 더한다. 이미 더한 이벤트는 건너뛴다.
+     * 실패하면 예외를 그대로 던진다. 재생처럼 실패 시 진행 위치를 옮기지 않아야 하는 호출자가 쓴다.
+     */
+    void write(List<ActivityEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> fresh = appliedEvents.record(events.stream().map(ActivityEvent::eventId).toList());
+            ActivityRollupBuffer coalesced = new ActivityRollupBuffer();
+            for (ActivityEvent event : events) {
+                if (fresh.contains(event.eventId())) {
+                    coalesced.add(event.activityDate(), event.userId(), event.posts(), event.comments());
+                }
+            }
+            if (coalesced.size() > 0) {
+                upsert(coalesced.drainAll());
+            }
+        });
+    }
+
+    /**
+     * 아웃박스에서 지워진 지 오래된 이벤트는 다시 전달되거나 재생될 수 없으므로 기록을 지운다.
+     * 보존 기간은 아웃박스 보존 기간(outbox.cleanup.retention)보다 길어야 한다.
+     */
+    @Scheduled(fixedDelayString = "${activity-rollup.cleanup-interval-ms:600000}")
+    public void cleanupAppliedEvents() {
+        LocalDateTime before = LocalDateTime.now().minus(appliedEventRetention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = appliedEvents.deleteAppliedBefore(before, cleanupChunkSize);
+            total += deleted;
+        } while (deleted == cleanupChunkSize);
+        if (total > 0) {
+            log.info("롤업 적용 기록 {}건 삭제", total);
+        }
+    }
+
+    /**
+     * 호출한 쪽의 트랜잭션 안에서 더한다. 백필은 진행 위치 기록과 같은 트랜잭션으로 묶어 부른다.
+     */
+    void upsert(Collection<PendingActivity> activities) {
+        // 인스턴스끼리 같은 행을 엇갈린 순서로 잠가 교착되지 않도록 키 순서로 쓴다
+        List<PendingActivity> sorted = activities.stream().sorted(LOCK_ORDER).toList();
+        jdbcTemplate.batchUpdate(USER_UPSERT_SQL, sorted, batchSize, (ps, activity) -> {
+            ps.setObject(1, activity.getActivityDate());
+            ps.setLong(2, activity.getUserId());
+            ps.setInt(3, activity.getPostCount());
+            ps.setInt(4, activity.getCommentCount());
+        });
+
+        Map<LocalDate, int[]> byDate = new TreeMap<>();
+        for (PendingActivity activity : sorted) {
+            int[] counts = byDate.computeIfAbsent(activity.getActivityDate(), date -> new int[2]);
+            counts[0] += activity.getPostCount();
+            counts[1] += activity.getCommentCount();
+        }
+        jdbcTemplate.batchUpdate(BOARD_UPSERT_SQL, byDate.entrySet(), batchSize, (ps, entry) -> {
+            ps.setObject(1, entry.getKey());
+            ps.setInt(2, entry.getValue()[0]);
+            ps.setInt(3, entry.getValue()[1]);
+        });
+    }
+}
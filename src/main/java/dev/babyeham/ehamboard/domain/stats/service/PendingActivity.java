@@ -0,0 +1,24 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+class PendingActivity {
+
+    private final LocalDate activityDate;
+    private final long userId;
+    private int postCount;
+    private int commentCount;
+
+    PendingActivity(LocalDate activityDate, long userId) {
+        this.activityDate = activityDate;
+        this.userId = userId;
+    }
+
+    void add(int posts, int comments) {
+        this.postCount += posts;
+        this.commentCount += comments;
+    }
+}
@@ -0,0 +1,12 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.domain.stats.dto.BoardActivityResponse;
+import dev.babyeham.ehamboard.domain.stats.dto.UserActivityResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface StatsService {
+    List<BoardActivityResponse> getBoardActivity(LocalDate from, LocalDate to);
+    List<UserActivityResponse> getUserActivity(Long userId, LocalDate from, LocalDate to);
+}
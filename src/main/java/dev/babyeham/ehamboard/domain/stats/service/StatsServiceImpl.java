@@ -0,0 +1,89 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import dev.babyeham.ehamboard.domain.stats.dto.BoardActivityResponse;
+import dev.babyeham.ehamboard.domain.stats.dto.UserActivityResponse;
+import dev.babyeham.ehamboard.domain.stats.entity.DailyBoardActivity;
+import dev.babyeham.ehamboard.domain.stats.entity.DailyUserActivity;
+import dev.babyeham.ehamboard.domain.stats.repository.ActiveUserCount;
+import dev.babyeham.ehamboard.domain.stats.repository.DailyBoardActivityRepository;
+import dev.babyeham.ehamboard.domain.stats.repository.DailyUserActivityRepository;
+import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.exception.InvalidStatsRangeException;
+import dev.babyeham.ehamboard.global.exception.UserNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 롤업 테이블만 읽는다. 활동이 없던 날은 0 으로 채워 기간의 모든 날짜를 돌려준다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatsServiceImpl implements StatsService {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final DailyBoardActivityRepository boardActivityRepository;
+    private final DailyUserActivityRepository userActivityRepository;
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BoardActivityResponse> getBoardActivity(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        Map<LocalDate, DailyBoardActivity> activities = boardActivityRepository.findByActivityDateBetween(from, to)
+                .stream()
+                .collect(Collectors.toMap(DailyBoardActivity::getActivityDate, Function.identity()));
+        Map<LocalDate, Long> activeUsers = userActivityRepository.countActiveUsers(from, to)
+                .stream()
+                .collect(Collectors.toMap(ActiveUserCount::getActivityDate, ActiveUserCount::getCount));
+
+        return from.datesUntil(to.plusDays(1))
+                .map(date -> {
+                    DailyBoardActivity activity = activities.get(date);
+                    long active = activeUsers.getOrDefault(date, 0L);
+                    return activity == null
+                            ? new BoardActivityResponse(date, 0, 0, active)
+                            : new BoardActivityResponse(date, activity.getPostCount(), activity.getCommentCount(), active);
+                })
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserActivityResponse> getUserActivity(Long userId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+        Map<LocalDate, DailyUserActivity> activities = userActivityRepository
+                .findByUserIdAndActivityDateBetweenOrderByActivityDate(userId, from, to)
+                .stream()
+                .collect(Collectors.toMap(DailyUserActivity::getActivityDate, Function.identity()));
+
+        return from.datesUntil(to.plusDays(1))
+                .map(date -> {
+                    DailyUserActivity activity = activities.get(date);
+                    return activity == null
+                            ? new UserActivityResponse(date, 0, 0)
+                            : new UserActivityResponse(date, activity.getPostCount(), activity.getCommentCount());
+                })
+                .collect(Collectors.toList());
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new InvalidStatsRangeException("시작일이 종료일보다 늦을 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new InvalidStatsRangeException("통계는 최대 " + MAX_RANGE_DAYS + "일까지 조회할 수 있습니다.");
+        }
+    }
+}
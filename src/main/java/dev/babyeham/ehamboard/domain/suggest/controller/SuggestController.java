@@ -0,0 +1,27 @@
+package dev.babyeham.ehamboard.domain.suggest.controller;
+
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionResponse;
+import dev.babyeham.ehamboard.domain.suggest.service.SuggestService;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SuggestController {
+
+    private final SuggestService suggestService;
+
+    @GetMapping("/posts/suggest")
+    @Operation(summary = "검색어 자동완성")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(suggestService.suggest(q, limit));
+    }
+}
@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.suggest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SuggestionResponse {
+    private SuggestionType type;
+    private String text;
+    // TITLE 일 때만 내려간다
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long postId;
+}
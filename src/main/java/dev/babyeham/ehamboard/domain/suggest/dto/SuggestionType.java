@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.suggest.dto;
+
+public enum SuggestionType {
+    TITLE,
+    TERM
+}
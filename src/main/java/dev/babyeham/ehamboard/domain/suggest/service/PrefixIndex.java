@@ -0,0 +1,282 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 키 접두사로 가중치 상위 K 개를 찾는 radix trie.
+ * <p>
+ * 한 갈래로 이어지는 노드는 간선 문자열 하나로 합쳐 노드 수를 키 수 수준으로 유지하고, 노드마다 그 아래 항목 중
+ * 상위 K 개를 미리 들고 있어 조회는 접두사 길이만큼 내려가는 것으로 끝난다. 갱신은 키 경로의 노드만 고치며,
+ * 가중치가 줄거나 항목이 빠진 노드만 자식들의 상위 K 개를 합쳐 다시 계산한다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+public class PrefixIndex<T> {
+
+    public record Entry<T>(String key, T value, long weight) {
+    }
+
+    private static final Comparator<Entry<?>> RANK_ORDER =
+            Comparator.<Entry<?>>comparingLong(Entry::weight).reversed().thenComparing(Entry::key);
+
+    private final int topK;
+    private final Node<T> root = new Node<>("");
+    private int size;
+
+    public PrefixIndex(int topK) {
+        this.topK = topK;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<Entry<T>> top(String prefix, int limit) {
+        Node<T> node = root;
+        int i = 0;
+        while (i < prefix.length()) {
+            Node<T> child = node.child(prefix.charAt(i));
+            if (child == null) {
+                return List.of();
+            }
+            int n = Math.min(child.label.length(), prefix.length() - i);
+            if (!child.label.regionMatches(0, prefix, i, n)) {
+                return List.of();
+            }
+            i += n;
+            node = child;
+        }
+        int count = Math.min(Math.max(limit, 0), node.top.length);
+        return List.of(Arrays.copyOf(node.top, count));
+    }
+
+    public Entry<T> get(String key) {
+        List<Node<T>> path = findPath(key);
+        return path == null ? null : path.get(path.size() - 1).entry;
+    }
+
+    public void put(String key, T value, long weight) {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("빈 키는 색인할 수 없습니다.");
+        }
+        Entry<T> entry = new Entry<>(key, value, weight);
+        List<Node<T>> path = descendCreating(key);
+        Node<T> leaf = path.get(path.size() - 1);
+        Entry<T> old = leaf.entry;
+        leaf.entry = entry;
+        if (old == null) {
+            size++;
+        }
+
+        // 아래에서 위로 고쳐야 다시 계산하는 노드가 이미 고쳐진 자식을 본다
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            int index = old != null ? node.indexOf(old) : -1;
+            if (index < 0) {
+                node.offer(entry, topK);
+            } else if (weight >= old.weight()) {
+                node.top[index] = entry;
+                node.moveUp(index);
+            } else {
+                node.top = collectTop(node);
+            }
+        }
+    }
+
+    public boolean remove(String key) {
+        List<Node<T>> path = findPath(key);
+        if (path == null) {
+            return false;
+        }
+        Node<T> leaf = path.get(path.size() - 1);
+        Entry<T> old = leaf.entry;
+        if (old == null) {
+            return false;
+        }
+        leaf.entry = null;
+        size--;
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node<T> node = path.get(i);
+            if (node.indexOf(old) >= 0) {
+                node.top = collectTop(node);
+            }
+        }
+        compact(path);
+        return true;
+    }
+
+    private List<Node<T>> findPath(String key) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node<T> child = node.child(key.charAt(i));
+            if (child == null || !key.startsWith(child.label, i)) {
+                return null;
+            }
+            i += child.label.length();
+            node = child;
+            path.add(node);
+        }
+        return path;
+    }
+
+    private List<Node<T>> descendCreating(String key) {
+        List<Node<T>> path = new ArrayList<>();
+        Node<T> node = root;
+        path.add(node);
+        int i = 0;
+        while (i < key.length()) {
+            Node<T> child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node<>(key.substring(i));
+                node.addChild(child);
+                path.add(child);
+                return path;
+            }
+            int common = commonPrefixLength(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분을 새 노드로 떼어 낸다
+                Node<T> middle = new Node<>(child.label.substring(0, common));
+                child.label = child.label.substring(common);
+                middle.addChild(child);
+                middle.top = child.top.clone();
+                node.replaceChild(middle);
+                child = middle;
+            }
+            path.add(child);
+            node = child;
+            i += common;
+        }
+        return path;
+    }
+
+    /**
+     * 항목이 빠져 비거나 자식 하나만 남은 노드를 정리해 radix 형태를 유지한다.
+     */
+    private void compact(List<Node<T>> path) {
+        for (int i = path.size() - 1; i >= 1; i--) {
+            Node<T> node = path.get(i);
+            Node<T> parent = path.get(i - 1);
+            if (node.entry != null) {
+                continue;
+            }
+            if (node.children.length == 0) {
+                parent.removeChild(node);
+            } else if (node.children.length == 1) {
+                Node<T> child = node.children[0];
+                child.label = node.label + child.label;
+                parent.replaceChild(child);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<T>[] collectTop(Node<T> node) {
+        List<Entry<T>> candidates = new ArrayList<>();
+        if (node.entry != null) {
+            candidates.add(node.entry);
+        }
+        for (Node<T> child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANK_ORDER);
+        return candidates.subList(0, Math.min(topK, candidates.size())).toArray(new Entry[0]);
+    }
+
+    private static int commonPrefixLength(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node<T> {
+
+        @SuppressWarnings("rawtypes")
+        private static final Node[] NO_CHILDREN = new Node[0];
+        @SuppressWarnings("rawtypes")
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        private String label;
+        // 자식은 간선 첫 글자 순으로 정렬해 두고 이진 탐색한다
+        private char[] firstChars = new char[0];
+        private Node<T>[] children;
+        private Entry<T> entry;
+        private Entry<T>[] top;
+
+        @SuppressWarnings("unchecked")
+        Node(String label) {
+            this.label = label;
+            this.children = NO_CHILDREN;
+            this.top = NO_ENTRIES;
+        }
+
+        Node<T> child(char c) {
+            int index = Arrays.binarySearch(firstChars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node<T> child) {
+            int index = -Arrays.binarySearch(firstChars, child.label.charAt(0)) - 1;
+            char[] chars = new char[firstChars.length + 1];
+            System.arraycopy(firstChars, 0, chars, 0, index);
+            System.arraycopy(firstChars, index, chars, index + 1, firstChars.length - index);
+            chars[index] = child.label.charAt(0);
+            Node<T>[] nodes = Arrays.copyOf(children, children.length + 1);
+            System.arraycopy(children, index, nodes, index + 1, children.length - index);
+            nodes[index] = child;
+            firstChars = chars;
+            children = nodes;
+        }
+
+        void replaceChild(Node<T> child) {
+            children[Arrays.binarySearch(firstChars, child.label.charAt(0))] = child;
+        }
+
+        void removeChild(Node<T> child) {
+            int index = Arrays.binarySearch(firstChars, child.label.charAt(0));
+            char[] chars = new char[firstChars.length - 1];
+            System.arraycopy(firstChars, 0, chars, 0, index);
+            System.arraycopy(firstChars, index + 1, chars, index, chars.length - index);
+            Node<T>[] nodes = Arrays.copyOf(children, children.length - 1);
+            System.arraycopy(children, index + 1, nodes, index, nodes.length - index);
+            firstChars = chars;
+            children = nodes;
+        }
+
+        int indexOf(Entry<T> entry) {
+            for (int i = 0; i < top.length; i++) {
+                if (top[i] == entry) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void offer(Entry<T> entry, int topK) {
+            if (top.length == topK && RANK_ORDER.compare(entry, top[top.length - 1]) >= 0) {
+                return;
+            }
+            Entry<T>[] next = Arrays.copyOf(top, Math.min(top.length + 1, topK));
+            next[next.length - 1] = entry;
+            top = next;
+            moveUp(next.length - 1);
+        }
+
+        // 자리만 바뀐 항목을 앞쪽으로 옮겨 정렬 상태를 유지한다
+        void moveUp(int index) {
+            Entry<T> entry = top[index];
+            while (index > 0 && RANK_ORDER.compare(entry, top[index - 1]) < 0) {
+                top[index] = top[index - 1];
+                index--;
+            }
+            top[index] = entry;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import dev.babyeham.ehamboard.domain.comment.event.CommentEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.ProjectionEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class SuggestEventHandler implements ProjectionEventHandler {
+
+    private final SuggestService suggestService;
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.POST_CREATED, DomainEventType.POST_UPDATED,
+                DomainEventType.POST_DELETED, DomainEventType.COMMENT_CREATED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        if (message.getEventType() == DomainEventType.POST_DELETED) {
+            suggestService.removePost(message.getAggregateId());
+            return;
+        }
+        if (message.getEventType() == DomainEventType.COMMENT_CREATED) {
+            suggestService.recordComment(message.payloadAs(CommentEvent.class).getPostId());
+            return;
+        }
+        suggestService.refreshPost(message.getAggregateId());
+    }
+}
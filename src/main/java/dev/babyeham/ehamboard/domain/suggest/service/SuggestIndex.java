@@ -0,0 +1,142 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionResponse;
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionType;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 게시글 제목과 제목에 나온 단어를 한 PrefixIndex 에 담는다.
+ * 제목은 (1 + 댓글 수), 단어는 그 단어가 들어간 제목 수를 가중치로 쓴다.
+ * 같은 제목이 여러 개여도 키가 겹치지 않도록 제목 키 끝에 구분 문자와 게시글 id 를 붙인다.
+ * 제목 수가 maxTitles 를 넘으면 id 가 가장 작은(오래된) 제목부터 빼므로 메모리는 제목 수에 비례해 묶인다.
+ * 스레드 안전하지 않으므로 SuggestService 가 잠근다.
+ */
+class SuggestIndex {
+
+    private static final char TITLE_MARK = '\u0000';
+    private static final char TERM_MARK = '\u0001';
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern CONTROL = Pattern.compile("\\p{Cntrl}");
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final PrefixIndex<SuggestionResponse> index;
+    private final int maxTitles;
+    private final int maxTermsPerTitle;
+    private final int minTermLength;
+    private final TreeMap<Long, IndexedTitle> titles = new TreeMap<>();
+    private final Map<String, Integer> termCounts = new HashMap<>();
+
+    SuggestIndex(int topK, int maxTitles, int maxTermsPerTitle, int minTermLength) {
+        this.index = new PrefixIndex<>(topK);
+        this.maxTitles = maxTitles;
+        this.maxTermsPerTitle = maxTermsPerTitle;
+        this.minTermLength = minTermLength;
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    int titleCount() {
+        return titles.size();
+    }
+
+    List<SuggestionResponse> suggest(String query, int limit) {
+        String prefix = normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        List<PrefixIndex.Entry<SuggestionResponse>> top = index.top(prefix, limit);
+        List<SuggestionResponse> result = new ArrayList<>(top.size());
+        for (PrefixIndex.Entry<SuggestionResponse> entry : top) {
+            result.add(entry.value());
+        }
+        return result;
+    }
+
+    /**
+     * 제목을 넣거나 바꾼다. 이미 색인된 게시글이면 가중치는 유지한다.
+     */
+    void putTitle(long postId, String title, long weight) {
+        IndexedTitle previous = titles.get(postId);
+        if (previous != null) {
+            if (previous.title().equals(title)) {
+                return;
+            }
+            weight = previous.weight();
+            removeTitle(postId);
+        }
+        String normalized = normalize(title);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        if (titles.size() >= maxTitles) {
+            if (postId < titles.firstKey()) {
+                return;
+            }
+            removeTitle(titles.firstKey());
+        }
+
+        String key = normalized + TITLE_MARK + postId;
+        List<String> terms = terms(normalized);
+        titles.put(postId, new IndexedTitle(key, title, weight, terms));
+        index.put(key, new SuggestionResponse(SuggestionType.TITLE, title, postId), weight);
+        for (String term : terms) {
+            int count = termCounts.merge(term, 1, Integer::sum);
+            index.put(term + TERM_MARK, new SuggestionResponse(SuggestionType.TERM, term, null), count);
+        }
+    }
+
+    void addWeight(long postId, long delta) {
+        IndexedTitle indexed = titles.get(postId);
+        if (indexed == null) {
+            return;
+        }
+        IndexedTitle updated = new IndexedTitle(indexed.key(), indexed.title(), indexed.weight() + delta, indexed.terms());
+        titles.put(postId, updated);
+        index.put(updated.key(), index.get(updated.key()).value(), updated.weight());
+    }
+
+    void removeTitle(long postId) {
+        IndexedTitle removed = titles.remove(postId);
+        if (removed == null) {
+            return;
+        }
+        index.remove(removed.key());
+        for (String term : removed.terms()) {
+            String key = term + TERM_MARK;
+            Integer count = termCounts.merge(term, -1, Integer::sum);
+            if (count <= 0) {
+                termCounts.remove(term);
+                index.remove(key);
+            } else {
+                index.put(key, index.get(key).value(), count);
+            }
+        }
+    }
+
+    static String normalize(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        normalized = CONTROL.matcher(normalized).replaceAll("");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+    }
+
+    private List<String> terms(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : TERM_SEPARATOR.split(normalized)) {
+            if (term.length() >= minTermLength) {
+                terms.add(term);
+                if (terms.size() == maxTermsPerTitle) {
+                    break;
+                }
+            }
+        }
+        return List.copyOf(terms);
+    }
+
+    private record IndexedTitle(String key, String title, long weight, List<String> terms) {
+    }
+}
@@ -0,0 +1,194 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.comment.repository.PostCommentCount;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.post.repository.PostTitle;
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionResponse;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * 검색창 자동완성. 기동 시 최근 게시글 제목으로 색인을 만들고, 이후에는 게시글/댓글 이벤트로 고친다.
+ * 조회는 읽기 락 아래에서 접두사 길이만큼 트라이를 내려가는 것이 전부라 DB 를 거치지 않는다.
+ */
+@Slf4j
+@Service
+public class SuggestService {
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer lookupTimer;
+    private final int topK;
+    private final int maxTitles;
+    private final int maxTermsPerTitle;
+    private final int minTermLength;
+    private final int rebuildBatchSize;
+
+    // 아래 두 필드는 lock 으로 보호한다
+    private SuggestIndex index;
+    // 재구성 중에 바뀐 게시글. 새 색인으로 바꾼 뒤 DB 에서 다시 읽어 반영한다
+    private Set<Long> touchedDuringRebuild;
+
+    public SuggestService(PostRepository postRepository,
+                          CommentRepository commentRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${suggest.top-k:10}") int topK,
+                          @Value("${suggest.max-titles:100000}") int maxTitles,
+                          @Value("${suggest.max-terms-per-title:8}") int maxTermsPerTitle,
+                          @Value("${suggest.min-term-length:2}") int minTermLength,
+                          @Value("${suggest.rebuild-batch-size:1000}") int rebuildBatchSize) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.topK = topK;
+        this.maxTitles = maxTitles;
+        this.maxTermsPerTitle = maxTermsPerTitle;
+        this.minTermLength = minTermLength;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.index = newIndex();
+        this.lookupTimer = Timer.builder("suggest.lookup").register(meterRegistry);
+        Gauge.builder("suggest.index.entries", this, SuggestService::size).register(meterRegistry);
+    }
+
+    public List<SuggestionResponse> suggest(String query, int limit) {
+        return lookupTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return index.suggest(query, Math.min(Math.max(limit, 0), topK));
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    public void refreshPost(Long postId) {
+        // 제목은 락 밖에서 읽는다. 그 사이 지워졌다면 삭제 이벤트가 뒤따라 온다
+        String title = postRepository.findTitleById(postId).orElse(null);
+        lock.writeLock().lock();
+        try {
+            markTouched(postId);
+            if (title == null) {
+                index.removeTitle(postId);
+            } else {
+                index.putTitle(postId, title, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePost(Long postId) {
+        lock.writeLock().lock();
+        try {
+            markTouched(postId);
+            index.removeTitle(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void recordComment(Long postId) {
+        lock.writeLock().lock();
+        try {
+            index.addWeight(postId, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 제목이 많으면 수 초가 걸리므로 readiness 를 늦추지 않도록 별도 스레드에서 만든다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread thread = new Thread(this::rebuild, "suggest-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 최근 게시글부터 id 역순으로 maxTitles 개까지 읽어 새 색인을 만들고 한 번에 바꾼다.
+     * 만드는 동안에는 기존 색인으로 응답한다.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            touchedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SuggestIndex rebuilt = newIndex();
+        long beforeId = Long.MAX_VALUE;
+        try {
+            while (rebuilt.titleCount() < maxTitles) {
+                List<PostTitle> batch = postRepository.findTitlesBefore(beforeId,
+                        Math.min(rebuildBatchSize, maxTitles - rebuilt.titleCount()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                Map<Long, Long> commentCounts = commentRepository.countByPostIdIn(
+                                batch.stream().map(PostTitle::getId).toList()).stream()
+                        .collect(Collectors.toMap(PostCommentCount::getPostId, PostCommentCount::getCount));
+                for (PostTitle post : batch) {
+                    rebuilt.putTitle(post.getId(), post.getTitle(), 1 + commentCounts.getOrDefault(post.getId(), 0L));
+                }
+                beforeId = batch.get(batch.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            log.warn("자동완성 색인 재구성 실패, 기존 색인을 유지합니다", e);
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        Set<Long> touched;
+        lock.writeLock().lock();
+        try {
+            index = rebuilt;
+            touched = touchedDuringRebuild;
+            touchedDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        touched.forEach(this::refreshPost);
+        log.info("자동완성 색인 재구성 완료: 제목 {}건, 항목 {}건", rebuilt.titleCount(), size());
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void markTouched(Long postId) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(postId);
+        }
+    }
+
+    private SuggestIndex newIndex() {
+        return new SuggestIndex(topK, maxTitles, maxTermsPerTitle, minTermLength);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.babyeham.ehamboard.domain.tag.controller;
+
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.dto.TaggedPostsResponse;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+    private final ReactionService reactionService;
+    private final AttachmentService attachmentService;
+
+    @GetMapping("/posts/tagged")
+    @Operation(summary = "태그로 게시글 필터링", description = "tags=a,b&mode=AND|OR, 다음 페이지는 nextCursor 를 cursor 로 넘긴다")
+    public ResponseEntity<TaggedPostsResponse> getTaggedPosts(
+            @RequestParam List<String> tags,
+            @RequestParam(defaultValue = "AND") TagMatchMode mode,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal User user) {
+        TaggedPostsResponse response = tagService.getTaggedPosts(tags, mode, cursor, size);
+        reactionService.applyToPosts(response.getPosts(), user.getId());
+        attachmentService.applyToPosts(response.getPosts());
+        return ResponseEntity.ok(response);
+    }
+}
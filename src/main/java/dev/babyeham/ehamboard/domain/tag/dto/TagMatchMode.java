@@ -0,0 +1,8 @@
+package dev.babyeham.ehamboard.domain.tag.dto;
+
+public enum TagMatchMode {
+    // 모든 태그가 붙은 글
+    AND,
+    // 태그 중 하나라도 붙은 글
+    OR
+}
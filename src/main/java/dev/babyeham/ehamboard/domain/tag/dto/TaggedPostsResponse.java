@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.tag.dto;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TaggedPostsResponse {
+    private List<PostResponse> posts;
+    private long totalCount;
+    private Long nextCursor;
+}
@@ -0,0 +1,39 @@
+package dev.babyeham.ehamboard.domain.tag.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Entity
+@Table(name = "post_tags")
+@IdClass(PostTag.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostTag {
+
+    @Id
+    private Long postId;
+
+    @Id
+    private Long tagId;
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long postId;
+        private Long tagId;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && postId.equals(other.postId) && tagId.equals(other.tagId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * postId.hashCode() + tagId.hashCode();
+        }
+    }
+}
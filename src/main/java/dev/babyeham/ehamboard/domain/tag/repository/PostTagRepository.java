@@ -0,0 +1,43 @@
+package dev.babyeham.ehamboard.domain.tag.repository;
+
+import dev.babyeham.ehamboard.domain.tag.entity.PostTag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PostTagRepository extends JpaRepository<PostTag, PostTag.Key> {
+
+    @Query("SELECT pt.tagId FROM PostTag pt WHERE pt.postId = :postId")
+    List<Long> findTagIdsByPostId(@Param("postId") Long postId);
+
+    @Query(value = "SELECT pt.post_id AS postId, t.name AS name FROM post_tags pt JOIN tags t ON t.id = pt.tag_id "
+            + "WHERE pt.post_id IN (:postIds) ORDER BY t.name", nativeQuery = true)
+    List<PostTagName> findNamesByPostIdIn(@Param("postIds") Collection<Long> postIds);
+
+    /**
+     * 비트맵 색인 재구성용. (post_id, tag_id) 기본키 순서로 이어 읽는다.
+     * 보관된 게시글은 posts 에 없지만 태그가 남아 있으므로(V17) archived_posts 에 있는 것도 읽는다.
+     */
+    @Query(value = "SELECT pt.post_id AS postId, pt.tag_id AS tagId FROM post_tags pt "
+            + "WHERE (pt.post_id > :postId OR (pt.post_id = :postId AND pt.tag_id > :tagId)) "
+            + "AND (EXISTS (SELECT 1 FROM posts p WHERE p.id = pt.post_id AND p.deleted_at IS NULL) "
+            + "OR EXISTS (SELECT 1 FROM archived_posts a WHERE a.id = pt.post_id)) "
+            + "ORDER BY pt.post_id, pt.tag_id LIMIT :limit", nativeQuery = true)
+    List<PostTagRow> findRowsAfter(@Param("postId") long postId, @Param("tagId") long tagId, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_tags (post_id, tag_id) VALUES (:postId, :tagId)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("tagId") Long tagId);
+
+    @Modifying
+    @Query("DELETE FROM PostTag pt WHERE pt.postId = :postId AND pt.tagId IN :tagIds")
+    int deleteByPostIdAndTagIdIn(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+
+    @Modifying
+    @Query("DELETE FROM PostTag pt WHERE pt.postId = :postId")
+    int deleteAllByPostId(@Param("postId") Long postId);
+}
@@ -0,0 +1,6 @@
+package dev.babyeham.ehamboard.domain.tag.repository;
+
+public interface PostTagRow {
+    Long getPostId();
+    Long getTagId();
+}
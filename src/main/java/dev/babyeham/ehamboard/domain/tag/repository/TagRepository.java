@@ -0,0 +1,34 @@
+package dev.babyeham.ehamboard.domain.tag.repository;
+
+import dev.babyeham.ehamboard.domain.tag.entity.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 다른 트랜잭션이 방금 커밋한 태그도 보이도록 잠금 읽기(current read)로 조회한다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findByNameInForShare(@Param("names") Collection<String> names);
+
+    /**
+     * 게시글에 지금 붙어 있는 태그. 삭제된 게시글이면 비어 있고, 보관된 게시글은 태그를 그대로 돌려준다.
+     */
+    @Query(value = "SELECT t.* FROM post_tags pt JOIN tags t ON t.id = pt.tag_id WHERE pt.post_id = :postId "
+            + "AND (EXISTS (SELECT 1 FROM posts p WHERE p.id = :postId AND p.deleted_at IS NULL) "
+            + "OR EXISTS (SELECT 1 FROM archived_posts a WHERE a.id = :postId))", nativeQuery = true)
+    List<Tag> findCurrentByPostId(@Param("postId") long postId);
+
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tags (name, created_at) VALUES (:name, NOW(6))", nativeQuery = true)
+    int insertIgnore(@Param("name") String name);
+}
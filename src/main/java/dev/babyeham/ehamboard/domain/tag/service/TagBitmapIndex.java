@@ -0,0 +1,240 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.entity.Tag;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRepository;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRow;
+import dev.babyeham.ehamboard.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 태그 → 게시글 id 집합을 Roaring 비트맵으로 들고 있는 색인. AND/OR 는 비트맵 연산으로 메모리에서 끝나고,
+ * DB 에는 결과 페이지의 게시글만 id 로 조회한다.
+ * <p>
+ * 게시글 변경은 TagIndexEventHandler 가 모든 인스턴스에서 받아, 그 게시글의 태그를 DB 에서 다시 읽어 통째로 맞춘다(refresh).
+ * 이벤트 순서가 바뀌거나 같은 이벤트가 두 번 와도 마지막 refresh 가 DB 의 현재 상태를 반영하므로,
+ * 어느 인스턴스의 쓰기든 OutboxBroadcaster 의 지연(보통 poll-interval, 늦어도 gap-timeout) 안에 모든 색인에 반영된다.
+ * 기동 시에는 post_tags 를 기본키 순서로 읽어 다시 만든다. 재구성 중에 들어온 변경은 새 색인으로 바꾼 뒤 같은 순서로 다시 적용한다.
+ * Roaring 비트맵은 32비트라 게시글 id 가 int 범위를 넘으면 색인에 넣을 수 없다.
+ */
+@Slf4j
+@Component
+public class TagBitmapIndex {
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final int rebuildBatchSize;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Timer matchTimer;
+
+    // 아래 두 필드는 lock 으로 보호한다
+    private State state = new State();
+    private List<Consumer<State>> pendingDuringRebuild;
+
+    public TagBitmapIndex(TagRepository tagRepository,
+                          PostTagRepository postTagRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${tag.index.rebuild-batch-size:5000}") int rebuildBatchSize) {
+        this.tagRepository = tagRepository;
+        this.postTagRepository = postTagRepository;
+        this.rebuildBatchSize = rebuildBatchSize;
+        this.matchTimer = Timer.builder("tag.index.match").register(meterRegistry);
+        Gauge.builder("tag.index.tags", this, index -> index.read(s -> s.bitmaps.size()))
+                .register(meterRegistry);
+        Gauge.builder("tag.index.size.bytes", this, index -> index.read(State::sizeInBytes))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public void register(Map<String, Long> tagIds) {
+        write(state -> state.tagIds.putAll(tagIds));
+    }
+
+    public void update(long postId, Collection<Long> addedTagIds, Collection<Long> removedTagIds) {
+        int id = Math.toIntExact(postId);
+        write(state -> {
+            for (Long tagId : removedTagIds) {
+                RoaringBitmap bitmap = state.bitmaps.get(tagId);
+                if (bitmap != null) {
+                    bitmap.remove(id);
+                }
+            }
+            for (Long tagId : addedTagIds) {
+                state.bitmaps.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+            }
+        });
+    }
+
+    /**
+     * 게시글의 태그를 DB 에서 다시 읽어 색인을 맞춘다. 삭제된 게시글은 색인에서 빠진다.
+     */
+    public void refresh(long postId) {
+        List<Tag> tags = tagRepository.findCurrentByPostId(postId);
+        Map<String, Long> tagIds = new HashMap<>();
+        for (Tag tag : tags) {
+            tagIds.put(tag.getName(), tag.getId());
+        }
+        Set<Long> current = new HashSet<>(tagIds.values());
+        int id = Math.toIntExact(postId);
+        write(state -> {
+            state.tagIds.putAll(tagIds);
+            state.bitmaps.forEach((tagId, bitmap) -> {
+                if (!current.contains(tagId)) {
+                    bitmap.remove(id);
+                }
+            });
+            for (Long tagId : current) {
+                state.bitmaps.computeIfAbsent(tagId, key -> new RoaringBitmap()).add(id);
+            }
+        });
+    }
+
+    /**
+     * 태그 이름으로 게시글 id 집합을 구한다. 돌려주는 비트맵은 새로 만든 것이라 락 밖에서 읽어도 된다.
+     */
+    public RoaringBitmap match(Collection<String> names, TagMatchMode mode) {
+        return matchTimer.record(() -> read(state -> {
+            List<RoaringBitmap> bitmaps = new ArrayList<>();
+            for (String name : names) {
+                Long tagId = state.tagIds.get(name);
+                RoaringBitmap bitmap = tagId != null ? state.bitmaps.get(tagId) : null;
+                if (bitmap != null) {
+                    bitmaps.add(bitmap);
+                } else if (mode == TagMatchMode.AND) {
+                    return new RoaringBitmap();
+                }
+            }
+            if (bitmaps.isEmpty()) {
+                return new RoaringBitmap();
+            }
+            if (bitmaps.size() == 1) {
+                return bitmaps.get(0).clone();
+            }
+            RoaringBitmap[] array = bitmaps.toArray(new RoaringBitmap[0]);
+            return mode == TagMatchMode.AND ? FastAggregation.and(array) : FastAggregation.or(array);
+        }));
+    }
+
+    /**
+     * cursor 보다 작은 id 를 큰 것부터 size 개 고른다. cursor 가 없으면 가장 큰 id 부터 시작한다.
+     */
+    public static List<Long> pageDescending(RoaringBitmap bitmap, Long cursor, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        if (cursor != null && cursor <= 0) {
+            return ids;
+        }
+        long next = cursor == null
+                ? bitmap.previousValue(-1)
+                : bitmap.previousValue((int) Math.min(cursor - 1, Integer.MAX_VALUE));
+        while (next >= 0 && ids.size() < size) {
+            ids.add(next);
+            next = next == 0 ? -1 : bitmap.previousValue((int) next - 1);
+        }
+        return ids;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildInBackground() {
+        Thread thread = new Thread(this::rebuild, "tag-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        State rebuilt = new State();
+        try {
+            for (Tag tag : tagRepository.findAll()) {
+                rebuilt.tagIds.put(tag.getName(), tag.getId());
+            }
+            long postId = 0;
+            long tagId = 0;
+            List<PostTagRow> rows;
+            do {
+                rows = postTagRepository.findRowsAfter(postId, tagId, rebuildBatchSize);
+                for (PostTagRow row : rows) {
+                    rebuilt.bitmaps.computeIfAbsent(row.getTagId(), key -> new RoaringBitmap())
+                            .add(Math.toIntExact(row.getPostId()));
+                }
+                if (!rows.isEmpty()) {
+                    postId = rows.get(rows.size() - 1).getPostId();
+                    tagId = rows.get(rows.size() - 1).getTagId();
+                }
+            } while (rows.size() == rebuildBatchSize);
+            rebuilt.bitmaps.values().forEach(RoaringBitmap::runOptimize);
+        } catch (RuntimeException e) {
+            log.warn("태그 색인 재구성 실패, 기존 색인을 유지합니다", e);
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(rebuilt));
+            pendingDuringRebuild = null;
+            state = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("태그 색인 재구성 완료: 태그 {}개, {} bytes", rebuilt.bitmaps.size(), rebuilt.sizeInBytes());
+    }
+
+    private void write(Consumer<State> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private <R> R read(Function<State, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(state);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class State {
+        private final Map<String, Long> tagIds = new HashMap<>();
+        private final Map<Long, RoaringBitmap> bitmaps = new HashMap<>();
+
+        long sizeInBytes() {
+            long bytes = 0;
+            for (RoaringBitmap bitmap : bitmaps.values()) {
+                bytes += bitmap.getLongSizeInBytes();
+            }
+            return bytes;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.ProjectionEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TagIndexEventHandler implements ProjectionEventHandler {
+
+    private final TagBitmapIndex tagBitmapIndex;
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.POST_CREATED, DomainEventType.POST_UPDATED, DomainEventType.POST_DELETED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        tagBitmapIndex.refresh(message.getAggregateId());
+    }
+}
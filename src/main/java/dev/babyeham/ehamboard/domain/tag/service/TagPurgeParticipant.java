@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.post.purge.PostPurgeParticipant;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * post_tags 는 보관된 게시글의 태그를 남기려고 posts 에 외래 키를 걸지 않으므로, 퍼지할 때 직접 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TagPurgeParticipant implements PostPurgeParticipant {
+
+    private final PostTagRepository postTagRepository;
+
+    @Override
+    public void beforePostPurged(Long postId) {
+        postTagRepository.deleteAllByPostId(postId);
+    }
+}
@@ -0,0 +1,15 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.dto.TaggedPostsResponse;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagService {
+    List<String> replaceTags(Long postId, Collection<String> names);
+    List<String> getTags(Long postId);
+    TaggedPostsResponse getTaggedPosts(List<String> tags, TagMatchMode mode, Long cursor, int size);
+    void applyToPosts(List<PostResponse> posts);
+}
@@ -0,0 +1,154 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.service.PostService;
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.dto.TaggedPostsResponse;
+import dev.babyeham.ehamboard.domain.tag.entity.Tag;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagName;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRepository;
+import dev.babyeham.ehamboard.domain.tag.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class TagServiceImpl implements TagService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final TagBitmapIndex tagBitmapIndex;
+    // PostService 가 TagService 에 기대므로 순환하지 않도록 꺼내 쓸 때 찾는다
+    private final ObjectProvider<PostService> postService;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> replaceTags(Long postId, Collection<String> names) {
+        List<String> normalized = normalize(names);
+        Map<String, Long> tagIds = resolveTagIds(normalized);
+
+        Set<Long> current = new HashSet<>(postTagRepository.findTagIdsByPostId(postId));
+        Set<Long> next = new HashSet<>(tagIds.values());
+        List<Long> added = next.stream().filter(id -> !current.contains(id)).toList();
+        List<Long> removed = current.stream().filter(id -> !next.contains(id)).toList();
+        if (!removed.isEmpty()) {
+            postTagRepository.deleteByPostIdAndTagIdIn(postId, removed);
+        }
+        // 색인은 커밋 후 POST_CREATED/POST_UPDATED 를 받은 TagIndexEventHandler 가 모든 인스턴스에서 맞춘다
+        added.forEach(tagId -> postTagRepository.insertIgnore(postId, tagId));
+        return normalized;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> getTags(Long postId) {
+        return postTagRepository.findNamesByPostIdIn(List.of(postId)).stream()
+                .map(PostTagName::getName)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaggedPostsResponse getTaggedPosts(List<String> tags, TagMatchMode mode, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        RoaringBitmap matched = tagBitmapIndex.match(normalize(tags), mode);
+        List<PostResponse> responses = new ArrayList<>(pageSize);
+        Long next = cursor;
+        boolean exhausted = false;
+        while (responses.size() < pageSize) {
+            int requested = pageSize - responses.size();
+            List<Long> ids = TagBitmapIndex.pageDescending(matched, next, requested);
+            if (ids.isEmpty()) {
+                exhausted = true;
+                break;
+            }
+            // 보관된 게시글도 읽도록 게시글 서비스로 채운다
+            Map<Long, PostResponse> posts = postService.getObject().getPostsByIds(ids).stream()
+                    .collect(Collectors.toMap(PostResponse::getId, Function.identity()));
+            for (Long id : ids) {
+                PostResponse post = posts.get(id);
+                if (post != null) {
+                    responses.add(post);
+                } else {
+                    // 삭제 이벤트가 아직 반영되지 않은 글은 이 페이지와 총 개수에서 뺀다
+                    matched.remove(Math.toIntExact(id));
+                }
+            }
+            next = ids.get(ids.size() - 1);
+            if (ids.size() < requested) {
+                exhausted = true;
+                break;
+            }
+        }
+        applyToPosts(responses);
+
+        Long nextCursor = exhausted ? null : next;
+        return new TaggedPostsResponse(responses, matched.getLongCardinality(), nextCursor);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void applyToPosts(List<PostResponse> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = posts.stream().map(PostResponse::getId).toList();
+        Map<Long, List<String>> byPost = postTagRepository.findNamesByPostIdIn(postIds)
+                .stream()
+                .collect(Collectors.groupingBy(PostTagName::getPostId,
+                        Collectors.mapping(PostTagName::getName, Collectors.toList())));
+        for (PostResponse post : posts) {
+            post.applyTags(byPost.getOrDefault(post.getId(), List.of()));
+        }
+    }
+
+    private Map<String, Long> resolveTagIds(List<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, Long> ids = toIdMap(tagRepository.findByNameIn(names));
+        if (ids.size() < names.size()) {
+            names.stream().filter(name -> !ids.containsKey(name)).forEach(tagRepository::insertIgnore);
+            return toIdMap(tagRepository.findByNameInForShare(names));
+        }
+        return ids;
+    }
+
+    private static Map<String, Long> toIdMap(List<Tag> tags) {
+        return tags.stream().collect(Collectors.toMap(Tag::getName, Tag::getId));
+    }
+
+    /**
+     * 앞의 '#' 을 떼고 소문자로 맞춘다. 같은 태그가 여러 번 오면 하나만 남기고 이름순으로 정렬한다.
+     */
+    static List<String> normalize(Collection<String> names) {
+        if (names == null) {
+            return List.of();
+        }
+        TreeSet<String> normalized = new TreeSet<>();
+        for (String name : names) {
+            if (name == null) {
+                continue;
+            }
+            String tag = name.strip();
+            while (tag.startsWith("#")) {
+                tag = tag.substring(1);
+            }
+            tag = tag.strip().toLowerCase(Locale.ROOT);
+            if (!tag.isEmpty()) {
+                normalized.add(tag);
+            }
+        }
+        return List.copyOf(normalized);
+    }
+}
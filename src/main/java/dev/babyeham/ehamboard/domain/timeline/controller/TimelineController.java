@@ -0,0 +1,37 @@
+package dev.babyeham.ehamboard.domain.timeline.controller;
+
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
+import dev.babyeham.ehamboard.domain.timeline.dto.TimelineResponse;
+import dev.babyeham.ehamboard.domain.timeline.service.TimelineService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class TimelineController {
+
+    private final TimelineService timelineService;
+    private final ReactionService reactionService;
+    private final AttachmentService attachmentService;
+    private final TagService tagService;
+
+    @GetMapping("/timeline")
+    @Operation(summary = "홈 타임라인 조회")
+    public ResponseEntity<TimelineResponse> getTimeline(@RequestParam(required = false) Long cursor,
+                                                        @RequestParam(defaultValue = "20") int size,
+                                                        @AuthenticationPrincipal User user) {
+        TimelineResponse response = timelineService.getTimeline(user.getId(), cursor, size);
+        reactionService.applyToPosts(response.getPosts(), user.getId());
+        attachmentService.applyToPosts(response.getPosts());
+        tagService.applyToPosts(response.getPosts());
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.domain.timeline.dto;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TimelineResponse {
+    private List<PostResponse> posts;
+    private Long nextCursor;
+}
@@ -0,0 +1,74 @@
+package dev.babyeham.ehamboard.domain.timeline.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사용자의 홈 타임라인에 밀어 넣은 게시글 id 를 내림차순으로 최대 capacity 개 보관한다.
+ * 오래된 id 가 밀려났으면 truncated 가 되어, 버퍼 끝을 넘는 페이지는 DB 에서 이어서 읽는다.
+ */
+class TimelineBuffer {
+
+    private final long[] ids;
+    private int size;
+    private boolean truncated;
+
+    TimelineBuffer(int capacity, List<Long> initialIds, boolean truncated) {
+        this.ids = new long[capacity];
+        for (Long id : initialIds) {
+            if (size == capacity) {
+                this.truncated = true;
+                break;
+            }
+            ids[size++] = id;
+        }
+        this.truncated |= truncated;
+    }
+
+    synchronized void push(long postId) {
+        int position = indexOfFirstBelow(postId + 1);
+        if (position < size && ids[position] == postId) {
+            return;
+        }
+        if (position == ids.length) {
+            truncated = true;
+            return;
+        }
+        int moved = Math.min(size, ids.length - 1) - position;
+        if (moved > 0) {
+            System.arraycopy(ids, position, ids, position + 1, moved);
+        }
+        ids[position] = postId;
+        if (size < ids.length) {
+            size++;
+        } else {
+            truncated = true;
+        }
+    }
+
+    synchronized List<Long> idsBefore(long beforeId, int limit) {
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = indexOfFirstBelow(beforeId); i < size && page.size() < limit; i++) {
+            page.add(ids[i]);
+        }
+        return page;
+    }
+
+    synchronized boolean isTruncated() {
+        return truncated;
+    }
+
+    private int indexOfFirstBelow(long value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] >= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,28 @@
+package dev.babyeham.ehamboard.domain.timeline.service;
+
+import dev.babyeham.ehamboard.domain.post.event.PostEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.ProjectionEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TimelineFanOutHandler implements ProjectionEventHandler {
+
+    private final TimelineService timelineService;
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.POST_CREATED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        PostEvent event = message.payloadAs(PostEvent.class);
+        timelineService.fanOut(event.getUserId(), event.getPostId());
+    }
+}
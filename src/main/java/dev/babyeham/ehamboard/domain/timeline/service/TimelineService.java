@@ -0,0 +1,218 @@
+package dev.babyeham.ehamboard.domain.timeline.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.babyeham.ehamboard.domain.follow.repository.FollowRepository;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.entity.Post;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.timeline.dto.TimelineResponse;
+import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 타임라인. 일반 작성자의 글은 작성 시점에 팔로워 버퍼로 밀어 넣고(fan-out on write),
+ * 팔로워가 celebrity-threshold 이상인 작성자의 글은 읽을 때 합친다(fan-out on read).
+ * 버퍼는 최근 접속한 사용자만 메모리에 두고, 없으면 DB 에서 한 번 다시 만든다.
+ * <p>
+ * DB 에서 읽을 때는 작성자마다 (user_id, id) 인덱스를 뒤에서부터 조금씩 읽어 메모리에서 합치므로,
+ * 한 번의 읽기가 훑는 행 수는 페이지 크기와 팔로우한 작성자 수에만 비례하고 작성자들의 전체 글 수와는 무관하다.
+ * 팔로우 목록은 followee-cache-ttl 동안 캐시하고 팔로우/언팔로우 시 비운다. 작성자가 인기 작성자 기준을 넘나든 것은
+ * 그 시간만큼 늦게 반영된다.
+ */
+@Service
+public class TimelineService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final PostRepository postRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final Cache<Long, TimelineBuffer> timelines;
+    private final Cache<Long, Followees> followees;
+    private final int capacity;
+    private final long celebrityThreshold;
+    private final int mergeChunkSize;
+
+    public TimelineService(PostRepository postRepository,
+                           MarkdownRenderer markdownRenderer,
+                           FollowRepository followRepository,
+                           UserRepository userRepository,
+                           @Value("${timeline.capacity:800}") int capacity,
+                           @Value("${timeline.celebrity-threshold:10000}") long celebrityThreshold,
+                           @Value("${timeline.max-users:100000}") long maxUsers,
+                           @Value("${timeline.expire-after-access:1h}") Duration expireAfterAccess,
+                           @Value("${timeline.followee-cache-ttl:1m}") Duration followeeCacheTtl,
+                           @Value("${timeline.merge-chunk-size:20}") int mergeChunkSize) {
+        this.postRepository = postRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.followRepository = followRepository;
+        this.userRepository = userRepository;
+        this.capacity = capacity;
+        this.celebrityThreshold = celebrityThreshold;
+        this.mergeChunkSize = mergeChunkSize;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(expireAfterAccess)
+                .build();
+        this.followees = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(followeeCacheTtl)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public TimelineResponse getTimeline(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        long beforeId = cursor != null ? cursor : Long.MAX_VALUE;
+
+        // 다시 만들기가 이 트랜잭션의 첫 조회가 되도록 버퍼를 먼저 얻는다. 그래야 그 스냅숏 이후 커밋된 글은
+        // fanOut 이 적재 완료를 기다렸다가 밀어 넣는다
+        TimelineBuffer buffer = timelines.get(userId, this::rebuild);
+        Followees following = followees(userId);
+        List<Long> pushed = buffer.idsBefore(beforeId, pageSize);
+        if (pushed.size() < pageSize && buffer.isTruncated()) {
+            // 버퍼 끝을 넘어간 페이지는 일반 작성자 글도 DB 에서 직접 읽는다
+            pushed = mergeRecent(following.regular(), beforeId, pageSize);
+        }
+        List<Long> pulled = mergeRecent(following.celebrities(), beforeId, pageSize);
+
+        List<Long> ids = mergeDescending(pushed, pulled, pageSize);
+        Long nextCursor = ids.size() == pageSize ? ids.get(ids.size() - 1) : null;
+        return new TimelineResponse(hydrate(ids), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void fanOut(Long authorId, Long postId) {
+        long followerCount = userRepository.findFollowerCountById(authorId).orElse(0L);
+        if (followerCount >= celebrityThreshold) {
+            return;
+        }
+        for (Long followerId : followRepository.findFollowerIds(authorId)) {
+            // 메모리에 버퍼가 없는 팔로워는 다음 조회 때 DB 에서 다시 만들며 이 글도 함께 읽힌다.
+            // 다시 만드는 중인 버퍼는 getIfPresent 로는 보이지 않아 그 조회 이후 커밋된 글을 놓치므로,
+            // computeIfPresent 로 적재가 끝나기를 기다렸다가 밀어 넣는다
+            timelines.asMap().computeIfPresent(followerId, (id, buffer) -> {
+                buffer.push(postId);
+                return buffer;
+            });
+        }
+    }
+
+    public void invalidate(Long userId) {
+        timelines.invalidate(userId);
+        followees.invalidate(userId);
+    }
+
+    private Followees followees(Long userId) {
+        return followees.get(userId, id -> new Followees(
+                followRepository.findRegularFolloweeIds(id, celebrityThreshold),
+                followRepository.findCelebrityFolloweeIds(id, celebrityThreshold)));
+    }
+
+    private TimelineBuffer rebuild(Long userId) {
+        List<Long> ids = mergeRecent(followees(userId).regular(), Long.MAX_VALUE, capacity);
+        return new TimelineBuffer(capacity, ids, ids.size() == capacity);
+    }
+
+    /**
+     * 작성자별 최근 글 id 를 beforeId 미만에서 id 내림차순으로 limit 개까지 합친다(k-way merge).
+     * 작성자마다 mergeChunkSize 개씩 읽고, 그 작성자 몫을 다 쓴 경우에만 다음 묶음을 읽는다.
+     */
+    private List<Long> mergeRecent(Collection<Long> authorIds, long beforeId, int limit) {
+        int chunkSize = Math.min(limit, mergeChunkSize);
+        PriorityQueue<AuthorCursor> heads = new PriorityQueue<>(authorIds.size() + 1,
+                Comparator.comparingLong(AuthorCursor::head).reversed());
+        for (Long authorId : authorIds) {
+            AuthorCursor cursor = new AuthorCursor(authorId, beforeId, chunkSize);
+            if (cursor.hasNext()) {
+                heads.add(cursor);
+            }
+        }
+        List<Long> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !heads.isEmpty()) {
+            AuthorCursor cursor = heads.poll();
+            merged.add(cursor.next());
+            if (merged.size() < limit && cursor.hasNext()) {
+                heads.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private List<PostResponse> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllWithUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(post -> PostResponse.from(post,
+                        markdownRenderer.resolve(post.getContent(), post.getRenderedHtml(),
+                                post.getRenderedVersion())))
+                .collect(Collectors.toList());
+    }
+
+    private record Followees(List<Long> regular, List<Long> celebrities) {
+    }
+
+    private final class AuthorCursor {
+
+        private final Long authorId;
+        private final int chunkSize;
+        private List<Long> ids;
+        private int index;
+
+        private AuthorCursor(Long authorId, long beforeId, int chunkSize) {
+            this.authorId = authorId;
+            this.chunkSize = chunkSize;
+            this.ids = postRepository.findRecentIdsByUserId(authorId, beforeId, chunkSize);
+        }
+
+        private long head() {
+            return ids.get(index);
+        }
+
+        private long next() {
+            return ids.get(index++);
+        }
+
+        private boolean hasNext() {
+            if (index == ids.size() && ids.size() == chunkSize) {
+                // 꽉 찬 묶음을 다 썼으면 그 작성자의 글이 더 있을 수 있다
+                ids = postRepository.findRecentIdsByUserId(authorId, ids.get(index - 1), chunkSize);
+                index = 0;
+            }
+            return index < ids.size();
+        }
+    }
+
+    static List<Long> mergeDescending(List<Long> left, List<Long> right, int limit) {
+        List<Long> merged = new ArrayList<>(limit);
+        int i = 0;
+        int j = 0;
+        while (merged.size() < limit && (i < left.size() || j < right.size())) {
+            long next;
+            if (j >= right.size() || (i < left.size() && left.get(i) >= right.get(j))) {
+                next = left.get(i++);
+            } else {
+                next = right.get(j++);
+            }
+            if (merged.isEmpty() || merged.get(merged.size() - 1) != next) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+}
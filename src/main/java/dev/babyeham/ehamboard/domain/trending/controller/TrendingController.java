@@ -0,0 +1,39 @@
+package dev.babyeham.ehamboard.domain.trending.controller;
+
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TrendingController {
+
+    private final TrendingService trendingService;
+    private final ReactionService reactionService;
+    private final AttachmentService attachmentService;
+    private final TagService tagService;
+
+    @GetMapping("/posts/trending")
+    @Operation(summary = "인기 게시글 조회")
+    public ResponseEntity<List<PostResponse>> getTrendingPosts(
+            @RequestParam(defaultValue = "20") int limit,
+            @AuthenticationPrincipal User user) {
+        List<PostResponse> response = trendingService.getTrendingPosts(limit);
+        reactionService.applyToPosts(response, user.getId());
+        attachmentService.applyToPosts(response);
+        tagService.applyToPosts(response);
+        return ResponseEntity.ok(response);
+    }
+}
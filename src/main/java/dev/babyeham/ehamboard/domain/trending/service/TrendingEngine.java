@@ -0,0 +1,161 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 지수 감쇠 점수로 게시글 순위를 유지한다.
+ * <p>
+ * forward decay 방식으로 이벤트 가중치를 기준 시각(landmark) 대비 exp(λ·Δt) 배로 키워 더한다.
+ * 모든 점수가 같은 비율로 줄어드는 것과 순위가 같으므로, 이벤트가 들어온 항목만 다시 정렬하면 된다.
+ * 지수가 너무 커지면 landmark 를 현재로 옮기며 전체를 한 번 축소한다.
+ */
+public class TrendingEngine {
+
+    private static final int SNAPSHOT_MAGIC = 0x54524e44;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final double RESCALE_EXPONENT = 100.0;
+    private static final double MIN_SCORE = 1e-9;
+
+    private static final Comparator<TrendingEntry> RANK_ORDER =
+            Comparator.comparingDouble(TrendingEntry::score).reversed().thenComparingLong(TrendingEntry::postId);
+
+    private final Clock clock;
+    private final double lambdaPerMilli;
+    private final int topK;
+    private final int maxTracked;
+    private final long refreshIntervalMillis;
+
+    private final Map<Long, TrendingEntry> entries = new HashMap<>();
+    private final TreeSet<TrendingEntry> ranking = new TreeSet<>(RANK_ORDER);
+    private long landmarkMillis;
+    private volatile long version;
+
+    private volatile List<TrendingEntry> topSnapshot = List.of();
+    private volatile long topSnapshotVersion = -1;
+    private volatile long topSnapshotBuiltAt;
+
+    public TrendingEngine(Duration halfLife, int topK, int maxTracked, Duration refreshInterval, Clock clock) {
+        this.clock = clock;
+        this.lambdaPerMilli = Math.log(2) / halfLife.toMillis();
+        this.topK = topK;
+        this.maxTracked = Math.max(maxTracked, topK);
+        this.refreshIntervalMillis = refreshInterval.toMillis();
+        this.landmarkMillis = clock.millis();
+    }
+
+    public synchronized void record(long postId, double weight) {
+        long now = clock.millis();
+        if (lambdaPerMilli * (now - landmarkMillis) > RESCALE_EXPONENT) {
+            rescale(now);
+        }
+        double boost = weight * Math.exp(lambdaPerMilli * (now - landmarkMillis));
+
+        TrendingEntry previous = entries.get(postId);
+        double score = boost;
+        if (previous != null) {
+            ranking.remove(previous);
+            score += previous.score();
+        }
+        put(new TrendingEntry(postId, score));
+
+        if (entries.size() > maxTracked) {
+            TrendingEntry weakest = ranking.pollLast();
+            entries.remove(weakest.postId());
+        }
+        version++;
+    }
+
+    public synchronized void remove(long postId) {
+        TrendingEntry previous = entries.remove(postId);
+        if (previous != null) {
+            ranking.remove(previous);
+            version++;
+        }
+    }
+
+    /**
+     * 상위 K 개를 현재 시각 기준 점수로 돌려준다.
+     * 변경이 없거나 마지막 갱신 후 refreshInterval 이 지나지 않았으면 만들어 둔 목록을 그대로 쓴다.
+     */
+    public List<TrendingEntry> top() {
+        long now = clock.millis();
+        if (topSnapshotVersion != version && now - topSnapshotBuiltAt >= refreshIntervalMillis) {
+            rebuildTop(now);
+        }
+        return topSnapshot;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void writeTo(DataOutput out) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeLong(landmarkMillis);
+        out.writeInt(entries.size());
+        for (TrendingEntry entry : ranking) {
+            out.writeLong(entry.postId());
+            out.writeDouble(entry.score());
+        }
+    }
+
+    public synchronized void readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("알 수 없는 트렌딩 스냅샷 형식입니다.");
+        }
+        long landmark = in.readLong();
+        int count = in.readInt();
+        List<TrendingEntry> loaded = new ArrayList<>(Math.min(count, maxTracked));
+        for (int i = 0; i < count; i++) {
+            TrendingEntry entry = new TrendingEntry(in.readLong(), in.readDouble());
+            if (loaded.size() < maxTracked) {
+                loaded.add(entry);
+            }
+        }
+        entries.clear();
+        ranking.clear();
+        landmarkMillis = landmark;
+        loaded.forEach(this::put);
+        rescale(clock.millis());
+        version++;
+    }
+
+    private synchronized void rebuildTop(long now) {
+        double decay = Math.exp(-lambdaPerMilli * (now - landmarkMillis));
+        List<TrendingEntry> top = new ArrayList<>(Math.min(topK, ranking.size()));
+        for (TrendingEntry entry : ranking) {
+            if (top.size() == topK) {
+                break;
+            }
+            top.add(new TrendingEntry(entry.postId(), entry.score() * decay));
+        }
+        topSnapshot = List.copyOf(top);
+        topSnapshotVersion = version;
+        topSnapshotBuiltAt = now;
+    }
+
+    private void rescale(long now) {
+        double factor = Math.exp(-lambdaPerMilli * (now - landmarkMillis));
+        List<TrendingEntry> current = new ArrayList<>(ranking);
+        entries.clear();
+        ranking.clear();
+        for (TrendingEntry entry : current) {
+            double score = entry.score() * factor;
+            if (score >= MIN_SCORE) {
+                put(new TrendingEntry(entry.postId(), score));
+            }
+        }
+        landmarkMillis = now;
+    }
+
+    private void put(TrendingEntry entry) {
+        entries.put(entry.postId(), entry);
+        ranking.add(entry);
+    }
+}
@@ -0,0 +1,4 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+public record TrendingEntry(long postId, double score) {
+}
@@ -0,0 +1,31 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+import dev.babyeham.ehamboard.domain.comment.event.CommentEvent;
+import dev.babyeham.ehamboard.global.outbox.DomainEventMessage;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.ProjectionEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingEventHandler implements ProjectionEventHandler {
+
+    private final TrendingService trendingService;
+
+    @Override
+    public Set<DomainEventType> eventTypes() {
+        return Set.of(DomainEventType.COMMENT_CREATED, DomainEventType.POST_DELETED);
+    }
+
+    @Override
+    public void handle(DomainEventMessage message) {
+        if (message.getEventType() == DomainEventType.POST_DELETED) {
+            trendingService.remove(message.getAggregateId());
+            return;
+        }
+        trendingService.record(message.payloadAs(CommentEvent.class).getPostId(), TrendingSignal.COMMENT);
+    }
+}
@@ -0,0 +1,136 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.entity.Post;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class TrendingService {
+
+    private final TrendingEngine engine;
+    private final PostRepository postRepository;
+    private final MarkdownRenderer markdownRenderer;
+    private final Path snapshotPath;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public TrendingService(PostRepository postRepository,
+                           MarkdownRenderer markdownRenderer,
+                           @Value("${trending.half-life:6h}") Duration halfLife,
+                           @Value("${trending.top-k:50}") int topK,
+                           @Value("${trending.max-tracked:2000}") int maxTracked,
+                           @Value("${trending.refresh-interval:1s}") Duration refreshInterval,
+                           @Value("${trending.snapshot-path:data/trending.snapshot}") Path snapshotPath) {
+        this.postRepository = postRepository;
+        this.markdownRenderer = markdownRenderer;
+        this.snapshotPath = snapshotPath;
+        this.engine = new TrendingEngine(halfLife, topK, maxTracked, refreshInterval, Clock.systemUTC());
+    }
+
+    /**
+     * 조회는 가장 잦은 신호라 요청마다 랭킹 락을 잡지 않고 모아 두었다가 주기적으로 반영한다.
+     */
+    public void recordView(Long postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public void record(Long postId, TrendingSignal signal) {
+        engine.record(postId, signal.getWeight());
+    }
+
+    public void remove(Long postId) {
+        pendingViews.remove(postId);
+        engine.remove(postId);
+    }
+
+    @Scheduled(fixedDelayString = "${trending.view-flush-interval-ms:1000}")
+    public void flushViews() {
+        for (Long postId : pendingViews.keySet()) {
+            LongAdder views = pendingViews.remove(postId);
+            if (views != null && views.sum() > 0) {
+                engine.record(postId, TrendingSignal.VIEW.getWeight() * views.sum());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> getTrendingPosts(int limit) {
+        List<TrendingEntry> top = engine.top();
+        List<Long> ids = top.stream()
+                .limit(Math.max(limit, 0))
+                .map(TrendingEntry::postId)
+                .toList();
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Post> posts = postRepository.findAllWithUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        return ids.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(post -> PostResponse.from(post,
+                        markdownRenderer.resolve(post.getContent(), post.getRenderedHtml(),
+                                post.getRenderedVersion())))
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSnapshot() {
+        ready = true;
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotPath)))) {
+            engine.readFrom(in);
+            log.info("트렌딩 스냅샷 로드: {}건", engine.size());
+        } catch (IOException e) {
+            log.warn("트렌딩 스냅샷을 읽지 못해 빈 상태로 시작합니다: {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${trending.snapshot-interval-ms:60000}", initialDelayString = "${trending.snapshot-interval-ms:60000}")
+    public void writeSnapshot() {
+        // 기동이 끝나기 전(AOT/CDS 학습 실행 포함)에는 기존 스냅샷을 빈 상태로 덮어쓰지 않는다
+        if (!ready) {
+            return;
+        }
+        flushViews();
+        Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try {
+            if (snapshotPath.getParent() != null) {
+                Files.createDirectories(snapshotPath.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                engine.writeTo(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("트렌딩 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+}
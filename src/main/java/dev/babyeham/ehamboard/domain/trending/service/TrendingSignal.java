@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingSignal {
+    VIEW(1.0),
+    LIKE(3.0),
+    COMMENT(5.0);
+
+    private final double weight;
+}
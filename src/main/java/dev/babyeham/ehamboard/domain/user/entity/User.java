@@ -35,6 +35,10 @@ public class User implements UserDetails {
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // follows 변경과 같은 트랜잭션에서 UserRepository.addFollowerCount 로만 갱신한다
+    @Column(nullable = false, insertable = false, updatable = false)
+    private long followerCount;
+
     @Builder
     public User(String username, String password) {
         this.username = username;
@@ -2,6 +2,9 @@ package dev.babyeham.ehamboard.domain.user.repository;
 
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -10,4 +13,11 @@ import java.util.Optional;
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
+
+    @Query(value = "SELECT follower_count FROM users WHERE id = :userId", nativeQuery = true)
+    Optional<Long> findFollowerCountById(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE users SET follower_count = follower_count + :delta WHERE id = :userId", nativeQuery = true)
+    int addFollowerCount(@Param("userId") Long userId, @Param("delta") long delta);
 }
@@ -0,0 +1,48 @@
+package dev.babyeham.ehamboard.global.compression;
+
+/**
+ * 엔티티의 본문 값. DB 에서 읽은 값은 저장 바이트만 들고 있다가 처음 text() 를 부를 때 압축을 푼다.
+ * 본문을 쓰지 않는 조회(목록의 id, 작성자 확인 등)는 압축 해제 비용을 내지 않는다.
+ * 값은 바뀌지 않으며, 수정은 새 인스턴스로 교체한다.
+ */
+public final class CompressedText {
+
+    private final TextCompressor compressor;
+    private final byte[] stored;
+    private volatile String text;
+
+    private CompressedText(String text, byte[] stored, TextCompressor compressor) {
+        this.text = text;
+        this.stored = stored;
+        this.compressor = compressor;
+    }
+
+    public static CompressedText of(String text) {
+        return text == null ? null : new CompressedText(text, null, null);
+    }
+
+    static CompressedText fromStored(byte[] stored, TextCompressor compressor) {
+        return new CompressedText(null, stored, compressor);
+    }
+
+    public String text() {
+        String value = text;
+        if (value == null) {
+            value = compressor.decode(stored);
+            text = value;
+        }
+        return value;
+    }
+
+    /**
+     * 읽은 값을 그대로 다시 쓰면 압축을 풀거나 다시 하지 않고 원래 바이트를 돌려준다.
+     */
+    byte[] toStored(TextCompressor compressor) {
+        return stored != null ? stored : compressor.encode(text);
+    }
+
+    @Override
+    public String toString() {
+        return text();
+    }
+}
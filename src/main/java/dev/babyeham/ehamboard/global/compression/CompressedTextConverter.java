@@ -0,0 +1,30 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 는 Spring 빈 컨테이너를 통해 이 변환기를 얻으므로 TextCompressor 설정을 그대로 쓴다.
+ * CompressedText 는 불변이라 스냅샷 복사나 dirty checking 때 압축을 풀지 않도록 @Immutable 로 둔다.
+ */
+@Component
+@Converter
+@Immutable
+@RequiredArgsConstructor
+public class CompressedTextConverter implements AttributeConverter<CompressedText, byte[]> {
+
+    private final TextCompressor textCompressor;
+
+    @Override
+    public byte[] convertToDatabaseColumn(CompressedText attribute) {
+        return attribute == null ? null : attribute.toStored(textCompressor);
+    }
+
+    @Override
+    public CompressedText convertToEntityAttribute(byte[] dbData) {
+        return dbData == null ? null : CompressedText.fromStored(dbData, textCompressor);
+    }
+}
@@ -0,0 +1,70 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 본문 표본에서 Deflate 사전을 만든다. 여러 글에 걸쳐 반복되는 조각을 (등장한 글 수 × 길이) 순으로 골라 이어 붙이고,
+ * Deflate 는 사전 끝쪽을 더 짧은 거리로 참조하므로 가장 흔한 조각을 맨 뒤에 둔다.
+ * 사전은 Deflate 창 크기(32KB)를 넘으면 앞부분이 쓰이지 않는다.
+ */
+public final class CompressionDictionaryTrainer {
+
+    public static final int MAX_DICTIONARY_BYTES = 32 * 1024;
+    private static final int SEGMENT_BYTES = 16;
+    private static final int STEP = 4;
+
+    private CompressionDictionaryTrainer() {
+    }
+
+    public static byte[] train(Collection<String> samples, int maxBytes) {
+        int limit = Math.min(maxBytes, MAX_DICTIONARY_BYTES);
+        Map<ByteBuffer, Integer> documentFrequency = new HashMap<>();
+        for (String sample : samples) {
+            byte[] bytes = sample.getBytes(StandardCharsets.UTF_8);
+            Set<ByteBuffer> seen = new HashSet<>();
+            for (int i = 0; i + SEGMENT_BYTES <= bytes.length; i += STEP) {
+                ByteBuffer segment = ByteBuffer.wrap(bytes, i, SEGMENT_BYTES).slice();
+                if (seen.add(segment)) {
+                    documentFrequency.merge(segment, 1, Integer::sum);
+                }
+            }
+        }
+
+        // 한 글에만 나오는 조각은 사전에 넣어도 다른 글에 도움이 되지 않는다
+        List<Map.Entry<ByteBuffer, Integer>> ranked = new ArrayList<>();
+        for (Map.Entry<ByteBuffer, Integer> entry : documentFrequency.entrySet()) {
+            if (entry.getValue() > 1) {
+                ranked.add(entry);
+            }
+        }
+        ranked.sort(Map.Entry.<ByteBuffer, Integer>comparingByValue().reversed());
+
+        List<byte[]> chosen = new ArrayList<>();
+        int size = 0;
+        for (Map.Entry<ByteBuffer, Integer> entry : ranked) {
+            if (size + SEGMENT_BYTES > limit) {
+                break;
+            }
+            byte[] segment = new byte[SEGMENT_BYTES];
+            entry.getKey().duplicate().get(segment);
+            chosen.add(segment);
+            size += SEGMENT_BYTES;
+        }
+
+        byte[] dictionary = new byte[size];
+        int offset = size;
+        for (byte[] segment : chosen) {
+            offset -= SEGMENT_BYTES;
+            System.arraycopy(segment, 0, dictionary, offset, SEGMENT_BYTES);
+        }
+        return dictionary;
+    }
+}
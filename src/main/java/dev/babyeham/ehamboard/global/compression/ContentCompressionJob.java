@@ -0,0 +1,126 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 압축을 켜기 전에 저장된 본문을 id 순으로 훑어 압축한다. 처리 위치를 job_checkpoints 에 남기므로
+ * 재시작해도 이어서 진행하고, 끝까지 훑은 뒤에는 빈 조회 한 번으로 끝난다. 새로 쓰는 본문은 변환기가 압축한다.
+ * 읽은 바이트가 그대로일 때만 바꾸므로 그 사이 수정된 행은 건너뛴다.
+ */
+@Slf4j
+@Component
+public class ContentCompressionJob {
+
+    private static final List<String> TABLES = List.of("posts", "comments");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TextCompressor textCompressor;
+    private final JobCheckpointRepository checkpointRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration batchPause;
+    private final Counter compressedCounter;
+    private final Counter savedBytesCounter;
+
+    public ContentCompressionJob(JdbcTemplate jdbcTemplate,
+                                 TextCompressor textCompressor,
+                                 JobCheckpointRepository checkpointRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${content-compression.migration.enabled:true}") boolean enabled,
+                                 @Value("${content-compression.migration.batch-size:200}") int batchSize,
+                                 @Value("${content-compression.migration.max-batches-per-run:50}") int maxBatchesPerRun,
+                                 @Value("${content-compression.migration.batch-pause:100ms}") Duration batchPause) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.textCompressor = textCompressor;
+        this.checkpointRepository = checkpointRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.batchPause = batchPause;
+        this.compressedCounter = Counter.builder("content.compression.migrated.rows").register(meterRegistry);
+        this.savedBytesCounter = Counter.builder("content.compression.migrated.saved.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${content-compression.migration.interval-ms:60000}",
+            initialDelayString = "${content-compression.migration.initial-delay-ms:30000}")
+    public void run() {
+        if (!enabled || !textCompressor.isEnabled()) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                migrate(table);
+            } catch (RuntimeException e) {
+                log.warn("본문 압축 마이그레이션 실패: table={}", table, e);
+            }
+        }
+    }
+
+    void migrate(String table) {
+        String jobName = "content-compression:" + table;
+        long lastId = checkpointRepository.findLastId(jobName);
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<Row> rows = jdbcTemplate.query(
+                    "SELECT id, content FROM " + table + " WHERE id > ? ORDER BY id LIMIT ?",
+                    (rs, rowNum) -> new Row(rs.getLong("id"), rs.getBytes("content")),
+                    lastId, batchSize);
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> updates = new ArrayList<>();
+            long saved = 0;
+            for (Row row : rows) {
+                byte[] compressed = textCompressor.compressIfSmaller(row.content());
+                if (compressed != null) {
+                    updates.add(new Object[]{compressed, row.id(), row.content()});
+                    saved += row.content().length - compressed.length;
+                }
+            }
+            if (!updates.isEmpty()) {
+                int[] results = jdbcTemplate.batchUpdate(
+                        "UPDATE " + table + " SET content = ? WHERE id = ? AND content = ?", updates);
+                int changed = 0;
+                for (int result : results) {
+                    changed += Math.max(result, 0);
+                }
+                compressedCounter.increment(changed);
+                savedBytesCounter.increment(saved);
+            }
+
+            lastId = rows.get(rows.size() - 1).id();
+            checkpointRepository.upsert(jobName, lastId);
+            if (rows.size() < batchSize) {
+                log.debug("본문 압축 마이그레이션 완료: table={}, lastId={}", table, lastId);
+                return;
+            }
+            pause();
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(batchPause.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("본문 압축 마이그레이션이 중단되었습니다.", e);
+        }
+    }
+
+    private record Row(long id, byte[] content) {
+    }
+}
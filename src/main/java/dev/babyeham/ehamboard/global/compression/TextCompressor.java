@@ -0,0 +1,155 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 본문 저장 형식을 정한다. 압축하지 않은 값은 UTF-8 바이트 그대로이고, 압축한 값은
+ * UTF-8 에 나올 수 없는 0xFF 로 시작하므로 두 형식이 한 컬럼에 섞여 있어도 구분된다.
+ *
+ * <pre>
+ * compressed := 0xFF dictionaryId(1) originalLength(4, big-endian) rawDeflate
+ * </pre>
+ *
+ * 사전(dictionary)은 글마다 반복되는 문구를 미리 알려 주어 짧은 글도 잘 줄어들게 한다.
+ * 사전을 바꾸면 이전 사전으로 압축된 행을 읽을 수 없으므로 dictionary-id 도 함께 바꿔야 한다.
+ */
+@Component
+public class TextCompressor {
+
+    static final byte MAGIC = (byte) 0xFF;
+    private static final int HEADER_BYTES = 6;
+    private static final byte NO_DICTIONARY = 0;
+
+    private final boolean enabled;
+    private final int minBytes;
+    private final int level;
+    private final byte dictionaryId;
+    private final byte[] dictionary;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(() -> new Inflater(true));
+
+    public TextCompressor(@Value("${content-compression.enabled:false}") boolean enabled,
+                          @Value("${content-compression.min-size:1KB}") DataSize minSize,
+                          @Value("${content-compression.level:6}") int level,
+                          @Value("${content-compression.dictionary-path:}") String dictionaryPath,
+                          @Value("${content-compression.dictionary-id:1}") int dictionaryId) throws IOException {
+        this(enabled, (int) minSize.toBytes(), level,
+                StringUtils.hasText(dictionaryPath) ? Files.readAllBytes(Path.of(dictionaryPath)) : null,
+                dictionaryId);
+    }
+
+    TextCompressor(boolean enabled, int minBytes, int level, byte[] dictionary, int dictionaryId) {
+        if (dictionary != null && (dictionaryId < 1 || dictionaryId > 255)) {
+            throw new IllegalArgumentException("dictionary-id 는 1~255 사이여야 합니다.");
+        }
+        this.enabled = enabled;
+        this.minBytes = minBytes;
+        this.level = level;
+        this.dictionary = dictionary;
+        this.dictionaryId = dictionary != null ? (byte) dictionaryId : NO_DICTIONARY;
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level, true));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length >= HEADER_BYTES && stored[0] == MAGIC;
+    }
+
+    public byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = compressIfSmaller(raw);
+        return compressed != null ? compressed : raw;
+    }
+
+    /**
+     * 아직 압축하지 않은 저장값을 압축한다. 설정상 대상이 아니거나 줄지 않으면 null.
+     */
+    public byte[] compressIfSmaller(byte[] stored) {
+        return enabled ? deflateIfSmaller(stored) : null;
+    }
+
+    /**
+     * 압축 설정과 관계없이, 줄어들면 압축한 값을 아니면 받은 값을 그대로 돌려준다. 거의 읽지 않는 보관 데이터용.
+     */
+    public byte[] compressCold(byte[] stored) {
+        byte[] compressed = deflateIfSmaller(stored);
+        return compressed != null ? compressed : stored;
+    }
+
+    private byte[] deflateIfSmaller(byte[] stored) {
+        if (stored.length < minBytes || isCompressed(stored)) {
+            return null;
+        }
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        if (dictionary != null) {
+            deflater.setDictionary(dictionary);
+        }
+        deflater.setInput(stored);
+        deflater.finish();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length / 2 + HEADER_BYTES);
+        out.write(MAGIC);
+        out.write(dictionaryId);
+        out.writeBytes(ByteBuffer.allocate(4).putInt(stored.length).array());
+        byte[] buffer = new byte[8 * 1024];
+        while (!deflater.finished()) {
+            int n = deflater.deflate(buffer);
+            out.write(buffer, 0, n);
+            if (out.size() >= stored.length) {
+                return null;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    public String decode(byte[] stored) {
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        byte storedDictionaryId = stored[1];
+        int length = ByteBuffer.wrap(stored, 2, 4).getInt();
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        if (storedDictionaryId != NO_DICTIONARY) {
+            if (storedDictionaryId != dictionaryId) {
+                throw new IllegalStateException("압축 사전을 찾을 수 없습니다: " + (storedDictionaryId & 0xff));
+            }
+            inflater.setDictionary(dictionary);
+        }
+        inflater.setInput(stored, HEADER_BYTES, stored.length - HEADER_BYTES);
+        byte[] raw = new byte[length];
+        try {
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(raw, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += n;
+            }
+            if (read != length) {
+                throw new IllegalStateException("압축된 본문이 손상되었습니다.");
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축된 본문이 손상되었습니다.", e);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,85 @@
+package dev.babyeham.ehamboard.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import dev.babyeham.ehamboard.global.datasource.DataSourceRoutingProperties;
+import dev.babyeham.ehamboard.global.datasource.ReadYourWritesTracker;
+import dev.babyeham.ehamboard.global.datasource.ReplicaHealthChecker;
+import dev.babyeham.ehamboard.global.datasource.ReplicaNode;
+import dev.babyeham.ehamboard.global.datasource.ReplicaPool;
+import dev.babyeham.ehamboard.global.datasource.ReplicaRoutingDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaPool replicaPool(DataSourceRoutingProperties properties) {
+        List<ReplicaNode> nodes = properties.getReplicas().stream()
+                .map(replica -> new ReplicaNode(replica.getName(), createReplicaDataSource(replica)))
+                .toList();
+        return new ReplicaPool(nodes, properties.getMaxReplicaLag().toMillis());
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(DataSourceRoutingProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(ReplicaPool replicaPool,
+                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                     DataSourceRoutingProperties properties) {
+        return new ReplicaHealthChecker(replicaPool, readYourWritesTracker, properties);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+                                 ReplicaPool replicaPool,
+                                 ReadYourWritesTracker readYourWritesTracker) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaPool, readYourWritesTracker);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤 실제 커넥션을 얻도록 지연시킨다
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    private HikariDataSource createReplicaDataSource(DataSourceRoutingProperties.Replica replica) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .driverClassName(replica.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica-" + replica.getName());
+        dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
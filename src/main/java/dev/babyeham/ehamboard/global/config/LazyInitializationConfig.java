@@ -0,0 +1,49 @@
+package dev.babyeham.ehamboard.global.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+@Configuration
+@Profile("prod")
+public class LazyInitializationConfig {
+
+    // 첫 요청 처리에 필요 없는 빈은 기동 시점이 아니라 처음 사용할 때 만든다
+    private static final List<String> NON_CRITICAL_PACKAGES = List.of(
+            "org.springdoc.",
+            "io.swagger.",
+            SwaggerConfig.class.getName()
+    );
+
+    @Bean
+    public static BeanFactoryPostProcessor nonCriticalBeanLazyInitializer() {
+        return LazyInitializationConfig::markNonCriticalBeansLazy;
+    }
+
+    private static void markNonCriticalBeansLazy(ConfigurableListableBeanFactory beanFactory) {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (isNonCritical(beanFactory, definition)) {
+                definition.setLazyInit(true);
+            }
+        }
+    }
+
+    private static boolean isNonCritical(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        if (className == null) {
+            return false;
+        }
+        String name = className;
+        return NON_CRITICAL_PACKAGES.stream().anyMatch(name::startsWith);
+    }
+}
@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.global.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+/**
+ * reactive-read 프로파일에서만 R2DBC 커넥션 풀(R2dbcAutoConfiguration)과 DatabaseClient 를 띄운다.
+ * 쓰기와 트랜잭션은 계속 JPA 가 맡으므로 R2DBC 트랜잭션 매니저와 리포지토리는 만들지 않는다.
+ */
+@Configuration
+@Profile("reactive-read")
+public class ReactiveReadConfig {
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+}
@@ -0,0 +1,22 @@
+package dev.babyeham.ehamboard.global.config;
+
+import dev.babyeham.ehamboard.global.throttle.WriteThrottleInterceptor;
+import dev.babyeham.ehamboard.global.throttle.WriteThrottleProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(WriteThrottleProperties.class)
+public class WriteThrottleConfig implements WebMvcConfigurer {
+
+    private final WriteThrottleInterceptor writeThrottleInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(writeThrottleInterceptor);
+    }
+}
@@ -0,0 +1,32 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private final long windowMillis;
+    private final Clock clock;
+    private final Map<Long, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void recordWrite(Long userId) {
+        lastWriteAt.put(userId, clock.millis());
+    }
+
+    public boolean isWithinWindow(Long userId) {
+        Long writtenAt = lastWriteAt.get(userId);
+        return writtenAt != null && clock.millis() - writtenAt < windowMillis;
+    }
+
+    public void evictExpired() {
+        long threshold = clock.millis() - windowMillis;
+        lastWriteAt.values().removeIf(writtenAt -> writtenAt < threshold);
+    }
+}
@@ -0,0 +1,64 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ReplicaHealthChecker {
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final DataSourceRoutingProperties properties;
+
+    @Scheduled(fixedDelayString = "${datasource-routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (ReplicaNode node : replicaPool.getNodes()) {
+            try (Connection connection = node.getDataSource().getConnection()) {
+                if (!connection.isValid(properties.getValidationTimeoutSeconds())) {
+                    throw new SQLException("레플리카 커넥션이 유효하지 않습니다.");
+                }
+                node.markSuccess(readLagMillis(connection));
+            } catch (SQLException e) {
+                node.markFailure(properties.getFailureThreshold());
+                log.warn("레플리카 상태 확인 실패: {} ({})", node.getName(), e.getMessage());
+            }
+        }
+        readYourWritesTracker.evictExpired();
+    }
+
+    private long readLagMillis(Connection connection) throws SQLException {
+        String lagQuery = properties.getLagQuery();
+        if (!StringUtils.hasText(lagQuery)) {
+            return 0L;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            String seconds = findLagColumn(rs);
+            if (seconds == null) {
+                // 복제가 멈춘 상태(NULL)는 무한 지연으로 간주해 라우팅 대상에서 제외한다
+                return Long.MAX_VALUE;
+            }
+            return Long.parseLong(seconds.trim()) * 1000L;
+        }
+    }
+
+    private String findLagColumn(ResultSet rs) throws SQLException {
+        try {
+            return rs.getString("Seconds_Behind_Source");
+        } catch (SQLException e) {
+            return rs.getString("Seconds_Behind_Master");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Getter
+public class ReplicaNode {
+
+    private final String name;
+    private final DataSource dataSource;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile boolean healthy = true;
+    private volatile long lagMillis;
+
+    public ReplicaNode(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public void markSuccess(long lagMillis) {
+        this.lagMillis = lagMillis;
+        this.consecutiveFailures.set(0);
+        this.healthy = true;
+    }
+
+    public void markFailure(int failureThreshold) {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            this.healthy = false;
+        }
+    }
+
+    public boolean isEligible(long maxLagMillis) {
+        return healthy && lagMillis <= maxLagMillis;
+    }
+}
@@ -0,0 +1,55 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaPool implements AutoCloseable {
+
+    private final List<ReplicaNode> nodes;
+    private final long maxLagMillis;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public ReplicaPool(List<ReplicaNode> nodes, long maxLagMillis) {
+        this.nodes = List.copyOf(nodes);
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public Optional<ReplicaNode> next() {
+        int size = nodes.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+
+        // 라운드 로빈으로 시작 위치를 정하고, 장애/지연 노드는 건너뛴다
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode node = nodes.get((start + i) % size);
+            if (node.isEligible(maxLagMillis)) {
+                return Optional.of(node);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<ReplicaNode> getNodes() {
+        return nodes;
+    }
+
+    public long getMaxObservedLagMillis() {
+        return nodes.stream()
+                .filter(ReplicaNode::isHealthy)
+                .mapToLong(ReplicaNode::getLagMillis)
+                .max()
+                .orElse(0L);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (ReplicaNode node : nodes) {
+            if (node.getDataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaPool replicaPool;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    ReplicaPool replicaPool,
+                                    ReadYourWritesTracker readYourWritesTracker) {
+        this.replicaPool = replicaPool;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicaPool.getNodes().forEach(node -> targets.put(node.getName(), node.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                recordWrite(userId);
+            }
+            return PRIMARY;
+        }
+
+        if (userId != null && readYourWritesTracker.isWithinWindow(userId)) {
+            return PRIMARY;
+        }
+
+        return replicaPool.next()
+                .map(ReplicaNode::getName)
+                .orElse(PRIMARY);
+    }
+
+    private void recordWrite(Long userId) {
+        readYourWritesTracker.recordWrite(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 커밋 시점부터 윈도우를 다시 잡아 긴 트랜잭션 직후의 조회도 프라이머리로 보낸다
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite(userId);
+                }
+            });
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class AttachmentNotFoundException extends RuntimeException {
+    public AttachmentNotFoundException(String message) {
+        super(message);
+    }
+}
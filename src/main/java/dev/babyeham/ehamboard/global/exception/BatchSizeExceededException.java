@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class BatchSizeExceededException extends RuntimeException {
+    public BatchSizeExceededException(String message) {
+        super(message);
+    }
+}
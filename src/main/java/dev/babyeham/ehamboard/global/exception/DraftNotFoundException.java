@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class DraftNotFoundException extends RuntimeException {
+    public DraftNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class FileTooLargeException extends RuntimeException {
+    public FileTooLargeException(String message) {
+        super(message);
+    }
+}
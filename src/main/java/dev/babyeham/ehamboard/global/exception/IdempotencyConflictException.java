@@ -0,0 +1,21 @@
+package dev.babyeham.ehamboard.global.exception;
+
+import lombok.Getter;
+
+@Getter
+public class IdempotencyConflictException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 다시 보내도 결과가 달라지지 않는 충돌. Retry-After 를 붙이지 않는다.
+     */
+    public IdempotencyConflictException(String message) {
+        this(message, 0);
+    }
+
+    public IdempotencyConflictException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
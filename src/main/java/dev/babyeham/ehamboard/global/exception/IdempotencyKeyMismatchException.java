@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class InvalidDraftException extends RuntimeException {
+    public InvalidDraftException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+    public InvalidFieldsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class InvalidFollowException extends RuntimeException {
+    public InvalidFollowException(String message) {
+        super(message);
+    }
+}
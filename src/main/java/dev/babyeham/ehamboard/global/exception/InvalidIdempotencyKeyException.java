@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class InvalidIdempotencyKeyException extends RuntimeException {
+    public InvalidIdempotencyKeyException(String message) {
+        super(message);
+    }
+}
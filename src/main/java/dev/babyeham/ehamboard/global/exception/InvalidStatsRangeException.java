@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class InvalidStatsRangeException extends RuntimeException {
+    public InvalidStatsRangeException(String message) {
+        super(message);
+    }
+}
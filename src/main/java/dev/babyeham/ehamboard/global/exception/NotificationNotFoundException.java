@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class NotificationNotFoundException extends RuntimeException {
+    public NotificationNotFoundException(String message) {
+        super(message);
+    }
+}
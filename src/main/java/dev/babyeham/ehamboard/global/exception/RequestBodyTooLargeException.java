@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class RequestBodyTooLargeException extends RuntimeException {
+    public RequestBodyTooLargeException(String message) {
+        super(message);
+    }
+}
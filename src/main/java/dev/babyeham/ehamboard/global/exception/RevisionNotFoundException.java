@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class RevisionNotFoundException extends RuntimeException {
+    public RevisionNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.exception;
+
+public class UserNotFoundException extends RuntimeException {
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package dev.babyeham.ehamboard.global.fieldset;
+
+/**
+ * ?fields= 로 고를 수 있는 응답 필드. getFieldName 은 JSON 속성 이름과 같다.
+ */
+public interface SelectableField {
+    String getFieldName();
+}
@@ -0,0 +1,50 @@
+package dev.babyeham.ehamboard.global.fieldset;
+
+import dev.babyeham.ehamboard.global.exception.InvalidFieldsException;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+public final class SparseFields {
+
+    private SparseFields() {
+    }
+
+    /**
+     * "id,title,username" 같은 값을 필드 집합으로 바꾼다. 모르는 이름이 있으면 거절한다.
+     */
+    public static <E extends Enum<E> & SelectableField> EnumSet<E> parse(String raw, Class<E> type) {
+        EnumSet<E> fields = EnumSet.noneOf(type);
+        for (String name : raw.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            fields.add(find(trimmed, type));
+        }
+        if (fields.isEmpty()) {
+            throw new InvalidFieldsException("fields 에 하나 이상의 필드를 지정해야 합니다.");
+        }
+        return fields;
+    }
+
+    /**
+     * 쿼리 모양 캐시 키로 쓰기 위해 필드 집합을 ordinal 비트로 접는다.
+     */
+    public static <E extends Enum<E>> long mask(Set<E> fields) {
+        long mask = 0;
+        for (E field : fields) {
+            mask |= 1L << field.ordinal();
+        }
+        return mask;
+    }
+
+    private static <E extends Enum<E> & SelectableField> E find(String name, Class<E> type) {
+        for (E field : type.getEnumConstants()) {
+            if (field.getFieldName().equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException("알 수 없는 필드입니다: " + name);
+    }
+}
@@ -0,0 +1,43 @@
+package dev.babyeham.ehamboard.global.fieldset;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 DTO 를 요청한 필드만 남긴 JSON 노드로 바꾼다. 고르지 않은 필드는 null 로도 내보내지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SparseFieldsWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ObjectNode write(Object response, Set<? extends SelectableField> fields) {
+        return trim(response, names(fields));
+    }
+
+    public List<ObjectNode> write(List<?> responses, Set<? extends SelectableField> fields) {
+        Set<String> names = names(fields);
+        return responses.stream()
+                .map(response -> trim(response, names))
+                .collect(Collectors.toList());
+    }
+
+    private ObjectNode trim(Object response, Set<String> names) {
+        ObjectNode node = objectMapper.valueToTree(response);
+        node.retain(names);
+        return node;
+    }
+
+    private Set<String> names(Set<? extends SelectableField> fields) {
+        return fields.stream()
+                .map(SelectableField::getFieldName)
+                .collect(Collectors.toSet());
+    }
+}
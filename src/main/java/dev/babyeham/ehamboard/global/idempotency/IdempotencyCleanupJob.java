@@ -0,0 +1,42 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class IdempotencyCleanupJob {
+
+    private final IdempotencyRecordRepository repository;
+    private final boolean persistent;
+    private final int chunkSize;
+
+    public IdempotencyCleanupJob(IdempotencyRecordRepository repository,
+                                 @Value("${idempotency.persistent.enabled:false}") boolean persistent,
+                                 @Value("${idempotency.cleanup.chunk-size:1000}") int chunkSize) {
+        this.repository = repository;
+        this.persistent = persistent;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.cleanup.interval-ms:600000}")
+    public void cleanup() {
+        if (!persistent) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int deleted;
+        int total = 0;
+        do {
+            deleted = repository.deleteExpired(now, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        if (total > 0) {
+            log.info("만료된 Idempotency-Key {}건 삭제", total);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.exception.InvalidIdempotencyKeyException;
+import dev.babyeham.ehamboard.global.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Idempotency-Key 헤더가 붙은 생성 요청을 한 번만 실행한다.
+ * <p>
+ * 스프링 시큐리티 필터 뒤에서 돌아 인증된 사용자를 알 수 있고, 컨트롤러와 쓰기 제한보다 앞이라 재전송된 요청은
+ * 본문 검증이나 DB 에 닿지 않는다. 2xx 응답만 기억하고, 실패한 요청은 키를 풀어 재시도가 다시 실행되게 한다.
+ * 요청 해시를 위해 본문을 메모리에 읽으므로 max-request-size 를 넘는 본문은 읽기 전에 413 으로 거절한다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final boolean enabled;
+    private final List<String> paths;
+    private final int maxRequestBytes;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore,
+                             @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                             @Value("${idempotency.enabled:true}") boolean enabled,
+                             @Value("${idempotency.paths:/posts,/posts/*/comments}") List<String> paths,
+                             @Value("${idempotency.max-request-size:1MB}") DataSize maxRequestSize) {
+        this.idempotencyStore = idempotencyStore;
+        this.exceptionResolver = exceptionResolver;
+        this.enabled = enabled;
+        this.paths = paths;
+        this.maxRequestBytes = Math.toIntExact(maxRequestSize.toBytes());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        IdempotencyStore.Claim claim;
+        byte[] body;
+        try {
+            body = readBody(request);
+            String key = validate(request.getHeader(HEADER));
+            claim = idempotencyStore.begin(userId, key, requestHash(request, body));
+        } catch (RuntimeException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+            return;
+        }
+
+        if (claim.isReplay()) {
+            replay(response, claim.getReplay());
+            return;
+        }
+
+        ContentCachingResponseWrapper cachingResponse = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(new CachedBodyRequest(request, body), cachingResponse);
+            int status = cachingResponse.getStatus();
+            if (status >= 200 && status < 300) {
+                idempotencyStore.complete(claim, status, cachingResponse.getContentType(),
+                        cachingResponse.getContentAsByteArray());
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.abandon(claim);
+            }
+            cachingResponse.copyBodyToResponse();
+        }
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    // 선언된 길이로 먼저 거절하고, 길이를 모르는 본문도 한도를 넘는 순간 읽기를 멈춘다
+    private byte[] readBody(HttpServletRequest request) throws IOException {
+        if (request.getContentLengthLong() > maxRequestBytes) {
+            throw tooLarge();
+        }
+        byte[] body = request.getInputStream().readNBytes(maxRequestBytes + 1);
+        if (body.length > maxRequestBytes) {
+            throw tooLarge();
+        }
+        return body;
+    }
+
+    private RequestBodyTooLargeException tooLarge() {
+        return new RequestBodyTooLargeException("Idempotency-Key 요청 본문은 " + maxRequestBytes + "바이트 이하여야 합니다.");
+    }
+
+    private String validate(String key) {
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidIdempotencyKeyException("Idempotency-Key 는 1자 이상 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c < 0x21 || c > 0x7e) {
+                throw new InvalidIdempotencyKeyException("Idempotency-Key 에는 공백이 아닌 ASCII 문자만 쓸 수 있습니다.");
+            }
+        }
+        return key;
+    }
+
+    // 같은 키를 다른 엔드포인트나 다른 본문에 다시 쓰는 것을 막기 위해 요청 전체를 요약해 둔다
+    private String requestHash(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((request.getMethod() + ' ' + request.getRequestURI() + '\n').getBytes(StandardCharsets.UTF_8));
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    /**
+     * 요청 해시를 위해 미리 읽은 본문을 컨트롤러가 다시 읽을 수 있게 한다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
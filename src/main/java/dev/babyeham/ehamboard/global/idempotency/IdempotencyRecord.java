@@ -0,0 +1,68 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * IdempotencyStore 의 DB 계층. 행은 IdempotencyRecordRepository 의 네이티브 쿼리로만 만들고 고친다.
+ */
+@Entity
+@Table(name = "idempotency_keys")
+@IdClass(IdempotencyRecord.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord {
+
+    @Id
+    private Long userId;
+
+    @Id
+    private String idempotencyKey;
+
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    private Integer status;
+
+    @Column(length = 100)
+    private String contentType;
+
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] body;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    public boolean isCompleted() {
+        return status != null;
+    }
+
+    public StoredResponse toStoredResponse() {
+        return new StoredResponse(requestHash, status, contentType, body != null ? body : new byte[0]);
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private String idempotencyKey;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key other && userId.equals(other.userId) && idempotencyKey.equals(other.idempotencyKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * userId.hashCode() + idempotencyKey.hashCode();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, IdempotencyRecord.Key> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO idempotency_keys (user_id, idempotency_key, request_hash, created_at, expires_at) "
+            + "VALUES (:userId, :key, :requestHash, :now, :expiresAt)", nativeQuery = true)
+    int insertPending(@Param("userId") Long userId,
+                      @Param("key") String key,
+                      @Param("requestHash") String requestHash,
+                      @Param("now") LocalDateTime now,
+                      @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 만료된 행이나 처리하던 인스턴스가 죽어 오래 남은 처리 중 행을 새 요청이 이어받는다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET request_hash = :requestHash, status = NULL, content_type = NULL, "
+            + "body = NULL, created_at = :now, expires_at = :expiresAt "
+            + "WHERE user_id = :userId AND idempotency_key = :key "
+            + "AND (expires_at < :now OR (status IS NULL AND created_at < :staleBefore))", nativeQuery = true)
+    int takeOver(@Param("userId") Long userId,
+                 @Param("key") String key,
+                 @Param("requestHash") String requestHash,
+                 @Param("now") LocalDateTime now,
+                 @Param("expiresAt") LocalDateTime expiresAt,
+                 @Param("staleBefore") LocalDateTime staleBefore);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET status = :status, content_type = :contentType, body = :body "
+            + "WHERE user_id = :userId AND idempotency_key = :key AND status IS NULL", nativeQuery = true)
+    int complete(@Param("userId") Long userId,
+                 @Param("key") String key,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE user_id = :userId AND idempotency_key = :key AND status IS NULL",
+            nativeQuery = true)
+    int deletePending(@Param("userId") Long userId, @Param("key") String key);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
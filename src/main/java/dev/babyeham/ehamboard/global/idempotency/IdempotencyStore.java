@@ -0,0 +1,285 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.babyeham.ehamboard.global.exception.IdempotencyConflictException;
+import dev.babyeham.ehamboard.global.exception.IdempotencyKeyMismatchException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * (사용자, Idempotency-Key) 마다 처음 처리한 요청의 응답을 기억한다.
+ * <p>
+ * 완료된 응답은 바이트 무게와 TTL 로 묶인 메모리 캐시에 두고, persistent 를 켜면 DB 에도 남겨 재시작과
+ * 다른 인스턴스에서도 재사용한다. 처리 중인 키는 in-flight 맵에 future 로 올려 두어, 같은 인스턴스로 동시에 들어온
+ * 중복 요청은 다시 실행하지 않고 원래 요청의 결과를 기다린다.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final IdempotencyRecordRepository repository;
+    private final boolean persistent;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Duration staleAfter;
+    private final long maxEntryBytes;
+    private final Cache<String, StoredResponse> completed;
+    private final ConcurrentHashMap<String, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter waited;
+    private final Counter conflicts;
+    private final Counter mismatches;
+
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${idempotency.persistent.enabled:false}") boolean persistent,
+                            @Value("${idempotency.ttl:24h}") Duration ttl,
+                            @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout,
+                            @Value("${idempotency.persistent.stale-after:1m}") Duration staleAfter,
+                            @Value("${idempotency.max-size:16MB}") DataSize maxSize,
+                            @Value("${idempotency.max-entry-size:64KB}") DataSize maxEntrySize,
+                            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.persistent = persistent;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.staleAfter = staleAfter;
+        this.maxEntryBytes = maxEntrySize.toBytes();
+        this.completed = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, StoredResponse value) -> value.weight() + key.length() + ENTRY_OVERHEAD_BYTES)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency");
+        this.executed = result(meterRegistry, "executed");
+        this.replayed = result(meterRegistry, "replayed");
+        this.waited = result(meterRegistry, "waited");
+        this.conflicts = result(meterRegistry, "conflict");
+        this.mismatches = result(meterRegistry, "mismatch");
+        Gauge.builder("idempotency.hit.ratio", this, IdempotencyStore::hitRatio).register(meterRegistry);
+        Gauge.builder("idempotency.inflight", inFlight, ConcurrentHashMap::size).register(meterRegistry);
+        Gauge.builder("idempotency.store.weight.bytes", completed,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이미 끝난 요청이면 저장된 응답을, 아니면 이 요청이 실행할 권한을 돌려준다.
+     * 권한을 받은 쪽은 반드시 complete 나 abandon 으로 끝내야 기다리는 요청이 풀린다.
+     */
+    public Claim begin(Long userId, String key, String requestHash) {
+        String id = userId + ":" + key;
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            StoredResponse stored = completed.getIfPresent(id);
+            if (stored != null) {
+                verify(stored.getRequestHash(), requestHash);
+                if (!stored.isReplayable()) {
+                    conflicts.increment();
+                    throw new IdempotencyConflictException("이미 처리된 요청이지만 응답이 커서 다시 돌려줄 수 없습니다.");
+                }
+                replayed.increment();
+                return Claim.replay(stored);
+            }
+
+            InFlight mine = new InFlight(requestHash);
+            InFlight existing = inFlight.putIfAbsent(id, mine);
+            if (existing == null) {
+                return claim(id, userId, key, mine);
+            }
+
+            verify(existing.requestHash, requestHash);
+            StoredResponse result = await(existing, deadline);
+            if (result != null) {
+                verify(result.getRequestHash(), requestHash);
+                waited.increment();
+                return Claim.replay(result);
+            }
+            // 원래 요청이 실패해 키가 풀렸다. 다시 차지해 본다
+        }
+    }
+
+    public void complete(Claim claim, int status, String contentType, byte[] body) {
+        StoredResponse response = new StoredResponse(claim.inFlight.requestHash, status, contentType, body);
+        boolean fits = body.length <= maxEntryBytes;
+        if (fits) {
+            completed.put(claim.id, response);
+        }
+        boolean saved = false;
+        if (persistent) {
+            try {
+                repository.complete(claim.userId, claim.key, status, contentType, body);
+                saved = true;
+            } catch (RuntimeException e) {
+                log.warn("Idempotency-Key 응답 저장 실패: userId={}, key={}", claim.userId, claim.key, e);
+            }
+        }
+        if (!fits && !saved) {
+            // 본문은 기억하지 못해도 처리되었다는 사실은 남겨, 재시도가 다시 실행되지 않고 409 를 받게 한다
+            completed.put(claim.id, StoredResponse.withoutBody(claim.inFlight.requestHash, status));
+        }
+        inFlight.remove(claim.id, claim.inFlight);
+        claim.inFlight.future.complete(response);
+    }
+
+    /**
+     * 실패한 요청은 기억하지 않는다. 키를 풀어 재시도가 다시 실행되게 한다.
+     */
+    public void abandon(Claim claim) {
+        if (persistent) {
+            try {
+                repository.deletePending(claim.userId, claim.key);
+            } catch (RuntimeException e) {
+                log.warn("Idempotency-Key 처리 중 표시 삭제 실패: userId={}, key={}", claim.userId, claim.key, e);
+            }
+        }
+        inFlight.remove(claim.id, claim.inFlight);
+        claim.inFlight.future.complete(null);
+    }
+
+    private Claim claim(String id, Long userId, String key, InFlight mine) {
+        if (!persistent) {
+            executed.increment();
+            return Claim.owner(id, userId, key, mine);
+        }
+        StoredResponse stored;
+        try {
+            stored = claimInDatabase(userId, key, mine.requestHash);
+        } catch (RuntimeException e) {
+            inFlight.remove(id, mine);
+            mine.future.complete(null);
+            throw e;
+        }
+        if (stored == null) {
+            executed.increment();
+            return Claim.owner(id, userId, key, mine);
+        }
+        // 다른 인스턴스나 재시작 전에 이미 끝난 요청이다
+        completed.put(id, stored);
+        inFlight.remove(id, mine);
+        mine.future.complete(stored);
+        verify(stored.getRequestHash(), mine.requestHash);
+        replayed.increment();
+        return Claim.replay(stored);
+    }
+
+    private StoredResponse claimInDatabase(Long userId, String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(ttl);
+        if (repository.insertPending(userId, key, requestHash, now, expiresAt) == 1) {
+            return null;
+        }
+        IdempotencyRecord record = repository.findByUserIdAndIdempotencyKey(userId, key).orElse(null);
+        if (record == null) {
+            // 그 사이 정리되었다
+            if (repository.insertPending(userId, key, requestHash, now, expiresAt) == 1) {
+                return null;
+            }
+            throw conflict();
+        }
+        if (record.isCompleted() && record.getExpiresAt().isAfter(now)) {
+            return record.toStoredResponse();
+        }
+        if (repository.takeOver(userId, key, requestHash, now, expiresAt, now.minus(staleAfter)) == 1) {
+            return null;
+        }
+        // 다른 인스턴스가 아직 처리 중이다
+        throw conflict();
+    }
+
+    private StoredResponse await(InFlight existing, long deadline) {
+        try {
+            return existing.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw conflict();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict();
+        } catch (ExecutionException e) {
+            // future 는 예외로 끝나지 않는다
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void verify(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            mismatches.increment();
+            throw new IdempotencyKeyMismatchException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+    }
+
+    private IdempotencyConflictException conflict() {
+        conflicts.increment();
+        return new IdempotencyConflictException("같은 Idempotency-Key 의 요청을 아직 처리하고 있습니다.", 1);
+    }
+
+    private double hitRatio() {
+        double hits = replayed.count() + waited.count();
+        double total = hits + executed.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    private static Counter result(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static class InFlight {
+        private final String requestHash;
+        private final CompletableFuture<StoredResponse> future = new CompletableFuture<>();
+
+        private InFlight(String requestHash) {
+            this.requestHash = requestHash;
+        }
+    }
+
+    public static class Claim {
+        private final String id;
+        private final Long userId;
+        private final String key;
+        private final InFlight inFlight;
+        @Getter
+        private final StoredResponse replay;
+
+        private Claim(String id, Long userId, String key, InFlight inFlight, StoredResponse replay) {
+            this.id = id;
+            this.userId = userId;
+            this.key = key;
+            this.inFlight = inFlight;
+            this.replay = replay;
+        }
+
+        static Claim owner(String id, Long userId, String key, InFlight inFlight) {
+            return new Claim(id, userId, key, inFlight, null);
+        }
+
+        static Claim replay(StoredResponse response) {
+            return new Claim(null, null, null, null, response);
+        }
+
+        public boolean isReplay() {
+            return replay != null;
+        }
+    }
+}
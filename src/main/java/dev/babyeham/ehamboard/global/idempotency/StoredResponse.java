@@ -0,0 +1,37 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import lombok.Getter;
+
+/**
+ * 처음 처리한 요청의 응답. 같은 키로 다시 온 요청에는 이 값을 그대로 돌려준다.
+ * 응답이 너무 커서 본문을 담지 못한 경우에는 처리되었다는 사실만 남기고 replayable 을 false 로 둔다.
+ */
+@Getter
+public class StoredResponse {
+
+    private final String requestHash;
+    private final int status;
+    private final String contentType;
+    private final byte[] body;
+    private final boolean replayable;
+
+    public StoredResponse(String requestHash, int status, String contentType, byte[] body) {
+        this(requestHash, status, contentType, body, true);
+    }
+
+    private StoredResponse(String requestHash, int status, String contentType, byte[] body, boolean replayable) {
+        this.requestHash = requestHash;
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body;
+        this.replayable = replayable;
+    }
+
+    static StoredResponse withoutBody(String requestHash, int status) {
+        return new StoredResponse(requestHash, status, null, new byte[0], false);
+    }
+
+    int weight() {
+        return body.length + requestHash.length() + (contentType != null ? contentType.length() : 0);
+    }
+}
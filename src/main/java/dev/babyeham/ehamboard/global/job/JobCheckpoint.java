@@ -0,0 +1,31 @@
+package dev.babyeham.ehamboard.global.job;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * id 순으로 훑는 배치 작업의 진행 위치. 작업 이름마다 한 행이며 JobCheckpointRepository.upsert 의 upsert 로만 쓴다.
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @Column(length = 100)
+    private String jobName;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
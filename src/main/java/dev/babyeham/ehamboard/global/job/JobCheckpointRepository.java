@@ -0,0 +1,30 @@
+package dev.babyeham.ehamboard.global.job;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+
+    default long findLastId(String jobName) {
+        return findById(jobName).map(JobCheckpoint::getLastId).orElse(0L);
+    }
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO job_checkpoints (job_name, last_id, updated_at) VALUES (:jobName, :lastId, NOW(6)) "
+            + "ON DUPLICATE KEY UPDATE last_id = VALUES(last_id), updated_at = VALUES(updated_at)",
+            nativeQuery = true)
+    void upsert(@Param("jobName") String jobName, @Param("lastId") long lastId);
+
+    /**
+     * 이미 행이 있으면 그대로 둔다. 여러 인스턴스 중 처음 쓴 값이 남는다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO job_checkpoints (job_name, last_id, updated_at) VALUES (:jobName, :lastId, NOW(6))",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName, @Param("lastId") long lastId);
+}
@@ -0,0 +1,133 @@
+package dev.babyeham.ehamboard.global.markdown;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.strikethrough.StrikethroughExtension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.owasp.html.HtmlPolicyBuilder;
+import org.owasp.html.PolicyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 본문 Markdown 을 HTML 로 바꾸고 허용 목록 밖의 태그/속성을 제거한다.
+ * 결과는 원문의 SHA-256 을 키로 캐시하므로 같은 본문은 한 번만 파싱한다.
+ * 파서와 정책이 바뀌면 RENDERER_VERSION 을 올려 이전 결과를 쓰지 않게 한다. 캐시 키와 함께 DB 에 저장된 HTML 도
+ * rendered_version 이 다르면 쓰지 않고 다시 렌더링한다.
+ */
+@Component
+public class MarkdownRenderer {
+
+    public static final String RENDERER_VERSION = "1";
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final List<Extension> EXTENSIONS =
+            List.of(TablesExtension.create(), StrikethroughExtension.create());
+
+    private static final PolicyFactory POLICY = new HtmlPolicyBuilder()
+            .allowElements("p", "br", "hr", "h1", "h2", "h3", "h4", "h5", "h6", "blockquote", "pre", "code",
+                    "em", "strong", "del", "ul", "ol", "li", "a", "img",
+                    "table", "thead", "tbody", "tr", "th", "td")
+            .allowUrlProtocols("http", "https", "mailto")
+            .allowAttributes("href", "title").onElements("a")
+            .allowAttributes("src", "alt", "title").onElements("img")
+            .allowAttributes("start").matching(Pattern.compile("\\d{1,9}")).onElements("ol")
+            .allowAttributes("class").matching(Pattern.compile("language-[\\w+-]{1,40}")).onElements("code")
+            .allowAttributes("align").matching(true, "left", "center", "right").onElements("th", "td")
+            .requireRelsOnLinks("nofollow", "noopener", "noreferrer")
+            .toFactory();
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    // 원문 HTML 은 태그로 해석하지 않고 그대로 escape 한다. sanitizer 는 한 번 더 거르는 역할이다
+    private final HtmlRenderer htmlRenderer = HtmlRenderer.builder()
+            .extensions(EXTENSIONS)
+            .escapeHtml(true)
+            .sanitizeUrls(true)
+            .build();
+
+    private final boolean persistEnabled;
+    private final Cache<String, String> cache;
+    private final Timer renderTimer;
+
+    public MarkdownRenderer(MeterRegistry meterRegistry,
+                            @Value("${markdown.cache.max-size:32MB}") DataSize cacheMaxSize,
+                            @Value("${markdown.persist-rendered-html:true}") boolean persistEnabled) {
+        this.persistEnabled = persistEnabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaxSize.toBytes())
+                .weigher((String key, String html) -> html.length() * 2 + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        this.renderTimer = Timer.builder("markdown.render").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "markdownHtml");
+    }
+
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        return cache.get(contentHash(markdown), key -> renderTimer.record(() -> renderUncached(markdown)));
+    }
+
+    /**
+     * 저장된 HTML 이 현재 렌더러 버전으로 만들어졌으면 그대로 쓰고, 아니면(이전 버전이거나 저장을 끈 경우) 캐시를 거쳐 렌더링한다.
+     */
+    public String resolve(String markdown, String persistedHtml, String persistedVersion) {
+        return isCurrent(persistedHtml, persistedVersion) ? persistedHtml : render(markdown);
+    }
+
+    /**
+     * resolve 와 같지만 원문은 저장된 HTML 을 쓸 수 없을 때만 꺼낸다. 압축된 본문을 풀지 않아도 되는 조회에 쓴다.
+     */
+    public String resolveLazily(String persistedHtml, String persistedVersion, Supplier<String> markdown) {
+        return isCurrent(persistedHtml, persistedVersion) ? persistedHtml : render(markdown.get());
+    }
+
+    private static boolean isCurrent(String persistedHtml, String persistedVersion) {
+        return persistedHtml != null && RENDERER_VERSION.equals(persistedVersion);
+    }
+
+    /**
+     * renderForStorage 결과와 함께 rendered_version 컬럼에 넣을 값.
+     */
+    public String version() {
+        return RENDERER_VERSION;
+    }
+
+    /**
+     * 엔티티의 rendered_html 컬럼에 넣을 값. 저장을 끄면 null 이고 조회 시점에 렌더링된다.
+     */
+    public String renderForStorage(String markdown) {
+        return persistEnabled ? render(markdown) : null;
+    }
+
+    String renderUncached(String markdown) {
+        return POLICY.sanitize(htmlRenderer.render(parser.parse(markdown)));
+    }
+
+    private static String contentHash(String markdown) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(RENDERER_VERSION.getBytes(StandardCharsets.US_ASCII));
+            digest.update(markdown.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
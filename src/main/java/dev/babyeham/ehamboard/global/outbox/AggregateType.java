@@ -0,0 +1,7 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+public enum AggregateType {
+    POST,
+    COMMENT,
+    ATTACHMENT
+}
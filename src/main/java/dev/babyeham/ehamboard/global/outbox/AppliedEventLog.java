@@ -0,0 +1,66 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 핸들러가 이미 반영한 아웃박스 이벤트 id 를 기록하는 표.
+ * 반영과 같은 트랜잭션에서 record 를 부르고 돌려받은 id 의 이벤트만 반영하면,
+ * 같은 이벤트가 다시 전달되거나 재생되어도 한 번만 반영된다.
+ * 표는 (event_id PK, applied_at) 두 열이어야 한다.
+ */
+public class AppliedEventLog {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private final int chunkSize;
+
+    public AppliedEventLog(JdbcTemplate jdbcTemplate, String table, int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 아직 기록되지 않은 id 만 기록하고 그 id 들을 돌려준다.
+     * 다른 트랜잭션이 같은 id 를 동시에 기록해 개수가 맞지 않으면 예외를 던져 호출한 트랜잭션을 되돌린다.
+     */
+    public Set<Long> record(Collection<Long> eventIds) {
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(eventIds));
+        LocalDateTime appliedAt = LocalDateTime.now();
+        Set<Long> recorded = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+            Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT event_id FROM " + table + " WHERE event_id IN (" + placeholders(chunk.size(), "?") + ")",
+                    Long.class, chunk.toArray()));
+            List<Long> fresh = chunk.stream().filter(id -> !existing.contains(id)).toList();
+            if (fresh.isEmpty()) {
+                continue;
+            }
+            List<Object> args = new ArrayList<>(fresh.size() * 2);
+            for (Long id : fresh) {
+                args.add(id);
+                args.add(appliedAt);
+            }
+            int inserted = jdbcTemplate.update(
+                    "INSERT IGNORE INTO " + table + " (event_id, applied_at) VALUES " + placeholders(fresh.size(), "(?, ?)"),
+                    args.toArray());
+            if (inserted != fresh.size()) {
+                throw new IllegalStateException("다른 트랜잭션이 같은 이벤트를 동시에 반영했습니다: " + table);
+            }
+            recorded.addAll(fresh);
+        }
+        return recorded;
+    }
+
+    public int deleteAppliedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE applied_at < ? LIMIT ?", before, limit);
+    }
+
+    private static String placeholders(int count, String placeholder) {
+        return String.join(", ", Collections.nCopies(count, placeholder));
+    }
+}
@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 디스패처가 커밋 이후 요청 경로 밖에서 호출한다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로(at-least-once) 구현은 멱등해야 한다.
+ */
+public interface DomainEventHandler {
+
+    Set<DomainEventType> eventTypes();
+
+    void handle(DomainEventMessage message) throws Exception;
+}
@@ -0,0 +1,35 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class DomainEventMessage {
+
+    private final Long eventId;
+    private final DomainEventType eventType;
+    private final Long aggregateId;
+    private final LocalDateTime occurredAt;
+    private final String payload;
+    private final ObjectMapper objectMapper;
+
+    DomainEventMessage(OutboxEvent event, ObjectMapper objectMapper) {
+        this.eventId = event.getId();
+        this.eventType = event.getEventType();
+        this.aggregateId = event.getAggregateId();
+        this.occurredAt = event.getCreatedAt();
+        this.payload = event.getPayload();
+        this.objectMapper = objectMapper;
+    }
+
+    public <T> T payloadAs(Class<T> type) {
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트 페이로드를 읽을 수 없습니다: " + eventId, e);
+        }
+    }
+}
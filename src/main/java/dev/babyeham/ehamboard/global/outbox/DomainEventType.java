@@ -0,0 +1,18 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DomainEventType {
+    POST_CREATED(AggregateType.POST),
+    POST_UPDATED(AggregateType.POST),
+    POST_DELETED(AggregateType.POST),
+    COMMENT_CREATED(AggregateType.COMMENT),
+    COMMENT_UPDATED(AggregateType.COMMENT),
+    COMMENT_DELETED(AggregateType.COMMENT),
+    ATTACHMENT_CREATED(AggregateType.ATTACHMENT);
+
+    private final AggregateType aggregateType;
+}
@@ -0,0 +1,208 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * ProjectionEventHandler 에 아웃박스 이벤트를 모든 인스턴스에서 전달한다.
+ * 인스턴스마다 메모리에 읽은 위치를 두고 outbox_events 를 id 순으로 따라 읽는다. 아웃박스 행은 도메인 변경과 같은
+ * 트랜잭션에서 쓰이므로 보이는 시점에는 이미 커밋되어 있어, 처리 상태와 상관없이 바로 전달한다.
+ * <p>
+ * id 는 커밋 순서가 아니라 INSERT 순서로 매겨지므로, 뒤 id 가 먼저 보이면 앞 id 는 아직 커밋 전이거나 롤백된 것이다.
+ * 빈 id 는 gap-timeout 동안 기다렸다가 건너뛰고, 그 뒤 late-window 동안 따로 다시 확인해 늦게 커밋된 이벤트도 전달한다.
+ * 그래서 뷰는 다른 인스턴스의 쓰기를 보통 poll-interval 안에, 늦어도 gap-timeout 안에 반영한다.
+ * <p>
+ * 기동할 때는 가장 큰 id 부터 읽는다. 그 전의 변경은 각 뷰가 DB 에서 다시 만들며 반영하므로,
+ * 이 빈(bean)은 뷰의 재구성보다 먼저 시작되어야 한다(SmartLifecycle 은 ApplicationReadyEvent 전에 시작된다).
+ * 핸들러 실패는 재시도하지 않고 로그만 남긴다.
+ */
+@Slf4j
+@Component
+public class OutboxBroadcaster implements SmartLifecycle {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<ProjectionEventHandler> handlerProvider;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Duration gapTimeout;
+    private final Duration lateWindow;
+    private final int maxLateIds;
+
+    // 아래 필드는 폴링 스레드만 쓴다
+    private long cursor;
+    private final NavigableSet<Long> deliveredAhead = new TreeSet<>();
+    private final Map<Long, Long> lateDeadlines = new HashMap<>();
+    private long gapSeenAt = -1;
+    private Map<DomainEventType, List<ProjectionEventHandler>> handlers;
+
+    private volatile boolean running;
+    private Thread pollerThread;
+
+    public OutboxBroadcaster(OutboxEventRepository outboxEventRepository,
+                             ObjectProvider<ProjectionEventHandler> handlerProvider,
+                             ObjectMapper objectMapper,
+                             @Value("${outbox.broadcast.enabled:true}") boolean enabled,
+                             @Value("${outbox.broadcast.batch-size:500}") int batchSize,
+                             @Value("${outbox.broadcast.poll-interval:200ms}") Duration pollInterval,
+                             @Value("${outbox.broadcast.gap-timeout:5s}") Duration gapTimeout,
+                             @Value("${outbox.broadcast.late-window:1m}") Duration lateWindow,
+                             @Value("${outbox.broadcast.max-late-ids:1000}") int maxLateIds) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlerProvider = handlerProvider;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.gapTimeout = gapTimeout;
+        this.lateWindow = lateWindow;
+        this.maxLateIds = maxLateIds;
+    }
+
+    @Override
+    public void start() {
+        cursor = outboxEventRepository.findMaxId();
+        running = true;
+        pollerThread = new Thread(this::pollLoop, "outbox-broadcaster");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (pollerThread != null) {
+            pollerThread.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    private void pollLoop() {
+        while (running) {
+            long before = cursor;
+            int fetched;
+            try {
+                fetched = poll(System.currentTimeMillis());
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 브로드캐스트 조회 실패", e);
+                fetched = 0;
+            }
+            // 빈 id 를 기다리는 동안에는 같은 행을 다시 읽게 되므로 위치가 그대로면 쉰다
+            if (fetched < batchSize || cursor == before) {
+                try {
+                    Thread.sleep(pollInterval.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 번 따라 읽는다. 읽은 행 수를 돌려준다.
+     */
+    int poll(long nowMillis) {
+        recheckLate(nowMillis);
+        List<OutboxEvent> events = outboxEventRepository.findAfter(cursor, Limit.of(batchSize));
+        for (OutboxEvent event : events) {
+            if (deliveredAhead.add(event.getId())) {
+                deliver(event);
+            }
+        }
+        advance(nowMillis);
+        return events.size();
+    }
+
+    long cursor() {
+        return cursor;
+    }
+
+    void startAt(long cursor) {
+        this.cursor = cursor;
+    }
+
+    private void advance(long nowMillis) {
+        while (true) {
+            while (!deliveredAhead.isEmpty() && deliveredAhead.first() == cursor + 1) {
+                cursor = deliveredAhead.pollFirst();
+            }
+            if (deliveredAhead.isEmpty()) {
+                gapSeenAt = -1;
+                return;
+            }
+            if (gapSeenAt < 0) {
+                gapSeenAt = nowMillis;
+                return;
+            }
+            if (nowMillis - gapSeenAt < gapTimeout.toMillis()) {
+                return;
+            }
+            // 기다려도 채워지지 않은 id 는 건너뛰고, 늦게 커밋되는지 late-window 동안 따로 확인한다
+            long next = deliveredAhead.first();
+            for (long id = cursor + 1; id < next && lateDeadlines.size() < maxLateIds; id++) {
+                lateDeadlines.put(id, nowMillis + lateWindow.toMillis());
+            }
+            cursor = next - 1;
+            gapSeenAt = -1;
+        }
+    }
+
+    private void recheckLate(long nowMillis) {
+        if (lateDeadlines.isEmpty()) {
+            return;
+        }
+        for (OutboxEvent event : outboxEventRepository.findAllById(lateDeadlines.keySet())) {
+            lateDeadlines.remove(event.getId());
+            deliver(event);
+        }
+        lateDeadlines.values().removeIf(deadline -> deadline <= nowMillis);
+    }
+
+    private void deliver(OutboxEvent event) {
+        List<ProjectionEventHandler> targets = handlers().getOrDefault(event.getEventType(), List.of());
+        if (targets.isEmpty()) {
+            return;
+        }
+        DomainEventMessage message = new DomainEventMessage(event, objectMapper);
+        for (ProjectionEventHandler handler : targets) {
+            try {
+                handler.handle(message);
+            } catch (Exception e) {
+                log.warn("뷰 반영 실패: id={}, type={}, handler={}",
+                        event.getId(), event.getEventType(), handler.getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private Map<DomainEventType, List<ProjectionEventHandler>> handlers() {
+        if (handlers == null) {
+            Map<DomainEventType, List<ProjectionEventHandler>> resolved = new EnumMap<>(DomainEventType.class);
+            for (ProjectionEventHandler handler : handlerProvider.orderedStream().toList()) {
+                for (DomainEventType type : handler.eventTypes()) {
+                    resolved.computeIfAbsent(type, t -> new ArrayList<>()).add(handler);
+                }
+            }
+            handlers = resolved;
+        }
+        return handlers;
+    }
+}
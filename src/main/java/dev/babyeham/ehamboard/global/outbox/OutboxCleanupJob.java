@@ -0,0 +1,40 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+public class OutboxCleanupJob {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public OutboxCleanupJob(OutboxEventRepository outboxEventRepository,
+                            @Value("${outbox.cleanup.retention:1d}") Duration retention,
+                            @Value("${outbox.cleanup.chunk-size:1000}") int chunkSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.cleanup.interval-ms:600000}")
+    public void cleanup() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        int deleted;
+        int total = 0;
+        do {
+            deleted = outboxEventRepository.deleteProcessedBefore(before, chunkSize);
+            total += deleted;
+        } while (deleted == chunkSize);
+        if (total > 0) {
+            log.info("처리 완료된 아웃박스 이벤트 {}건 삭제", total);
+        }
+    }
+}
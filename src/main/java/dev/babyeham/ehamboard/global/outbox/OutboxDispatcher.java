@@ -0,0 +1,324 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 이벤트를 요청 경로 밖에서 전달한다.
+ * 같은 애그리거트의 이벤트는 항상 같은 레인에서 id 순서대로 처리되고,
+ * 앞선 이벤트가 재시도 대기 중이거나 다른 인스턴스가 처리 중이면 뒤 이벤트도 기다린다.
+ * <p>
+ * 배치는 FOR UPDATE SKIP LOCKED 로 잠가 가져오고 처리 결과 기록까지 한 트랜잭션으로 묶으므로,
+ * 여러 인스턴스가 떠 있어도 한 이벤트는 한 인스턴스만 처리한다. DB 에 쓰는 핸들러는 그래서 한 번만 실행된다.
+ * 메모리에만 반영하는 ProjectionEventHandler 는 여기서 부르지 않는다. 모든 인스턴스에 반영되어야 하므로
+ * OutboxBroadcaster 가 인스턴스마다 따로 전달한다.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher implements SmartLifecycle {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectProvider<DomainEventHandler> handlerProvider;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int laneCount;
+    private final int maxAttempts;
+    private final Duration pollInterval;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final ExecutorService laneExecutor;
+    private final Semaphore wakeUpSignal = new Semaphore(0);
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter processedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer batchTimer;
+
+    private volatile Map<DomainEventType, List<DomainEventHandler>> handlers;
+    private volatile boolean running;
+    private Thread pollerThread;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            ObjectProvider<DomainEventHandler> handlerProvider,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${outbox.dispatcher.batch-size:200}") int batchSize,
+                            @Value("${outbox.dispatcher.lanes:4}") int laneCount,
+                            @Value("${outbox.dispatcher.max-attempts:10}") int maxAttempts,
+                            @Value("${outbox.dispatcher.poll-interval:1s}") Duration pollInterval,
+                            @Value("${outbox.dispatcher.base-backoff:1s}") Duration baseBackoff,
+                            @Value("${outbox.dispatcher.max-backoff:5m}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlerProvider = handlerProvider;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // REPEATABLE READ 의 갭 잠금이 배치 동안 새 이벤트 INSERT 를 막지 않도록 읽은 행만 잠근다
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.laneCount = laneCount;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = pollInterval;
+        this.baseBackoff = baseBackoff;
+        this.maxBackoff = maxBackoff;
+        this.laneExecutor = Executors.newFixedThreadPool(laneCount, laneThreadFactory());
+
+        this.processedCounter = Counter.builder("outbox.events").tag("result", "processed").register(meterRegistry);
+        this.retriedCounter = Counter.builder("outbox.events").tag("result", "retried").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("outbox.events").tag("result", "dead_lettered").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.batch").register(meterRegistry);
+        TimeGauge.builder("outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 미처리 이벤트의 대기 시간")
+                .register(meterRegistry);
+    }
+
+    public void wakeUp() {
+        if (wakeUpSignal.availablePermits() == 0) {
+            wakeUpSignal.release();
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        pollerThread = new Thread(this::pollLoop, "outbox-dispatcher");
+        pollerThread.setDaemon(true);
+        pollerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        wakeUpSignal.release();
+        try {
+            if (pollerThread != null) {
+                pollerThread.join(pollInterval.toMillis() * 5);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        laneExecutor.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    private void pollLoop() {
+        while (running) {
+            int fetched;
+            try {
+                fetched = dispatchBatch();
+            } catch (RuntimeException e) {
+                log.warn("아웃박스 배치 처리 실패", e);
+                fetched = 0;
+            }
+            if (fetched < batchSize) {
+                try {
+                    // 커밋 직후 wakeUp 신호가 오거나 폴링 주기가 지나면 다시 조회한다
+                    wakeUpSignal.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                    wakeUpSignal.drainPermits();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    int dispatchBatch() {
+        Integer fetched = transactionTemplate.execute(status -> dispatchClaimed());
+        return fetched != null ? fetched : 0;
+    }
+
+    private int dispatchClaimed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> batch = outboxEventRepository.claimDue(now, batchSize);
+        if (batch.isEmpty()) {
+            lagMillis.set(0);
+            return 0;
+        }
+        lagMillis.set(Math.max(0, Duration.between(batch.get(0).getCreatedAt(), now).toMillis()));
+
+        Timer.Sample sample = Timer.start();
+        Map<String, Long> blockedFrom = findBlockedAggregates(batch);
+        List<List<List<OutboxEvent>>> lanes = partition(batch, blockedFrom);
+
+        Queue<Long> succeeded = new ConcurrentLinkedQueue<>();
+        Queue<Failure> failures = new ConcurrentLinkedQueue<>();
+        List<Future<?>> futures = new ArrayList<>(lanes.size());
+        for (List<List<OutboxEvent>> lane : lanes) {
+            if (!lane.isEmpty()) {
+                futures.add(laneExecutor.submit(() -> runLane(lane, succeeded, failures)));
+            }
+        }
+        awaitAll(futures);
+
+        if (!succeeded.isEmpty()) {
+            outboxEventRepository.markProcessed(new ArrayList<>(succeeded), LocalDateTime.now());
+            processedCounter.increment(succeeded.size());
+        }
+        failures.forEach(this::recordFailure);
+        sample.stop(batchTimer);
+        return batch.size();
+    }
+
+    /**
+     * 이 배치에 없는 더 앞선 미처리 이벤트(재시도 대기 중이거나 다른 인스턴스가 잠근 것)가 있는 애그리거트와 그 id.
+     */
+    private Map<String, Long> findBlockedAggregates(List<OutboxEvent> batch) {
+        Set<Long> claimed = new HashSet<>();
+        Set<Long> aggregateIds = new HashSet<>();
+        for (OutboxEvent event : batch) {
+            claimed.add(event.getId());
+            aggregateIds.add(event.getAggregateId());
+        }
+        Map<String, Long> blockedFrom = new HashMap<>();
+        for (PendingHead head : outboxEventRepository.findPendingHeads(aggregateIds)) {
+            if (!claimed.contains(head.getFirstId())) {
+                blockedFrom.put(head.aggregateKey(), head.getFirstId());
+            }
+        }
+        return blockedFrom;
+    }
+
+    private List<List<List<OutboxEvent>>> partition(List<OutboxEvent> batch, Map<String, Long> blockedFrom) {
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            Long blockedId = blockedFrom.get(event.aggregateKey());
+            if (blockedId != null && blockedId < event.getId()) {
+                continue;
+            }
+            byAggregate.computeIfAbsent(event.aggregateKey(), k -> new ArrayList<>()).add(event);
+        }
+
+        List<List<List<OutboxEvent>>> lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new ArrayList<>());
+        }
+        byAggregate.forEach((key, events) -> lanes.get(Math.floorMod(key.hashCode(), laneCount)).add(events));
+        return lanes;
+    }
+
+    private void runLane(List<List<OutboxEvent>> aggregates, Queue<Long> succeeded, Queue<Failure> failures) {
+        for (List<OutboxEvent> events : aggregates) {
+            for (OutboxEvent event : events) {
+                try {
+                    deliver(event);
+                    succeeded.add(event.getId());
+                } catch (Exception e) {
+                    failures.add(new Failure(event, e));
+                    // 실패한 이벤트 뒤의 이벤트는 순서를 지키기 위해 다음 시도로 미룬다
+                    break;
+                }
+            }
+        }
+    }
+
+    private void deliver(OutboxEvent event) throws Exception {
+        DomainEventMessage message = new DomainEventMessage(event, objectMapper);
+        for (DomainEventHandler handler : handlers().getOrDefault(event.getEventType(), List.of())) {
+            handler.handle(message);
+        }
+    }
+
+    private void recordFailure(Failure failure) {
+        OutboxEvent event = failure.event();
+        int attempts = event.getAttempts() + 1;
+        String error = truncate(String.valueOf(failure.cause()));
+        if (attempts >= maxAttempts) {
+            log.error("아웃박스 이벤트 처리 포기: id={}, type={}, aggregateId={}",
+                    event.getId(), event.getEventType(), event.getAggregateId(), failure.cause());
+            outboxEventRepository.recordFailure(event.getId(), OutboxStatus.FAILED, attempts, null, error);
+            deadLetteredCounter.increment();
+            return;
+        }
+        log.warn("아웃박스 이벤트 처리 실패, 재시도 예정: id={}, attempts={}", event.getId(), attempts, failure.cause());
+        outboxEventRepository.recordFailure(event.getId(), OutboxStatus.PENDING, attempts,
+                LocalDateTime.now().plus(backoff(attempts)), error);
+        retriedCounter.increment();
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private Map<DomainEventType, List<DomainEventHandler>> handlers() {
+        Map<DomainEventType, List<DomainEventHandler>> resolved = handlers;
+        if (resolved == null) {
+            // 핸들러가 다시 퍼블리셔를 의존할 수 있어 생성 시점이 아니라 첫 사용 시점에 조회한다
+            resolved = new EnumMap<>(DomainEventType.class);
+            for (DomainEventHandler handler : handlerProvider.orderedStream().toList()) {
+                if (handler instanceof ProjectionEventHandler) {
+                    continue;
+                }
+                for (DomainEventType type : handler.eventTypes()) {
+                    resolved.computeIfAbsent(type, t -> new ArrayList<>()).add(handler);
+                }
+            }
+            handlers = resolved;
+        }
+        return resolved;
+    }
+
+    private static void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("아웃박스 배치 처리가 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("아웃박스 레인 처리 실패", e.getCause());
+            }
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static ThreadFactory laneThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "outbox-lane-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private record Failure(OutboxEvent event, Exception cause) {
+    }
+}
@@ -0,0 +1,61 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 처리할 이벤트를 잠가 가져온다. 다른 인스턴스가 잠근 행은 건너뛰므로 인스턴스끼리 같은 이벤트를 동시에 처리하지 않는다.
+     * 잠금은 호출한 트랜잭션이 끝날 때까지 유지된다.
+     */
+    @Query(value = "SELECT * FROM outbox_events WHERE status = 'PENDING' "
+            + "AND (next_attempt_at IS NULL OR next_attempt_at <= :now) ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT e.aggregateType AS aggregateType, e.aggregateId AS aggregateId, MIN(e.id) AS firstId "
+            + "FROM OutboxEvent e WHERE e.status = dev.babyeham.ehamboard.global.outbox.OutboxStatus.PENDING "
+            + "AND e.aggregateId IN :aggregateIds GROUP BY e.aggregateType, e.aggregateId")
+    List<PendingHead> findPendingHeads(@Param("aggregateIds") Collection<Long> aggregateIds);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :afterId AND e.eventType IN :types ORDER BY e.id")
+    List<OutboxEvent> findAfter(@Param("afterId") long afterId,
+                                @Param("types") Collection<DomainEventType> types,
+                                Limit limit);
+
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id > :afterId ORDER BY e.id")
+    List<OutboxEvent> findAfter(@Param("afterId") long afterId, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e")
+    long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = dev.babyeham.ehamboard.global.outbox.OutboxStatus.PROCESSED, e.processedAt = :processedAt WHERE e.id IN :ids")
+    int markProcessed(@Param("ids") List<Long> ids, @Param("processedAt") LocalDateTime processedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, "
+            + "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id,
+                      @Param("status") OutboxStatus status,
+                      @Param("attempts") int attempts,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("lastError") String lastError);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE status = 'PROCESSED' AND processed_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
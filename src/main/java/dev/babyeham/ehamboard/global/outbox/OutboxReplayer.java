@@ -0,0 +1,81 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 이벤트를 메모리에 모았다가 나중에 쓰는 핸들러를 위해, 처리 완료된 이벤트를 id 순으로 다시 읽어 준다.
+ * 아웃박스는 핸들러가 반환하면 처리 완료로 표시하므로, 모아 둔 것을 쓰기 전에 인스턴스가 죽으면 그 이벤트는 다시 전달되지 않는다.
+ * 처리 완료 후 settleDelay 가 지난 이벤트를 다시 넘겨 주고, 받는 쪽은 AppliedEventLog 로 이미 쓴 이벤트를 걸러 낸다.
+ * <p>
+ * 진행 위치는 job_checkpoints 에 둔다. 아직 처리 중이거나 재시도 대기 중인 이벤트를 만나면 그 앞에서 멈추므로
+ * 늦게 처리된 이벤트를 건너뛰지 않는다. 포기(FAILED)한 이벤트는 다시 넘기지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxReplayer {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * sink 가 예외 없이 반환한 뒤에만 진행 위치를 옮긴다. sink 는 같은 이벤트를 다시 받아도 멱등해야 한다.
+     *
+     * @return 넘겨 준 이벤트 수
+     */
+    public int replay(String name, Set<DomainEventType> types, Duration settleDelay, int chunkSize,
+                      Consumer<List<DomainEventMessage>> sink) {
+        if (!checkpointRepository.existsById(name)) {
+            // 처음 켜진 소비자는 지금까지의 이벤트를 이미 반영된 것으로 보고 현재 위치부터 시작한다
+            checkpointRepository.insertIfAbsent(name, outboxEventRepository.findMaxId());
+            return 0;
+        }
+        long afterId = checkpointRepository.findLastId(name);
+        int replayed = 0;
+        while (true) {
+            LocalDateTime settledBefore = LocalDateTime.now().minus(settleDelay);
+            List<OutboxEvent> events = outboxEventRepository.findAfter(afterId, types, Limit.of(chunkSize));
+            List<DomainEventMessage> settled = new ArrayList<>();
+            long lastId = afterId;
+            for (OutboxEvent event : events) {
+                if (!isSettled(event, settledBefore)) {
+                    break;
+                }
+                if (event.getStatus() == OutboxStatus.PROCESSED) {
+                    settled.add(new DomainEventMessage(event, objectMapper));
+                }
+                lastId = event.getId();
+            }
+            if (!settled.isEmpty()) {
+                sink.accept(settled);
+                replayed += settled.size();
+            }
+            if (lastId > afterId) {
+                checkpointRepository.upsert(name, lastId);
+                afterId = lastId;
+            }
+            if (events.size() < chunkSize || lastId != events.get(events.size() - 1).getId()) {
+                return replayed;
+            }
+        }
+    }
+
+    private static boolean isSettled(OutboxEvent event, LocalDateTime settledBefore) {
+        return switch (event.getStatus()) {
+            case PROCESSED -> event.getProcessedAt() != null && event.getProcessedAt().isBefore(settledBefore);
+            case FAILED -> true;
+            case PENDING -> false;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+/**
+ * 애그리거트별로 아직 처리되지 않은 가장 앞선 이벤트.
+ */
+public interface PendingHead {
+    AggregateType getAggregateType();
+    Long getAggregateId();
+    Long getFirstId();
+
+    default String aggregateKey() {
+        return getAggregateType() + ":" + getAggregateId();
+    }
+}
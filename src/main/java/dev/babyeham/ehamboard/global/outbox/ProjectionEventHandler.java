@@ -0,0 +1,9 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+/**
+ * 인스턴스 메모리의 뷰(인기글, 타임라인 버퍼, 자동완성, 태그 색인)에만 반영하는 핸들러.
+ * 아웃박스 디스패처는 한 이벤트를 한 인스턴스에서만 처리하므로 이 핸들러는 부르지 않고,
+ * OutboxBroadcaster 가 모든 인스턴스에서 부른다. DB 에 쓰는 일은 하지 않아야 한다.
+ */
+public interface ProjectionEventHandler extends DomainEventHandler {
+}
@@ -0,0 +1,23 @@
+package dev.babyeham.ehamboard.global.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+
+public interface BlobStore {
+
+    /**
+     * 스트림을 끝까지 읽어 저장하면서 SHA-256 을 함께 계산한다. maxBytes 를 넘으면 FileTooLargeException.
+     */
+    StoredBlob store(InputStream content, long maxBytes) throws IOException;
+
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 로컬 파일로 접근할 수 있으면 경로를 돌려준다. 다운로드 시 sendfile/transferTo 를 쓰는 데 사용한다.
+     */
+    Optional<Path> localPath(String key);
+
+    void delete(String key) throws IOException;
+}
@@ -0,0 +1,50 @@
+package dev.babyeham.ehamboard.global.storage;
+
+/**
+ * 단일 HTTP Range(bytes=start-end, bytes=start-, bytes=-suffix)를 해석한다.
+ * 여러 구간을 요청하면 전체 응답으로 대신한다(RFC 9110 상 서버는 Range 를 무시할 수 있다).
+ */
+public record ByteRange(long start, long end) {
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public static ByteRange full(long size) {
+        return new ByteRange(0, size - 1);
+    }
+
+    /**
+     * @return 헤더가 없거나 무시할 형식이면 null
+     * @throws IllegalArgumentException 만족할 수 없는 범위(416)
+     */
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || size == 0) {
+                    throw new IllegalArgumentException("만족할 수 없는 범위입니다.");
+                }
+                return new ByteRange(Math.max(0, size - suffix), size - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (start >= size || start > end) {
+                throw new IllegalArgumentException("만족할 수 없는 범위입니다.");
+            }
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
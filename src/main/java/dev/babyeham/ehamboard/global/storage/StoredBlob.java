@@ -0,0 +1,12 @@
+package dev.babyeham.ehamboard.global.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredBlob {
+    private String key;
+    private long size;
+    private String sha256;
+}
@@ -0,0 +1,128 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷. 키를 해시로 stripe 에 나눠 stripe 마다 락 하나와 LRU 맵 하나를 두므로,
+ * 서로 다른 사용자의 요청은 거의 같은 락을 잡지 않고 전체 버킷 수는 maxEntries 로 묶인다.
+ * 버킷은 마지막 갱신 시각과 남은 토큰만 들고, 요청이 올 때 지난 시간만큼 채운다.
+ * 쫓겨난 버킷은 다음 요청에 가득 찬 상태로 다시 만들어지는데, 오래 쓰이지 않은 버킷은 어차피 다 차 있다.
+ */
+public class TokenBucketStore {
+
+    private final Stripe[] stripes;
+    private final int mask;
+    private final LongSupplier nanoClock;
+    private final LongAdder contended = new LongAdder();
+
+    public TokenBucketStore(int stripes, int maxEntries, LongSupplier nanoClock) {
+        int count = Integer.highestOneBit(Math.max(1, stripes - 1) << 1);
+        int perStripe = Math.max(1, maxEntries / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.mask = count - 1;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 토큰 하나를 쓴다. 성공하면 0, 모자라면 토큰 하나가 찰 때까지 남은 나노초를 돌려준다.
+     */
+    public long tryAcquire(String key, double permitsPerSecond, int burst) {
+        Stripe stripe = stripeFor(key);
+        if (!stripe.lock.tryLock()) {
+            contended.increment();
+            stripe.lock.lock();
+        }
+        try {
+            long now = nanoClock.getAsLong();
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(burst, now);
+                stripe.buckets.put(key, bucket);
+            } else {
+                double refill = (now - bucket.updatedAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+                bucket.tokens = Math.min(burst, bucket.tokens + refill);
+                bucket.updatedAt = now;
+            }
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            if (permitsPerSecond <= 0) {
+                return Long.MAX_VALUE;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * tryAcquire 로 쓴 토큰 하나를 되돌린다. 뒤 단계에서 요청이 거절돼 실제로 쓰이지 않았을 때 부른다.
+     */
+    public void refund(String key, int burst) {
+        Stripe stripe = stripeFor(key);
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) {
+                bucket.tokens = Math.min(burst, bucket.tokens + 1);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public long contendedCount() {
+        return contended.sum();
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private Stripe stripeFor(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & mask];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        Stripe(int capacity) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
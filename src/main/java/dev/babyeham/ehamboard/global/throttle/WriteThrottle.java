@@ -0,0 +1,129 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 쓰기 요청을 사용자별 한도와 전체 한도 두 단계로 거른다.
+ * <p>
+ * 사용자별 한도는 TokenBucketStore 에 둔다. 전체 한도는 모든 요청이 지나는 단일 버킷이라 락 대신
+ * GCRA(다음 요청이 허용되는 이론상 시각 하나를 CAS 로 밀어 가는 방식, 토큰 버킷과 같은 결과)로 처리한다.
+ * 전체 처리율에는 커넥션 풀 압력에 따라 AIMD 로 움직이는 배율을 곱한다.
+ */
+@Slf4j
+@Component
+public class WriteThrottle {
+
+    private final WriteThrottleProperties properties;
+    private final ObjectProvider<HikariDataSource> dataSource;
+    private final TokenBucketStore userBuckets;
+    private final AtomicLong globalTheoreticalArrival = new AtomicLong(System.nanoTime());
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private volatile double factor = 1.0;
+
+    public WriteThrottle(WriteThrottleProperties properties,
+                         ObjectProvider<HikariDataSource> dataSource,
+                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.userBuckets = new TokenBucketStore(properties.getStripes(), properties.getMaxBuckets(), System::nanoTime);
+        FunctionCounter.builder("write.throttle.contended", userBuckets, TokenBucketStore::contendedCount)
+                .register(meterRegistry);
+        Gauge.builder("write.throttle.buckets", userBuckets, TokenBucketStore::size).register(meterRegistry);
+        Gauge.builder("write.throttle.factor", this, throttle -> throttle.factor).register(meterRegistry);
+    }
+
+    /**
+     * 허용되면 0, 아니면 다시 시도해도 되는 시점까지 남은 나노초를 돌려준다.
+     * 처리율이 0 이면 Long.MAX_VALUE 일 수 있다.
+     */
+    public long tryAcquire(String endpoint, Long userId) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        WriteThrottleProperties.Limit limit = properties.limitFor(endpoint);
+        String key = userId != null ? endpoint + ':' + userId : null;
+        if (key != null) {
+            long wait = userBuckets.tryAcquire(key, limit.getPermitsPerSecond(), limit.getBurst());
+            if (wait > 0) {
+                reject(endpoint, "user");
+                return wait;
+            }
+        }
+        long wait = tryAcquireGlobal(System.nanoTime());
+        if (wait > 0) {
+            // 전체 한도에서 거절된 요청은 처리되지 않으므로 사용자 한도도 쓰지 않은 것으로 되돌린다
+            if (key != null) {
+                userBuckets.refund(key, limit.getBurst());
+            }
+            reject(endpoint, "global");
+        }
+        return wait;
+    }
+
+    long tryAcquireGlobal(long now) {
+        WriteThrottleProperties.Limit limit = properties.getGlobal();
+        double rate = limit.getPermitsPerSecond() * factor;
+        if (rate <= 0) {
+            return Long.MAX_VALUE;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long tolerance = interval * Math.max(limit.getBurst() - 1, 0);
+        while (true) {
+            long tat = globalTheoreticalArrival.get();
+            long next = Math.max(tat, now) + interval;
+            long allowAt = next - interval - tolerance;
+            if (allowAt > now) {
+                return allowAt - now;
+            }
+            if (globalTheoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${write-throttle.adaptive.interval:1s}")
+    public void adapt() {
+        WriteThrottleProperties.Adaptive adaptive = properties.getAdaptive();
+        HikariDataSource hikari = dataSource.getIfUnique();
+        if (!adaptive.isEnabled() || hikari == null || hikari.getHikariPoolMXBean() == null) {
+            return;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        double previous = factor;
+        factor = nextFactor(previous, pool.getThreadsAwaitingConnection(), adaptive);
+        if (factor < previous) {
+            log.info("커넥션 대기 {}건, 쓰기 한도 배율 {} -> {}", pool.getThreadsAwaitingConnection(), previous, factor);
+        }
+    }
+
+    static double nextFactor(double current, int awaiting, WriteThrottleProperties.Adaptive adaptive) {
+        if (awaiting >= adaptive.getAwaitingThreshold()) {
+            return Math.max(adaptive.getMinFactor(), current * adaptive.getDecreaseFactor());
+        }
+        return Math.min(1.0, current + adaptive.getIncreaseStep());
+    }
+
+    private void reject(String endpoint, String scope) {
+        rejections.computeIfAbsent(endpoint + ':' + scope, key -> Counter.builder("write.throttle.rejected")
+                        .tag("endpoint", endpoint)
+                        .tag("scope", scope)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,53 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.exception.TooManyRequestsException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 본문을 읽거나 트랜잭션을 열기 전에 한도를 확인해, 거절되는 요청이 DB 에 닿지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WriteThrottleInterceptor implements HandlerInterceptor {
+
+    private static final long MAX_RETRY_AFTER_SECONDS = 60;
+
+    private final WriteThrottle writeThrottle;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        WriteThrottled throttled = handlerMethod.getMethodAnnotation(WriteThrottled.class);
+        if (throttled == null) {
+            return true;
+        }
+        long waitNanos = writeThrottle.tryAcquire(throttled.value(), currentUserId());
+        if (waitNanos > 0) {
+            // 처리율 0 이면 대기 시간이 Long.MAX_VALUE 라 올림 계산이 넘치지 않도록 먼저 상한으로 자른다
+            long clamped = Math.min(waitNanos, TimeUnit.SECONDS.toNanos(MAX_RETRY_AFTER_SECONDS));
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(clamped + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new TooManyRequestsException("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", retryAfter);
+        }
+        return true;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+}
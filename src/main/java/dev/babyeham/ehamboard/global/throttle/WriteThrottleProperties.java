@@ -0,0 +1,58 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "write-throttle")
+public class WriteThrottleProperties {
+
+    private boolean enabled = true;
+    // 사용자별 버킷을 최대 몇 개까지 기억할지. 넘으면 가장 오래 쓰이지 않은 버킷부터 버린다
+    private int maxBuckets = 100_000;
+    private int stripes = 64;
+    private Limit defaultLimit = new Limit(1, 10);
+    private Limit global = new Limit(200, 400);
+    private Map<String, Limit> endpoints = new HashMap<>();
+    private Adaptive adaptive = new Adaptive();
+
+    public Limit limitFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, defaultLimit);
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        private double permitsPerSecond;
+        // 한동안 쓰지 않으면 이만큼까지 모아 두었다가 한 번에 쓸 수 있다
+        private int burst;
+
+        public Limit() {
+        }
+
+        public Limit(double permitsPerSecond, int burst) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * 커넥션 풀에서 커넥션을 기다리는 스레드가 생기면 전체 한도를 곱셈으로 줄이고, 여유가 생기면 덧셈으로 되돌린다(AIMD).
+     */
+    @Getter
+    @Setter
+    public static class Adaptive {
+        private boolean enabled = true;
+        private Duration interval = Duration.ofSeconds(1);
+        private int awaitingThreshold = 1;
+        private double decreaseFactor = 0.5;
+        private double increaseStep = 0.05;
+        private double minFactor = 0.1;
+    }
+}
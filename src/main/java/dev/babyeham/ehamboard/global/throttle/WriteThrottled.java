@@ -0,0 +1,16 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 쓰기 요청에 사용자별·전체 처리율 제한을 건다. value 는 write-throttle.endpoints 의 키이며,
+ * 설정이 없으면 write-throttle.default-limit 을 쓴다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface WriteThrottled {
+    String value();
+}
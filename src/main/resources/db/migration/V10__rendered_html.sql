@@ -0,0 +1,3 @@
+-- Markdown 본문을 렌더링/sanitize 한 결과. NULL 이면 조회 시점에 렌더링한다
+ALTER TABLE posts ADD COLUMN rendered_html MEDIUMTEXT NULL AFTER content;
+ALTER TABLE comments ADD COLUMN rendered_html MEDIUMTEXT NULL AFTER content;
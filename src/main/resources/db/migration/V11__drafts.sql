@@ -0,0 +1,15 @@
+-- 작성 중인 글 임시 저장: (사용자, draft_key)당 한 행, version 이 큰 쪽만 반영한다
+CREATE TABLE IF NOT EXISTS drafts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    draft_key VARCHAR(64) NOT NULL,
+    title VARCHAR(200) NULL,
+    content TEXT NULL,
+    version BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_drafts_user_key (user_id, draft_key),
+    INDEX idx_drafts_user_updated (user_id, updated_at),
+    CONSTRAINT fk_drafts_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
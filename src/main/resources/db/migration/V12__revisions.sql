@@ -0,0 +1,17 @@
+-- 게시글/댓글 수정 이력: 주기적인 전체 스냅샷 + 직전 버전 대비 delta
+CREATE TABLE IF NOT EXISTS revisions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    revision_no INT NOT NULL,
+    chain_start INT NOT NULL,
+    snapshot BOOLEAN NOT NULL,
+    editor_id BIGINT NULL,
+    title VARCHAR(200) NULL,
+    content_length INT NOT NULL,
+    content_hash CHAR(64) NOT NULL,
+    body MEDIUMBLOB NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_revisions_target_no (target_type, target_id, revision_no)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
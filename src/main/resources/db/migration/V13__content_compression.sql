@@ -0,0 +1,11 @@
+-- 본문을 바이트로 저장한다. 압축하지 않은 값은 UTF-8 그대로라 기존 행은 변환 없이 옮겨진다
+ALTER TABLE posts MODIFY content MEDIUMBLOB NOT NULL;
+ALTER TABLE comments MODIFY content MEDIUMBLOB NOT NULL;
+
+-- 배치 작업이 어디까지 처리했는지 기록해 재시작 후 이어서 진행한다
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name VARCHAR(100) NOT NULL,
+    last_id BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (job_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
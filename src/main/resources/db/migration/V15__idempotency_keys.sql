@@ -0,0 +1,13 @@
+-- Idempotency-Key 로 들어온 생성 요청의 첫 응답. status 가 NULL 이면 아직 처리 중인 요청이다
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    user_id BIGINT NOT NULL,
+    idempotency_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin NOT NULL,
+    request_hash CHAR(64) NOT NULL,
+    status INT NULL,
+    content_type VARCHAR(100) NULL,
+    body MEDIUMBLOB NULL,
+    created_at DATETIME(6) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, idempotency_key),
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
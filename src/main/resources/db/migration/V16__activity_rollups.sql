@@ -0,0 +1,17 @@
+-- 관리자 통계용 일별 활동 롤업. 통계 조회가 posts/comments 를 GROUP BY 하지 않도록 쓰기 경로에서 증분으로 더해 둔다
+-- 버퍼에 남은 증분이 사용자 삭제로 막히지 않도록 users 외래 키는 걸지 않는다
+CREATE TABLE IF NOT EXISTS daily_user_activity (
+    activity_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    post_count INT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (activity_date, user_id),
+    INDEX idx_daily_user_activity_user_date (user_id, activity_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS daily_board_activity (
+    activity_date DATE NOT NULL,
+    post_count INT NOT NULL DEFAULT 0,
+    comment_count INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (activity_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
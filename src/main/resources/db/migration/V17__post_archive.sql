@@ -0,0 +1,27 @@
+-- 오래된 게시글과 그 댓글을 옮겨 두는 보관 테이블. id 는 원래 값을 그대로 쓰고, 본문과 렌더링된 HTML 은 압축해 저장한다
+CREATE TABLE IF NOT EXISTS archived_posts (
+    id BIGINT NOT NULL,
+    title VARCHAR(200) NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    rendered_html MEDIUMBLOB NULL,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS archived_comments (
+    id BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    content MEDIUMBLOB NOT NULL,
+    rendered_html MEDIUMBLOB NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_archived_comments_post_created (post_id, created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 보관된 게시글도 태그를 유지하도록 posts 삭제에 딸려 지우지 않는다. 퍼지할 때는 TagPurgeParticipant 가 지운다
+ALTER TABLE post_tags DROP FOREIGN KEY fk_post_tags_post;
@@ -0,0 +1,7 @@
+-- 롤업에 이미 더한 아웃박스 이벤트. 같은 이벤트가 다시 전달돼도 한 번만 더하도록 증분과 같은 트랜잭션에서 기록한다
+CREATE TABLE IF NOT EXISTS activity_rollup_events (
+    event_id BIGINT NOT NULL,
+    applied_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_activity_rollup_events_applied (applied_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
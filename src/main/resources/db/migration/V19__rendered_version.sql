@@ -0,0 +1,11 @@
+-- rendered_html 을 만든 렌더러 버전. 현재 버전과 다르면 저장된 HTML 을 쓰지 않고 다시 렌더링한다
+ALTER TABLE posts ADD COLUMN rendered_version VARCHAR(16) NULL AFTER rendered_html;
+ALTER TABLE comments ADD COLUMN rendered_version VARCHAR(16) NULL AFTER rendered_html;
+ALTER TABLE archived_posts ADD COLUMN rendered_version VARCHAR(16) NULL AFTER rendered_html;
+ALTER TABLE archived_comments ADD COLUMN rendered_version VARCHAR(16) NULL AFTER rendered_html;
+
+-- 지금까지 저장된 HTML 은 모두 첫 버전("1") 렌더러가 만들었다
+UPDATE posts SET rendered_version = '1' WHERE rendered_html IS NOT NULL;
+UPDATE comments SET rendered_version = '1' WHERE rendered_html IS NOT NULL;
+UPDATE archived_posts SET rendered_version = '1' WHERE rendered_html IS NOT NULL;
+UPDATE archived_comments SET rendered_version = '1' WHERE rendered_html IS NOT NULL;
@@ -0,0 +1,7 @@
+-- 알림에 이미 합친 아웃박스 이벤트. 같은 이벤트가 다시 전달되거나 재생돼도 댓글 수를 한 번만 더하도록 알림 upsert 와 같은 트랜잭션에서 기록한다
+CREATE TABLE IF NOT EXISTS notification_events (
+    event_id BIGINT NOT NULL,
+    applied_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id),
+    INDEX idx_notification_events_applied (applied_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,3 @@
+-- 타임라인이 작성자마다 최근 글을 WHERE user_id = ? AND id < ? ORDER BY id DESC LIMIT ? 로 읽는다.
+-- (user_id, created_at) 로는 id 순서를 얻을 수 없어 작성자의 글 전체를 정렬하게 된다
+CREATE INDEX idx_posts_user_id ON posts (user_id, id);
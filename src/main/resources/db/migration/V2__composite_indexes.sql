@@ -0,0 +1,35 @@
+-- 이전 ddl-auto: update 로 만든 DB 에는 V1 의 단일 컬럼 인덱스가 없으므로, 있을 때만 지운다
+
+-- PostRepository.findPostsByUserId: WHERE user_id = ? ORDER BY created_at DESC
+CREATE INDEX idx_posts_user_created ON posts (user_id, created_at);
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'posts' AND index_name = 'idx_user_id'),
+              'DROP INDEX idx_user_id ON posts', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- CommentRepository.findByPostIdOrderByCreatedAtAsc: WHERE post_id = ? ORDER BY created_at
+CREATE INDEX idx_comments_post_created ON comments (post_id, created_at);
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_post_id'),
+              'DROP INDEX idx_post_id ON comments', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- 댓글 created_at 단독 정렬 쿼리는 없으므로 쓰기 비용만 드는 인덱스를 제거
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_created_at'),
+              'DROP INDEX idx_created_at ON comments', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+-- username 은 UNIQUE 제약이 이미 인덱스를 만들기 때문에 중복 인덱스 제거
+SET @ddl = IF(EXISTS(SELECT 1 FROM information_schema.statistics
+                     WHERE table_schema = DATABASE() AND table_name = 'users' AND index_name = 'idx_username'),
+              'DROP INDEX idx_username ON users', 'DO 0');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
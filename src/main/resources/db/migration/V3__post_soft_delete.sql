@@ -0,0 +1,4 @@
+ALTER TABLE posts ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 퍼지 작업이 삭제 대기 게시글을 찾을 때 사용
+CREATE INDEX idx_posts_deleted_at ON posts (deleted_at);
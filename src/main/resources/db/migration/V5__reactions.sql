@@ -0,0 +1,20 @@
+-- 좋아요: 사용자별 1건은 유니크 키로 보장하고, 개수는 샤드 행으로 나눠 쓴다
+CREATE TABLE IF NOT EXISTS reactions (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_reactions_target_user (target_type, target_id, user_id),
+    INDEX idx_reactions_user_target (user_id, target_type, target_id),
+    CONSTRAINT fk_reactions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS reaction_counts (
+    target_type VARCHAR(20) NOT NULL,
+    target_id BIGINT NOT NULL,
+    shard INT NOT NULL,
+    like_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (target_type, target_id, shard)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,23 @@
+-- 댓글 알림: (수신자, 게시글)당 한 행에 합쳐 쓰고, 읽지 않은 수는 카운터 테이블로 유지한다
+CREATE TABLE IF NOT EXISTS notifications (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    recipient_id BIGINT NOT NULL,
+    post_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    comment_count INT NOT NULL,
+    last_actor_id BIGINT NULL,
+    read_at DATETIME(6) NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_notifications_recipient_post (recipient_id, post_id),
+    INDEX idx_notifications_recipient_updated (recipient_id, updated_at),
+    CONSTRAINT fk_notifications_recipient FOREIGN KEY (recipient_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS notification_counters (
+    user_id BIGINT NOT NULL,
+    unread_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_notification_counters_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
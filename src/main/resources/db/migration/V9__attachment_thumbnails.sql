@@ -0,0 +1,13 @@
+-- 첨부 이미지에서 비동기로 만든 썸네일 (크기별 한 행, 파일 본문은 BlobStore 에 저장)
+CREATE TABLE IF NOT EXISTS attachment_thumbnails (
+    attachment_id BIGINT NOT NULL,
+    variant VARCHAR(20) NOT NULL,
+    storage_key VARCHAR(64) NOT NULL,
+    width INT NOT NULL,
+    height INT NOT NULL,
+    size BIGINT NOT NULL,
+    sha256 CHAR(64) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (attachment_id, variant),
+    CONSTRAINT fk_attachment_thumbnails_attachment FOREIGN KEY (attachment_id) REFERENCES attachments(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,96 @@
+package dev.babyeham.ehamboard.domain.attachment.controller;
+
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentDownload;
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.attachment.service.ThumbnailService;
+import dev.babyeham.ehamboard.global.exception.GlobalExceptionHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @InjectMocks
+    private AttachmentController attachmentController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(attachmentController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("SVG 첨부는 인라인이 아니라 내려받기로 응답하고 sandbox CSP 를 붙인다")
+    void download_SvgServedAsAttachment() throws Exception {
+        // given
+        byte[] svg = "<svg xmlns=\"http://www.w3.org/2000/svg\"><script>alert(1)</script></svg>"
+                .getBytes(StandardCharsets.UTF_8);
+        givenDownload(1L, "evil.svg", "image/svg+xml", svg);
+
+        // when & then
+        mockMvc.perform(get("/attachments/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("attachment")))
+                .andExpect(header().string("Content-Security-Policy", "sandbox"))
+                .andExpect(header().string("X-Content-Type-Options", "nosniff"))
+                .andExpect(content().bytes(svg));
+    }
+
+    @Test
+    @DisplayName("허용된 래스터 이미지는 인라인으로 응답한다")
+    void download_RasterImageServedInline() throws Exception {
+        // given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+        givenDownload(2L, "photo.png", "image/png", png);
+
+        // when & then
+        mockMvc.perform(get("/attachments/2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, startsWith("inline")))
+                .andExpect(header().string("Content-Security-Policy", "sandbox"));
+    }
+
+    private void givenDownload(Long id, String filename, String contentType, byte[] bytes) {
+        Attachment attachment = Attachment.builder()
+                .postId(1L)
+                .uploaderId(1L)
+                .storageKey("key-" + id)
+                .filename(filename)
+                .contentType(contentType)
+                .size(bytes.length)
+                .sha256("sha-" + id)
+                .build();
+        ReflectionTestUtils.setField(attachment, "id", id);
+        ReflectionTestUtils.setField(attachment, "createdAt", LocalDateTime.now());
+        given(attachmentService.prepareDownload(id))
+                .willReturn(new AttachmentDownload(attachment, null, new ByteArrayResource(bytes)));
+    }
+}
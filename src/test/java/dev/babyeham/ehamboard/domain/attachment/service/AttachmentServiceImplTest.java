@@ -0,0 +1,104 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import dev.babyeham.ehamboard.domain.attachment.dto.AttachmentDownload;
+import dev.babyeham.ehamboard.domain.attachment.entity.Attachment;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentRepository;
+import dev.babyeham.ehamboard.domain.attachment.repository.AttachmentThumbnailRepository;
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.archive.PostLocation;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.global.exception.AttachmentNotFoundException;
+import dev.babyeham.ehamboard.global.outbox.OutboxEventPublisher;
+import dev.babyeham.ehamboard.global.storage.BlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AttachmentServiceImplTest {
+
+    @Mock
+    private AttachmentRepository attachmentRepository;
+
+    @Mock
+    private AttachmentThumbnailRepository thumbnailRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostArchiveStore postArchiveStore;
+
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @Mock
+    private BlobStore blobStore;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private AttachmentServiceImpl attachmentService;
+    private Attachment attachment;
+
+    @BeforeEach
+    void setUp() {
+        attachmentService = new AttachmentServiceImpl(attachmentRepository, thumbnailRepository, postRepository,
+                postArchiveStore, postResponseCache, blobStore, thumbnailService, outboxEventPublisher,
+                transactionTemplate, DataSize.ofMegabytes(20));
+        attachment = Attachment.builder()
+                .postId(1L)
+                .uploaderId(1L)
+                .storageKey("key")
+                .filename("photo.png")
+                .contentType("image/png")
+                .size(10)
+                .sha256("sha")
+                .build();
+    }
+
+    @Test
+    @DisplayName("보관된 게시글의 첨부파일도 내려받을 수 있다")
+    void prepareDownload_ArchivedPost() {
+        // given
+        given(attachmentRepository.findById(1L)).willReturn(Optional.of(attachment));
+        given(postArchiveStore.locate(1L)).willReturn(PostLocation.ARCHIVED);
+        given(blobStore.localPath("key")).willReturn(Optional.empty());
+
+        // when
+        AttachmentDownload download = attachmentService.prepareDownload(1L);
+
+        // then
+        assertThat(download.getAttachment()).isSameAs(attachment);
+    }
+
+    @Test
+    @DisplayName("운영 테이블에도 보관 테이블에도 없는 게시글의 첨부파일은 찾을 수 없다")
+    void prepareDownload_PostGone() {
+        // given
+        given(attachmentRepository.findById(1L)).willReturn(Optional.of(attachment));
+        given(postArchiveStore.locate(1L)).willReturn(PostLocation.MISSING);
+
+        // when & then
+        assertThatThrownBy(() -> attachmentService.prepareDownload(1L))
+                .isInstanceOf(AttachmentNotFoundException.class);
+    }
+}
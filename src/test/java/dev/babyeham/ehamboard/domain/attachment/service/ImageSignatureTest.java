@@ -0,0 +1,27 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageSignatureTest {
+
+    @Test
+    @DisplayName("파일 앞부분이 선언한 래스터 형식과 맞을 때만 통과한다")
+    void matches_ChecksMagicBytes() {
+        // given
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n', 0, 0, 0, 0};
+        byte[] webp = "RIFF\0\0\0\0WEBP".getBytes(StandardCharsets.US_ASCII);
+        byte[] svg = "<svg xmlns=".getBytes(StandardCharsets.US_ASCII);
+
+        // when & then
+        assertThat(ImageSignature.matches("image/png", png)).isTrue();
+        assertThat(ImageSignature.matches("image/webp", webp)).isTrue();
+        assertThat(ImageSignature.matches("image/jpeg", png)).isFalse();
+        assertThat(ImageSignature.matches("image/png", svg)).isFalse();
+        assertThat(ImageSignature.matches("image/svg+xml", svg)).isFalse();
+    }
+}
@@ -0,0 +1,61 @@
+package dev.babyeham.ehamboard.domain.attachment.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ThumbnailRendererTest {
+
+    @Test
+    @DisplayName("긴 변을 기준으로 비율을 유지하며 줄이고 JPEG 로 인코딩한다")
+    void render_KeepsAspectRatio() throws IOException {
+        // given
+        BufferedImage source = new BufferedImage(1200, 600, BufferedImage.TYPE_INT_ARGB);
+
+        // when
+        ThumbnailRenderer.Rendered rendered = ThumbnailRenderer.render(source, 160);
+
+        // then
+        assertThat(rendered.width()).isEqualTo(160);
+        assertThat(rendered.height()).isEqualTo(80);
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(rendered.bytes()));
+        assertThat(decoded.getWidth()).isEqualTo(160);
+        assertThat(decoded.getHeight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("원본이 목표보다 작으면 키우지 않는다")
+    void render_DoesNotUpscale() throws IOException {
+        // given
+        BufferedImage source = new BufferedImage(100, 40, BufferedImage.TYPE_INT_RGB);
+
+        // when
+        ThumbnailRenderer.Rendered rendered = ThumbnailRenderer.render(source, 480);
+
+        // then
+        assertThat(rendered.width()).isEqualTo(100);
+        assertThat(rendered.height()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("픽셀 수 제한을 넘는 이미지는 디코딩하지 않고, 이미지가 아니면 null 을 돌려준다")
+    void read_RejectsOversizedAndUnknown() throws IOException {
+        // given
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(100, 100, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        // when & then
+        assertThatThrownBy(() -> ThumbnailRenderer.read(new ByteArrayInputStream(png.toByteArray()), 5_000))
+                .isInstanceOf(IOException.class);
+        assertThat(ThumbnailRenderer.read(new ByteArrayInputStream(png.toByteArray()), 10_000)).isNotNull();
+        assertThat(ThumbnailRenderer.read(new ByteArrayInputStream("hello".getBytes()), 10_000)).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package dev.babyeham.ehamboard.domain.draft.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DraftBufferTest {
+
+    private static final long DEBOUNCE = 3_000;
+    private static final long MAX_DELAY = 15_000;
+
+    private final DraftBuffer buffer = new DraftBuffer();
+
+    @Test
+    @DisplayName("같은 슬롯의 연속 저장은 마지막 저장본 하나로 합쳐지고 버전이 증가한다")
+    void put_KeepsOnlyLatest() {
+        // given
+        PendingDraft first = buffer.put(1L, "a", "제목", "본문 1", 1_000);
+
+        // when
+        PendingDraft second = buffer.put(1L, "a", "제목", "본문 2", 1_000);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(1);
+        assertThat(buffer.get(1L, "a").content()).isEqualTo("본문 2");
+        assertThat(second.version()).isGreaterThan(first.version());
+        assertThat(second.firstDirtyAtMillis()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("입력이 멈춘 슬롯은 debounce 뒤에, 계속 입력 중인 슬롯은 maxDelay 뒤에 꺼낸다")
+    void drainDue_DebounceAndMaxDelay() {
+        // given
+        buffer.put(1L, "quiet", "t", "c", 0);
+        for (long now = 0; now <= 15_000; now += 2_000) {
+            buffer.put(2L, "typing", "t", "c" + now, now);
+        }
+
+        // when
+        List<PendingDraft> early = buffer.drainDue(2_000, DEBOUNCE, MAX_DELAY);
+        List<PendingDraft> quiet = buffer.drainDue(3_000, DEBOUNCE, MAX_DELAY);
+        List<PendingDraft> typing = buffer.drainDue(15_000, DEBOUNCE, MAX_DELAY);
+
+        // then
+        assertThat(early).isEmpty();
+        assertThat(quiet).extracting(PendingDraft::draftKey).containsExactly("quiet");
+        assertThat(typing).extracting(PendingDraft::content).containsExactly("c14000");
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰기에 실패한 저장본을 되돌릴 때 그 사이 들어온 더 새 저장본을 덮어쓰지 않는다")
+    void restore_DoesNotOverwriteNewer() {
+        // given
+        buffer.put(1L, "a", "t", "오래된 본문", 0);
+        List<PendingDraft> failed = buffer.drainAll();
+        buffer.put(1L, "a", "t", "새 본문", 5_000);
+        buffer.put(1L, "b", "t", "다른 슬롯", 5_000);
+
+        // when
+        buffer.restore(failed);
+
+        // then
+        assertThat(buffer.get(1L, "a").content()).isEqualTo("새 본문");
+        assertThat(buffer.countByUser(1L)).isEqualTo(2);
+        assertThat(buffer.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,146 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationCounterRepository;
+import dev.babyeham.ehamboard.domain.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommentNotificationBatcherTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationCounterRepository notificationCounterRepository;
+
+    @Mock
+    private UnreadCountCache unreadCountCache;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CommentNotificationBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new CommentNotificationBatcher(notificationRepository, notificationCounterRepository, unreadCountCache,
+                jdbcTemplate, new TransactionTemplate(transactionManager),
+                Duration.ZERO, 100_000, 500, Duration.ofDays(7), 1000);
+    }
+
+    @Test
+    @DisplayName("창 안에 모인 같은 게시글의 댓글은 한 행의 upsert 로 쓴다")
+    void flushDue_WritesCoalescedRow() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of());
+        given(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).willReturn(3);
+        given(notificationRepository.lockUnreadPostIds(eq(1L), any())).willReturn(List.of());
+        batcher.enqueue(1L, 1L, 10L, 100L);
+        batcher.enqueue(2L, 1L, 10L, 101L);
+        batcher.enqueue(3L, 1L, 10L, 102L);
+
+        // when
+        batcher.flushDue();
+
+        // then
+        List<PendingNotification> written = captureUpserted();
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0).getCommentCount()).isEqualTo(3);
+        assertThat(written.get(0).getLastActorId()).isEqualTo(102L);
+        verify(notificationCounterRepository).addUnread(1L, 1L);
+        verify(unreadCountCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("이미 반영된 이벤트가 다시 전달되면 댓글 수와 unread 카운터를 다시 올리지 않는다")
+    void flushDue_SkipsRedeliveredEvents() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(1L));
+        batcher.enqueue(1L, 1L, 10L, 100L);
+
+        // when
+        batcher.flushDue();
+
+        // then
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE"), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+        verify(notificationCounterRepository, never()).addUnread(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("새 이벤트와 다시 전달된 이벤트가 섞이면 새 이벤트만 센다")
+    void flushDue_CountsOnlyFreshEvents() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(1L));
+        given(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).willReturn(1);
+        given(notificationRepository.lockUnreadPostIds(eq(1L), any())).willReturn(List.of(10L));
+        batcher.enqueue(1L, 1L, 10L, 100L);
+        batcher.enqueue(2L, 1L, 10L, 101L);
+
+        // when
+        batcher.flushDue();
+
+        // then
+        List<PendingNotification> written = captureUpserted();
+        assertThat(written).hasSize(1);
+        assertThat(written.get(0).getCommentCount()).isEqualTo(1);
+        verify(notificationCounterRepository, never()).addUnread(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 버퍼로 되돌려 다음 주기에 다시 쓴다")
+    void flushDue_RestoresOnFailure() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willThrow(new IllegalStateException("DB 오류"))
+                .willReturn(List.of());
+        given(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).willReturn(1);
+        given(notificationRepository.lockUnreadPostIds(eq(1L), any())).willReturn(List.of());
+        batcher.enqueue(1L, 1L, 10L, 100L);
+        batcher.flushDue();
+
+        // when
+        batcher.flushDue();
+
+        // then
+        assertThat(captureUpserted()).extracting(PendingNotification::getCommentCount).containsExactly(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingNotification> captureUpserted() {
+        ArgumentCaptor<Collection<PendingNotification>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO notifications"), captor.capture(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        return List.copyOf(captor.getValue());
+    }
+}
@@ -0,0 +1,99 @@
+package dev.babyeham.ehamboard.domain.notification.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationBufferTest {
+
+    private final NotificationBuffer buffer = new NotificationBuffer();
+
+    @Test
+    @DisplayName("같은 수신자와 게시글의 댓글은 한 건으로 합쳐진다")
+    void add_CoalescesPerRecipientAndPost() {
+        // given
+        buffer.add(1L, 1L, 10L, 100L, 0);
+        buffer.add(2L, 1L, 10L, 101L, 1_000);
+        buffer.add(3L, 1L, 11L, 102L, 2_000);
+
+        // when
+        List<PendingNotification> all = buffer.drainAll();
+
+        // then
+        assertThat(all).hasSize(2);
+        assertThat(all.get(0).getCommentCount()).isEqualTo(2);
+        assertThat(all.get(0).getLastActorId()).isEqualTo(101L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 전달된 이벤트는 한 번만 센다")
+    void add_IgnoresRedeliveredEvent() {
+        // given
+        buffer.add(1L, 1L, 10L, 100L, 0);
+        buffer.add(1L, 1L, 10L, 100L, 1_000);
+
+        // when
+        List<PendingNotification> all = buffer.drainAll();
+
+        // then
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("첫 이벤트 이후 창이 지난 항목만 꺼낸다")
+    void drainDue_RespectsWindow() {
+        // given
+        buffer.add(1L, 1L, 10L, 100L, 0);
+        buffer.add(2L, 2L, 20L, 200L, 5_000);
+
+        // when
+        List<PendingNotification> due = buffer.drainDue(1_000);
+
+        // then
+        assertThat(due).extracting(PendingNotification::getRecipientId).containsExactly(1L);
+        assertThat(buffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장에 실패해 되돌린 항목은 그 사이 쌓인 항목과 합쳐진다")
+    void restore_MergesWithNewerEntries() {
+        // given
+        buffer.add(1L, 1L, 10L, 100L, 0);
+        List<PendingNotification> failed = buffer.drainAll();
+        buffer.add(2L, 1L, 10L, 101L, 3_000);
+
+        // when
+        buffer.restore(failed);
+
+        // then
+        List<PendingNotification> all = buffer.drainAll();
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getCommentCount()).isEqualTo(2);
+        assertThat(all.get(0).getLastActorId()).isEqualTo(101L);
+        assertThat(all.get(0).getFirstAtMillis()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 반영된 이벤트를 빼면 남은 이벤트만 센다")
+    void retain_KeepsOnlyUnappliedEvents() {
+        // given
+        buffer.add(1L, 1L, 10L, 100L, 0);
+        buffer.add(2L, 1L, 10L, 101L, 1_000);
+        buffer.add(3L, 1L, 10L, 102L, 2_000);
+        PendingNotification notification = buffer.drainAll().get(0);
+
+        // when
+        PendingNotification retained = notification.retain(Set.of(1L, 2L)).orElseThrow();
+
+        // then
+        assertThat(retained.getCommentCount()).isEqualTo(2);
+        assertThat(retained.getLastActorId()).isEqualTo(101L);
+        assertThat(notification.retain(Set.of(9L))).isEmpty();
+    }
+}
@@ -0,0 +1,159 @@
+package dev.babyeham.ehamboard.domain.post.archive;
+
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.datasource.ReplicaPool;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostArchiveJobTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final String SELECT_POSTS = "SELECT id, title";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TextCompressor textCompressor;
+
+    @Mock
+    private PostArchiveStore archiveStore;
+
+    @Mock
+    private ObjectProvider<ReplicaPool> replicaPool;
+
+    private PostArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new PostArchiveJob(jdbcTemplate, new TransactionTemplate(transactionManager), checkpointRepository,
+                textCompressor, archiveStore, replicaPool, new SimpleMeterRegistry(), true, Duration.ofDays(180),
+                2, 10, Duration.ZERO, Duration.ofSeconds(2), Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("진행 위치 다음부터 청크 단위로 옮기고, 청크마다 진행 위치를 기록한다")
+    void archive_ResumesFromCheckpoint() throws SQLException {
+        // given
+        given(checkpointRepository.findLastId(PostArchiveStore.JOB_NAME)).willReturn(100L);
+        givenPosts(100L, row(101L, false), row(102L, false));
+        givenPosts(102L, row(103L, false));
+        givenPosts(103L);
+        given(jdbcTemplate.query(startsWith("SELECT id, post_id"), any(RowMapper.class), any(Object[].class)))
+                .willReturn(List.of());
+
+        // when
+        job.archive(CUTOFF);
+
+        // then
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("INSERT INTO archived_posts"), any(Collection.class),
+                anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        verify(checkpointRepository).upsert(PostArchiveStore.JOB_NAME, 102L);
+        verify(checkpointRepository).upsert(PostArchiveStore.JOB_NAME, 103L);
+        verify(archiveStore).advance(103L);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM posts"), eq(101L), eq(102L));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM posts"), eq(103L));
+    }
+
+    @Test
+    @DisplayName("삭제 대기 중인 게시글은 옮기지 않고 퍼지에 맡기되, 진행 위치는 그 뒤로 넘긴다")
+    void archive_SkipsSoftDeletedPosts() throws SQLException {
+        // given
+        given(checkpointRepository.findLastId(PostArchiveStore.JOB_NAME)).willReturn(0L);
+        givenPosts(0L, row(1L, true), row(2L, true));
+        givenPosts(2L);
+
+        // when
+        job.archive(CUTOFF);
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM posts"), any(Object[].class));
+        verify(checkpointRepository).upsert(PostArchiveStore.JOB_NAME, 2L);
+    }
+
+    @Test
+    @DisplayName("기준 시각 이후에 쓰인 게시글을 만나면 그 앞에서 멈춘다")
+    void archive_StopsAtCutoff() throws SQLException {
+        // given
+        given(checkpointRepository.findLastId(PostArchiveStore.JOB_NAME)).willReturn(0L);
+        givenPosts(0L, row(1L, false), row(2L, CUTOFF.plusDays(1), false));
+        givenPosts(1L, row(2L, CUTOFF.plusDays(1), false));
+        given(jdbcTemplate.query(startsWith("SELECT id, post_id"), any(RowMapper.class), any(Object[].class)))
+                .willReturn(List.of());
+
+        // when
+        job.archive(CUTOFF);
+
+        // then
+        verify(jdbcTemplate).update(startsWith("DELETE FROM posts"), eq(1L));
+        verify(checkpointRepository).upsert(PostArchiveStore.JOB_NAME, 1L);
+        verify(checkpointRepository, never()).upsert(PostArchiveStore.JOB_NAME, 2L);
+    }
+
+    private void givenPosts(long afterId, ResultSet... rows) {
+        given(jdbcTemplate.query(startsWith(SELECT_POSTS), any(RowMapper.class), eq(afterId), eq(2)))
+                .willAnswer(invocation -> {
+                    RowMapper<?> mapper = invocation.getArgument(1);
+                    List<Object> mapped = new ArrayList<>();
+                    for (int i = 0; i < rows.length; i++) {
+                        mapped.add(mapper.mapRow(rows[i], i));
+                    }
+                    return mapped;
+                });
+    }
+
+    private static ResultSet row(long id, boolean deleted) throws SQLException {
+        return row(id, CUTOFF.minusDays(1), deleted);
+    }
+
+    private static ResultSet row(long id, LocalDateTime createdAt, boolean deleted) throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getLong("id")).thenReturn(id);
+        lenient().when(rs.getString("title")).thenReturn("제목 " + id);
+        lenient().when(rs.getBytes("content")).thenReturn(new byte[]{1});
+        lenient().when(rs.getLong("user_id")).thenReturn(7L);
+        lenient().when(rs.getTimestamp("created_at")).thenReturn(Timestamp.valueOf(createdAt));
+        lenient().when(rs.getTimestamp("updated_at")).thenReturn(Timestamp.valueOf(createdAt));
+        lenient().when(rs.getTimestamp("deleted_at"))
+                .thenReturn(deleted ? Timestamp.valueOf(createdAt.plusHours(1)) : null);
+        return rs;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.babyeham.ehamboard.domain.post.archive;
+
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import dev.babyeham.ehamboard.global.job.JobCheckpointRepository;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostArchiveStoreTest {
+
+    private static final String LIVE_QUERY = "SELECT id FROM posts";
+    private static final String ARCHIVED_QUERY = "SELECT id FROM archived_posts";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private JobCheckpointRepository checkpointRepository;
+
+    @Mock
+    private TextCompressor textCompressor;
+
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+
+    private PostArchiveStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new PostArchiveStore(jdbcTemplate, checkpointRepository, textCompressor, markdownRenderer,
+                new SimpleMeterRegistry());
+        given(checkpointRepository.findLastId(PostArchiveStore.JOB_NAME)).willReturn(100L);
+        store.refreshWatermark();
+    }
+
+    @Test
+    @DisplayName("워터마크 이하의 게시글은 운영 테이블을 보지 않고 보관 테이블에서 찾는다")
+    void locate_BelowWatermarkReadsArchiveOnly() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith(ARCHIVED_QUERY), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(100L));
+
+        // when
+        PostLocation location = store.locate(100L);
+
+        // then
+        assertThat(location).isEqualTo(PostLocation.ARCHIVED);
+        verify(jdbcTemplate, never()).queryForList(startsWith(LIVE_QUERY), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("워터마크 이하인데 보관 테이블에 없으면 삭제 대기 중인 게시글이라 없는 것으로 본다")
+    void locate_BelowWatermarkNotArchived() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith(ARCHIVED_QUERY), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of());
+
+        // when & then
+        assertThat(store.locate(50L)).isEqualTo(PostLocation.MISSING);
+    }
+
+    @Test
+    @DisplayName("워터마크 위의 게시글은 운영 테이블에 있으면 보관 테이블을 보지 않는다")
+    void locate_AboveWatermarkLive() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith(LIVE_QUERY), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(101L));
+
+        // when
+        PostLocation location = store.locate(101L);
+
+        // then
+        assertThat(location).isEqualTo(PostLocation.LIVE);
+        verify(jdbcTemplate, never()).queryForList(startsWith(ARCHIVED_QUERY), eq(Long.class), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("워터마크가 뒤처진 인스턴스도 운영 테이블에서 못 찾으면 보관 테이블에서 찾는다")
+    void locate_AboveWatermarkFallsBackToArchive() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith(LIVE_QUERY), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of());
+        given(jdbcTemplate.queryForList(startsWith(ARCHIVED_QUERY), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(150L));
+
+        // when & then
+        assertThat(store.locate(150L)).isEqualTo(PostLocation.ARCHIVED);
+    }
+
+    @Test
+    @DisplayName("워터마크는 앞으로만 움직인다")
+    void refreshWatermark_NeverMovesBack() {
+        // given
+        given(checkpointRepository.findLastId(PostArchiveStore.JOB_NAME)).willReturn(40L);
+
+        // when
+        store.refreshWatermark();
+
+        // then
+        assertThat(store.covers(100L)).isTrue();
+        assertThat(store.covers(101L)).isFalse();
+    }
+}
@@ -1,22 +1,33 @@
 package dev.babyeham.ehamboard.domain.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.babyeham.ehamboard.domain.attachment.service.AttachmentService;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
 import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
+import dev.babyeham.ehamboard.domain.post.dto.PostField;
 import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
 import dev.babyeham.ehamboard.domain.post.dto.UpdatePostRequest;
 import dev.babyeham.ehamboard.domain.post.service.PostService;
+import dev.babyeham.ehamboard.domain.reaction.service.ReactionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.global.exception.GlobalExceptionHandler;
 import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
 import dev.babyeham.ehamboard.global.exception.UnauthorizedPostAccessException;
+import dev.babyeham.ehamboard.global.fieldset.SparseFieldsWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -24,11 +35,15 @@ import org.springframework.security.web.method.annotation.AuthenticationPrincipa
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.unit.DataSize;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -46,6 +61,29 @@ class PostControllerTest {
     @Mock
     private PostService postService;
 
+    @Mock
+    private ReactionService reactionService;
+
+    @Mock
+    private AttachmentService attachmentService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private TagService tagService;
+
+    @Spy
+    private PostResponseCache postResponseCache = new PostResponseCache(
+            Jackson2ObjectMapperBuilder.json().build(),
+            true,
+            DataSize.ofBytes(0),
+            DataSize.ofMegabytes(1),
+            new SimpleMeterRegistry());
+
+    @Spy
+    private SparseFieldsWriter sparseFieldsWriter = new SparseFieldsWriter(Jackson2ObjectMapperBuilder.json().build());
+
     @InjectMocks
     private PostController postController;
 
@@ -133,6 +171,82 @@ class PostControllerTest {
         verify(postService, times(1)).getPost(1L);
     }
 
+    @Test
+    @DisplayName("게시글 조회 - 캐시된 응답 바이트 재사용")
+    void getPost_ServedFromCache() throws Exception {
+        // given
+        given(postService.getPost(1L)).willReturn(postResponse);
+
+        // when
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.title").value("테스트 게시글"));
+
+        // then
+        verify(postService, times(1)).getPost(1L);
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - gzip 요청 시 압축된 바이트 응답")
+    void getPost_Gzip() throws Exception {
+        // given
+        given(postService.getPost(1L)).willReturn(postResponse);
+
+        // when & then
+        mockMvc.perform(get("/posts/{postId}", 1L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - gzip;q=0 이면 압축하지 않는다")
+    void getPost_GzipRefused() throws Exception {
+        // given
+        given(postService.getPost(1L)).willReturn(postResponse);
+
+        // when & then
+        mockMvc.perform(get("/posts/{postId}", 1L)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.id").value(1L));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 의 q 값과 * 를 따른다")
+    void acceptsGzip_HonorsQValues() {
+        assertThat(PostController.acceptsGzip("gzip, deflate")).isTrue();
+        assertThat(PostController.acceptsGzip("deflate, gzip;q=0.5")).isTrue();
+        assertThat(PostController.acceptsGzip("GZIP ; Q=0")).isFalse();
+        assertThat(PostController.acceptsGzip("*;q=0.1")).isTrue();
+        assertThat(PostController.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(PostController.acceptsGzip("identity")).isFalse();
+        assertThat(PostController.acceptsGzip(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("게시글 조회 - 무효화 후 다시 로딩")
+    void getPost_ReloadedAfterEvict() throws Exception {
+        // given
+        given(postService.getPost(1L)).willReturn(postResponse);
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andExpect(status().isOk());
+
+        // when
+        postResponseCache.evict(1L);
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andExpect(status().isOk());
+
+        // then
+        verify(postService, times(2)).getPost(1L);
+    }
+
     @Test
     @DisplayName("게시글 조회 실패 - 게시글을 찾을 수 없음")
     void getPost_NotFound() throws Exception {
@@ -148,6 +262,89 @@ class PostControllerTest {
         verify(postService, times(1)).getPost(999L);
     }
 
+    @Test
+    @DisplayName("게시글 일괄 조회 - 요청 순서를 유지하고 없는 id 를 알려주며 캐시된 것은 다시 읽지 않음")
+    void getPostsByIds_Success() throws Exception {
+        // given
+        PostResponse second = PostResponse.builder()
+                .id(2L)
+                .title("두 번째 게시글")
+                .content("내용")
+                .userId(1L)
+                .username("testuser")
+                .build();
+        given(postService.getPost(1L)).willReturn(postResponse);
+        mockMvc.perform(get("/posts/{postId}", 1L))
+                .andExpect(status().isOk());
+        given(postService.getPostsByIds(List.of(2L, 3L))).willReturn(List.of(second));
+
+        // when & then
+        mockMvc.perform(get("/posts/batch").param("ids", "2,3,1,2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.posts.length()").value(2))
+                .andExpect(jsonPath("$.posts[0].id").value(2L))
+                .andExpect(jsonPath("$.posts[1].id").value(1L))
+                .andExpect(jsonPath("$.posts[1].title").value("테스트 게시글"))
+                .andExpect(jsonPath("$.missingIds[0]").value(3L));
+
+        verify(postService, times(1)).getPostsByIds(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("게시글 일괄 조회 실패 - 최대 개수 초과")
+    void getPostsByIds_TooMany() throws Exception {
+        // given
+        String ids = String.join(",", LongStream.rangeClosed(1, 101)
+                .mapToObj(String::valueOf)
+                .toList());
+
+        // when & then
+        mockMvc.perform(get("/posts/batch").param("ids", ids))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).getPostsByIds(any());
+    }
+
+    @Test
+    @DisplayName("전체 게시글 조회 - fields 로 고른 필드만 응답하고 부가 정보는 조회하지 않음")
+    void getAllPosts_Fields() throws Exception {
+        // given
+        PostResponse projected = PostResponse.builder()
+                .id(1L)
+                .title("테스트 게시글")
+                .username("testuser")
+                .build();
+        given(postService.getAllPosts(EnumSet.of(PostField.ID, PostField.TITLE, PostField.USERNAME)))
+                .willReturn(List.of(projected));
+
+        // when & then
+        mockMvc.perform(get("/posts").param("fields", "id,title,username"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L))
+                .andExpect(jsonPath("$[0].title").value("테스트 게시글"))
+                .andExpect(jsonPath("$[0].username").value("testuser"))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+
+        verify(postService, never()).getAllPosts();
+        verify(reactionService, never()).applyToPosts(any(), any());
+        verify(attachmentService, never()).applyToPosts(any());
+    }
+
+    @Test
+    @DisplayName("전체 게시글 조회 실패 - 알 수 없는 필드")
+    void getAllPosts_UnknownField() throws Exception {
+        // when & then
+        mockMvc.perform(get("/posts").param("fields", "id,password"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+
+        verify(postService, never()).getAllPosts(any());
+    }
+
     @Test
     @DisplayName("모든 게시글 조회 성공")
     void getAllPosts_Success() throws Exception {
@@ -184,6 +381,7 @@ class PostControllerTest {
                 .andExpect(jsonPath("$[1].title").value("게시글 2"));
 
         verify(postService, times(1)).getAllPosts();
+        verify(reactionService, times(1)).applyToPosts(posts, null);
     }
 
     @Test
@@ -1,14 +1,21 @@
 package dev.babyeham.ehamboard.domain.post.service;
 
+import dev.babyeham.ehamboard.domain.post.archive.PostArchiveStore;
+import dev.babyeham.ehamboard.domain.post.cache.PostResponseCache;
 import dev.babyeham.ehamboard.domain.post.dto.CreatePostRequest;
 import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
 import dev.babyeham.ehamboard.domain.post.dto.UpdatePostRequest;
 import dev.babyeham.ehamboard.domain.post.entity.Post;
 import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.revision.service.RevisionService;
+import dev.babyeham.ehamboard.domain.tag.service.TagService;
 import dev.babyeham.ehamboard.domain.user.entity.User;
 import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
 import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
 import dev.babyeham.ehamboard.global.exception.UnauthorizedPostAccessException;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import dev.babyeham.ehamboard.global.outbox.DomainEventType;
+import dev.babyeham.ehamboard.global.outbox.OutboxEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -26,6 +33,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +46,24 @@ class PostServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private PostResponseCache postResponseCache;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+
+    @Mock
+    private RevisionService revisionService;
+
+    @Mock
+    private TagService tagService;
+
+    @Mock
+    private PostArchiveStore postArchiveStore;
+
     @InjectMocks
     private PostServiceImpl postService;
 
@@ -91,6 +117,7 @@ class PostServiceImplTest {
 
         verify(userRepository, times(1)).findById(1L);
         verify(postRepository, times(1)).save(any(Post.class));
+        verify(outboxEventPublisher, times(1)).publish(eq(DomainEventType.POST_CREATED), eq(1L), any());
     }
 
     @Test
@@ -140,6 +167,22 @@ class PostServiceImplTest {
         verify(postRepository, times(1)).findById(999L);
     }
 
+    @Test
+    @DisplayName("게시글 조회 - 보관된 id 범위는 운영 테이블을 보지 않고 보관 테이블에서 읽는다")
+    void getPost_ArchivedRange() {
+        // given
+        PostResponse archived = PostResponse.builder().id(1L).title("보관된 제목").build();
+        given(postArchiveStore.covers(1L)).willReturn(true);
+        given(postArchiveStore.findPost(1L)).willReturn(Optional.of(archived));
+
+        // when
+        PostResponse response = postService.getPost(1L);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("보관된 제목");
+        verify(postRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("모든 게시글 조회 성공")
     void getAllPosts_Success() {
@@ -237,18 +280,20 @@ class PostServiceImplTest {
     }
 
     @Test
-    @DisplayName("게시글 삭제 성공")
+    @DisplayName("게시글 삭제 성공 - 소프트 삭제 후 즉시 반환")
     void deletePost_Success() {
         // given
         given(postRepository.findById(1L)).willReturn(Optional.of(testPost));
-        doNothing().when(postRepository).delete(testPost);
 
         // when
         postService.deletePost(1L, 1L);
 
         // then
+        assertThat(testPost.isDeleted()).isTrue();
         verify(postRepository, times(1)).findById(1L);
-        verify(postRepository, times(1)).delete(testPost);
+        verify(postRepository, never()).delete(any(Post.class));
+        verify(postResponseCache, times(1)).evictAfterCommit(1L);
+        verify(outboxEventPublisher, times(1)).publish(eq(DomainEventType.POST_DELETED), eq(1L), any());
     }
 
     @Test
@@ -0,0 +1,132 @@
+package dev.babyeham.ehamboard.domain.reaction.service;
+
+import dev.babyeham.ehamboard.domain.comment.repository.CommentRepository;
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.reaction.dto.ReactionResponse;
+import dev.babyeham.ehamboard.domain.reaction.entity.ReactionTargetType;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionCountRepository;
+import dev.babyeham.ehamboard.domain.reaction.repository.ReactionRepository;
+import dev.babyeham.ehamboard.domain.reaction.repository.TargetLikeCount;
+import dev.babyeham.ehamboard.domain.trending.service.TrendingService;
+import dev.babyeham.ehamboard.global.exception.PostNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactionServiceImplTest {
+
+    @Mock
+    private ReactionRepository reactionRepository;
+
+    @Mock
+    private ReactionCountRepository reactionCountRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    private ReactionServiceImpl reactionService;
+
+    @BeforeEach
+    void setUp() {
+        reactionService = new ReactionServiceImpl(reactionRepository, reactionCountRepository,
+                postRepository, commentRepository, trendingService, 16);
+    }
+
+    @Test
+    @DisplayName("좋아요 성공 - 새로 추가되면 샤드 카운터를 1 올린다")
+    void like_Success() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(reactionRepository.insertIgnore("POST", 1L, 2L)).willReturn(1);
+        given(reactionCountRepository.sumByTargets("POST", List.of(1L))).willReturn(List.of(count(1L, 5L)));
+
+        // when
+        ReactionResponse response = reactionService.like(ReactionTargetType.POST, 1L, 2L);
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(5L);
+        assertThat(response.isLikedByMe()).isTrue();
+        verify(reactionCountRepository, times(1)).addToShard(eq("POST"), eq(1L), intThat(s -> s >= 0 && s < 16), eq(1L));
+    }
+
+    @Test
+    @DisplayName("이미 좋아요한 경우 카운터를 바꾸지 않는다")
+    void like_AlreadyLiked() {
+        // given
+        given(postRepository.existsById(1L)).willReturn(true);
+        given(reactionRepository.insertIgnore("POST", 1L, 2L)).willReturn(0);
+
+        // when
+        reactionService.like(ReactionTargetType.POST, 1L, 2L);
+
+        // then
+        verify(reactionCountRepository, never()).addToShard(anyString(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요 실패 - 게시글을 찾을 수 없음")
+    void like_PostNotFound() {
+        // given
+        given(postRepository.existsById(999L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reactionService.like(ReactionTargetType.POST, 999L, 2L))
+                .isInstanceOf(PostNotFoundException.class)
+                .hasMessage("게시글을 찾을 수 없습니다.");
+        verify(reactionRepository, never()).insertIgnore(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("게시글 목록에 좋아요 수와 내 좋아요 여부를 한 번에 채운다")
+    void applyToPosts_Success() {
+        // given
+        PostResponse post1 = PostResponse.builder().id(1L).build();
+        PostResponse post2 = PostResponse.builder().id(2L).build();
+        given(reactionCountRepository.sumByTargets("POST", List.of(1L, 2L))).willReturn(List.of(count(1L, 3L)));
+        given(reactionRepository.findLikedTargetIds("POST", List.of(1L, 2L), 7L)).willReturn(List.of(1L));
+
+        // when
+        reactionService.applyToPosts(List.of(post1, post2), 7L);
+
+        // then
+        assertThat(post1.getLikeCount()).isEqualTo(3L);
+        assertThat(post1.getLikedByMe()).isTrue();
+        assertThat(post2.getLikeCount()).isZero();
+        assertThat(post2.getLikedByMe()).isFalse();
+        verify(reactionCountRepository, times(1)).sumByTargets(anyString(), anyCollection());
+        verify(reactionRepository, times(1)).findLikedTargetIds(anyString(), anyCollection(), anyLong());
+    }
+
+    private TargetLikeCount count(Long targetId, Long likeCount) {
+        return new TargetLikeCount() {
+            @Override
+            public Long getTargetId() {
+                return targetId;
+            }
+
+            @Override
+            public Long getLikeCount() {
+                return likeCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package dev.babyeham.ehamboard.domain.revision.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeltaCodecTest {
+
+    @Test
+    @DisplayName("중간 한 곳을 고치면 delta 는 바뀐 부분 크기 정도로 작다")
+    void diff_SmallEditIsCompact() {
+        // given
+        String base = "긴 본문입니다. ".repeat(500);
+        String target = base.substring(0, 1000) + "[수정]" + base.substring(1000);
+
+        // when
+        byte[] delta = DeltaCodec.diff(base, target);
+
+        // then
+        assertThat(DeltaCodec.apply(base, delta)).isEqualTo(target);
+        assertThat(delta.length).isLessThan(40);
+    }
+
+    @Test
+    @DisplayName("문단 순서를 바꿔도 기존 내용을 복사 명령으로 재사용한다")
+    void diff_MovedParagraphs() {
+        // given
+        String first = "첫 번째 문단입니다. ".repeat(20);
+        String second = "두 번째 문단입니다. ".repeat(20);
+
+        // when
+        byte[] delta = DeltaCodec.diff(first + "\n" + second, second + "\n" + first);
+
+        // then
+        assertThat(DeltaCodec.apply(first + "\n" + second, delta)).isEqualTo(second + "\n" + first);
+        assertThat(delta.length).isLessThan(64);
+    }
+
+    @Test
+    @DisplayName("여러 곳을 임의로 고쳐도 멀티바이트 문자를 포함해 정확히 복원한다")
+    void applyDiff_RandomEdits() {
+        Random random = new Random(42);
+        String alphabet = "abc 가나다\n😀XYZ0123";
+        for (int round = 0; round < 500; round++) {
+            // given
+            StringBuilder base = new StringBuilder();
+            int length = random.nextInt(2000);
+            for (int i = 0; i < length; i++) {
+                int index = alphabet.offsetByCodePoints(0, random.nextInt(alphabet.codePointCount(0, alphabet.length())));
+                base.appendCodePoint(alphabet.codePointAt(index));
+            }
+            StringBuilder target = new StringBuilder(base);
+            for (int edit = random.nextInt(4); edit > 0; edit--) {
+                int at = target.offsetByCodePoints(0, random.nextInt(target.codePointCount(0, target.length()) + 1));
+                target.insert(at, "추가" + random.nextInt(1000));
+            }
+
+            // when
+            byte[] delta = DeltaCodec.diff(base.toString(), target.toString());
+
+            // then
+            assertThat(DeltaCodec.apply(base.toString(), delta)).isEqualTo(target.toString());
+        }
+    }
+
+    @Test
+    @DisplayName("다른 기준 본문에 적용하면 오류를 낸다")
+    void apply_RejectsWrongBase() {
+        // given
+        byte[] delta = DeltaCodec.diff("기준 본문", "새 본문");
+
+        // when & then
+        assertThatThrownBy(() -> DeltaCodec.apply("다른 본문입니다", delta))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityRollupBufferTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    private final ActivityRollupBuffer buffer = new ActivityRollupBuffer();
+
+    @Test
+    @DisplayName("같은 날 같은 사용자의 글과 댓글은 한 행으로 합쳐진다")
+    void add_CoalescesPerDateAndUser() {
+        // given
+        buffer.add(DAY, 1L, 1, 0);
+        buffer.add(DAY, 1L, 0, 1);
+        buffer.add(DAY, 1L, 0, 1);
+        buffer.add(DAY.plusDays(1), 1L, 1, 0);
+
+        // when
+        List<PendingActivity> all = buffer.drainAll().stream()
+                .sorted(Comparator.comparing(PendingActivity::getActivityDate))
+                .toList();
+
+        // then
+        assertThat(all).hasSize(2);
+        assertThat(all.get(0).getPostCount()).isEqualTo(1);
+        assertThat(all.get(0).getCommentCount()).isEqualTo(2);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패해 되돌린 항목은 그 사이 쌓인 항목과 합쳐진다")
+    void restore_MergesWithNewerEntries() {
+        // given
+        buffer.add(DAY, 1L, 2, 0);
+        List<PendingActivity> failed = buffer.drainAll();
+        buffer.add(DAY, 1L, 1, 1);
+
+        // when
+        buffer.restore(failed);
+
+        // then
+        List<PendingActivity> all = buffer.drainAll();
+        assertThat(all).hasSize(1);
+        assertThat(all.get(0).getPostCount()).isEqualTo(3);
+        assertThat(all.get(0).getCommentCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,114 @@
+package dev.babyeham.ehamboard.domain.stats.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActivityRollupWriterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 1);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ActivityRollupWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ActivityRollupWriter(jdbcTemplate, new TransactionTemplate(transactionManager),
+                50_000, 500, Duration.ofDays(7), 1000);
+    }
+
+    @Test
+    @DisplayName("한 주기에 모인 이벤트는 한 트랜잭션에서 (날짜, 사용자) 단위로 합쳐 더한다")
+    void flush_CoalescesBatchInOneTransaction() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of());
+        given(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).willReturn(3);
+        writer.enqueue(1L, DAY, 7L, 1, 0);
+        writer.enqueue(2L, DAY, 7L, 0, 1);
+        writer.enqueue(3L, DAY, 7L, 0, 1);
+
+        // when
+        writer.flush();
+
+        // then
+        List<PendingActivity> upserted = captureUserUpsert();
+        assertThat(upserted).hasSize(1);
+        assertThat(upserted.get(0).getPostCount()).isEqualTo(1);
+        assertThat(upserted.get(0).getCommentCount()).isEqualTo(2);
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    @DisplayName("이미 더한 이벤트가 다시 전달되면 그 증분은 빼고 더한다")
+    void flush_SkipsRedeliveredEvents() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(1L));
+        given(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(Object[].class))).willReturn(1);
+        writer.enqueue(1L, DAY, 7L, 1, 0);
+        writer.enqueue(2L, DAY, 7L, 0, 1);
+
+        // when
+        writer.flush();
+
+        // then
+        List<PendingActivity> upserted = captureUserUpsert();
+        assertThat(upserted).hasSize(1);
+        assertThat(upserted.get(0).getPostCount()).isZero();
+        assertThat(upserted.get(0).getCommentCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치의 이벤트가 모두 이미 더해졌으면 롤업 테이블에 쓰지 않는다")
+    void flush_WritesNothingWhenAllApplied() {
+        // given
+        given(jdbcTemplate.queryForList(startsWith("SELECT event_id"), eq(Long.class), any(Object[].class)))
+                .willReturn(List.of(1L));
+        writer.enqueue(1L, DAY, 7L, 1, 0);
+        writer.enqueue(1L, DAY, 7L, 1, 0);
+
+        // when
+        writer.flush();
+
+        // then
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE"), any(Object[].class));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<PendingActivity> captureUserUpsert() {
+        ArgumentCaptor<Collection<PendingActivity>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO daily_user_activity"), captor.capture(), eq(500),
+                any(ParameterizedPreparedStatementSetter.class));
+        return List.copyOf(captor.getValue());
+    }
+}
@@ -0,0 +1,64 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 조회 지연 측정. 기본 test 태스크에서는 빠지고 ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class SuggestBenchmarkTest {
+
+    private static final int TITLES = 100_000;
+    private static final int LOOKUPS = 200_000;
+    private static final String[] WORDS = {"스프링", "자바", "spring", "java", "성능", "트랜잭션", "인덱스", "mysql",
+            "캐시", "cache", "kotlin", "코루틴", "배포", "docker", "쿼리", "query", "테스트", "리팩터링"};
+
+    @Test
+    @DisplayName("제목 10만 건 색인에서 접두사 조회의 p50/p99 지연을 잰다")
+    void lookupLatency() {
+        Random random = new Random(42);
+        SuggestIndex index = new SuggestIndex(10, TITLES, 8, 2);
+        long buildStart = System.nanoTime();
+        for (int i = 1; i <= TITLES; i++) {
+            index.putTitle(i, title(random, i), 1 + random.nextInt(50));
+        }
+        long buildMillis = (System.nanoTime() - buildStart) / 1_000_000;
+
+        String[] prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            prefixes[i] = word.substring(0, 1 + random.nextInt(word.length()));
+        }
+        for (int i = 0; i < LOOKUPS; i++) {
+            index.suggest(prefixes[i % prefixes.length], 10);
+        }
+        long[] nanos = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            long start = System.nanoTime();
+            index.suggest(prefixes[i % prefixes.length], 10);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        long p50 = nanos[LOOKUPS / 2];
+        long p99 = nanos[LOOKUPS * 99 / 100];
+
+        System.out.printf("suggest: %d titles, %d entries, build %d ms, p50 %.1f µs, p99 %.1f µs%n",
+                TITLES, index.size(), buildMillis, p50 / 1000.0, p99 / 1000.0);
+        assertThat(p99).isLessThan(1_000_000);
+    }
+
+    private static String title(Random random, int seed) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 3 + random.nextInt(4); i++) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.append(seed).toString();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.babyeham.ehamboard.domain.suggest.service;
+
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionResponse;
+import dev.babyeham.ehamboard.domain.suggest.dto.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestIndexTest {
+
+    @Test
+    @DisplayName("접두사로 제목과 단어를 가중치 순으로 제안한다")
+    void suggestByWeight() {
+        // given
+        SuggestIndex index = new SuggestIndex(10, 100, 8, 2);
+        index.putTitle(1L, "Spring Boot 시작하기", 1);
+        index.putTitle(2L, "Spring 트랜잭션 정리", 5);
+        index.putTitle(3L, "스프링 배치", 1);
+
+        // when
+        List<SuggestionResponse> result = index.suggest("  SPRING ", 10);
+
+        // then
+        assertThat(result).extracting(SuggestionResponse::getText)
+                .containsExactly("Spring 트랜잭션 정리", "spring", "Spring Boot 시작하기");
+        assertThat(result.get(1).getType()).isEqualTo(SuggestionType.TERM);
+        assertThat(result.get(0).getPostId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("댓글이 달리면 제목 가중치가 올라 순위가 바뀐다")
+    void addWeight() {
+        // given
+        SuggestIndex index = new SuggestIndex(2, 100, 8, 2);
+        index.putTitle(1L, "자바 스트림", 1);
+        index.putTitle(2L, "자바 가비지 컬렉션", 3);
+
+        // when
+        index.addWeight(1L, 5);
+
+        // then
+        assertThat(index.suggest("자바 ", 2)).extracting(SuggestionResponse::getPostId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정·삭제된 제목과 더 이상 쓰이지 않는 단어는 제안에서 빠진다")
+    void updateAndRemove() {
+        // given
+        SuggestIndex index = new SuggestIndex(10, 100, 8, 2);
+        index.putTitle(1L, "Kotlin 코루틴", 1);
+        index.putTitle(2L, "Kotlin 입문", 1);
+
+        // when
+        index.putTitle(1L, "Java 가상 스레드", 1);
+        index.removeTitle(2L);
+
+        // then
+        assertThat(index.suggest("kot", 10)).isEmpty();
+        assertThat(index.suggest("java", 10)).extracting(SuggestionResponse::getText)
+                .containsExactly("java", "Java 가상 스레드");
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("제목 수가 한도를 넘으면 가장 오래된 게시글부터 뺀다")
+    void evictOldest() {
+        // given
+        SuggestIndex index = new SuggestIndex(10, 2, 8, 2);
+        index.putTitle(1L, "첫 글", 1);
+        index.putTitle(2L, "둘째 글", 1);
+
+        // when
+        index.putTitle(3L, "셋째 글", 1);
+
+        // then
+        assertThat(index.titleCount()).isEqualTo(2);
+        assertThat(index.suggest("첫", 10)).isEmpty();
+        assertThat(index.suggest("셋", 10)).extracting(SuggestionResponse::getText).containsExactly("셋째", "셋째 글");
+    }
+}
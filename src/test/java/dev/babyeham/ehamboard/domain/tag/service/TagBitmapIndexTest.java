@@ -0,0 +1,112 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.entity.Tag;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRepository;
+import dev.babyeham.ehamboard.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class TagBitmapIndexTest {
+
+    private TagRepository tagRepository;
+    private TagBitmapIndex index;
+
+    @BeforeEach
+    void setUp() {
+        tagRepository = mock(TagRepository.class);
+        index = new TagBitmapIndex(tagRepository, mock(PostTagRepository.class),
+                new SimpleMeterRegistry(), 1000);
+        index.register(Map.of("java", 1L, "spring", 2L, "mysql", 3L));
+        index.update(10L, List.of(1L, 2L), List.of());
+        index.update(11L, List.of(1L), List.of());
+        index.update(12L, List.of(1L, 2L, 3L), List.of());
+        index.update(13L, List.of(3L), List.of());
+    }
+
+    @Test
+    @DisplayName("AND 는 모든 태그가 붙은 글, OR 는 하나라도 붙은 글을 찾는다")
+    void matchAndOr() {
+        // when
+        RoaringBitmap and = index.match(List.of("java", "spring"), TagMatchMode.AND);
+        RoaringBitmap or = index.match(List.of("spring", "mysql"), TagMatchMode.OR);
+
+        // then
+        assertThat(and.toArray()).containsExactly(10, 12);
+        assertThat(or.toArray()).containsExactly(10, 12, 13);
+    }
+
+    @Test
+    @DisplayName("없는 태그가 섞이면 AND 는 비고 OR 는 나머지 태그로 찾는다")
+    void matchUnknownTag() {
+        // when
+        RoaringBitmap and = index.match(List.of("java", "kotlin"), TagMatchMode.AND);
+        RoaringBitmap or = index.match(List.of("java", "kotlin"), TagMatchMode.OR);
+
+        // then
+        assertThat(and.isEmpty()).isTrue();
+        assertThat(or.toArray()).containsExactly(10, 11, 12);
+    }
+
+    @Test
+    @DisplayName("태그가 빠진 글은 결과에서 사라지고, 결과는 커서 이전 id 부터 내림차순으로 나뉜다")
+    void removeAndPage() {
+        // given
+        index.update(12L, List.of(), List.of(1L, 2L, 3L));
+        RoaringBitmap java = index.match(List.of("java"), TagMatchMode.AND);
+
+        // when
+        List<Long> first = TagBitmapIndex.pageDescending(java, null, 1);
+        List<Long> second = TagBitmapIndex.pageDescending(java, first.get(0), 5);
+
+        // then
+        assertThat(first).containsExactly(11L);
+        assertThat(second).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("refresh 는 DB 의 현재 태그로 게시글을 맞추고, 새 태그 이름도 등록한다")
+    void refreshReplacesTags() {
+        // given
+        given(tagRepository.findCurrentByPostId(12L)).willReturn(List.of(tag(1L, "java"), tag(4L, "kotlin")));
+
+        // when
+        index.refresh(12L);
+        index.refresh(12L);
+
+        // then
+        assertThat(index.match(List.of("java"), TagMatchMode.AND).toArray()).containsExactly(10, 11, 12);
+        assertThat(index.match(List.of("spring", "mysql"), TagMatchMode.OR).toArray()).containsExactly(10, 13);
+        assertThat(index.match(List.of("kotlin"), TagMatchMode.AND).toArray()).containsExactly(12);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 DB 에서 태그가 없으므로 refresh 하면 모든 태그에서 빠진다")
+    void refreshRemovesDeletedPost() {
+        // given
+        given(tagRepository.findCurrentByPostId(10L)).willReturn(List.of());
+
+        // when
+        index.refresh(10L);
+
+        // then
+        assertThat(index.match(List.of("java", "spring"), TagMatchMode.OR).toArray()).containsExactly(11, 12);
+    }
+
+    private static Tag tag(Long id, String name) {
+        Tag tag = mock(Tag.class);
+        given(tag.getId()).willReturn(id);
+        given(tag.getName()).willReturn(name);
+        return tag;
+    }
+}
@@ -0,0 +1,87 @@
+package dev.babyeham.ehamboard.domain.tag.service;
+
+import dev.babyeham.ehamboard.domain.post.dto.PostResponse;
+import dev.babyeham.ehamboard.domain.post.service.PostService;
+import dev.babyeham.ehamboard.domain.tag.dto.TagMatchMode;
+import dev.babyeham.ehamboard.domain.tag.dto.TaggedPostsResponse;
+import dev.babyeham.ehamboard.domain.tag.repository.PostTagRepository;
+import dev.babyeham.ehamboard.domain.tag.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TagServiceImplTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @Mock
+    private TagBitmapIndex tagBitmapIndex;
+
+    @Mock
+    private ObjectProvider<PostService> postServiceProvider;
+
+    @Mock
+    private PostService postService;
+
+    private TagServiceImpl tagService;
+
+    @BeforeEach
+    void setUp() {
+        tagService = new TagServiceImpl(tagRepository, postTagRepository, tagBitmapIndex, postServiceProvider);
+        given(postServiceProvider.getObject()).willReturn(postService);
+        given(postTagRepository.findNamesByPostIdIn(anyCollection())).willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("보관된 게시글도 게시글 서비스에서 읽어 id 내림차순으로 돌려준다")
+    void taggedPostsIncludeArchived() {
+        // given
+        given(tagBitmapIndex.match(List.of("java"), TagMatchMode.AND)).willReturn(RoaringBitmap.bitmapOf(1, 2, 3));
+        given(postService.getPostsByIds(List.of(3L, 2L))).willReturn(List.of(post(3L), post(2L)));
+
+        // when
+        TaggedPostsResponse response = tagService.getTaggedPosts(List.of("java"), TagMatchMode.AND, null, 2);
+
+        // then
+        assertThat(response.getPosts()).extracting(PostResponse::getId).containsExactly(3L, 2L);
+        assertThat(response.getTotalCount()).isEqualTo(3);
+        assertThat(response.getNextCursor()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 게시글은 다음 id 로 페이지를 채우고 총 개수에서도 뺀다")
+    void missingPostsAreSkipped() {
+        // given
+        given(tagBitmapIndex.match(List.of("java"), TagMatchMode.AND)).willReturn(RoaringBitmap.bitmapOf(1, 2, 3));
+        given(postService.getPostsByIds(List.of(3L, 2L))).willReturn(List.of(post(2L)));
+        given(postService.getPostsByIds(List.of(1L))).willReturn(List.of(post(1L)));
+
+        // when
+        TaggedPostsResponse response = tagService.getTaggedPosts(List.of("java"), TagMatchMode.AND, null, 2);
+
+        // then
+        assertThat(response.getPosts()).extracting(PostResponse::getId).containsExactly(2L, 1L);
+        assertThat(response.getTotalCount()).isEqualTo(2);
+        assertThat(response.getNextCursor()).isEqualTo(1L);
+    }
+
+    private static PostResponse post(Long id) {
+        return PostResponse.builder().id(id).title("제목").content("내용").build();
+    }
+}
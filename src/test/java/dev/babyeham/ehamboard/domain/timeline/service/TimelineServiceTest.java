@@ -0,0 +1,182 @@
+package dev.babyeham.ehamboard.domain.timeline.service;
+
+import dev.babyeham.ehamboard.domain.follow.repository.FollowRepository;
+import dev.babyeham.ehamboard.domain.post.entity.Post;
+import dev.babyeham.ehamboard.domain.post.repository.PostRepository;
+import dev.babyeham.ehamboard.domain.timeline.dto.TimelineResponse;
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.domain.user.repository.UserRepository;
+import dev.babyeham.ehamboard.global.markdown.MarkdownRenderer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineServiceTest {
+
+    private static final long THRESHOLD = 100;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private MarkdownRenderer markdownRenderer;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private TimelineService timelineService;
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new TimelineService(postRepository, markdownRenderer, followRepository, userRepository,
+                5, THRESHOLD, 100, Duration.ofMinutes(10), Duration.ofMinutes(1), 2);
+        author = User.builder().username("author").password("password").build();
+        ReflectionTestUtils.setField(author, "id", 2L);
+        lenient().when(postRepository.findAllWithUserByIdIn(anyCollection()))
+                .thenAnswer(invocation -> posts(invocation.getArgument(0)));
+    }
+
+    @Test
+    @DisplayName("밀어 넣은 글과 인기 작성자의 글을 id 내림차순으로 합친다")
+    void getTimeline_MergesPushedAndPulled() {
+        // given
+        given(followRepository.findRegularFolloweeIds(1L, THRESHOLD)).willReturn(List.of(2L));
+        given(followRepository.findCelebrityFolloweeIds(1L, THRESHOLD)).willReturn(List.of(7L));
+        given(postRepository.findRecentIdsByUserId(2L, Long.MAX_VALUE, 2)).willReturn(List.of(9L, 5L));
+        given(postRepository.findRecentIdsByUserId(2L, 5L, 2)).willReturn(List.of(3L));
+        given(postRepository.findRecentIdsByUserId(7L, Long.MAX_VALUE, 2)).willReturn(List.of(8L, 5L));
+        given(postRepository.findRecentIdsByUserId(7L, 5L, 2)).willReturn(List.of(1L));
+
+        // when
+        TimelineResponse response = timelineService.getTimeline(1L, null, 3);
+
+        // then
+        assertThat(response.getPosts()).extracting("id").containsExactly(9L, 8L, 5L);
+        assertThat(response.getNextCursor()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("작성자별로 조금씩 읽어 합치고, 페이지가 차면 더 읽지 않는다")
+    void getTimeline_ReadsEachAuthorInBoundedChunks() {
+        // given
+        given(followRepository.findRegularFolloweeIds(1L, THRESHOLD)).willReturn(List.of());
+        given(followRepository.findCelebrityFolloweeIds(1L, THRESHOLD)).willReturn(List.of(7L, 8L));
+        given(postRepository.findRecentIdsByUserId(7L, Long.MAX_VALUE, 2)).willReturn(List.of(40L, 30L));
+        given(postRepository.findRecentIdsByUserId(8L, Long.MAX_VALUE, 2)).willReturn(List.of(35L, 10L));
+        given(postRepository.findRecentIdsByUserId(7L, 30L, 2)).willReturn(List.of(20L, 5L));
+
+        // when
+        TimelineResponse response = timelineService.getTimeline(1L, null, 4);
+
+        // then
+        assertThat(response.getPosts()).extracting("id").containsExactly(40L, 35L, 30L, 20L);
+        verify(postRepository, never()).findRecentIdsByUserId(8L, 10L, 2);
+    }
+
+    @Test
+    @DisplayName("작성 시 팔로워 버퍼에 글이 추가되어 DB 재조회 없이 보인다")
+    void fanOut_PushesToCachedTimelines() {
+        // given
+        given(followRepository.findRegularFolloweeIds(1L, THRESHOLD)).willReturn(List.of(2L));
+        given(followRepository.findCelebrityFolloweeIds(1L, THRESHOLD)).willReturn(List.of());
+        given(postRepository.findRecentIdsByUserId(2L, Long.MAX_VALUE, 2)).willReturn(List.of(3L));
+        timelineService.getTimeline(1L, null, 10);
+        given(userRepository.findFollowerCountById(2L)).willReturn(Optional.of(1L));
+        given(followRepository.findFollowerIds(2L)).willReturn(List.of(1L));
+
+        // when
+        timelineService.fanOut(2L, 10L);
+        TimelineResponse response = timelineService.getTimeline(1L, null, 10);
+
+        // then
+        assertThat(response.getPosts()).extracting("id").containsExactly(10L, 3L);
+        verify(postRepository, times(1)).findRecentIdsByUserId(2L, Long.MAX_VALUE, 2);
+        verify(followRepository, times(1)).findRegularFolloweeIds(1L, THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("버퍼를 다시 만드는 도중 작성된 글은 적재가 끝난 뒤 버퍼에 들어간다")
+    void fanOut_WaitsForRebuildInProgress() throws InterruptedException {
+        // given
+        given(userRepository.findFollowerCountById(2L)).willReturn(Optional.of(1L));
+        given(followRepository.findFollowerIds(2L)).willReturn(List.of(1L));
+        given(followRepository.findRegularFolloweeIds(1L, THRESHOLD)).willReturn(List.of(2L));
+        given(followRepository.findCelebrityFolloweeIds(1L, THRESHOLD)).willReturn(List.of());
+        Thread[] writer = new Thread[1];
+        given(postRepository.findRecentIdsByUserId(2L, Long.MAX_VALUE, 2)).willAnswer(invocation -> {
+            // 다시 만들기의 조회가 끝난 뒤 커밋된 글의 fan-out 이 적재 도중에 도착한다
+            writer[0] = new Thread(() -> timelineService.fanOut(2L, 30L));
+            writer[0].start();
+            Thread.sleep(100);
+            return List.of(3L);
+        });
+
+        // when
+        timelineService.getTimeline(1L, null, 10);
+        writer[0].join();
+        TimelineResponse response = timelineService.getTimeline(1L, null, 10);
+
+        // then
+        assertThat(response.getPosts()).extracting("id").containsExactly(30L, 3L);
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자의 글은 밀어 넣지 않는다")
+    void fanOut_SkipsCelebrity() {
+        // given
+        given(userRepository.findFollowerCountById(2L)).willReturn(Optional.of(THRESHOLD));
+
+        // when
+        timelineService.fanOut(2L, 10L);
+
+        // then
+        verify(followRepository, never()).findFollowerIds(2L);
+    }
+
+    @Test
+    @DisplayName("버퍼 끝을 넘어간 페이지는 DB 에서 이어서 읽는다")
+    void getTimeline_FallsBackPastBuffer() {
+        // given
+        given(followRepository.findRegularFolloweeIds(1L, THRESHOLD)).willReturn(List.of(2L, 4L));
+        given(followRepository.findCelebrityFolloweeIds(1L, THRESHOLD)).willReturn(List.of());
+        given(postRepository.findRecentIdsByUserId(2L, Long.MAX_VALUE, 2)).willReturn(List.of(20L, 18L));
+        given(postRepository.findRecentIdsByUserId(4L, Long.MAX_VALUE, 2)).willReturn(List.of(19L, 17L));
+        given(postRepository.findRecentIdsByUserId(2L, 18L, 2)).willReturn(List.of(16L, 14L));
+        given(postRepository.findRecentIdsByUserId(4L, 17L, 2)).willReturn(List.of(15L, 13L));
+        given(postRepository.findRecentIdsByUserId(2L, 16L, 2)).willReturn(List.of(14L, 12L));
+        given(postRepository.findRecentIdsByUserId(4L, 16L, 2)).willReturn(List.of(15L, 13L));
+
+        // when
+        TimelineResponse response = timelineService.getTimeline(1L, 16L, 3);
+
+        // then
+        assertThat(response.getPosts()).extracting("id").containsExactly(15L, 14L, 13L);
+    }
+
+    private List<Post> posts(Collection<Long> ids) {
+        return ids.stream().map(id -> {
+            Post post = Post.builder().title("제목 " + id).content("내용").user(author).build();
+            ReflectionTestUtils.setField(post, "id", id);
+            return post;
+        }).toList();
+    }
+}
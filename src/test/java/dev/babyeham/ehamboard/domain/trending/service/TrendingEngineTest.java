@@ -0,0 +1,143 @@
+package dev.babyeham.ehamboard.domain.trending.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendingEngineTest {
+
+    private MutableClock clock;
+    private TrendingEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        engine = new TrendingEngine(Duration.ofHours(1), 3, 5, Duration.ZERO, clock);
+    }
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반으로 줄어든다")
+    void top_DecaysByHalfLife() {
+        // given
+        engine.record(1L, 8.0);
+
+        // when
+        clock.advance(Duration.ofHours(1));
+
+        // then
+        assertThat(engine.top()).hasSize(1);
+        assertThat(engine.top().get(0).score()).isCloseTo(4.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최근 이벤트가 오래된 더 큰 이벤트를 앞설 수 있다")
+    void top_RecentActivityWins() {
+        // given
+        engine.record(1L, 10.0);
+        clock.advance(Duration.ofHours(3));
+
+        // when
+        engine.record(2L, 2.0);
+
+        // then
+        assertThat(engine.top()).extracting(TrendingEntry::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("상위 K 개만 돌려주고 추적 개수를 넘으면 가장 낮은 항목을 버린다")
+    void record_BoundedCapacity() {
+        // given
+        for (long postId = 1; postId <= 10; postId++) {
+            engine.record(postId, postId);
+        }
+
+        // when & then
+        assertThat(engine.size()).isEqualTo(5);
+        assertThat(engine.top()).extracting(TrendingEntry::postId).containsExactly(10L, 9L, 8L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 순위에서 빠진다")
+    void remove_Success() {
+        // given
+        engine.record(1L, 5.0);
+        engine.record(2L, 3.0);
+
+        // when
+        engine.remove(1L);
+
+        // then
+        assertThat(engine.top()).extracting(TrendingEntry::postId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("오랜 시간이 지나 기준 시각을 옮겨도 순위가 유지된다")
+    void record_RescalesWithoutChangingOrder() {
+        // given
+        engine.record(1L, 2.0);
+        engine.record(2L, 1.0);
+
+        // when
+        clock.advance(Duration.ofHours(140));
+        engine.record(3L, 1.0);
+        clock.advance(Duration.ofHours(10));
+        engine.record(4L, 1.0);
+
+        // then
+        assertThat(engine.top()).extracting(TrendingEntry::postId).containsExactly(4L, 3L);
+        assertThat(engine.top().get(0).score()).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("스냅샷으로 저장한 뒤 다시 읽으면 같은 순위와 점수를 복원한다")
+    void snapshot_RoundTrip() throws IOException {
+        // given
+        engine.record(1L, 4.0);
+        engine.record(2L, 6.0);
+        clock.advance(Duration.ofMinutes(30));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        engine.writeTo(new DataOutputStream(bytes));
+
+        // when
+        TrendingEngine restored = new TrendingEngine(Duration.ofHours(1), 3, 5, Duration.ZERO, clock);
+        restored.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        // then
+        assertThat(restored.top()).extracting(TrendingEntry::postId).containsExactly(2L, 1L);
+        assertThat(restored.top().get(0).score()).isCloseTo(engine.top().get(0).score(), within(1e-9));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
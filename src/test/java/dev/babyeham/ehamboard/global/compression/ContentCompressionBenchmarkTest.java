@@ -0,0 +1,81 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저장 공간 절감과 CPU 비용 측정. 기본 test 태스크에서는 빠지고 ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class ContentCompressionBenchmarkTest {
+
+    private static final int DOCUMENTS = 500;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURE_ROUNDS = 10;
+
+    @Test
+    @DisplayName("사전 없이/사전으로 압축했을 때의 압축률과 건당 압축·해제 시간을 비교한다")
+    void storageVersusCpu() {
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents.add(sampleDocument(i));
+        }
+        byte[] dictionary = CompressionDictionaryTrainer.train(documents.subList(0, DOCUMENTS / 5),
+                CompressionDictionaryTrainer.MAX_DICTIONARY_BYTES);
+        // 사전은 학습에 쓰지 않은 글로 평가한다
+        List<String> evaluation = documents.subList(DOCUMENTS / 5, DOCUMENTS);
+
+        long raw = evaluation.stream().mapToLong(d -> d.getBytes(StandardCharsets.UTF_8).length).sum();
+        double plain = report("deflate", new TextCompressor(true, 256, 6, null, 1), evaluation, raw);
+        double withDictionary = report("deflate+dict", new TextCompressor(true, 256, 6, dictionary, 1), evaluation, raw);
+
+        assertThat(withDictionary).isLessThan(plain);
+    }
+
+    private static double report(String name, TextCompressor compressor, List<String> documents, long raw) {
+        List<byte[]> stored = new ArrayList<>();
+        long encodeNanos = measure(() -> {
+            stored.clear();
+            documents.forEach(d -> stored.add(compressor.encode(d)));
+        });
+        long decodeNanos = measure(() -> stored.forEach(compressor::decode));
+        long compressed = stored.stream().mapToLong(b -> b.length).sum();
+
+        double ratio = (double) compressed / raw;
+        System.out.printf("%s: %d -> %d bytes (%.1f%%), encode %.1f µs/doc, decode %.1f µs/doc%n",
+                name, raw, compressed, ratio * 100,
+                encodeNanos / 1000.0 / documents.size(), decodeNanos / 1000.0 / documents.size());
+        return ratio;
+    }
+
+    private static long measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            round.run();
+        }
+        return (System.nanoTime() - start) / MEASURE_ROUNDS;
+    }
+
+    private static String sampleDocument(int seed) {
+        StringBuilder sb = new StringBuilder("# 게시글 ").append(seed).append("\n\n");
+        sb.append("안녕하세요, 오늘은 ").append(seed % 7 == 0 ? "스프링 부트" : "자바 성능").append(" 이야기를 해 보려고 합니다.\n\n");
+        for (int i = 0; i < 4 + seed % 5; i++) {
+            sb.append("## 문단 ").append(i).append("\n\n")
+                    .append("측정 결과 ").append(seed * 31 + i).append("ms 가 걸렸고, 자세한 설정은 아래 코드를 참고해 주세요.\n\n")
+                    .append("```java\n@Transactional(readOnly = true)\npublic PostResponse getPost(Long postId) {\n")
+                    .append("    return postRepository.findById(").append(i).append(").map(PostResponse::from).orElseThrow();\n}\n```\n\n");
+        }
+        sb.append("읽어 주셔서 감사합니다. 궁금한 점은 댓글로 남겨 주세요.\n");
+        return sb.toString();
+    }
+}
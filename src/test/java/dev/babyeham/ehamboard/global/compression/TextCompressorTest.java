@@ -0,0 +1,95 @@
+package dev.babyeham.ehamboard.global.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextCompressorTest {
+
+    private static final String LONG_TEXT = "긴 본문입니다. The quick brown fox jumps over the lazy dog. ".repeat(100);
+
+    @Test
+    @DisplayName("기준 크기 이상인 본문은 압축해 저장하고 그대로 복원한다")
+    void compressLargeText() {
+        // given
+        TextCompressor compressor = new TextCompressor(true, 1024, 6, null, 1);
+
+        // when
+        byte[] stored = compressor.encode(LONG_TEXT);
+
+        // then
+        assertThat(TextCompressor.isCompressed(stored)).isTrue();
+        assertThat(stored.length).isLessThan(LONG_TEXT.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(compressor.decode(stored)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    @DisplayName("짧은 본문이나 압축이 꺼진 경우에는 UTF-8 그대로 저장한다")
+    void keepSmallTextRaw() {
+        // given
+        TextCompressor enabled = new TextCompressor(true, 1024, 6, null, 1);
+        TextCompressor disabled = new TextCompressor(false, 1024, 6, null, 1);
+
+        // when
+        byte[] small = enabled.encode("짧은 글");
+        byte[] large = disabled.encode(LONG_TEXT);
+
+        // then
+        assertThat(small).isEqualTo("짧은 글".getBytes(StandardCharsets.UTF_8));
+        assertThat(TextCompressor.isCompressed(large)).isFalse();
+        assertThat(disabled.decode(large)).isEqualTo(LONG_TEXT);
+    }
+
+    @Test
+    @DisplayName("보관용 압축은 압축 설정이 꺼져 있어도 본문을 줄이고, 이미 압축된 값은 그대로 둔다")
+    void compressColdIgnoresEnabledFlag() {
+        // given
+        TextCompressor disabled = new TextCompressor(false, 1024, 6, null, 1);
+        byte[] raw = LONG_TEXT.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        byte[] cold = disabled.compressCold(raw);
+
+        // then
+        assertThat(TextCompressor.isCompressed(cold)).isTrue();
+        assertThat(disabled.decode(cold)).isEqualTo(LONG_TEXT);
+        assertThat(disabled.compressCold(cold)).isSameAs(cold);
+    }
+
+    @Test
+    @DisplayName("사전으로 압축한 본문은 같은 사전 id 로만 복원된다")
+    void dictionaryRoundTrip() {
+        // given
+        byte[] dictionary = CompressionDictionaryTrainer.train(List.of(LONG_TEXT, LONG_TEXT + "다른 글"), 4096);
+        TextCompressor compressor = new TextCompressor(true, 1024, 6, dictionary, 3);
+        TextCompressor otherDictionary = new TextCompressor(true, 1024, 6, dictionary, 4);
+
+        // when
+        byte[] stored = compressor.encode(LONG_TEXT);
+
+        // then
+        assertThat(compressor.decode(stored)).isEqualTo(LONG_TEXT);
+        assertThatThrownBy(() -> otherDictionary.decode(stored)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("DB 에서 읽은 값은 text() 를 부르기 전까지 압축을 풀지 않고 원래 바이트로 다시 쓴다")
+    void lazyDecode() {
+        // given
+        TextCompressor compressor = new TextCompressor(true, 1024, 6, null, 1);
+        byte[] stored = compressor.encode(LONG_TEXT);
+        CompressedText value = CompressedText.fromStored(stored, compressor);
+
+        // when
+        byte[] rewritten = value.toStored(compressor);
+
+        // then
+        assertThat(rewritten).isSameAs(stored);
+        assertThat(value.text()).isEqualTo(LONG_TEXT);
+    }
+}
@@ -0,0 +1,154 @@
+package dev.babyeham.ehamboard.global.datasource;
+
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaNode replicaNode;
+    private ReplicaPool replicaPool;
+    private ReadYourWritesTracker tracker;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = embeddedDatabase("primary");
+        DataSource replica = embeddedDatabase("replica");
+
+        replicaNode = new ReplicaNode("replica-1", replica);
+        replicaPool = new ReplicaPool(List.of(replicaNode), Duration.ofSeconds(5).toMillis());
+        tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), Clock.systemUTC());
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primary, replicaPool, tracker);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로 라우팅")
+    void readOnlyTransaction_RoutesToReplica() {
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 프라이머리로 라우팅")
+    void writeTransaction_RoutesToPrimary() {
+        assertThat(writeTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("연속 실패로 제외된 레플리카 대신 프라이머리로 폴백")
+    void unhealthyReplica_FallsBackToPrimary() {
+        // given
+        replicaNode.markFailure(2);
+        replicaNode.markFailure(2);
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 임계값을 넘으면 프라이머리로 폴백")
+    void laggingReplica_FallsBackToPrimary() {
+        // given
+        replicaNode.markSuccess(Duration.ofSeconds(30).toMillis());
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 직후 같은 사용자의 조회는 프라이머리에서 읽음")
+    void readYourWrites_RoutesWriterToPrimary() {
+        // given
+        authenticate(1L);
+        writeTransaction.execute(status -> currentNode());
+
+        // when & then
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("primary");
+
+        authenticate(2L);
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("상태 확인 실패가 누적되면 레플리카를 제외하고 복구 시 다시 포함")
+    void healthChecker_EjectsAndRestoresReplica() {
+        // given
+        DataSourceRoutingProperties properties = new DataSourceRoutingProperties();
+        properties.setFailureThreshold(1);
+        properties.setLagQuery("");
+
+        ReplicaNode broken = new ReplicaNode("broken", brokenDatabase());
+        ReplicaPool pool = new ReplicaPool(List.of(broken, replicaNode), Duration.ofSeconds(5).toMillis());
+        ReplicaHealthChecker healthChecker = new ReplicaHealthChecker(pool, tracker, properties);
+
+        // when
+        healthChecker.checkReplicas();
+
+        // then
+        assertThat(broken.isHealthy()).isFalse();
+        assertThat(replicaNode.isHealthy()).isTrue();
+        assertThat(pool.next()).contains(replicaNode);
+        assertThat(pool.next()).contains(replicaNode);
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private void authenticate(Long userId) {
+        User user = User.builder()
+                .username("user" + userId)
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(user, "id", userId);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private DataSource embeddedDatabase(String name) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(20))");
+        template.update("DELETE FROM node");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private DataSource brokenDatabase() {
+        return new DriverManagerDataSource("jdbc:h2:tcp://localhost:1/missing", "sa", "");
+    }
+}
@@ -0,0 +1,360 @@
+package dev.babyeham.ehamboard.global.db;
+
+import dev.babyeham.ehamboard.global.compression.CompressedTextConverter;
+import dev.babyeham.ehamboard.global.compression.TextCompressor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.ReflectionUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션된 스키마에서 리포지토리 쿼리가 인덱스를 타는지 EXPLAIN 으로 검증한다.
+ * <p>
+ * SQL 을 손으로 옮겨 적지 않는다. 리포지토리 인터페이스에 선언된 조회 메서드를 모두 리플렉션으로 샘플 인자와 함께 호출하고,
+ * MySQL general_log 에 남은 실제 SELECT 를 그대로 EXPLAIN 한다. 그래서 @Query 를 고치거나 조회 메서드를 새로 만들면
+ * 이 테스트가 바로 그 SQL 을 검사한다. 새 파라미터 타입을 쓰면 sample() 에 값을 더해야 테스트가 통과한다.
+ * <p>
+ * 데이터를 채운 큰 테이블(SEEDED_TABLES)만 판정한다. 몇 행 없는 테이블은 옵티마이저가 인덱스가 있어도 전체 스캔을 고르기 때문이다.
+ * 전체 목록 조회와 LIKE '%keyword%' 검색은 본질적으로 전체 스캔이라 FULL_SCAN_ALLOWED 로 제외한다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TextCompressor.class, CompressedTextConverter.class})
+class QueryPlanTest {
+
+    private static final int USER_COUNT = 20;
+    private static final int POST_COUNT = 2000;
+    private static final int COMMENT_COUNT = 6000;
+    private static final int TAG_COUNT = 50;
+    private static final int OUTBOX_COUNT = 3000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private static final Set<String> SEEDED_TABLES = Set.of("users", "posts", "comments", "follows",
+            "daily_user_activity", "tags", "post_tags", "outbox_events", "notifications", "reactions",
+            "reaction_counts", "attachments", "revisions");
+
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            "PostRepository.findAllByOrderByCreatedAtDesc",
+            "PostRepository.searchByTitle",
+            "PostProjectionRepository.findAllProjected",
+            "PostProjectionRepository.searchByTitleProjected");
+
+    private static final Map<String, Long> LONG_SAMPLES = Map.of(
+            "userId", 3L,
+            "recipientId", 3L,
+            "followerId", 1L,
+            "followeeId", 3L,
+            "beforeId", 1500L,
+            "afterId", 100L,
+            "tagId", 0L,
+            "celebrityThreshold", 10_000L);
+
+    private static final Map<String, Integer> INT_SAMPLES = Map.of(
+            "revisionNo", 1,
+            "from", 1,
+            "to", 10);
+
+    private static final Map<String, String> STRING_SAMPLES = Map.of(
+            "targetType", "POST",
+            "keyword", "제목");
+
+    private static final Pattern TABLE_REFERENCE =
+            Pattern.compile("\\b(?:from|join)\\s+`?(\\w+)`?(?:\\s+(?:as\\s+)?(?!(?:where|join|on|left|inner|order|group|limit|for)\\b)(\\w+))?",
+                    Pattern.CASE_INSENSITIVE);
+
+    // general_log 는 root 만 켜고 읽을 수 있다
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0").withUsername("root");
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(mysql.getJdbcUrl(), mysql.getUsername(), mysql.getPassword());
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+        jdbcTemplate.execute("SET GLOBAL log_output = 'TABLE'");
+        jdbcTemplate.execute("SET GLOBAL general_log = 'ON'");
+    }
+
+    @Test
+    @DisplayName("리포지토리의 모든 조회 쿼리는 전체 스캔이나 filesort 없이 실행")
+    void repositoryQueries_UseIndex() {
+        Repositories repositories = new Repositories(applicationContext);
+        List<String> failures = new ArrayList<>();
+        int checked = 0;
+        for (Class<?> domainType : repositories) {
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            Class<?> repositoryInterface = repositories.getRepositoryInformationFor(domainType)
+                    .orElseThrow()
+                    .getRepositoryInterface();
+            for (Method method : queryMethods(repositoryInterface)) {
+                String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+                List<String> statements;
+                try {
+                    statements = capture(method, repository);
+                } catch (RuntimeException e) {
+                    failures.add(name + ": 호출 실패 - " + e);
+                    continue;
+                }
+                if (statements.isEmpty()) {
+                    failures.add(name + ": 실행된 SELECT 가 없습니다");
+                }
+                if (!FULL_SCAN_ALLOWED.contains(name)) {
+                    statements.forEach(sql -> failures.addAll(explain(name, sql)));
+                }
+                checked++;
+            }
+        }
+
+        assertThat(checked).isPositive();
+        assertThat(failures).isEmpty();
+    }
+
+    /**
+     * 이 프로젝트가 선언한 조회 메서드. 상속받은 JpaRepository 메서드와 @Modifying 쓰기 메서드는 뺀다.
+     */
+    private static List<Method> queryMethods(Class<?> repositoryInterface) {
+        List<Method> methods = new ArrayList<>();
+        for (Method method : repositoryInterface.getMethods()) {
+            if (!method.getDeclaringClass().getPackageName().startsWith("dev.babyeham")
+                    || method.isAnnotationPresent(Modifying.class)
+                    || method.isSynthetic()
+                    || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            methods.add(method);
+        }
+        methods.sort(Comparator.comparing(Method::toGenericString));
+        return methods;
+    }
+
+    private static List<String> capture(Method method, Object repository) {
+        Object[] args = Arrays.stream(method.getParameters()).map(QueryPlanTest::sample).toArray();
+        jdbcTemplate.execute("TRUNCATE TABLE mysql.general_log");
+        ReflectionUtils.invokeMethod(method, repository, args);
+        return jdbcTemplate.queryForList("SELECT CONVERT(argument USING utf8mb4) FROM mysql.general_log "
+                        + "WHERE command_type = 'Query' ORDER BY event_time", String.class)
+                .stream()
+                .map(String::strip)
+                .filter(sql -> sql.regionMatches(true, 0, "select", 0, 6))
+                .filter(sql -> !sql.startsWith("SELECT @@") && !sql.contains("mysql.general_log"))
+                .toList();
+    }
+
+    private static List<String> explain(String name, String sql) {
+        Map<String, String> tables = tableAliases(sql);
+        List<String> failures = new ArrayList<>();
+        for (Map<String, Object> row : jdbcTemplate.queryForList("EXPLAIN " + sql)) {
+            String table = tables.get(String.valueOf(row.get("table")));
+            if (table == null || !SEEDED_TABLES.contains(table)) {
+                continue;
+            }
+            if ("ALL".equals(row.get("type"))) {
+                failures.add(name + ": " + table + " 전체 스캔 - " + sql);
+            }
+            if (String.valueOf(row.get("Extra")).contains("Using filesort")) {
+                failures.add(name + ": " + table + " filesort - " + sql);
+            }
+        }
+        return failures;
+    }
+
+    private static Map<String, String> tableAliases(String sql) {
+        Map<String, String> tables = new HashMap<>();
+        Matcher matcher = TABLE_REFERENCE.matcher(sql);
+        while (matcher.find()) {
+            String table = matcher.group(1).toLowerCase(Locale.ROOT);
+            tables.put(table, table);
+            if (matcher.group(2) != null) {
+                tables.put(matcher.group(2), table);
+            }
+        }
+        return tables;
+    }
+
+    private static Object sample(Parameter parameter) {
+        Param param = parameter.getAnnotation(Param.class);
+        String name = param != null ? param.value() : parameter.getName();
+        return sample(name, parameter.getType(), parameter.getParameterizedType());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object sample(String name, Class<?> type, Type genericType) {
+        if (type == long.class || type == Long.class) {
+            return LONG_SAMPLES.getOrDefault(name, 17L);
+        }
+        if (type == int.class || type == Integer.class) {
+            return INT_SAMPLES.getOrDefault(name, 20);
+        }
+        if (type == String.class) {
+            return STRING_SAMPLES.getOrDefault(name, "user7");
+        }
+        if (type == LocalDate.class) {
+            return name.equals("to") ? LocalDate.of(2024, 1, 31) : LocalDate.of(2024, 1, 1);
+        }
+        if (type == LocalDateTime.class) {
+            return BASE.plusYears(1);
+        }
+        if (type == Limit.class) {
+            return Limit.of(20);
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (Collection.class.isAssignableFrom(type) && genericType instanceof ParameterizedType parameterized) {
+            Class<?> elementType = (Class<?>) parameterized.getActualTypeArguments()[0];
+            if (elementType.isEnum()) {
+                return EnumSet.allOf((Class<Enum>) elementType);
+            }
+            Collection<Object> samples = Set.class.isAssignableFrom(type) ? new LinkedHashSet<>() : new ArrayList<>();
+            if (elementType == Long.class) {
+                samples.addAll(List.of(3L, 17L, 42L));
+            } else if (elementType == String.class) {
+                samples.addAll(List.of("tag3", "tag7", "tag42"));
+            } else {
+                samples.add(sample(name, elementType, elementType));
+            }
+            return samples;
+        }
+        throw new IllegalArgumentException("샘플 값이 없는 파라미터 타입입니다: " + name + " " + genericType);
+    }
+
+    private static void seed() {
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= USER_COUNT; i++) {
+            users.add(new Object[]{"user" + i, "password", Timestamp.valueOf(BASE)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (username, password, created_at) VALUES (?, ?, ?)", users);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 1; i <= POST_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(BASE.plusMinutes(i));
+            posts.add(new Object[]{"제목 " + i, "본문 " + i, (i % USER_COUNT) + 1, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO posts (title, content, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)", posts);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 1; i <= COMMENT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(BASE.plusMinutes(POST_COUNT + i));
+            comments.add(new Object[]{"댓글 " + i, (i % POST_COUNT) + 1, (i % USER_COUNT) + 1, createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO comments (content, post_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+                comments);
+
+        List<Object[]> follows = new ArrayList<>();
+        for (int i = 1; i <= USER_COUNT; i++) {
+            for (int offset = 1; offset <= 5; offset++) {
+                follows.add(new Object[]{i, ((i + offset - 1) % USER_COUNT) + 1, Timestamp.valueOf(BASE)});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO follows (follower_id, followee_id, created_at) VALUES (?, ?, ?)", follows);
+
+        List<Object[]> activities = new ArrayList<>();
+        for (int day = 0; day < 365; day++) {
+            for (int i = 1; i <= USER_COUNT; i++) {
+                activities.add(new Object[]{Date.valueOf(BASE.toLocalDate().plusDays(day)), i, 1, 3});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO daily_user_activity (activity_date, user_id, post_count, comment_count) "
+                + "VALUES (?, ?, ?, ?)", activities);
+
+        List<Object[]> tags = new ArrayList<>();
+        for (int i = 1; i <= TAG_COUNT; i++) {
+            tags.add(new Object[]{"tag" + i, Timestamp.valueOf(BASE)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO tags (name, created_at) VALUES (?, ?)", tags);
+
+        List<Object[]> postTags = new ArrayList<>();
+        List<Object[]> notifications = new ArrayList<>();
+        List<Object[]> reactions = new ArrayList<>();
+        List<Object[]> reactionCounts = new ArrayList<>();
+        List<Object[]> attachments = new ArrayList<>();
+        List<Object[]> revisions = new ArrayList<>();
+        for (int i = 1; i <= POST_COUNT; i++) {
+            int author = (i % USER_COUNT) + 1;
+            Timestamp createdAt = Timestamp.valueOf(BASE.plusMinutes(i));
+            postTags.add(new Object[]{i, (i % TAG_COUNT) + 1});
+            postTags.add(new Object[]{i, ((i + 7) % TAG_COUNT) + 1});
+            notifications.add(new Object[]{author, i, createdAt, createdAt});
+            for (int u = 1; u <= 3; u++) {
+                reactions.add(new Object[]{i, ((i + u) % USER_COUNT) + 1, createdAt});
+            }
+            for (int shard = 0; shard < 4; shard++) {
+                reactionCounts.add(new Object[]{i, shard});
+            }
+            attachments.add(new Object[]{i, author, "key" + i, "photo" + i + ".png", createdAt});
+            revisions.add(new Object[]{i, author, "제목 " + i, new byte[]{1}, createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", postTags);
+        jdbcTemplate.batchUpdate("INSERT INTO notifications (recipient_id, post_id, type, comment_count, created_at, updated_at) "
+                + "VALUES (?, ?, 'COMMENT', 1, ?, ?)", notifications);
+        jdbcTemplate.batchUpdate("INSERT INTO reactions (target_type, target_id, user_id, created_at) "
+                + "VALUES ('POST', ?, ?, ?)", reactions);
+        jdbcTemplate.batchUpdate("INSERT INTO reaction_counts (target_type, target_id, shard, like_count) "
+                + "VALUES ('POST', ?, ?, 1)", reactionCounts);
+        jdbcTemplate.batchUpdate("INSERT INTO attachments (post_id, uploader_id, storage_key, filename, content_type, "
+                + "size, sha256, created_at) VALUES (?, ?, ?, ?, 'image/png', 10, REPEAT('0', 64), ?)", attachments);
+        jdbcTemplate.batchUpdate("INSERT INTO revisions (target_type, target_id, revision_no, chain_start, snapshot, "
+                + "editor_id, title, content_length, content_hash, body, created_at) "
+                + "VALUES ('POST', ?, 1, 1, TRUE, ?, ?, 10, REPEAT('0', 64), ?, ?)", revisions);
+
+        List<Object[]> outbox = new ArrayList<>();
+        for (int i = 1; i <= OUTBOX_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(BASE.plusMinutes(i));
+            boolean pending = i % 10 == 0;
+            outbox.add(new Object[]{(i % POST_COUNT) + 1, pending ? "PENDING" : "PROCESSED", createdAt,
+                    pending ? null : createdAt});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO outbox_events (aggregate_type, aggregate_id, event_type, payload, status, "
+                + "created_at, processed_at) VALUES ('POST', ?, 'POST_CREATED', '{}', ?, ?, ?)", outbox);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, posts, comments, follows, daily_user_activity, tags, post_tags, "
+                + "outbox_events, notifications, reactions, reaction_counts, attachments, revisions");
+    }
+}
@@ -0,0 +1,95 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import dev.babyeham.ehamboard.domain.user.entity.User;
+import dev.babyeham.ehamboard.global.exception.RequestBodyTooLargeException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class IdempotencyFilterTest {
+
+    private final IdempotencyStore idempotencyStore = mock(IdempotencyStore.class);
+    private final HandlerExceptionResolver exceptionResolver = mock(HandlerExceptionResolver.class);
+    private final FilterChain filterChain = mock(FilterChain.class);
+    private final IdempotencyFilter filter = new IdempotencyFilter(
+            idempotencyStore, exceptionResolver, true, List.of("/posts"), DataSize.ofBytes(16));
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().username("user").password("password").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        SecurityContextHolder.getContext()
+                .setAuthentication(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("선언된 길이가 한도를 넘으면 본문을 읽지 않고 413 으로 거절한다")
+    void rejectsDeclaredLength() throws Exception {
+        // given
+        MockHttpServletRequest request = request(new byte[17]);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        then(exceptionResolver).should()
+                .resolveException(eq(request), eq(response), isNull(), isA(RequestBodyTooLargeException.class));
+        then(idempotencyStore).shouldHaveNoInteractions();
+        then(filterChain).should(never()).doFilter(any(), any());
+    }
+
+    @Test
+    @DisplayName("길이를 모르는 본문도 한도를 넘으면 413 으로 거절한다")
+    void rejectsUndeclaredLength() throws Exception {
+        // given
+        HttpServletRequestWrapper request = new HttpServletRequestWrapper(request(new byte[1024])) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        then(exceptionResolver).should()
+                .resolveException(eq(request), eq(response), isNull(), isA(RequestBodyTooLargeException.class));
+        then(idempotencyStore).shouldHaveNoInteractions();
+        then(filterChain).should(never()).doFilter(any(), any());
+    }
+
+    private static MockHttpServletRequest request(byte[] body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/posts");
+        request.addHeader(IdempotencyFilter.HEADER, "key");
+        request.setContent(body);
+        return request;
+    }
+}
@@ -0,0 +1,152 @@
+package dev.babyeham.ehamboard.global.idempotency;
+
+import dev.babyeham.ehamboard.global.exception.IdempotencyConflictException;
+import dev.babyeham.ehamboard.global.exception.IdempotencyKeyMismatchException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(
+            mock(IdempotencyRecordRepository.class), false, Duration.ofHours(1), Duration.ofSeconds(5),
+            Duration.ofMinutes(1), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("완료된 키로 다시 오면 처음 응답을 그대로 돌려준다")
+    void replayCompleted() {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        store.complete(first, 201, "application/json", body("{\"id\":1}"));
+
+        // when
+        IdempotencyStore.Claim second = store.begin(1L, "key", "hash");
+
+        // then
+        assertThat(first.isReplay()).isFalse();
+        assertThat(second.isReplay()).isTrue();
+        assertThat(second.getReplay().getStatus()).isEqualTo(201);
+        assertThat(second.getReplay().getBody()).isEqualTo(body("{\"id\":1}"));
+    }
+
+    @Test
+    @DisplayName("처리 중인 키로 동시에 온 요청은 실행하지 않고 원래 요청의 결과를 기다린다")
+    void waitsForInFlight() throws Exception {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        CompletableFuture<IdempotencyStore.Claim> duplicate =
+                CompletableFuture.supplyAsync(() -> store.begin(1L, "key", "hash"));
+        Thread.sleep(100);
+        assertThat(duplicate).isNotDone();
+
+        // when
+        store.complete(first, 201, "application/json", body("{\"id\":1}"));
+
+        // then
+        IdempotencyStore.Claim claim = duplicate.get(5, TimeUnit.SECONDS);
+        assertThat(claim.isReplay()).isTrue();
+        assertThat(claim.getReplay().getBody()).isEqualTo(body("{\"id\":1}"));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거절한다")
+    void rejectsDifferentRequest() {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        store.complete(first, 201, "application/json", body("{}"));
+
+        // when & then
+        assertThatThrownBy(() -> store.begin(1L, "key", "other"))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 기억하지 않아 재시도가 다시 실행된다")
+    void abandonReleasesKey() {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        store.abandon(first);
+
+        // when
+        IdempotencyStore.Claim retry = store.begin(1L, "key", "hash");
+
+        // then
+        assertThat(retry.isReplay()).isFalse();
+    }
+
+    @Test
+    @DisplayName("키는 사용자마다 따로 관리한다")
+    void scopedByUser() {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        store.complete(first, 201, "application/json", body("{}"));
+
+        // when
+        IdempotencyStore.Claim other = store.begin(2L, "key", "hash");
+
+        // then
+        assertThat(other.isReplay()).isFalse();
+    }
+
+    @Test
+    @DisplayName("너무 커서 기억하지 못한 응답도 처리된 것으로 남겨 재시도에 409 를 돌려준다")
+    void oversizedResponseAnswersConflict() {
+        // given
+        IdempotencyStore.Claim first = store.begin(1L, "key", "hash");
+        store.complete(first, 201, "application/json", new byte[64 * 1024 + 1]);
+
+        // when & then
+        assertThatThrownBy(() -> store.begin(1L, "key", "hash"))
+                .isInstanceOf(IdempotencyConflictException.class)
+                .extracting("retryAfterSeconds").isEqualTo(0L);
+        assertThatThrownBy(() -> store.begin(1L, "key", "other"))
+                .isInstanceOf(IdempotencyKeyMismatchException.class);
+    }
+
+    @Test
+    @DisplayName("persistent 를 켜면 너무 큰 응답은 DB 에서 다시 돌려준다")
+    void oversizedResponseReplaysFromDatabase() {
+        // given
+        IdempotencyRecordRepository repository = mock(IdempotencyRecordRepository.class);
+        IdempotencyStore persistentStore = new IdempotencyStore(
+                repository, true, Duration.ofHours(1), Duration.ofSeconds(5),
+                Duration.ofMinutes(1), DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), new SimpleMeterRegistry());
+        given(repository.insertPending(anyLong(), anyString(), anyString(), any(), any())).willReturn(1);
+        IdempotencyStore.Claim first = persistentStore.begin(1L, "key", "hash");
+        persistentStore.complete(first, 201, "application/json", new byte[64 * 1024 + 1]);
+        given(repository.insertPending(anyLong(), anyString(), anyString(), any(), any())).willReturn(0);
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        given(record.isCompleted()).willReturn(true);
+        given(record.getExpiresAt()).willReturn(LocalDateTime.now().plusHours(1));
+        given(record.toStoredResponse())
+                .willReturn(new StoredResponse("hash", 201, "application/json", new byte[64 * 1024 + 1]));
+        given(repository.findByUserIdAndIdempotencyKey(1L, "key")).willReturn(Optional.of(record));
+
+        // when
+        IdempotencyStore.Claim retry = persistentStore.begin(1L, "key", "hash");
+
+        // then
+        assertThat(retry.isReplay()).isTrue();
+        assertThat(retry.getReplay().getBody()).hasSize(64 * 1024 + 1);
+    }
+
+    private static byte[] body(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
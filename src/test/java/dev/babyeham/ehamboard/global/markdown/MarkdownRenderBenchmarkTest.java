@@ -0,0 +1,64 @@
+package dev.babyeham.ehamboard.global.markdown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 렌더링 처리량 측정. 기본 test 태스크에서는 빠지고 ./gradlew benchmark 로만 실행된다.
+ */
+@Tag("benchmark")
+class MarkdownRenderBenchmarkTest {
+
+    private static final int DOCUMENTS = 200;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Test
+    @DisplayName("캐시 미스(파싱+sanitize)와 캐시 히트의 초당 처리량을 비교한다")
+    void renderThroughput() {
+        MarkdownRenderer renderer = new MarkdownRenderer(new SimpleMeterRegistry(), DataSize.ofMegabytes(64), true);
+        List<String> documents = new ArrayList<>();
+        for (int i = 0; i < DOCUMENTS; i++) {
+            documents.add(sampleDocument(i));
+        }
+
+        double uncached = measure(() -> documents.forEach(renderer::renderUncached));
+        documents.forEach(renderer::render);
+        double cached = measure(() -> documents.forEach(renderer::render));
+
+        System.out.printf("markdown render: uncached %.0f docs/s, cached %.0f docs/s (x%.1f)%n",
+                uncached, cached, cached / uncached);
+        assertThat(cached).isGreaterThan(uncached);
+    }
+
+    private static double measure(Runnable round) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            round.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            round.run();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return DOCUMENTS * MEASURE_ROUNDS / seconds;
+    }
+
+    private static String sampleDocument(int seed) {
+        StringBuilder sb = new StringBuilder("# 게시글 ").append(seed).append("\n\n");
+        for (int i = 0; i < 8; i++) {
+            sb.append("문단 ").append(i).append(" 입니다. **강조**, _기울임_, `code`, ")
+                    .append("[링크](https://example.com/").append(seed).append('/').append(i).append(")\n\n");
+        }
+        sb.append("| a | b |\n|---|---|\n| 1 | 2 |\n\n");
+        sb.append("```java\nSystem.out.println(").append(seed).append(");\n```\n\n- 하나\n- 둘\n- 셋\n");
+        return sb.toString();
+    }
+}
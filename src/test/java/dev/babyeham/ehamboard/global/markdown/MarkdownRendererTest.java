@@ -0,0 +1,85 @@
+package dev.babyeham.ehamboard.global.markdown;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarkdownRendererTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final MarkdownRenderer renderer = new MarkdownRenderer(meterRegistry, DataSize.ofMegabytes(1), true);
+
+    @Test
+    @DisplayName("Markdown 을 HTML 로 렌더링한다")
+    void render_Markdown() {
+        // when
+        String html = renderer.render("# 제목\n\n**굵게** 와 `코드`\n\n- 하나\n- 둘");
+
+        // then
+        assertThat(html).contains("<h1>제목</h1>", "<strong>굵게</strong>", "<code>코드</code>", "<li>하나</li>");
+    }
+
+    @Test
+    @DisplayName("원문 HTML 과 위험한 링크는 실행되지 않는 형태로 바뀐다")
+    void render_Sanitizes() {
+        // when
+        String html = renderer.render("<script>alert(1)</script>\n\n[클릭](javascript:alert(1)) <img src=x onerror=alert(1)>");
+
+        // then
+        assertThat(html).doesNotContain("<script", "javascript:", "onerror=\"");
+        assertThat(html).contains("&lt;script&gt;");
+    }
+
+    @Test
+    @DisplayName("같은 본문은 한 번만 렌더링하고, 저장된 HTML 이 있으면 그대로 쓴다")
+    void render_CachedByContentHash() {
+        // when
+        String first = renderer.render("같은 본문");
+        String second = renderer.render(new String("같은 본문"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("markdown.render").timer().count()).isEqualTo(1);
+        assertThat(renderer.resolve("같은 본문", "<p>저장된 값</p>", renderer.version())).isEqualTo("<p>저장된 값</p>");
+    }
+
+    @Test
+    @DisplayName("저장을 끄면 엔티티에 넣을 HTML 은 null 이다")
+    void renderForStorage_Disabled() {
+        // given
+        MarkdownRenderer disabled = new MarkdownRenderer(new SimpleMeterRegistry(), DataSize.ofMegabytes(1), false);
+
+        // when & then
+        assertThat(disabled.renderForStorage("본문")).isNull();
+        assertThat(disabled.resolve("본문", null, null)).contains("<p>본문</p>");
+    }
+
+    @Test
+    @DisplayName("다른 렌더러 버전으로 저장된 HTML 은 쓰지 않고 다시 렌더링한다")
+    void resolve_StaleVersionRerenders() {
+        // when
+        String stale = renderer.resolve("본문", "<p><script>alert(1)</script></p>", "0");
+        String unversioned = renderer.resolve("본문", "<p>예전 값</p>", null);
+
+        // then
+        assertThat(stale).isEqualTo(renderer.render("본문"));
+        assertThat(unversioned).isEqualTo(renderer.render("본문"));
+    }
+
+    @Test
+    @DisplayName("저장된 HTML 을 쓸 수 있으면 원문을 꺼내지 않는다")
+    void resolveLazily_SkipsMarkdownWhenCurrent() {
+        // when
+        String current = renderer.resolveLazily("<p>저장된 값</p>", renderer.version(), () -> {
+            throw new AssertionError("원문을 읽으면 안 된다");
+        });
+        String stale = renderer.resolveLazily("<p>예전 값</p>", "0", () -> "본문");
+
+        // then
+        assertThat(current).isEqualTo("<p>저장된 값</p>");
+        assertThat(stale).isEqualTo(renderer.render("본문"));
+    }
+}
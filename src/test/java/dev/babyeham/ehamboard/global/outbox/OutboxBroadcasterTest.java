@@ -0,0 +1,146 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxBroadcasterTest {
+
+    private static final long GAP_TIMEOUT_MILLIS = 5_000;
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<ProjectionEventHandler> handlerProvider;
+
+    private final Map<Long, OutboxEvent> visible = new TreeMap<>();
+    private final List<Long> delivered = new ArrayList<>();
+
+    private OutboxBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        ProjectionEventHandler handler = new ProjectionEventHandler() {
+            @Override
+            public Set<DomainEventType> eventTypes() {
+                return EnumSet.allOf(DomainEventType.class);
+            }
+
+            @Override
+            public void handle(DomainEventMessage message) {
+                delivered.add(message.getEventId());
+            }
+        };
+        given(handlerProvider.orderedStream()).willReturn(Stream.of(handler));
+        given(outboxEventRepository.findAfter(anyLong(), any(Limit.class))).willAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return visible.values().stream().filter(event -> event.getId() > afterId).toList();
+        });
+        lenient().when(outboxEventRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<OutboxEvent> found = new ArrayList<>();
+            ids.forEach(id -> Optional.ofNullable(visible.get(id)).ifPresent(found::add));
+            return found;
+        });
+        broadcaster = new OutboxBroadcaster(outboxEventRepository, handlerProvider, new ObjectMapper(),
+                true, 500, Duration.ofMillis(200), Duration.ofMillis(GAP_TIMEOUT_MILLIS), Duration.ofMinutes(1), 1000);
+        broadcaster.startAt(0);
+    }
+
+    @Test
+    @DisplayName("이어진 id 의 이벤트는 순서대로 한 번씩 전달하고 위치를 옮긴다")
+    void poll_DeliversContiguousEventsOnce() {
+        // given
+        publish(1L, 2L, 3L);
+
+        // when
+        broadcaster.poll(0);
+        broadcaster.poll(100);
+
+        // then
+        assertThat(delivered).containsExactly(1L, 2L, 3L);
+        assertThat(broadcaster.cursor()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("앞 id 가 비어 있으면 뒤 이벤트는 전달하되 위치는 빈 id 앞에서 기다린다")
+    void poll_WaitsAtGap() {
+        // given
+        publish(1L, 3L);
+
+        // when
+        broadcaster.poll(0);
+        broadcaster.poll(GAP_TIMEOUT_MILLIS - 1);
+
+        // then
+        assertThat(delivered).containsExactly(1L, 3L);
+        assertThat(broadcaster.cursor()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("빈 id 가 늦게 커밋되면 기다리는 동안에는 위치를 이어 붙인다")
+    void poll_FillsGapCommittedLate() {
+        // given
+        publish(1L, 3L);
+        broadcaster.poll(0);
+
+        // when
+        publish(2L);
+        broadcaster.poll(1_000);
+
+        // then
+        assertThat(delivered).containsExactly(1L, 3L, 2L);
+        assertThat(broadcaster.cursor()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("gap-timeout 이 지나면 빈 id 를 건너뛰고, 그 뒤에 커밋된 이벤트도 따로 확인해 전달한다")
+    void poll_SkipsGapAfterTimeoutAndRechecksLate() {
+        // given
+        publish(1L, 3L);
+        broadcaster.poll(0);
+        broadcaster.poll(1_000);
+        broadcaster.poll(1_000 + GAP_TIMEOUT_MILLIS);
+        assertThat(broadcaster.cursor()).isEqualTo(3L);
+
+        // when
+        publish(2L);
+        broadcaster.poll(2_000 + GAP_TIMEOUT_MILLIS);
+
+        // then
+        assertThat(delivered).containsExactly(1L, 3L, 2L);
+    }
+
+    private void publish(Long... ids) {
+        for (Long id : ids) {
+            OutboxEvent event = OutboxEvent.builder()
+                    .eventType(DomainEventType.POST_UPDATED)
+                    .aggregateId(id)
+                    .payload("{}")
+                    .build();
+            ReflectionTestUtils.setField(event, "id", id);
+            ReflectionTestUtils.setField(event, "createdAt", LocalDateTime.now());
+            visible.put(id, event);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package dev.babyeham.ehamboard.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private ObjectProvider<DomainEventHandler> handlerProvider;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Long, List<Long>> deliveredByAggregate = Collections.synchronizedMap(new HashMap<>());
+    private final Set<Long> failingEventIds = Collections.synchronizedSet(new HashSet<>());
+
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        DomainEventHandler handler = new DomainEventHandler() {
+            @Override
+            public Set<DomainEventType> eventTypes() {
+                return EnumSet.allOf(DomainEventType.class);
+            }
+
+            @Override
+            public void handle(DomainEventMessage message) {
+                if (failingEventIds.contains(message.getEventId())) {
+                    throw new IllegalStateException("핸들러 실패");
+                }
+                deliveredByAggregate.computeIfAbsent(message.getAggregateId(), k -> new ArrayList<>())
+                        .add(message.getEventId());
+            }
+        };
+        given(handlerProvider.orderedStream()).willReturn(Stream.of(handler));
+
+        dispatcher = new OutboxDispatcher(outboxEventRepository, handlerProvider, new ObjectMapper(),
+                transactionManager, new SimpleMeterRegistry(), false, 100, 4, 3,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("같은 애그리거트의 이벤트는 id 순서대로 전달되고 처리 완료로 표시된다")
+    void dispatchBatch_PreservesOrderPerAggregate() {
+        // given
+        List<OutboxEvent> batch = new ArrayList<>();
+        long id = 1;
+        for (int round = 0; round < 5; round++) {
+            for (long postId = 1; postId <= 10; postId++) {
+                batch.add(event(id++, DomainEventType.POST_UPDATED, postId, 0, null));
+            }
+        }
+        given(outboxEventRepository.claimDue(any(LocalDateTime.class), anyInt())).willReturn(batch);
+
+        // when
+        int fetched = dispatcher.dispatchBatch();
+
+        // then
+        assertThat(fetched).isEqualTo(50);
+        assertThat(deliveredByAggregate).hasSize(10);
+        deliveredByAggregate.values().forEach(ids -> assertThat(ids).isSorted().hasSize(5));
+        verify(outboxEventRepository, times(1)).markProcessed(argThat(ids -> ids.size() == 50), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 처리에 실패하면 재시도를 예약하고 같은 애그리거트의 뒤 이벤트는 보류한다")
+    void dispatchBatch_FailureHoldsBackLaterEvents() {
+        // given
+        failingEventIds.add(1L);
+        List<OutboxEvent> batch = List.of(
+                event(1L, DomainEventType.POST_UPDATED, 1L, 0, null),
+                event(2L, DomainEventType.POST_UPDATED, 2L, 0, null),
+                event(3L, DomainEventType.POST_DELETED, 1L, 0, null));
+        given(outboxEventRepository.claimDue(any(LocalDateTime.class), anyInt())).willReturn(batch);
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(deliveredByAggregate).containsOnlyKeys(2L);
+        verify(outboxEventRepository).markProcessed(eq(List.of(2L)), any());
+        verify(outboxEventRepository).recordFailure(eq(1L), eq(OutboxStatus.PENDING), eq(1),
+                any(LocalDateTime.class), any());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 중이거나 다른 인스턴스가 잡고 있는 앞선 이벤트가 있으면 그 애그리거트의 이후 이벤트는 건너뛴다")
+    void dispatchBatch_SkipsAggregateBlockedByDeferredEvent() {
+        // given
+        List<OutboxEvent> batch = List.of(
+                event(2L, DomainEventType.COMMENT_UPDATED, 7L, 0, null),
+                event(3L, DomainEventType.COMMENT_CREATED, 8L, 0, null));
+        given(outboxEventRepository.claimDue(any(LocalDateTime.class), anyInt())).willReturn(batch);
+        given(outboxEventRepository.findPendingHeads(any())).willReturn(List.of(
+                head(AggregateType.COMMENT, 7L, 1L),
+                head(AggregateType.COMMENT, 8L, 3L)));
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        assertThat(deliveredByAggregate).containsOnlyKeys(8L);
+        verify(outboxEventRepository).markProcessed(eq(List.of(3L)), any());
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수에 도달하면 실패 상태로 전환한다")
+    void dispatchBatch_DeadLettersAfterMaxAttempts() {
+        // given
+        failingEventIds.add(1L);
+        given(outboxEventRepository.claimDue(any(LocalDateTime.class), anyInt()))
+                .willReturn(List.of(event(1L, DomainEventType.POST_CREATED, 1L, 2, null)));
+
+        // when
+        dispatcher.dispatchBatch();
+
+        // then
+        verify(outboxEventRepository, never()).markProcessed(any(), any());
+        verify(outboxEventRepository).recordFailure(eq(1L), eq(OutboxStatus.FAILED), eq(3), isNull(), any());
+        verify(outboxEventRepository, never())
+                .recordFailure(anyLong(), eq(OutboxStatus.PENDING), anyInt(), any(), any());
+    }
+
+    private OutboxEvent event(Long id, DomainEventType type, Long aggregateId, int attempts,
+                              LocalDateTime nextAttemptAt) {
+        OutboxEvent event = OutboxEvent.builder()
+                .eventType(type)
+                .aggregateId(aggregateId)
+                .payload("{}")
+                .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        ReflectionTestUtils.setField(event, "attempts", attempts);
+        ReflectionTestUtils.setField(event, "nextAttemptAt", nextAttemptAt);
+        ReflectionTestUtils.setField(event, "createdAt", LocalDateTime.now());
+        return event;
+    }
+
+    private PendingHead head(AggregateType type, Long aggregateId, Long firstId) {
+        return new PendingHead() {
+            @Override
+            public AggregateType getAggregateType() {
+                return type;
+            }
+
+            @Override
+            public Long getAggregateId() {
+                return aggregateId;
+            }
+
+            @Override
+            public Long getFirstId() {
+                return firstId;
+            }
+        };
+    }
+}
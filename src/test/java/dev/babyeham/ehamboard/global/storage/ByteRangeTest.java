@@ -0,0 +1,42 @@
+package dev.babyeham.ehamboard.global.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ByteRangeTest {
+
+    @Test
+    @DisplayName("시작과 끝이 있는 범위를 해석하고 끝은 파일 크기로 자른다")
+    void parse_BoundedRange() {
+        assertThat(ByteRange.parse("bytes=0-99", 1000)).isEqualTo(new ByteRange(0, 99));
+        assertThat(ByteRange.parse("bytes=900-5000", 1000)).isEqualTo(new ByteRange(900, 999));
+    }
+
+    @Test
+    @DisplayName("열린 범위와 끝에서부터의 범위를 해석한다")
+    void parse_OpenAndSuffixRange() {
+        assertThat(ByteRange.parse("bytes=500-", 1000)).isEqualTo(new ByteRange(500, 999));
+        assertThat(ByteRange.parse("bytes=-100", 1000)).isEqualTo(new ByteRange(900, 999));
+        assertThat(ByteRange.parse("bytes=-5000", 1000)).isEqualTo(new ByteRange(0, 999));
+    }
+
+    @Test
+    @DisplayName("헤더가 없거나 여러 구간이거나 형식이 다르면 전체 응답으로 처리한다")
+    void parse_IgnoredHeaders() {
+        assertThat(ByteRange.parse(null, 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=0-1,5-6", 1000)).isNull();
+        assertThat(ByteRange.parse("items=0-1", 1000)).isNull();
+        assertThat(ByteRange.parse("bytes=a-b", 1000)).isNull();
+    }
+
+    @Test
+    @DisplayName("파일 범위를 벗어나면 만족할 수 없는 범위로 본다")
+    void parse_Unsatisfiable() {
+        assertThatThrownBy(() -> ByteRange.parse("bytes=1000-", 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ByteRange.parse("bytes=10-5", 1000)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ByteRange.parse("bytes=-0", 1000)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
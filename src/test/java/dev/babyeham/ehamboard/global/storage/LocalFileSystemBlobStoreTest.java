@@ -0,0 +1,66 @@
+package dev.babyeham.ehamboard.global.storage;
+
+import dev.babyeham.ehamboard.global.exception.FileTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LocalFileSystemBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    @DisplayName("저장하면서 크기와 SHA-256 을 계산하고 같은 내용을 다시 읽을 수 있다")
+    void store_Success() throws IOException {
+        // given
+        LocalFileSystemBlobStore store = new LocalFileSystemBlobStore(root);
+        byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        StoredBlob blob = store.store(new ByteArrayInputStream(content), 1024);
+
+        // then
+        assertThat(blob.getSize()).isEqualTo(5);
+        assertThat(blob.getSha256()).isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+        try (InputStream in = store.open(blob.getKey())) {
+            assertThat(in.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(store.localPath(blob.getKey())).get().matches(Files::exists);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 저장하지 않고 임시 파일도 남기지 않는다")
+    void store_TooLarge() throws IOException {
+        // given
+        LocalFileSystemBlobStore store = new LocalFileSystemBlobStore(root);
+
+        // when & then
+        assertThatThrownBy(() -> store.store(new ByteArrayInputStream(new byte[2048]), 1024))
+                .isInstanceOf(FileTooLargeException.class);
+        try (Stream<Path> files = Files.walk(root)) {
+            assertThat(files.filter(Files::isRegularFile)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("형식에 맞지 않는 키로는 저장소 밖 경로에 접근할 수 없다")
+    void open_RejectsInvalidKey() {
+        // given
+        LocalFileSystemBlobStore store = new LocalFileSystemBlobStore(root);
+
+        // when & then
+        assertThatThrownBy(() -> store.open("../../etc/passwd")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
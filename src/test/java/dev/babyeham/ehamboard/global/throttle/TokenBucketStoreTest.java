@@ -0,0 +1,79 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketStoreTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("burst 만큼은 바로 허용하고 그 뒤에는 토큰이 찰 때까지 남은 시간을 돌려준다")
+    void burstThenWait() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100, now::get);
+        for (int i = 0; i < 3; i++) {
+            assertThat(store.tryAcquire("post-create:1", 0.5, 3)).isZero();
+        }
+
+        // when
+        long wait = store.tryAcquire("post-create:1", 0.5, 3);
+
+        // then
+        assertThat(wait).isEqualTo(TimeUnit.SECONDS.toNanos(2));
+        assertThat(store.tryAcquire("post-create:2", 0.5, 3)).isZero();
+    }
+
+    @Test
+    @DisplayName("쉬는 동안 burst 한도까지만 토큰이 다시 쌓인다")
+    void refillUpToBurst() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100, now::get);
+        store.tryAcquire("k", 1, 2);
+        store.tryAcquire("k", 1, 2);
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        // then
+        assertThat(store.tryAcquire("k", 1, 2)).isZero();
+        assertThat(store.tryAcquire("k", 1, 2)).isZero();
+        assertThat(store.tryAcquire("k", 1, 2)).isPositive();
+    }
+
+    @Test
+    @DisplayName("되돌린 토큰은 burst 한도 안에서 다시 쓸 수 있다")
+    void refundRestoresToken() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 100, now::get);
+        store.tryAcquire("k", 1, 1);
+
+        // when
+        store.refund("k", 1);
+        store.refund("k", 1);
+
+        // then
+        assertThat(store.tryAcquire("k", 1, 1)).isZero();
+        assertThat(store.tryAcquire("k", 1, 1)).isPositive();
+    }
+
+    @Test
+    @DisplayName("버킷 수는 stripe 당 한도를 넘지 않는다")
+    void boundedEntries() {
+        // given
+        TokenBucketStore store = new TokenBucketStore(4, 40, now::get);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            store.tryAcquire("user:" + i, 1, 5);
+        }
+
+        // then
+        assertThat(store.size()).isLessThanOrEqualTo(40);
+    }
+}
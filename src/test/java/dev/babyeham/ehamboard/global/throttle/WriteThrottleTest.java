@@ -0,0 +1,77 @@
+package dev.babyeham.ehamboard.global.throttle;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+class WriteThrottleTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("전체 한도는 burst 만큼 허용한 뒤 처리율 간격으로만 허용한다")
+    void globalLimit() {
+        // given
+        WriteThrottleProperties properties = new WriteThrottleProperties();
+        properties.setGlobal(new WriteThrottleProperties.Limit(10, 3));
+        WriteThrottle throttle = new WriteThrottle(properties, mock(ObjectProvider.class), new SimpleMeterRegistry());
+        long now = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+        // when
+        long first = throttle.tryAcquireGlobal(now);
+        long second = throttle.tryAcquireGlobal(now);
+        long third = throttle.tryAcquireGlobal(now);
+        long rejected = throttle.tryAcquireGlobal(now);
+        long later = throttle.tryAcquireGlobal(now + TimeUnit.MILLISECONDS.toNanos(100));
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(rejected).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+        assertThat(later).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("전체 한도에서 거절되면 사용자 한도는 쓰지 않은 것으로 되돌린다")
+    void globalRejectionRefundsUserToken() {
+        // given
+        WriteThrottleProperties properties = new WriteThrottleProperties();
+        properties.setDefaultLimit(new WriteThrottleProperties.Limit(0.001, 1));
+        properties.setGlobal(new WriteThrottleProperties.Limit(0, 1));
+        WriteThrottle throttle = new WriteThrottle(properties, mock(ObjectProvider.class), new SimpleMeterRegistry());
+
+        // when
+        long globalRejected = throttle.tryAcquire("post-create", 1L);
+        properties.setGlobal(new WriteThrottleProperties.Limit(1000, 10));
+        long afterRecovery = throttle.tryAcquire("post-create", 1L);
+
+        // then
+        assertThat(globalRejected).isEqualTo(Long.MAX_VALUE);
+        assertThat(afterRecovery).isZero();
+    }
+
+    @Test
+    @DisplayName("커넥션 대기가 생기면 배율을 절반으로 줄이고 여유가 생기면 조금씩 되돌린다")
+    void adaptiveFactor() {
+        // given
+        WriteThrottleProperties.Adaptive adaptive = new WriteThrottleProperties.Adaptive();
+
+        // when
+        double reduced = WriteThrottle.nextFactor(1.0, 3, adaptive);
+        double floor = WriteThrottle.nextFactor(0.1, 3, adaptive);
+        double recovered = WriteThrottle.nextFactor(reduced, 0, adaptive);
+
+        // then
+        assertThat(reduced).isEqualTo(0.5);
+        assertThat(floor).isEqualTo(0.1);
+        assertThat(recovered).isCloseTo(0.55, within(1e-9));
+    }
+}
@@ -3,50 +3,14 @@ CREATE DATABASE IF NOT EXISTS eham_board_db CHARACTER SET utf8mb4 COLLATE utf8mb
 
 USE eham_board_db;
 
--- 기존 테이블 삭제
-DROP TABLE IF EXISTS comments;
-DROP TABLE IF EXISTS posts;
-DROP TABLE IF EXISTS users;
-
--- users 테이블 생성
-CREATE TABLE users (
-    id BIGINT NOT NULL AUTO_INCREMENT,
-    username VARCHAR(50) NOT NULL UNIQUE,
-    password VARCHAR(255) NOT NULL,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    PRIMARY KEY (id),
-    INDEX idx_username (username)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
-
--- posts 테이블 생성
-CREATE TABLE posts (
-    id BIGINT NOT NULL AUTO_INCREMENT,
-    title VARCHAR(200) NOT NULL,
-    content TEXT NOT NULL,
-    user_id BIGINT NOT NULL,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    PRIMARY KEY (id),
-    INDEX idx_user_id (user_id),
-    INDEX idx_created_at (created_at),
-    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
-
--- comments 테이블 생성
-CREATE TABLE comments (
-    id BIGINT NOT NULL AUTO_INCREMENT,
-    content TEXT NOT NULL,
-    post_id BIGINT NOT NULL,
-    user_id BIGINT NOT NULL,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    PRIMARY KEY (id),
-    INDEX idx_post_id (post_id),
-    INDEX idx_user_id (user_id),
-    INDEX idx_created_at (created_at),
-    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts(id) ON DELETE CASCADE,
-    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+-- 스키마는 애플리케이션 기동 시 Flyway(src/main/resources/db/migration)가 생성합니다.
+-- 이 스크립트는 마이그레이션이 끝난 스키마에 테스트 데이터만 다시 채웁니다.
+DELETE FROM comments;
+DELETE FROM posts;
+DELETE FROM users;
+ALTER TABLE comments AUTO_INCREMENT = 1;
+ALTER TABLE posts AUTO_INCREMENT = 1;
+ALTER TABLE users AUTO_INCREMENT = 1;
 
 -- 테스트 사용자 데이터 삽입
 -- 비밀번호는 모두 'password123' (BCrypt 암호화)